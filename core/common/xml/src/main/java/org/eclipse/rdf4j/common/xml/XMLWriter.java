@@ -11,6 +11,7 @@
 
 package org.eclipse.rdf4j.common.xml;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
@@ -123,7 +124,7 @@ public class XMLWriter {
 	 */
 	public XMLWriter(OutputStream outputStream) {
 		_charEncoding = StandardCharsets.UTF_8.name();
-		_writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+		_writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
 	}
 
 	/**
@@ -133,7 +134,7 @@ public class XMLWriter {
 	 */
 	public XMLWriter(OutputStream outputStream, String charEncoding) throws UnsupportedEncodingException {
 		_charEncoding = charEncoding;
-		_writer = new OutputStreamWriter(outputStream, _charEncoding);
+		_writer = new BufferedWriter(new OutputStreamWriter(outputStream, _charEncoding));
 	}
 
 	/*---------*
@@ -193,7 +194,9 @@ public class XMLWriter {
 	public void startDocument() throws IOException {
 		_write("<?xml version='1.0'");
 		if (_charEncoding != null) {
-			_write(" encoding='" + _charEncoding + "'");
+			_write(" encoding='");
+			_write(_charEncoding);
+			_write("'");
 		}
 		_writeLn("?>");
 	}
@@ -247,7 +250,8 @@ public class XMLWriter {
 	 */
 	public void startTag(String elName) throws IOException {
 		_writeIndent();
-		_write("<" + elName);
+		_write("<");
+		_write(elName);
 		_writeAtts();
 		_writeLn(">");
 		_indentLevel++;
@@ -261,7 +265,9 @@ public class XMLWriter {
 	public void endTag(String elName) throws IOException {
 		_indentLevel--;
 		_writeIndent();
-		_writeLn("</" + elName + ">");
+		_write("</");
+		_write(elName);
+		_writeLn(">");
 	}
 
 	/**
@@ -272,7 +278,8 @@ public class XMLWriter {
 	 */
 	public void emptyElement(String elName) throws IOException {
 		_writeIndent();
-		_write("<" + elName);
+		_write("<");
+		_write(elName);
 		_writeAtts();
 		_writeLn("/>");
 	}
@@ -298,11 +305,14 @@ public class XMLWriter {
 	 */
 	public void textElement(String elName, String text) throws IOException {
 		_writeIndent();
-		_write("<" + elName);
+		_write("<");
+		_write(elName);
 		_writeAtts();
 		_write(">");
 		text(text);
-		_writeLn("</" + elName + ">");
+		_write("</");
+		_write(elName);
+		_writeLn(">");
 	}
 
 	/**
@@ -315,11 +325,14 @@ public class XMLWriter {
 	 */
 	public void unescapedTextElement(String elName, String text) throws IOException {
 		_writeIndent();
-		_write("<" + elName);
+		_write("<");
+		_write(elName);
 		_writeAtts();
 		_write(">");
 		_write(text);
-		_writeLn("</" + elName + ">");
+		_write("</");
+		_write(elName);
+		_writeLn(">");
 	}
 
 	/**
@@ -354,7 +367,7 @@ public class XMLWriter {
 	 * @param text The text.
 	 */
 	public void text(String text) throws IOException {
-		_write(XMLUtil.escapeCharacterData(text));
+		_writeEscaped(text, false);
 	}
 
 	/**
@@ -384,9 +397,11 @@ public class XMLWriter {
 			String name = entry.getKey();
 			String value = entry.getValue();
 
-			_write(" " + name + "='");
+			_write(" ");
+			_write(name);
+			_write("='");
 			if (value != null) {
-				_write(XMLUtil.escapeSingleQuotedAttValue(value));
+				_writeEscaped(value, true);
 			}
 			_write("'");
 		}
@@ -401,6 +416,60 @@ public class XMLWriter {
 		getWriter().write(s);
 	}
 
+	/**
+	 * Writes a string, escaping it as character data (see {@link XMLUtil#escapeCharacterData(String)}) or as a
+	 * single-quoted attribute value (see {@link XMLUtil#escapeSingleQuotedAttValue(String)}). Unescaped runs of
+	 * characters are written directly to the underlying writer, avoiding intermediate copies of the string.
+	 */
+	private void _writeEscaped(String s, boolean attValue) throws IOException {
+		Writer writer = getWriter();
+		int start = 0;
+		int length = s.length();
+
+		for (int i = 0; i < length; i++) {
+			String entity;
+			switch (s.charAt(i)) {
+			case '&':
+				entity = "&amp;";
+				break;
+			case '<':
+				entity = "&lt;";
+				break;
+			case '>':
+				entity = "&gt;";
+				break;
+			case '\r':
+				entity = "&#xD;";
+				break;
+			case '\t':
+				entity = attValue ? "&#x9;" : null;
+				break;
+			case '\n':
+				entity = attValue ? "&#xA;" : null;
+				break;
+			case '\'':
+				entity = attValue ? "&apos;" : null;
+				break;
+			default:
+				entity = null;
+			}
+
+			if (entity != null) {
+				if (i > start) {
+					writer.write(s, start, i - start);
+				}
+				writer.write(entity);
+				start = i + 1;
+			}
+		}
+
+		if (start == 0) {
+			writer.write(s);
+		} else if (start < length) {
+			writer.write(s, start, length - start);
+		}
+	}
+
 	/**
 	 * Writes a string followed by a line-separator. The line-separator is not written when pretty-printing is disabled.
 	 */
@@ -0,0 +1,370 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.client;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.client.entity.GzipCompressingEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.eclipse.rdf4j.common.exception.RDF4JException;
+import org.eclipse.rdf4j.common.io.IOUtil;
+import org.eclipse.rdf4j.common.transaction.TransactionSetting;
+import org.eclipse.rdf4j.http.protocol.Protocol.Action;
+import org.eclipse.rdf4j.http.protocol.UnauthorizedException;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.RDFParseException;
+import org.eclipse.rdf4j.rio.RDFParser;
+import org.eclipse.rdf4j.rio.RDFWriter;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+import org.eclipse.rdf4j.rio.helpers.BasicParserSettings;
+
+/**
+ * Uploads large RDF documents to an RDF4J Server by splitting them into chunks that are sent concurrently into a single
+ * transaction. N-Triples and N-Quads documents are split at line boundaries without being parsed; documents in other
+ * formats, including {@link RDFFormat#BINARY}, are parsed on the calling thread and re-serialized into chunks in the
+ * binary format. Blank node identifiers are scoped to the transaction and the uploaded document, so that blank nodes
+ * shared between chunks are preserved, while documents uploaded into the same transaction do not share blank nodes.
+ * <p>
+ * If the session has no active transaction, the upload is performed in a transaction of its own, which is committed
+ * when all chunks have been uploaded and rolled back if any of them fails. Otherwise the chunks are added to the active
+ * transaction, which is left for the caller to commit.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+public class BulkUploader {
+
+	/**
+	 * Receives progress reports of a bulk upload.
+	 */
+	@FunctionalInterface
+	public interface ProgressListener {
+
+		/**
+		 * Called after a chunk has been uploaded. Chunks are uploaded concurrently, so this method may be called from
+		 * several threads.
+		 *
+		 * @param chunks the number of chunks uploaded so far.
+		 * @param bytes  the number of bytes uploaded so far.
+		 */
+		void chunkUploaded(long chunks, long bytes);
+	}
+
+	/**
+	 * The default size of a chunk, in bytes.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+	/**
+	 * The default number of chunks that are uploaded concurrently.
+	 */
+	public static final int DEFAULT_PARALLELISM = 4;
+
+	private final RDF4JProtocolSession session;
+
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	private int parallelism = DEFAULT_PARALLELISM;
+
+	private ProgressListener progressListener;
+
+	/**
+	 * Creates a bulk uploader for the repository of the supplied session.
+	 *
+	 * @param session the session, which must have a repository URL.
+	 */
+	public BulkUploader(RDF4JProtocolSession session) {
+		this.session = session;
+	}
+
+	/**
+	 * Sets the approximate size of a chunk, in bytes. At most {@link #getParallelism() parallelism} chunks are held in
+	 * memory at any time.
+	 *
+	 * @param chunkSize the chunk size.
+	 */
+	public void setChunkSize(int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunk size must be positive: " + chunkSize);
+		}
+		this.chunkSize = chunkSize;
+	}
+
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Sets the number of chunks that are uploaded concurrently.
+	 *
+	 * @param parallelism the number of concurrent uploads.
+	 */
+	public void setParallelism(int parallelism) {
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+		}
+		this.parallelism = parallelism;
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	public void setProgressListener(ProgressListener progressListener) {
+		this.progressListener = progressListener;
+	}
+
+	/**
+	 * Uploads an RDF document.
+	 *
+	 * @param contents        the document, which is closed when the upload completes.
+	 * @param baseURI         the base URI to resolve relative IRIs against, may be <var>null</var>.
+	 * @param dataFormat      the format of the document.
+	 * @param preserveNodeIds whether the server should use blank node identifiers as-is.
+	 * @param contexts        the contexts to add the data to.
+	 */
+	public void upload(InputStream contents, String baseURI, RDFFormat dataFormat, boolean preserveNodeIds,
+			Resource... contexts) throws IOException, RDFParseException, RepositoryException, UnauthorizedException {
+		boolean ownTransaction = session.getTransactionURL() == null;
+		if (ownTransaction) {
+			session.beginTransaction(new TransactionSetting[0]);
+		}
+		boolean completed = false;
+		try (Upload upload = new Upload(baseURI, preserveNodeIds, contexts)) {
+			if (dataFormat.equals(RDFFormat.NTRIPLES) || dataFormat.equals(RDFFormat.NQUADS)) {
+				upload.splitLines(contents, dataFormat);
+			} else {
+				upload.splitStatements(contents, baseURI, dataFormat);
+			}
+			upload.await();
+			completed = true;
+		} finally {
+			contents.close();
+			if (ownTransaction) {
+				if (completed) {
+					session.commitTransaction();
+				} else {
+					try {
+						session.rollbackTransaction();
+					} catch (RDF4JException | IOException e) {
+						// the original failure is more relevant
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * The state of a single upload: the workers, the number of chunks in flight and the first failure.
+	 */
+	private class Upload implements AutoCloseable {
+
+		private final String baseURI;
+
+		private final boolean preserveNodeIds;
+
+		private final Resource[] contexts;
+
+		private final ExecutorService executor = Executors.newFixedThreadPool(parallelism, (Runnable runnable) -> {
+			Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+			thread.setName("rdf4j-bulk-upload");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		private final Semaphore inFlight = new Semaphore(parallelism);
+
+		private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+		private final AtomicLong uploadedChunks = new AtomicLong();
+
+		private final AtomicLong uploadedBytes = new AtomicLong();
+
+		private final String document = UUID.randomUUID().toString();
+
+		Upload(String baseURI, boolean preserveNodeIds, Resource[] contexts) {
+			this.baseURI = baseURI;
+			this.preserveNodeIds = preserveNodeIds;
+			this.contexts = contexts;
+		}
+
+		/**
+		 * Splits a line-based document into chunks that end at a line boundary.
+		 */
+		void splitLines(InputStream contents, RDFFormat dataFormat) throws IOException {
+			ContentType contentType = ContentType.parse(dataFormat.getDefaultMIMEType());
+			InputStream in = new BufferedInputStream(contents);
+			while (failure.get() == null) {
+				byte[] head = new byte[chunkSize];
+				int length = IOUtil.readBytes(in, head);
+				if (length <= 0) {
+					break;
+				}
+				ByteArrayOutputStream chunk = new ByteArrayOutputStream(length + 1024);
+				chunk.write(head, 0, length);
+				if (length == chunkSize) {
+					// complete the last line of the chunk
+					int b;
+					while ((b = in.read()) != -1) {
+						chunk.write(b);
+						if (b == '\n') {
+							break;
+						}
+					}
+				}
+				submit(chunk.toByteArray(), contentType);
+			}
+		}
+
+		/**
+		 * Parses a document and writes its statements into chunks in the binary format.
+		 */
+		void splitStatements(InputStream contents, String baseURI, RDFFormat dataFormat) throws IOException {
+			ContentType contentType = ContentType.parse(RDFFormat.BINARY.getDefaultMIMEType());
+			RDFParser parser = Rio.createParser(dataFormat, SimpleValueFactory.getInstance());
+			parser.getParserConfig().set(BasicParserSettings.PRESERVE_BNODE_IDS, true);
+			parser.setRDFHandler(new AbstractRDFHandler() {
+
+				private ByteArrayOutputStream chunk;
+
+				private RDFWriter writer;
+
+				@Override
+				public void handleNamespace(String prefix, String uri) throws RDFHandlerException {
+					getWriter().handleNamespace(prefix, uri);
+				}
+
+				@Override
+				public void handleStatement(Statement st) throws RDFHandlerException {
+					getWriter().handleStatement(st);
+					if (chunk.size() >= chunkSize) {
+						flush();
+					}
+				}
+
+				@Override
+				public void endRDF() throws RDFHandlerException {
+					if (writer != null) {
+						flush();
+					}
+				}
+
+				private RDFWriter getWriter() {
+					if (failure.get() != null) {
+						throw new RDFHandlerException("upload failed", failure.get());
+					}
+					if (writer == null) {
+						chunk = new ByteArrayOutputStream(chunkSize + 1024);
+						writer = Rio.createWriter(RDFFormat.BINARY, chunk);
+						writer.startRDF();
+					}
+					return writer;
+				}
+
+				private void flush() {
+					writer.endRDF();
+					writer = null;
+					try {
+						submit(chunk.toByteArray(), contentType);
+					} catch (IOException e) {
+						throw new RDFHandlerException(e);
+					}
+				}
+			});
+			try {
+				parser.parse(contents, baseURI == null ? "" : baseURI);
+			} catch (RDFHandlerException e) {
+				if (failure.get() == null) {
+					throw e;
+				}
+				// the failure of the upload is reported by await()
+			}
+		}
+
+		private void submit(byte[] chunk, ContentType contentType) throws IOException {
+			try {
+				inFlight.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			}
+			executor.execute(() -> {
+				try {
+					if (failure.get() == null) {
+						HttpEntity entity = new ByteArrayEntity(chunk, contentType);
+						int threshold = session.getUploadCompressionThreshold();
+						if (threshold >= 0 && chunk.length >= threshold) {
+							entity = new GzipCompressingEntity(entity);
+						}
+						session.upload(entity, baseURI, false, preserveNodeIds, Action.ADD, document, contexts);
+						long bytes = uploadedBytes.addAndGet(chunk.length);
+						long chunks = uploadedChunks.incrementAndGet();
+						if (progressListener != null) {
+							progressListener.chunkUploaded(chunks, bytes);
+						}
+					}
+				} catch (Exception e) {
+					failure.compareAndSet(null, e);
+				} finally {
+					inFlight.release();
+				}
+			});
+		}
+
+		/**
+		 * Waits until all chunks have been uploaded, and rethrows the first failure.
+		 */
+		void await() throws IOException, RDFParseException, RepositoryException, UnauthorizedException {
+			try {
+				inFlight.acquire(parallelism);
+				inFlight.release(parallelism);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			}
+			Exception e = failure.get();
+			if (e instanceof IOException) {
+				throw (IOException) e;
+			} else if (e instanceof RuntimeException) {
+				throw (RuntimeException) e;
+			} else if (e != null) {
+				throw new RepositoryException(e);
+			}
+		}
+
+		@Override
+		public void close() {
+			executor.shutdown();
+			try {
+				executor.awaitTermination(1, TimeUnit.MINUTES);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
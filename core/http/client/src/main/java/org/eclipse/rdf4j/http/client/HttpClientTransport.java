@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.client;
+
+import java.util.Locale;
+
+/**
+ * The HTTP transport used by the {@link org.apache.http.client.HttpClient} that a
+ * {@link SharedHttpClientSessionManager} creates.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+public enum HttpClientTransport {
+
+	/**
+	 * Apache HttpClient, with a pool of HTTP/1.1 connections that each carry one request at a time. This is the
+	 * default.
+	 */
+	APACHE,
+
+	/**
+	 * The {@link java.net.http.HttpClient} of the JDK, which multiplexes concurrent requests to the same server over a
+	 * single HTTP/2 connection where the server supports it.
+	 *
+	 * @see JavaNetHttpClient
+	 */
+	JDK;
+
+	/**
+	 * Gets the transport with the supplied name, ignoring case.
+	 *
+	 * @param name the name of the transport, for example <var>jdk</var>.
+	 * @return the transport.
+	 * @throws IllegalArgumentException if there is no transport with the supplied name.
+	 */
+	public static HttpClientTransport of(String name) {
+		return valueOf(name.trim().toUpperCase(Locale.ROOT));
+	}
+}
@@ -0,0 +1,539 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.client;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PushbackInputStream;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpVersion;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.auth.AuthScope;
+import org.apache.http.auth.Credentials;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.CredentialsProvider;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.Configurable;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.impl.EnglishReasonPhraseCatalog;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link org.apache.http.client.HttpClient} that sends requests through the {@link java.net.http.HttpClient} of the
+ * JDK, so that it can be used as the transport of {@link SPARQLProtocolSession}s and {@link RDF4JProtocolSession}s.
+ * <p>
+ * The JDK client negotiates HTTP/2 with servers that support it, and then multiplexes all concurrent requests to the
+ * same server over a single connection, and performs its I/O without blocking a thread per connection. Response bodies
+ * are streamed incrementally to the caller, and <var>gzip</var> and <var>deflate</var> encoded responses are decoded
+ * transparently. Request bodies that can not be read as a stream are written in the background.
+ * <p>
+ * Credentials from the {@link CredentialsProvider} of the request context are sent preemptively with basic
+ * authentication. The socket timeout of the request configuration, or else the request timeout of the client, limits
+ * the time until the response headers are received. Cookies and the other settings of the request configuration are not
+ * used.
+ *
+ * @author Eclipse RDF4J contributors
+ * @see HttpClientTransport#JDK
+ */
+public class JavaNetHttpClient extends CloseableHttpClient {
+
+	private static final Logger logger = LoggerFactory.getLogger(JavaNetHttpClient.class);
+
+	private static final AtomicLong threadCount = new AtomicLong();
+
+	/**
+	 * Headers that are set by the JDK client itself, and can not be set on a request.
+	 */
+	private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host",
+			"upgrade", "keep-alive", "transfer-encoding", "te");
+
+	private static final ProtocolVersion HTTP_2 = new ProtocolVersion("HTTP", 2, 0);
+
+	private static final int PIPE_BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * The number of times a request is retried when the server closed the connection it was sent on, and the number of
+	 * times it is retried when the server timed out that connection.
+	 */
+	private static final int MAX_RETRIES = 2;
+
+	private final java.net.http.HttpClient client;
+
+	private final ExecutorService executor;
+
+	private final Duration requestTimeout;
+
+	private volatile boolean closed;
+
+	/**
+	 * Creates a client that prefers HTTP/2, using the default connection and socket timeouts of
+	 * {@link SharedHttpClientSessionManager}.
+	 */
+	public JavaNetHttpClient() {
+		this(Duration.ofMillis(SharedHttpClientSessionManager.CONNECTION_TIMEOUT));
+	}
+
+	/**
+	 * Creates a client that prefers HTTP/2, using the default socket timeout of {@link SharedHttpClientSessionManager}
+	 * as request timeout.
+	 *
+	 * @param connectTimeout the maximum time to wait for a connection to be established.
+	 */
+	public JavaNetHttpClient(Duration connectTimeout) {
+		this(connectTimeout, Duration.ofMillis(SharedHttpClientSessionManager.SOCKET_TIMEOUT));
+	}
+
+	/**
+	 * Creates a client that prefers HTTP/2.
+	 *
+	 * @param connectTimeout the maximum time to wait for a connection to be established.
+	 * @param requestTimeout the maximum time to wait for the response headers of a request, unless the request
+	 *                       configures a socket timeout. May be <var>null</var> or zero to wait indefinitely.
+	 */
+	public JavaNetHttpClient(Duration connectTimeout, Duration requestTimeout) {
+		this.requestTimeout = requestTimeout;
+		final ThreadFactory backingThreadFactory = Executors.defaultThreadFactory();
+		this.executor = Executors.newCachedThreadPool((Runnable runnable) -> {
+			Thread thread = backingThreadFactory.newThread(runnable);
+			thread.setName(String.format("rdf4j-JavaNetHttpClient-%d", threadCount.getAndIncrement()));
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.client = java.net.http.HttpClient.newBuilder()
+				.version(java.net.http.HttpClient.Version.HTTP_2)
+				.followRedirects(java.net.http.HttpClient.Redirect.NORMAL)
+				.proxy(ProxySelector.getDefault())
+				.connectTimeout(connectTimeout)
+				.executor(executor)
+				.build();
+	}
+
+	@Override
+	protected CloseableHttpResponse doExecute(HttpHost target, HttpRequest request, HttpContext context)
+			throws IOException, ClientProtocolException {
+		if (closed) {
+			// the executor of the JDK client has been shut down, a request would never complete
+			throw new IllegalStateException("HTTP client has been closed");
+		}
+		URI uri = getURI(target, request);
+		String method = request.getRequestLine().getMethod();
+		HttpEntity entity = request instanceof HttpEntityEnclosingRequest
+				? ((HttpEntityEnclosingRequest) request).getEntity()
+				: null;
+
+		boolean repeatable = entity == null || entity.isRepeatable();
+		int closedRetries = 0;
+		int timeoutRetries = 0;
+		while (true) {
+			java.net.http.HttpResponse<InputStream> response;
+			try {
+				response = send(uri, method, request, entity, context);
+			} catch (InterruptedIOException | HttpTimeoutException | ConnectException e) {
+				throw e;
+			} catch (IOException e) {
+				if (!repeatable || closedRetries++ >= MAX_RETRIES) {
+					throw e;
+				}
+				// the server closed an idle connection before responding, retry with a fresh one
+				logger.info("Cleaning up closed connection and retrying request: {}", e.getMessage());
+				continue;
+			}
+			if (response.statusCode() == HttpURLConnection.HTTP_CLIENT_TIMEOUT && repeatable
+					&& timeoutRetries++ < MAX_RETRIES) {
+				// the server timed out an idle connection, retry with a fresh one
+				logger.info("Retrying request after request timeout");
+				response.body().close();
+				continue;
+			}
+			return toResponse(method, response);
+		}
+	}
+
+	private java.net.http.HttpResponse<InputStream> send(URI uri, String method, HttpRequest request,
+			HttpEntity entity, HttpContext context) throws IOException {
+		java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(uri);
+
+		for (Header header : request.getAllHeaders()) {
+			if (!RESTRICTED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+				builder.header(header.getName(), header.getValue());
+			}
+		}
+		if (!request.containsHeader(HttpHeaders.ACCEPT_ENCODING)) {
+			builder.header(HttpHeaders.ACCEPT_ENCODING, "gzip,deflate");
+		}
+		if (!request.containsHeader(HttpHeaders.AUTHORIZATION)) {
+			String authorization = getBasicAuthorization(uri, context);
+			if (authorization != null) {
+				builder.header(HttpHeaders.AUTHORIZATION, authorization);
+			}
+		}
+
+		BodyPublisher body = BodyPublishers.noBody();
+		if (entity != null) {
+			if (entity.getContentType() != null && !request.containsHeader(HttpHeaders.CONTENT_TYPE)) {
+				builder.header(HttpHeaders.CONTENT_TYPE, entity.getContentType().getValue());
+			}
+			if (entity.getContentEncoding() != null && !request.containsHeader(HttpHeaders.CONTENT_ENCODING)) {
+				builder.header(HttpHeaders.CONTENT_ENCODING, entity.getContentEncoding().getValue());
+			}
+			// an empty entity is sent without a body, a body publisher requires a positive content length
+			if (entity.getContentLength() != 0) {
+				body = BodyPublishers.ofInputStream(() -> {
+					try {
+						return getContent(entity);
+					} catch (IOException e) {
+						throw new IllegalStateException(e);
+					}
+				});
+				if (entity.getContentLength() > 0) {
+					body = BodyPublishers.fromPublisher(body, entity.getContentLength());
+				}
+			}
+		}
+		builder.method(method, body);
+
+		Duration timeout = getTimeout(request);
+		if (timeout != null) {
+			builder.timeout(timeout);
+		}
+
+		try {
+			return client.send(builder.build(), BodyHandlers.ofInputStream());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(e.getMessage());
+		} catch (IllegalArgumentException e) {
+			throw new ClientProtocolException(e.getMessage(), e);
+		}
+	}
+
+	private Duration getTimeout(HttpRequest request) {
+		if (request instanceof Configurable) {
+			RequestConfig config = ((Configurable) request).getConfig();
+			if (config != null && config.getSocketTimeout() > 0) {
+				return Duration.ofMillis(config.getSocketTimeout());
+			}
+		}
+		if (requestTimeout == null || requestTimeout.isZero() || requestTimeout.isNegative()) {
+			return null;
+		}
+		return requestTimeout;
+	}
+
+	private CloseableHttpResponse toResponse(String method, java.net.http.HttpResponse<InputStream> response)
+			throws IOException {
+		int status = response.statusCode();
+		ProtocolVersion version = response.version() == java.net.http.HttpClient.Version.HTTP_2 ? HTTP_2
+				: HttpVersion.HTTP_1_1;
+		Response result = new Response(version, status,
+				EnglishReasonPhraseCatalog.INSTANCE.getReason(status, Locale.ENGLISH));
+
+		String contentEncoding = null;
+		long contentLength = -1;
+		for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+			String name = header.getKey();
+			if (name.startsWith(":")) {
+				// HTTP/2 pseudo header
+				continue;
+			}
+			for (String value : header.getValue()) {
+				if (name.equalsIgnoreCase(HttpHeaders.CONTENT_ENCODING)) {
+					contentEncoding = value.trim().toLowerCase(Locale.ROOT);
+				} else if (name.equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH)) {
+					contentLength = Long.parseLong(value.trim());
+				}
+				result.addHeader(name, value);
+			}
+		}
+
+		InputStream content = response.body();
+		boolean hasBody = !"HEAD".equals(method) && status != HttpURLConnection.HTTP_NO_CONTENT
+				&& status != HttpURLConnection.HTTP_NOT_MODIFIED;
+		if (hasBody && contentEncoding != null && !contentEncoding.equals("identity")) {
+			if (contentEncoding.equals("gzip") || contentEncoding.equals("x-gzip")) {
+				content = new DecodingInputStream(content, true);
+			} else if (contentEncoding.equals("deflate")) {
+				content = new DecodingInputStream(content, false);
+			} else {
+				content.close();
+				throw new ClientProtocolException("Unsupported Content-Encoding: " + contentEncoding);
+			}
+			// the decoded body has a different length and no encoding
+			result.removeHeaders(HttpHeaders.CONTENT_ENCODING);
+			result.removeHeaders(HttpHeaders.CONTENT_LENGTH);
+			contentLength = -1;
+		}
+
+		InputStreamEntity entity = new InputStreamEntity(content, hasBody ? contentLength : 0);
+		entity.setContentType(result.getFirstHeader(HttpHeaders.CONTENT_TYPE));
+		result.setEntity(entity);
+		return result;
+	}
+
+	private static URI getURI(HttpHost target, HttpRequest request) throws ClientProtocolException {
+		URI uri = request instanceof HttpUriRequest ? ((HttpUriRequest) request).getURI()
+				: URI.create(request.getRequestLine().getUri());
+		if (!uri.isAbsolute()) {
+			if (target == null) {
+				throw new ClientProtocolException("URI does not specify a valid host name: " + uri);
+			}
+			uri = URI.create(target.toURI()).resolve(uri);
+		}
+		return uri;
+	}
+
+	private static String getBasicAuthorization(URI uri, HttpContext context) {
+		if (context == null) {
+			return null;
+		}
+		CredentialsProvider credentialsProvider = HttpClientContext.adapt(context).getCredentialsProvider();
+		if (credentialsProvider == null) {
+			return null;
+		}
+		Credentials credentials = credentialsProvider.getCredentials(new AuthScope(uri.getHost(), uri.getPort()));
+		if (credentials == null || credentials.getUserPrincipal() == null) {
+			return null;
+		}
+		String userPass = credentials.getUserPrincipal().getName() + ":"
+				+ (credentials.getPassword() == null ? "" : credentials.getPassword());
+		return "Basic " + Base64.getEncoder().encodeToString(userPass.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Gets the content of the entity as a stream, writing it in the background for entities that can only be written.
+	 */
+	private InputStream getContent(HttpEntity entity) throws IOException {
+		try {
+			return entity.getContent();
+		} catch (UnsupportedOperationException e) {
+			// fall through
+		}
+
+		PipedInputStream in = new PipedInputStream(PIPE_BUFFER_SIZE);
+		PipedOutputStream out = new PipedOutputStream(in);
+		AtomicReference<Exception> failure = new AtomicReference<>();
+		executor.execute(() -> {
+			try {
+				entity.writeTo(out);
+			} catch (Exception e) {
+				failure.set(e);
+			} finally {
+				try {
+					out.close();
+				} catch (IOException e) {
+					logger.debug("Error closing request body", e);
+				}
+			}
+		});
+		return new FilterInputStream(in) {
+
+			@Override
+			public int read() throws IOException {
+				int b = super.read();
+				if (b < 0) {
+					checkFailure();
+				}
+				return b;
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				int read = super.read(b, off, len);
+				if (read < 0) {
+					checkFailure();
+				}
+				return read;
+			}
+
+			private void checkFailure() throws IOException {
+				Exception e = failure.get();
+				if (e != null) {
+					// do not send a truncated body as if it were complete
+					throw new IOException("Error writing request body", e);
+				}
+			}
+		};
+	}
+
+	@Override
+	@Deprecated
+	public HttpParams getParams() {
+		return new BasicHttpParams();
+	}
+
+	/**
+	 * Connections are managed by the JDK client, the returned manager only supports shutting down this client.
+	 */
+	@Override
+	@Deprecated
+	public ClientConnectionManager getConnectionManager() {
+		return new ClientConnectionManager() {
+
+			@Override
+			public SchemeRegistry getSchemeRegistry() {
+				return SchemeRegistryFactory.createSystemDefault();
+			}
+
+			@Override
+			public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+				throw new UnsupportedOperationException("Connections are managed by the JDK HTTP client");
+			}
+
+			@Override
+			public void releaseConnection(ManagedClientConnection conn, long validDuration, TimeUnit timeUnit) {
+				// no-op
+			}
+
+			@Override
+			public void closeExpiredConnections() {
+				// no-op
+			}
+
+			@Override
+			public void closeIdleConnections(long idletime, TimeUnit timeUnit) {
+				// no-op
+			}
+
+			@Override
+			public void shutdown() {
+				close();
+			}
+		};
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Decodes a compressed response body. The decoder is only created when the body is first read, and only if the body
+	 * is not empty, since an empty body has no compression header.
+	 */
+	private static final class DecodingInputStream extends InputStream {
+
+		private final InputStream encoded;
+
+		private final boolean gzip;
+
+		private InputStream decoded;
+
+		private DecodingInputStream(InputStream encoded, boolean gzip) {
+			this.encoded = encoded;
+			this.gzip = gzip;
+		}
+
+		private InputStream decoded() throws IOException {
+			if (decoded == null) {
+				PushbackInputStream in = new PushbackInputStream(encoded, 1);
+				int first = in.read();
+				if (first < 0) {
+					decoded = in;
+				} else {
+					in.unread(first);
+					decoded = gzip ? new GZIPInputStream(in) : new InflaterInputStream(in);
+				}
+			}
+			return decoded;
+		}
+
+		@Override
+		public int read() throws IOException {
+			return decoded().read();
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			return decoded().read(b, off, len);
+		}
+
+		@Override
+		public int available() throws IOException {
+			return decoded == null ? 0 : decoded.available();
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (decoded != null) {
+				decoded.close();
+			} else {
+				encoded.close();
+			}
+		}
+	}
+
+	/**
+	 * A response whose body stream is closed, which cancels the exchange if it has not been read completely.
+	 */
+	private static final class Response extends BasicHttpResponse implements CloseableHttpResponse {
+
+		private Response(ProtocolVersion version, int code, String reason) {
+			super(version, code, reason);
+		}
+
+		@Override
+		public void close() throws IOException {
+			HttpEntity entity = getEntity();
+			if (entity != null) {
+				entity.getContent().close();
+			}
+		}
+	}
+}
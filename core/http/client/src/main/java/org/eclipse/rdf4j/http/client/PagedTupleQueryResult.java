@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.client;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.apache.http.client.methods.HttpUriRequest;
+import org.eclipse.rdf4j.common.iteration.AbstractCloseableIteration;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.QueryInterruptedException;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.query.impl.TupleQueryResultBuilder;
+import org.eclipse.rdf4j.repository.RepositoryException;
+
+/**
+ * A {@link TupleQueryResult} that is fetched page by page from a cursor on an RDF4J Server. Only a single page is held
+ * in memory; the next page is requested once the current one has been consumed. Closing the result before the last page
+ * closes the cursor on the server.
+ *
+ * @author Eclipse RDF4J contributors
+ * @see RDF4JProtocolSession#setQueryPageSize(int)
+ */
+class PagedTupleQueryResult extends AbstractCloseableIteration<BindingSet> implements TupleQueryResult {
+
+	private final RDF4JProtocolSession session;
+
+	private List<String> bindingNames;
+
+	private TupleQueryResult page;
+
+	private String cursorID;
+
+	/**
+	 * Sends the query and reads the first page of its result.
+	 */
+	PagedTupleQueryResult(RDF4JProtocolSession session, HttpUriRequest method)
+			throws IOException, RepositoryException, MalformedQueryException, QueryInterruptedException {
+		this.session = session;
+		fetch(method);
+		bindingNames = page.getBindingNames();
+	}
+
+	private void fetch(HttpUriRequest method)
+			throws IOException, RepositoryException, MalformedQueryException, QueryInterruptedException {
+		TupleQueryResultBuilder builder = new TupleQueryResultBuilder();
+		cursorID = session.getTupleQueryPage(method, builder);
+		page = builder.getQueryResult();
+	}
+
+	@Override
+	public List<String> getBindingNames() throws QueryEvaluationException {
+		return bindingNames;
+	}
+
+	@Override
+	public boolean hasNext() throws QueryEvaluationException {
+		if (isClosed()) {
+			return false;
+		}
+		try {
+			while (!page.hasNext() && cursorID != null) {
+				fetch(session.getCursorMethod(cursorID));
+			}
+		} catch (IOException | RepositoryException | MalformedQueryException e) {
+			close();
+			throw new QueryEvaluationException(e);
+		} catch (RuntimeException e) {
+			close();
+			throw e;
+		}
+		boolean result = page.hasNext();
+		if (!result) {
+			close();
+		}
+		return result;
+	}
+
+	@Override
+	public BindingSet next() throws QueryEvaluationException {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return page.next();
+	}
+
+	@Override
+	public void remove() throws QueryEvaluationException {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	protected void handleClose() throws QueryEvaluationException {
+		if (cursorID != null) {
+			session.closeCursor(cursorID);
+			cursorID = null;
+		}
+	}
+}
@@ -18,7 +18,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.PushbackReader;
 import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.lang.ref.WeakReference;
 import java.net.HttpURLConnection;
 import java.net.URISyntaxException;
 import java.nio.charset.Charset;
@@ -27,6 +30,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -40,6 +44,7 @@ import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.HttpClient;
+import org.apache.http.client.entity.GzipCompressingEntity;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
@@ -51,12 +56,14 @@ import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.util.EntityUtils;
+import org.eclipse.rdf4j.common.exception.RDF4JConfigException;
 import org.eclipse.rdf4j.common.exception.RDF4JException;
 import org.eclipse.rdf4j.common.io.IOUtil;
 import org.eclipse.rdf4j.common.transaction.IsolationLevel;
@@ -72,16 +79,21 @@ import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.impl.LinkedHashModel;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.AbstractTupleQueryResultHandler;
 import org.eclipse.rdf4j.query.Binding;
+import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.Dataset;
 import org.eclipse.rdf4j.query.MalformedQueryException;
 import org.eclipse.rdf4j.query.QueryInterruptedException;
 import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.QueryResultHandlerException;
 import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.eclipse.rdf4j.query.TupleQueryResultHandler;
 import org.eclipse.rdf4j.query.TupleQueryResultHandlerException;
 import org.eclipse.rdf4j.query.impl.TupleQueryResultBuilder;
+import org.eclipse.rdf4j.query.resultio.QueryResultFormat;
 import org.eclipse.rdf4j.query.resultio.TupleQueryResultFormat;
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultParserRegistry;
 import org.eclipse.rdf4j.repository.RepositoryException;
 import org.eclipse.rdf4j.repository.config.RepositoryConfig;
 import org.eclipse.rdf4j.rio.RDFFormat;
@@ -109,6 +121,14 @@ public class RDF4JProtocolSession extends SPARQLProtocolSession {
 	 */
 	private static final long PINGDELAY = TimeUnit.MILLISECONDS.convert(Protocol.DEFAULT_TIMEOUT, TimeUnit.SECONDS) / 2;
 
+	/**
+	 * System property for configuration of the upload compression threshold:
+	 * {@code rdf4j.client.upload.compression.threshold}. Uploaded RDF data of at least this many bytes is sent gzip
+	 * compressed. A negative value, the default, disables compression of uploads. Compressed uploads require an RDF4J
+	 * Server that accepts gzip-encoded request bodies.
+	 */
+	public static final String UPLOAD_COMPRESSION_THRESHOLD_PARAM = "rdf4j.client.upload.compression.threshold";
+
 	private final Logger logger = LoggerFactory.getLogger(RDF4JProtocolSession.class);
 
 	private String serverURL;
@@ -121,6 +141,10 @@ public class RDF4JProtocolSession extends SPARQLProtocolSession {
 
 	private long pingDelay = PINGDELAY;
 
+	private int uploadCompressionThreshold = -1;
+
+	private int queryPageSize;
+
 	/**
 	 * @deprecated Use {@link #RDF4JProtocolSession(HttpClient, ExecutorService)} instead
 	 */
@@ -150,6 +174,16 @@ public class RDF4JProtocolSession extends SPARQLProtocolSession {
 			logger.warn("Could not read integer value of system property {}", Protocol.CACHE_TIMEOUT_PROPERTY);
 		}
 
+		String propertyValue = System.getProperty(UPLOAD_COMPRESSION_THRESHOLD_PARAM);
+		if (propertyValue != null) {
+			try {
+				uploadCompressionThreshold = Integer.parseInt(propertyValue);
+			} catch (NumberFormatException e) {
+				throw new RDF4JConfigException(
+						"integer value expected for property " + UPLOAD_COMPRESSION_THRESHOLD_PARAM, e);
+			}
+		}
+
 		// use a single-threaded scheduled executor to handle keepalive pings for transactions
 		pingScheduler = Executors.newSingleThreadScheduledExecutor((Runnable runnable) -> {
 			Thread thread = Executors.defaultThreadFactory().newThread(runnable);
@@ -159,6 +193,45 @@ public class RDF4JProtocolSession extends SPARQLProtocolSession {
 		});
 	}
 
+	/**
+	 * Sets the minimum size, in bytes, of uploaded RDF data that is sent gzip compressed. Compressed uploads require an
+	 * RDF4J Server that accepts gzip-encoded request bodies.
+	 *
+	 * @param uploadCompressionThreshold the threshold, or a negative value to disable compression of uploads.
+	 * @see #UPLOAD_COMPRESSION_THRESHOLD_PARAM
+	 */
+	public void setUploadCompressionThreshold(int uploadCompressionThreshold) {
+		this.uploadCompressionThreshold = uploadCompressionThreshold;
+	}
+
+	/**
+	 * @return the minimum size, in bytes, of uploaded RDF data that is sent gzip compressed, or a negative value if
+	 *         uploads are not compressed.
+	 */
+	public int getUploadCompressionThreshold() {
+		return uploadCompressionThreshold;
+	}
+
+	/**
+	 * Sets the number of solutions per page in which the results of tuple queries are fetched. The server keeps the
+	 * evaluated result open as a cursor between pages, so that large results are transferred in bounded responses
+	 * without evaluating the query again. Paging requires an RDF4J Server that supports cursors, and is not used for
+	 * queries inside a transaction.
+	 *
+	 * @param queryPageSize the page size, or 0 or less to fetch the results of tuple queries in a single response.
+	 */
+	public void setQueryPageSize(int queryPageSize) {
+		this.queryPageSize = queryPageSize;
+	}
+
+	/**
+	 * @return the number of solutions per page in which the results of tuple queries are fetched, or 0 or less if
+	 *         results are not paged.
+	 */
+	public int getQueryPageSize() {
+		return queryPageSize;
+	}
+
 	public void setServerURL(String serverURL) {
 		if (serverURL == null) {
 			throw new IllegalArgumentException("serverURL must not be null");
@@ -218,7 +291,7 @@ public class RDF4JProtocolSession extends SPARQLProtocolSession {
 		}
 	}
 
-	private synchronized String getTransactionURL() {
+	synchronized String getTransactionURL() {
 		return transactionURL;
 	}
 
@@ -920,9 +993,24 @@ public class RDF4JProtocolSession extends SPARQLProtocolSession {
 	protected void upload(InputStream contents, String baseURI, RDFFormat dataFormat, boolean overwrite,
 			boolean preserveNodeIds, Action action, Resource... contexts)
 			throws IOException, RDFParseException, RepositoryException, UnauthorizedException {
-		// Set Content-Length to -1 as we don't know it and we also don't want to
-		// cache
-		HttpEntity entity = new InputStreamEntity(contents, -1, ContentType.parse(dataFormat.getDefaultMIMEType()));
+		ContentType contentType = ContentType.parse(dataFormat.getDefaultMIMEType());
+		HttpEntity entity;
+		if (uploadCompressionThreshold >= 0) {
+			// read ahead to find out if the data reaches the compression threshold
+			byte[] head = new byte[uploadCompressionThreshold];
+			int length = IOUtil.readBytes(contents, head);
+			if (length < head.length) {
+				contents.close();
+				entity = new ByteArrayEntity(head, 0, length, contentType);
+			} else {
+				entity = new GzipCompressingEntity(new InputStreamEntity(
+						new SequenceInputStream(new ByteArrayInputStream(head), contents), -1, contentType));
+			}
+		} else {
+			// Set Content-Length to -1 as we don't know it and we also don't want to
+			// cache
+			entity = new InputStreamEntity(contents, -1, contentType);
+		}
 		upload(entity, baseURI, overwrite, preserveNodeIds, action, contexts);
 	}
 
@@ -953,9 +1041,13 @@ public class RDF4JProtocolSession extends SPARQLProtocolSession {
 			builder = RequestBuilder.post(getQueryURL());
 			builder.setHeader("Content-Type", Protocol.FORM_MIME_TYPE + "; charset=utf-8");
 
-			builder.setEntity(new UrlEncodedFormEntity(
-					getQueryMethodParameters(ql, query, baseURI, dataset, includeInferred, maxQueryTime, bindings),
-					UTF8));
+			List<NameValuePair> queryParams = getQueryMethodParameters(ql, query, baseURI, dataset, includeInferred,
+					maxQueryTime, bindings);
+			if (queryPageSize > 0) {
+				// only tuple query results are paged, the server ignores the page size for other queries
+				queryParams.add(new BasicNameValuePair(Protocol.PAGE_SIZE_PARAM_NAME, Integer.toString(queryPageSize)));
+			}
+			builder.setEntity(new UrlEncodedFormEntity(queryParams, UTF8));
 		}
 		// functionality to provide custom http headers as required by the
 		// applications
@@ -965,6 +1057,110 @@ public class RDF4JProtocolSession extends SPARQLProtocolSession {
 		return builder.build();
 	}
 
+	@Override
+	@Deprecated(since = "4.1.2")
+	protected TupleQueryResult getBackgroundTupleQueryResult(HttpUriRequest method, WeakReference<?> callerRef)
+			throws RepositoryException, QueryInterruptedException, MalformedQueryException, IOException {
+		if (!isPagedQuery(method)) {
+			return super.getBackgroundTupleQueryResult(method, callerRef);
+		}
+		return new PagedTupleQueryResult(this, method);
+	}
+
+	@Override
+	protected void getTupleQueryResult(HttpUriRequest method, TupleQueryResultHandler handler)
+			throws IOException, TupleQueryResultHandlerException, RepositoryException, MalformedQueryException,
+			UnauthorizedException, QueryInterruptedException {
+		if (!isPagedQuery(method)) {
+			super.getTupleQueryResult(method, handler);
+			return;
+		}
+
+		// the pages are reported as a single result, so only the first page starts it
+		TupleQueryResultHandler pageHandler = new AbstractTupleQueryResultHandler() {
+
+			private boolean started;
+
+			@Override
+			public void startQueryResult(List<String> bindingNames) throws TupleQueryResultHandlerException {
+				if (!started) {
+					started = true;
+					handler.startQueryResult(bindingNames);
+				}
+			}
+
+			@Override
+			public void handleLinks(List<String> linkUrls) throws QueryResultHandlerException {
+				if (!started) {
+					handler.handleLinks(linkUrls);
+				}
+			}
+
+			@Override
+			public void handleSolution(BindingSet bindingSet) throws TupleQueryResultHandlerException {
+				handler.handleSolution(bindingSet);
+			}
+		};
+
+		String cursorID = getTupleQueryPage(method, pageHandler);
+		try {
+			while (cursorID != null) {
+				cursorID = getTupleQueryPage(getCursorMethod(cursorID), pageHandler);
+			}
+			handler.endQueryResult();
+		} finally {
+			if (cursorID != null) {
+				closeCursor(cursorID);
+			}
+		}
+	}
+
+	private boolean isPagedQuery(HttpUriRequest method) {
+		return queryPageSize > 0 && getTransactionURL() == null && getRepositoryURL() != null
+				&& getQueryURL().equals(method.getURI().toString());
+	}
+
+	/**
+	 * Fetches a page of a tuple query result.
+	 *
+	 * @return the ID of the cursor from which the next page can be fetched, or <var>null</var> if this was the last
+	 *         page.
+	 */
+	String getTupleQueryPage(HttpUriRequest method, TupleQueryResultHandler handler)
+			throws IOException, TupleQueryResultHandlerException, RepositoryException, MalformedQueryException,
+			QueryInterruptedException {
+		Set<QueryResultFormat> tqrFormats = TupleQueryResultParserRegistry.getInstance().getKeys();
+		if (tqrFormats.isEmpty()) {
+			throw new RepositoryException("No tuple query result parsers have been registered");
+		}
+
+		HttpResponse response = sendTupleQueryViaHttp(method, tqrFormats);
+		try {
+			parseTupleQueryResult(response, tqrFormats, handler);
+			Header cursorHeader = response.getFirstHeader(Protocol.CURSOR_HEADER);
+			return cursorHeader != null ? cursorHeader.getValue() : null;
+		} finally {
+			EntityUtils.consumeQuietly(response.getEntity());
+		}
+	}
+
+	HttpUriRequest getCursorMethod(String cursorID) {
+		return applyAdditionalHeaders(new HttpGet(Protocol.getCursorLocation(getRepositoryURL(), cursorID)));
+	}
+
+	/**
+	 * Closes a cursor on the server, for results that are not read until the last page. Cursors that are not closed
+	 * eventually time out, so errors are only logged.
+	 */
+	void closeCursor(String cursorID) {
+		try {
+			executeNoContent(
+					applyAdditionalHeaders(new HttpDelete(Protocol.getCursorLocation(getRepositoryURL(), cursorID))));
+		} catch (IOException | RDF4JException e) {
+			logger.debug("Failed to close cursor {}", cursorID, e);
+		}
+	}
+
 	@Override
 	protected HttpUriRequest getUpdateMethod(QueryLanguage ql, String update, String baseURI, Dataset dataset,
 			boolean includeInferred, int maxExecutionTime, Binding... bindings) {
@@ -1002,6 +1198,20 @@ public class RDF4JProtocolSession extends SPARQLProtocolSession {
 			throws IOException, RDFParseException, RepositoryException, UnauthorizedException {
 		final Charset charset = dataFormat.hasCharset() ? dataFormat.getCharset() : StandardCharsets.UTF_8;
 
+		final Reader reader;
+		boolean compress = false;
+		if (uploadCompressionThreshold >= 0) {
+			// read ahead to find out if the data reaches the compression threshold
+			PushbackReader pushbackReader = new PushbackReader(contents, Math.max(uploadCompressionThreshold, 1));
+			char[] head = new char[uploadCompressionThreshold];
+			int length = IOUtil.readChars(pushbackReader, head);
+			pushbackReader.unread(head, 0, length);
+			reader = pushbackReader;
+			compress = length == head.length;
+		} else {
+			reader = contents;
+		}
+
 		HttpEntity entity = new AbstractHttpEntity() {
 
 			private InputStream content;
@@ -1038,20 +1248,36 @@ public class RDF4JProtocolSession extends SPARQLProtocolSession {
 
 			@Override
 			public void writeTo(OutputStream out) throws IOException {
-				try (contents) {
+				try (reader) {
 					OutputStreamWriter writer = new OutputStreamWriter(out, charset);
-					IOUtil.transfer(contents, writer);
+					IOUtil.transfer(reader, writer);
 					writer.flush();
 				}
 			}
 		};
 
+		if (compress) {
+			entity = new GzipCompressingEntity(entity);
+		}
 		upload(entity, baseURI, overwrite, preserveNodeIds, action, contexts);
 	}
 
 	protected void upload(HttpEntity reqEntity, String baseURI, boolean overwrite, boolean preserveNodeIds,
 			Action action, Resource... contexts)
 			throws IOException, RDFParseException, RepositoryException, UnauthorizedException {
+		upload(reqEntity, baseURI, overwrite, preserveNodeIds, action, null, contexts);
+	}
+
+	/**
+	 * Uploads data, optionally as a chunk of a larger document that is added to the active transaction.
+	 *
+	 * @param document the identifier of the document the data is a chunk of, or <var>null</var> if the data is a
+	 *                 complete document.
+	 * @see Protocol#CHUNK_PARAM_NAME
+	 */
+	void upload(HttpEntity reqEntity, String baseURI, boolean overwrite, boolean preserveNodeIds, Action action,
+			String document, Resource... contexts)
+			throws IOException, RDFParseException, RepositoryException, UnauthorizedException {
 		Objects.requireNonNull(contexts,
 				"contexts argument may not be null; either the value should be cast to Resource or an empty array should be supplied");
 
@@ -1082,6 +1308,9 @@ public class RDF4JProtocolSession extends SPARQLProtocolSession {
 					throw new IllegalArgumentException("action can not be null on transaction operation");
 				}
 				url.setParameter(Protocol.ACTION_PARAM_NAME, action.toString());
+				if (document != null) {
+					url.setParameter(Protocol.CHUNK_PARAM_NAME, document);
+				}
 			}
 
 			// Select appropriate HTTP method
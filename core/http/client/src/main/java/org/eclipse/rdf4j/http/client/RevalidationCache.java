@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+
+/**
+ * A bounded cache of GET responses that carry an entity tag, used to revalidate responses with the server through an
+ * <var>If-None-Match</var> header. When the server replies with <var>304 Not Modified</var>, the cached response is
+ * returned instead of evaluating and transferring the result again.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+class RevalidationCache {
+
+	private final int maxEntrySize;
+
+	private final Map<String, CachedResponse> entries;
+
+	RevalidationCache(int maxEntries, int maxEntrySize) {
+		this.maxEntrySize = maxEntrySize;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Adds an <var>If-None-Match</var> header to the request if a response to it has been cached.
+	 *
+	 * @param method the GET request.
+	 * @return the cached response, or <var>null</var> if no response has been cached.
+	 */
+	CachedResponse prepare(HttpUriRequest method) {
+		CachedResponse entry;
+		synchronized (entries) {
+			entry = entries.get(getKey(method));
+		}
+		if (entry != null) {
+			method.setHeader(HttpHeaders.IF_NONE_MATCH, entry.etag);
+		}
+		return entry;
+	}
+
+	/**
+	 * Processes the response to a request that has been prepared with {@link #prepare(HttpUriRequest)}.
+	 *
+	 * @param method   the GET request.
+	 * @param cached   the cached response that the request was prepared with, may be <var>null</var>.
+	 * @param response the response of the server.
+	 * @return the cached response if the server replied with <var>304 Not Modified</var>, or the response of the server
+	 *         otherwise.
+	 * @throws IOException if the response body could not be read.
+	 */
+	HttpResponse revalidate(HttpUriRequest method, CachedResponse cached, HttpResponse response) throws IOException {
+		int httpCode = response.getStatusLine().getStatusCode();
+		if (httpCode == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+			EntityUtils.consumeQuietly(response.getEntity());
+			BasicHttpResponse result = new BasicHttpResponse(response.getProtocolVersion(), HttpURLConnection.HTTP_OK,
+					"OK");
+			result.setHeaders(cached.headers);
+			ByteArrayEntity bodyEntity = new ByteArrayEntity(cached.body);
+			bodyEntity.setContentType(result.getFirstHeader(HttpHeaders.CONTENT_TYPE));
+			result.setEntity(bodyEntity);
+			return result;
+		}
+
+		String key = getKey(method);
+		Header etag = response.getFirstHeader(HttpHeaders.ETAG);
+		HttpEntity entity = response.getEntity();
+		if (httpCode != HttpURLConnection.HTTP_OK || etag == null || entity == null
+				|| entity.getContentLength() > maxEntrySize) {
+			remove(key);
+			return response;
+		}
+
+		// read the start of the body, and only cache it if the complete body fits
+		InputStream in = entity.getContent();
+		ByteArrayOutputStream head = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int read;
+		while (head.size() <= maxEntrySize && (read = in.read(buffer)) >= 0) {
+			head.write(buffer, 0, read);
+		}
+
+		if (head.size() > maxEntrySize) {
+			remove(key);
+			InputStreamEntity remainder = new InputStreamEntity(
+					new SequenceInputStream(new ByteArrayInputStream(head.toByteArray()), in));
+			remainder.setContentType(entity.getContentType());
+			response.setEntity(remainder);
+			return response;
+		}
+
+		in.close();
+		byte[] body = head.toByteArray();
+		List<Header> headers = new ArrayList<>();
+		for (Header header : response.getAllHeaders()) {
+			String name = header.getName();
+			if (!name.equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH)
+					&& !name.equalsIgnoreCase(HttpHeaders.TRANSFER_ENCODING)
+					&& !name.equalsIgnoreCase(HttpHeaders.CONTENT_ENCODING)) {
+				headers.add(header);
+			}
+		}
+		synchronized (entries) {
+			entries.put(key, new CachedResponse(etag.getValue(), headers.toArray(new Header[0]), body));
+		}
+		ByteArrayEntity bodyEntity = new ByteArrayEntity(body);
+		bodyEntity.setContentType(entity.getContentType());
+		response.setEntity(bodyEntity);
+		return response;
+	}
+
+	int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	private void remove(String key) {
+		synchronized (entries) {
+			entries.remove(key);
+		}
+	}
+
+	/**
+	 * Responses are cached per URI and accepted format.
+	 */
+	private static String getKey(HttpUriRequest method) {
+		StringBuilder key = new StringBuilder(method.getURI().toString());
+		for (Header accept : method.getHeaders(HttpHeaders.ACCEPT)) {
+			key.append('\n').append(accept.getValue());
+		}
+		return key.toString();
+	}
+
+	static final class CachedResponse {
+
+		private final String etag;
+
+		private final Header[] headers;
+
+		private final byte[] body;
+
+		private CachedResponse(String etag, Header[] headers, byte[] body) {
+			this.etag = etag;
+			this.headers = headers;
+			this.body = body;
+		}
+	}
+}
@@ -161,6 +161,23 @@ public class SPARQLProtocolSession implements HttpClientDependent, AutoCloseable
 	 */
 	private final int maximumUrlLength;
 
+	/**
+	 * System property for the number of GET responses that are cached for revalidation:
+	 * {@code rdf4j.client.revalidation.cache.size}. Revalidation is disabled by default.
+	 *
+	 * @see #setRevalidationCacheSize(int)
+	 */
+	public static final String REVALIDATION_CACHE_SIZE_PARAM = "rdf4j.client.revalidation.cache.size";
+
+	/**
+	 * The maximum size, in bytes, of response bodies that are cached for revalidation.
+	 */
+	public static final int MAXIMUM_REVALIDATION_ENTRY_SIZE = 1024 * 1024;
+
+	private int revalidationCacheSize;
+
+	private RevalidationCache revalidationCache;
+
 	final static Logger logger = LoggerFactory.getLogger(SPARQLProtocolSession.class);
 
 	private ValueFactory valueFactory;
@@ -211,6 +228,16 @@ public class SPARQLProtocolSession implements HttpClientDependent, AutoCloseable
 			}
 		}
 		this.maximumUrlLength = maximumUrlLength;
+
+		String cacheSizeValue = System.getProperty(REVALIDATION_CACHE_SIZE_PARAM);
+		if (cacheSizeValue != null) {
+			try {
+				setRevalidationCacheSize(Integer.parseInt(cacheSizeValue));
+			} catch (NumberFormatException e) {
+				throw new RDF4JConfigException("integer value expected for property " + REVALIDATION_CACHE_SIZE_PARAM,
+						e);
+			}
+		}
 	}
 
 	@Override
@@ -245,6 +272,30 @@ public class SPARQLProtocolSession implements HttpClientDependent, AutoCloseable
 		this.updateURL = updateURL;
 	}
 
+	/**
+	 * Sets the number of GET responses that are cached for revalidation. Responses that carry an entity tag and are at
+	 * most {@value #MAXIMUM_REVALIDATION_ENTRY_SIZE} bytes are kept, and repeated requests ask the server whether the
+	 * response has changed through an <var>If-None-Match</var> header. If it has not, the cached response is used.
+	 *
+	 * @param revalidationCacheSize the number of cached responses, or 0 to disable revalidation.
+	 * @see #REVALIDATION_CACHE_SIZE_PARAM
+	 */
+	public void setRevalidationCacheSize(int revalidationCacheSize) {
+		this.revalidationCacheSize = Math.max(revalidationCacheSize, 0);
+		this.revalidationCache = revalidationCacheSize > 0
+				? new RevalidationCache(revalidationCacheSize, MAXIMUM_REVALIDATION_ENTRY_SIZE)
+				: null;
+	}
+
+	/**
+	 * Gets the number of GET responses that are cached for revalidation.
+	 *
+	 * @return the number of cached responses, or 0 if revalidation is disabled.
+	 */
+	public int getRevalidationCacheSize() {
+		return revalidationCacheSize;
+	}
+
 	/**
 	 * Sets the preferred format for encoding tuple query results.
 	 *
@@ -709,34 +760,42 @@ public class SPARQLProtocolSession implements HttpClientDependent, AutoCloseable
 		// send the tuple query
 		HttpResponse response = sendTupleQueryViaHttp(method, tqrFormats);
 		try {
+			parseTupleQueryResult(response, tqrFormats, handler);
+		} finally {
+			EntityUtils.consumeQuietly(response.getEntity());
+		}
+	}
 
-			// if we get here, HTTP code is 200
-			String mimeType = getResponseMIMEType(response);
-			try {
-				QueryResultFormat format = TupleQueryResultFormat.matchMIMEType(mimeType, tqrFormats)
-						.orElseThrow(() -> new RepositoryException(
-								"Server responded with an unsupported file format: " + mimeType));
+	/**
+	 * Parse a tuple query response in this thread using the provided {@link TupleQueryResultHandler}. The caller is
+	 * responsible for releasing the response.
+	 */
+	protected void parseTupleQueryResult(HttpResponse response, Set<QueryResultFormat> tqrFormats,
+			TupleQueryResultHandler handler) throws IOException, TupleQueryResultHandlerException, RepositoryException {
+		// if we get here, HTTP code is 200
+		String mimeType = getResponseMIMEType(response);
+		try {
+			QueryResultFormat format = TupleQueryResultFormat.matchMIMEType(mimeType, tqrFormats)
+					.orElseThrow(() -> new RepositoryException(
+							"Server responded with an unsupported file format: " + mimeType));
 
-				// Check if we can pass through to the writer directly
-				if (handler instanceof Sink && passThrough(response, format, ((Sink) handler))) {
-					return;
-				}
+			// Check if we can pass through to the writer directly
+			if (handler instanceof Sink && passThrough(response, format, ((Sink) handler))) {
+				return;
+			}
 
-				// we need to parse the result and re-serialize.
-				TupleQueryResultParser parser = QueryResultIO.createTupleParser(format, getValueFactory());
-				parser.setQueryResultHandler(handler);
-				parser.parseQueryResult(response.getEntity().getContent());
-			} catch (QueryResultParseException e) {
-				throw new RepositoryException("Malformed query result from server", e);
-			} catch (QueryResultHandlerException e) {
-				if (e instanceof TupleQueryResultHandlerException) {
-					throw (TupleQueryResultHandlerException) e;
-				} else {
-					throw new TupleQueryResultHandlerException(e);
-				}
+			// we need to parse the result and re-serialize.
+			TupleQueryResultParser parser = QueryResultIO.createTupleParser(format, getValueFactory());
+			parser.setQueryResultHandler(handler);
+			parser.parseQueryResult(response.getEntity().getContent());
+		} catch (QueryResultParseException e) {
+			throw new RepositoryException("Malformed query result from server", e);
+		} catch (QueryResultHandlerException e) {
+			if (e instanceof TupleQueryResultHandlerException) {
+				throw (TupleQueryResultHandlerException) e;
+			} else {
+				throw new TupleQueryResultHandlerException(e);
 			}
-		} finally {
-			EntityUtils.consumeQuietly(response.getEntity());
 		}
 	}
 
@@ -752,7 +811,7 @@ public class SPARQLProtocolSession implements HttpClientDependent, AutoCloseable
 	 * @throws QueryInterruptedException
 	 * @throws MalformedQueryException
 	 */
-	private HttpResponse sendTupleQueryViaHttp(HttpUriRequest method, Set<QueryResultFormat> tqrFormats)
+	protected HttpResponse sendTupleQueryViaHttp(HttpUriRequest method, Set<QueryResultFormat> tqrFormats)
 			throws RepositoryException, IOException, QueryInterruptedException, MalformedQueryException {
 
 		final List<String> acceptValues = new ArrayList<>(tqrFormats.size());
@@ -1062,7 +1121,18 @@ public class SPARQLProtocolSession implements HttpClientDependent, AutoCloseable
 		if (params != null) {
 			method.setParams(params);
 		}
+		RevalidationCache cache = method instanceof HttpGet ? revalidationCache : null;
+		RevalidationCache.CachedResponse cached = cache != null ? cache.prepare(method) : null;
+
 		HttpResponse response = httpClient.execute(method, httpContext);
+		if (cache != null) {
+			try {
+				response = cache.revalidate(method, cached, response);
+			} catch (IOException e) {
+				EntityUtils.consumeQuietly(response.getEntity());
+				throw e;
+			}
+		}
 
 		try {
 			int httpCode = response.getStatusLine().getStatusCode();
@@ -12,6 +12,7 @@ package org.eclipse.rdf4j.http.client;
 
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -110,6 +111,18 @@ public class SharedHttpClientSessionManager implements HttpClientSessionManager,
 	 */
 	public static final String SOCKET_TIMEOUT_PROPERTY = "org.eclipse.rdf4j.client.http.socketTimeout";
 
+	/**
+	 * Configurable system property {@code org.eclipse.rdf4j.client.http.transport} for specifying the
+	 * {@link HttpClientTransport} of the HTTP client that is created by default: <var>apache</var> (the default) or
+	 * <var>jdk</var>.
+	 *
+	 * <p>
+	 * The <var>jdk</var> transport multiplexes concurrent requests to the same server over a single HTTP/2 connection,
+	 * which reduces the number of connections needed when querying many endpoints in parallel.
+	 * </p>
+	 */
+	public static final String TRANSPORT_PROPERTY = "org.eclipse.rdf4j.client.http.transport";
+
 	// System property constants for SPARQL SERVICE timeouts
 
 	/**
@@ -296,6 +309,12 @@ public class SharedHttpClientSessionManager implements HttpClientSessionManager,
 	public static final int SPARQL_SOCKET_TIMEOUT = Integer.parseInt(
 			System.getProperty(SPARQL_SOCKET_TIMEOUT_PROPERTY, String.valueOf(DEFAULT_SPARQL_SOCKET_TIMEOUT)));
 
+	/**
+	 * HTTP transport of the created HTTP client, as read from system properties or defaults.
+	 */
+	public static final HttpClientTransport TRANSPORT = HttpClientTransport
+			.of(System.getProperty(TRANSPORT_PROPERTY, HttpClientTransport.APACHE.name()));
+
 	// Variables for the currently used timeouts
 
 	private int currentConnectionTimeout = CONNECTION_TIMEOUT;
@@ -321,6 +340,8 @@ public class SharedHttpClientSessionManager implements HttpClientSessionManager,
 	 */
 	private volatile HttpClientBuilder httpClientBuilder;
 
+	private volatile HttpClientTransport transport = TRANSPORT;
+
 	private final Map<SPARQLProtocolSession, Boolean> openSessions = new ConcurrentHashMap<>();
 
 	private static final HttpRequestRetryHandler retryHandlerStale = new RetryHandlerStale();
@@ -475,6 +496,24 @@ public class SharedHttpClientSessionManager implements HttpClientSessionManager,
 		this.httpClientBuilder = httpClientBuilder;
 	}
 
+	/**
+	 * Set the {@link HttpClientTransport} of the inner {@link #httpClient}, if it has not been created yet and is not
+	 * provided externally or through an {@link HttpClientBuilder}.
+	 *
+	 * @param transport the transport to use
+	 * @see #TRANSPORT_PROPERTY
+	 */
+	public void setTransport(HttpClientTransport transport) {
+		this.transport = Objects.requireNonNull(transport, "transport cannot be null");
+	}
+
+	/**
+	 * @return the {@link HttpClientTransport} of the inner {@link #httpClient}, if it is created by this manager.
+	 */
+	public HttpClientTransport getTransport() {
+		return transport;
+	}
+
 	@Override
 	public SPARQLProtocolSession createSPARQLProtocolSession(String queryEndpointUrl, String updateEndpointUrl) {
 		SPARQLProtocolSession session = new SPARQLProtocolSession(getHttpClient(), executor) {
@@ -569,6 +608,11 @@ public class SharedHttpClientSessionManager implements HttpClientSessionManager,
 			return nextHttpClientBuilder.build();
 		}
 
+		if (transport == HttpClientTransport.JDK) {
+			return new JavaNetHttpClient(Duration.ofMillis(currentConnectionTimeout),
+					Duration.ofMillis(currentSocketTimeout));
+		}
+
 		RequestConfig requestConfig = getDefaultRequestConfig();
 
 		return HttpClientBuilder.create()
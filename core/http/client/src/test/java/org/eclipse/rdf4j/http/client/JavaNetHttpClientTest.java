@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
+import org.eclipse.rdf4j.http.protocol.Protocol;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.junit.jupiter.MockServerExtension;
+import org.mockserver.matchers.Times;
+
+/**
+ * Runs the {@link RDF4JProtocolSession} tests with the {@link HttpClientTransport#JDK JDK transport}.
+ */
+@ExtendWith(MockServerExtension.class)
+public class JavaNetHttpClientTest extends RDF4JProtocolSessionTest {
+
+	@Override
+	RDF4JProtocolSession createProtocolSession() {
+		SharedHttpClientSessionManager sessionManager = new SharedHttpClientSessionManager();
+		sessionManager.setTransport(HttpClientTransport.JDK);
+		assertThat(sessionManager.getHttpClient()).isInstanceOf(JavaNetHttpClient.class);
+
+		RDF4JProtocolSession session = sessionManager.createRDF4JProtocolSession(serverURL);
+		session.setRepository(Protocol.getRepositoryLocation(serverURL, repositoryID));
+		HashMap<String, String> additionalHeaders = new HashMap<>();
+		additionalHeaders.put("X-testing-header", "foobar");
+		session.setAdditionalHttpHeaders(additionalHeaders);
+		return session;
+	}
+
+	@Test
+	public void testBasicAuthentication(MockServerClient client) throws Exception {
+		client.when(
+				request()
+						.withMethod("GET")
+						.withPath("/rdf4j-server/repositories/test/size")
+						.withHeader("Authorization", "Basic dXNlcjpzZWNyZXQ="),
+				Times.once()
+		)
+				.respond(
+						response()
+								.withBody("7")
+				);
+
+		getRDF4JSession().setUsernameAndPassword("user", "secret");
+		assertThat(getRDF4JSession().size()).isEqualTo(7);
+	}
+
+	@Test
+	public void testRequestTimeout(MockServerClient client) throws Exception {
+		client.when(request().withMethod("GET").withPath("/slow"))
+				.respond(response().withBody("late").withDelay(TimeUnit.SECONDS, 5));
+
+		try (JavaNetHttpClient httpClient = new JavaNetHttpClient(Duration.ofSeconds(5), Duration.ofMillis(200))) {
+			HttpGet get = new HttpGet("http://localhost:" + client.getPort() + "/slow");
+			assertThatThrownBy(() -> httpClient.execute(get)).isInstanceOf(HttpTimeoutException.class);
+
+			// a socket timeout of the request takes precedence
+			get.setConfig(RequestConfig.custom().setSocketTimeout(100).build());
+			long start = System.nanoTime();
+			assertThatThrownBy(() -> httpClient.execute(get)).isInstanceOf(HttpTimeoutException.class);
+			assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(4));
+		}
+	}
+
+	@Test
+	public void testEmptyEncodedBody(MockServerClient client) throws Exception {
+		client.when(request().withMethod("GET").withPath("/empty"))
+				.respond(response().withStatusCode(200).withHeader("Content-Encoding", "gzip"));
+
+		try (JavaNetHttpClient httpClient = new JavaNetHttpClient();
+				CloseableHttpResponse response = httpClient
+						.execute(new HttpGet("http://localhost:" + client.getPort() + "/empty"))) {
+			assertThat(response.getStatusLine().getStatusCode()).isEqualTo(200);
+			assertThat(EntityUtils.toByteArray(response.getEntity())).isEmpty();
+		}
+	}
+
+	@Test
+	public void testZeroLengthEntity(MockServerClient client) throws Exception {
+		client.when(request().withMethod("POST").withPath("/form"))
+				.respond(response().withStatusCode(200));
+
+		HttpPost post = new HttpPost("http://localhost:" + client.getPort() + "/form");
+		post.setEntity(new StringEntity("", ContentType.APPLICATION_FORM_URLENCODED));
+		try (JavaNetHttpClient httpClient = new JavaNetHttpClient();
+				CloseableHttpResponse response = httpClient.execute(post)) {
+			assertThat(response.getStatusLine().getStatusCode()).isEqualTo(200);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testConnectionManagerShutdown() {
+		JavaNetHttpClient httpClient = new JavaNetHttpClient();
+		httpClient.getConnectionManager().closeIdleConnections(0, TimeUnit.SECONDS);
+		httpClient.getConnectionManager().shutdown();
+		assertThatThrownBy(() -> httpClient.execute(new HttpGet("http://localhost:1/")))
+				.isInstanceOf(IllegalStateException.class);
+	}
+}
@@ -14,10 +14,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
 
 import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.http.protocol.Protocol;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.eclipse.rdf4j.query.resultio.TupleQueryResultFormat;
 import org.eclipse.rdf4j.repository.config.RepositoryConfig;
 import org.eclipse.rdf4j.rio.RDFFormat;
@@ -27,8 +35,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockserver.client.MockServerClient;
 import org.mockserver.junit.jupiter.MockServerExtension;
 import org.mockserver.matchers.Times;
+import org.mockserver.model.BinaryBody;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.MediaType;
+import org.mockserver.model.StringBody;
 import org.mockserver.verify.VerificationTimes;
 
 /**
@@ -218,4 +228,231 @@ public class RDF4JProtocolSessionTest extends SPARQLProtocolSessionTest {
 				VerificationTimes.exactly(2)
 		);
 	}
+
+	@Test
+	public void testUploadCompression(MockServerClient client) throws Exception {
+		String data = "<urn:s> <urn:p> <urn:o> .\n";
+		HttpRequest addRequest = request()
+				.withMethod("POST")
+				.withPath("/rdf4j-server/repositories/test/statements");
+		client.when(addRequest).respond(response().withStatusCode(204));
+
+		// below the threshold, data is sent as-is
+		getRDF4JSession().setUploadCompressionThreshold(data.length() + 1);
+		getRDF4JSession().addData(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)), null,
+				RDFFormat.NTRIPLES);
+		client.verify(request()
+				.withMethod("POST")
+				.withPath("/rdf4j-server/repositories/test/statements")
+				.withBody(BinaryBody.binary(data.getBytes(StandardCharsets.UTF_8))), VerificationTimes.once());
+
+		// from the threshold on, data is sent gzip compressed
+		getRDF4JSession().setUploadCompressionThreshold(data.length());
+		getRDF4JSession().addData(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)), null,
+				RDFFormat.NTRIPLES);
+		getRDF4JSession().upload(new StringReader(data), null, RDFFormat.NTRIPLES, false, true);
+		client.verify(request()
+				.withMethod("POST")
+				.withPath("/rdf4j-server/repositories/test/statements")
+				.withHeader("Content-Encoding", "gzip"), VerificationTimes.exactly(2));
+	}
+
+	@Test
+	public void testCompressedResponse(MockServerClient client) throws Exception {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+			out.write("42".getBytes(StandardCharsets.UTF_8));
+		}
+		client.when(
+				request()
+						.withMethod("GET")
+						.withPath("/rdf4j-server/repositories/test/size"),
+				Times.once()
+		)
+				.respond(
+						response()
+								.withHeader("Content-Encoding", "gzip")
+								.withBody(compressed.toByteArray())
+				);
+
+		assertThat(getRDF4JSession().size()).isEqualTo(42);
+		client.verify(
+				request()
+						.withMethod("GET")
+						.withPath("/rdf4j-server/repositories/test/size")
+						.withHeader("Accept-Encoding", "gzip,deflate")
+		);
+	}
+
+	@Test
+	public void testRevalidation(MockServerClient client) throws Exception {
+		client.when(
+				request()
+						.withMethod("GET")
+						.withPath("/rdf4j-server/repositories/test/size")
+						.withHeader("If-None-Match", "W/\"1\""),
+				Times.once()
+		)
+				.respond(
+						response()
+								.withStatusCode(304)
+								.withHeader("ETag", "W/\"1\"")
+				);
+		client.when(
+				request()
+						.withMethod("GET")
+						.withPath("/rdf4j-server/repositories/test/size"),
+				Times.once()
+		)
+				.respond(
+						response()
+								.withHeader("ETag", "W/\"1\"")
+								.withBody("42")
+				);
+
+		RDF4JProtocolSession session = getRDF4JSession();
+		session.setRevalidationCacheSize(10);
+		assertThat(session.size()).isEqualTo(42);
+		assertThat(session.size()).isEqualTo(42);
+		client.verify(
+				request()
+						.withMethod("GET")
+						.withPath("/rdf4j-server/repositories/test/size")
+						.withHeader("If-None-Match", "W/\"1\""),
+				VerificationTimes.once()
+		);
+	}
+
+	@Test
+	public void testPagedTupleQuery(MockServerClient client) throws Exception {
+		client.when(
+				request()
+						.withMethod("POST")
+						.withPath("/rdf4j-server/repositories/test")
+						.withBody(StringBody.subString(Protocol.PAGE_SIZE_PARAM_NAME + "=1")),
+				Times.once()
+		)
+				.respond(
+						response()
+								.withHeader(Protocol.CURSOR_HEADER, "c1")
+								.withBody(solutions("1"))
+								.withContentType(MediaType.parse(TupleQueryResultFormat.SPARQL.getDefaultMIMEType()))
+				);
+		client.when(
+				request()
+						.withMethod("GET")
+						.withPath("/rdf4j-server/repositories/test/cursors/c1"),
+				Times.once()
+		)
+				.respond(
+						response()
+								.withBody(solutions("2"))
+								.withContentType(MediaType.parse(TupleQueryResultFormat.SPARQL.getDefaultMIMEType()))
+				);
+
+		RDF4JProtocolSession session = getRDF4JSession();
+		session.setQueryPageSize(1);
+		try (TupleQueryResult result = session.sendTupleQuery(QueryLanguage.SPARQL, "SELECT ?x WHERE {}", null, true,
+				null)) {
+			assertThat(result.getBindingNames()).containsExactly("x");
+			assertThat(result.stream().map(bs -> bs.getValue("x").stringValue())).containsExactly("1", "2");
+		}
+		client.verify(
+				request()
+						.withMethod("DELETE")
+						.withPath("/rdf4j-server/repositories/test/cursors/c1"),
+				VerificationTimes.never()
+		);
+	}
+
+	@Test
+	public void testPagedTupleQueryClosedEarly(MockServerClient client) throws Exception {
+		client.when(
+				request()
+						.withMethod("POST")
+						.withPath("/rdf4j-server/repositories/test"),
+				Times.once()
+		)
+				.respond(
+						response()
+								.withHeader(Protocol.CURSOR_HEADER, "c2")
+								.withBody(solutions("1"))
+								.withContentType(MediaType.parse(TupleQueryResultFormat.SPARQL.getDefaultMIMEType()))
+				);
+		client.when(
+				request()
+						.withMethod("DELETE")
+						.withPath("/rdf4j-server/repositories/test/cursors/c2"),
+				Times.once()
+		)
+				.respond(response().withStatusCode(204));
+
+		RDF4JProtocolSession session = getRDF4JSession();
+		session.setQueryPageSize(1);
+		try (TupleQueryResult result = session.sendTupleQuery(QueryLanguage.SPARQL, "SELECT ?x WHERE {}", null, true,
+				null)) {
+			assertThat(result.next().getValue("x").stringValue()).isEqualTo("1");
+		}
+		client.verify(
+				request()
+						.withMethod("DELETE")
+						.withPath("/rdf4j-server/repositories/test/cursors/c2"),
+				VerificationTimes.once()
+		);
+	}
+
+	private static String solutions(String value) {
+		return "<?xml version='1.0' encoding='UTF-8'?>"
+				+ "<sparql xmlns='http://www.w3.org/2005/sparql-results#'><head><variable name='x'/></head>"
+				+ "<results><result><binding name='x'><literal>" + value + "</literal></binding></result></results>"
+				+ "</sparql>";
+	}
+
+	@Test
+	public void testBulkUpload(MockServerClient client) throws Exception {
+		String transactionURL = Protocol.getTransactionsLocation(getRDF4JSession().getRepositoryURL()) + "/bulk";
+		client.when(request()
+				.withMethod("POST")
+				.withPath("/rdf4j-server/repositories/test/transactions"), Times.once())
+				.respond(response().withStatusCode(201).withHeader("Location", transactionURL));
+		HttpRequest chunkRequest = request()
+				.withMethod("PUT")
+				.withPath("/rdf4j-server/repositories/test/transactions/bulk")
+				.withQueryStringParameter("action", "ADD")
+				.withQueryStringParameter(Protocol.CHUNK_PARAM_NAME, "[0-9a-f-]+");
+		HttpRequest commitRequest = request()
+				.withMethod("PUT")
+				.withPath("/rdf4j-server/repositories/test/transactions/bulk")
+				.withQueryStringParameter("action", "COMMIT");
+		client.when(chunkRequest).respond(response().withStatusCode(204));
+		client.when(commitRequest).respond(response().withStatusCode(200));
+
+		StringBuilder data = new StringBuilder();
+		for (int i = 0; i < 3; i++) {
+			data.append("<urn:s").append(i).append("> <urn:p> _:b").append(i).append(" .\n");
+		}
+		AtomicLong uploadedChunks = new AtomicLong();
+		BulkUploader uploader = new BulkUploader(getRDF4JSession());
+		uploader.setChunkSize(10);
+		uploader.setParallelism(2);
+		uploader.setProgressListener((chunks, bytes) -> uploadedChunks.accumulateAndGet(chunks, Math::max));
+		uploader.upload(new ByteArrayInputStream(data.toString().getBytes(StandardCharsets.UTF_8)), null,
+				RDFFormat.NTRIPLES, false);
+
+		// each chunk is completed up to the end of its line
+		client.verify(chunkRequest, VerificationTimes.exactly(3));
+		client.verify(request()
+				.withMethod("PUT")
+				.withPath("/rdf4j-server/repositories/test/transactions/bulk")
+				.withBody(BinaryBody.binary("<urn:s0> <urn:p> _:b0 .\n".getBytes(StandardCharsets.UTF_8))),
+				VerificationTimes.once());
+		// all chunks of the document carry the same identifier
+		HttpRequest[] chunks = client.retrieveRecordedRequests(chunkRequest);
+		assertThat(chunks).extracting(r -> r.getFirstQueryStringParameter(Protocol.CHUNK_PARAM_NAME))
+				.hasSize(3)
+				.containsOnly(chunks[0].getFirstQueryStringParameter(Protocol.CHUNK_PARAM_NAME));
+		client.verify(commitRequest, VerificationTimes.once());
+		assertThat(uploadedChunks.get()).isEqualTo(3);
+		assertThat(getRDF4JSession().getTransactionURL()).isNull();
+	}
 }
@@ -22,6 +22,7 @@ import static org.mockserver.model.HttpResponse.response;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Locale;
 
 import org.apache.commons.io.IOUtils;
@@ -36,9 +37,14 @@ import org.apache.http.ProtocolVersion;
 import org.apache.http.StatusLine;
 import org.apache.http.params.HttpParams;
 import org.eclipse.rdf4j.http.protocol.Protocol;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.query.QueryLanguage;
 import org.eclipse.rdf4j.query.TupleQueryResultHandler;
+import org.eclipse.rdf4j.query.impl.IteratingTupleQueryResult;
+import org.eclipse.rdf4j.query.impl.ListBindingSet;
+import org.eclipse.rdf4j.query.resultio.QueryResultIO;
 import org.eclipse.rdf4j.query.resultio.TupleQueryResultFormat;
+import org.eclipse.rdf4j.query.resultio.helpers.QueryResultCollector;
 import org.eclipse.rdf4j.query.resultio.sparqljson.SPARQLStarResultsJSONWriter;
 import org.eclipse.rdf4j.query.resultio.sparqlxml.SPARQLStarResultsXMLWriter;
 import org.eclipse.rdf4j.rio.RDFFormat;
@@ -254,6 +260,39 @@ public class SPARQLProtocolSessionTest {
 		assertThat(out.toString()).startsWith("<");
 	}
 
+	@Test
+	public void testTupleQuery_BinaryColumnar(MockServerClient client) throws Exception {
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		QueryResultIO.writeTuple(
+				new IteratingTupleQueryResult(List.of("s"),
+						List.of(new ListBindingSet(List.of("s"), RDF.TYPE),
+								new ListBindingSet(List.of("s"), RDF.TYPE))),
+				TupleQueryResultFormat.BINARY_COLUMNAR, body);
+
+		client.when(
+				request()
+						.withMethod("POST")
+						.withPath("/rdf4j-server/repositories/test")
+						.withHeader("Accept", ".*application/x-binary-rdf-results-columnar(,.*)?"),
+				Times.once()
+		)
+				.respond(
+						response()
+								.withBody(body.toByteArray())
+								.withContentType(
+										MediaType.parse(TupleQueryResultFormat.BINARY_COLUMNAR.getDefaultMIMEType()))
+				);
+
+		sparqlSession.setPreferredTupleQueryResultFormat(TupleQueryResultFormat.BINARY_COLUMNAR);
+		QueryResultCollector collector = new QueryResultCollector();
+		sparqlSession.sendTupleQuery(QueryLanguage.SPARQL, "SELECT * WHERE { ?s ?p ?o}", null, null, true, -1,
+				collector);
+
+		assertThat(collector.getBindingNames()).containsExactly("s");
+		assertThat(collector.getBindingSets()).hasSize(2)
+				.allSatisfy(bs -> assertThat(bs.getValue("s")).isEqualTo(RDF.TYPE));
+	}
+
 	@Test
 	public void getContentTypeSerialisationTest() {
 		{
@@ -166,6 +166,14 @@ public abstract class Protocol {
 
 	public static final String OFFSET_PARAM_NAME = "offset";
 
+	/**
+	 * Parameter name for the page size parameter. When present on a tuple query, the server returns at most this many
+	 * solutions and keeps the evaluated result open as a cursor, from which the next pages can be fetched.
+	 *
+	 * @see #CURSOR_HEADER
+	 */
+	public static final String PAGE_SIZE_PARAM_NAME = "pageSize";
+
 	/**
 	 * Parameter name for the query language parameter.
 	 */
@@ -259,6 +267,19 @@ public abstract class Protocol {
 	 */
 	public static final String TRANSACTIONS = "transactions";
 
+	/**
+	 * Relative location of the cursor resources of a repository.
+	 */
+	public static final String CURSORS = "cursors";
+
+	/**
+	 * Response header that carries the ID of the cursor from which the next page of a paged tuple query result can be
+	 * fetched. The header is absent on the last page.
+	 *
+	 * @see #getCursorLocation(String, String)
+	 */
+	public static final String CURSOR_HEADER = "X-RDF4J-Cursor";
+
 	/**
 	 * Relative location of the context list resource of a repository.
 	 */
@@ -304,6 +325,14 @@ public abstract class Protocol {
 	 */
 	public static final String PRESERVE_BNODE_ID_PARAM_NAME = "preserveNodeId";
 
+	/**
+	 * Parameter that marks data added in a transaction as one chunk of a larger document. Its value identifies the
+	 * document, and may consist of up to 64 letters, digits, '-' and '_'. Blank node identifiers in chunks are scoped
+	 * to the transaction and the document rather than to the request, so that the chunks of a document can be uploaded
+	 * concurrently and in any order.
+	 */
+	public static final String CHUNK_PARAM_NAME = "chunk";
+
 	private static String getServerDir(String serverLocation) {
 		if (serverLocation.endsWith("/")) {
 			return serverLocation;
@@ -383,6 +412,17 @@ public abstract class Protocol {
 		return repositoryLocation + "/" + TRANSACTIONS;
 	}
 
+	/**
+	 * Get the location of a cursor resource of a specific repository.
+	 *
+	 * @param repositoryLocation the location of a repository implementing this REST protocol.
+	 * @param cursorID           the ID of the cursor, as returned in the {@link #CURSOR_HEADER} header.
+	 * @return the location of the cursor resource
+	 */
+	public static final String getCursorLocation(String repositoryLocation, String cursorID) {
+		return repositoryLocation + "/" + CURSORS + "/" + cursorID;
+	}
+
 	/**
 	 * Extracts the server location from the repository location.
 	 *
@@ -107,6 +107,13 @@ public class CONFIG {
 		 * <var>tag:rdf4j.org,2023:config/http.password</var>
 		 */
 		public final static IRI password = createIRI(NAMESPACE, "http.password");
+
+		/**
+		 * Setting for the HTTP transport to use, either <var>apache</var> or <var>jdk</var>.
+		 *
+		 * <var>tag:rdf4j.org,2023:config/http.transport</var>
+		 */
+		public final static IRI transport = createIRI(NAMESPACE, "http.transport");
 	}
 
 	/**
@@ -196,6 +203,13 @@ public class CONFIG {
 		 * @see SPARQLProtocolSession#isPassThroughEnabled()
 		 */
 		public static final IRI passThroughEnabled = createIRI(NAMESPACE, "sparql.passThroughEnabled");
+
+		/**
+		 * Configuration setting for the HTTP transport to use, either <var>apache</var> or <var>jdk</var>.
+		 *
+		 * <var>tag:rdf4j.org,2023:config/sparql.transport</var>
+		 */
+		public static final IRI transport = createIRI(NAMESPACE, "sparql.transport");
 	}
 
 	/**
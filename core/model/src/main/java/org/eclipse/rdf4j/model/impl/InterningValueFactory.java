@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.model.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAmount;
+import java.util.Date;
+import java.util.Objects;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Triple;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * A {@link ValueFactory} that delegates to another {@link ValueFactory}, but returns a shared instance for IRIs,
+ * datatype IRIs and language tags that it has seen before. Loading RDF data with many repeated IRIs (predicates,
+ * classes, datatypes) through this factory results in a single object per distinct IRI instead of one per occurrence,
+ * which reduces the heap footprint of in-memory models and the allocation rate while parsing.
+ * <p>
+ * Interned values are kept in bounded, thread-safe tables: once the configured capacity is reached, the least recently
+ * used entries are evicted, so memory use is capped independently of the size of the input. An instance can therefore
+ * be shared between several parsers, also concurrently.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+@Experimental
+public class InterningValueFactory implements ValueFactory {
+
+	/**
+	 * The default maximum number of IRIs that is retained by an interning value factory.
+	 */
+	public static final int DEFAULT_CAPACITY = 100_000;
+
+	private static final int LANGUAGE_CAPACITY = 1024;
+
+	private final ValueFactory delegate;
+
+	private final Cache<String, IRI> iris;
+
+	private final Cache<String, String> languages;
+
+	/**
+	 * Creates a new interning value factory that retains up to {@link #DEFAULT_CAPACITY} IRIs.
+	 *
+	 * @param delegate the factory used to create values that have not been interned yet.
+	 */
+	public InterningValueFactory(ValueFactory delegate) {
+		this(delegate, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new interning value factory.
+	 *
+	 * @param delegate the factory used to create values that have not been interned yet.
+	 * @param capacity the maximum number of IRIs to retain.
+	 */
+	public InterningValueFactory(ValueFactory delegate, int capacity) {
+		this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+		if (capacity < 0) {
+			throw new IllegalArgumentException("capacity must not be negative");
+		}
+		this.iris = CacheBuilder.newBuilder().maximumSize(capacity).build();
+		this.languages = CacheBuilder.newBuilder().maximumSize(LANGUAGE_CAPACITY).build();
+	}
+
+	/**
+	 * @return the factory that this factory delegates to.
+	 */
+	public ValueFactory getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * @return the approximate number of IRIs that are currently interned.
+	 */
+	public long size() {
+		return iris.size();
+	}
+
+	/**
+	 * Removes all interned values.
+	 */
+	public void clear() {
+		iris.invalidateAll();
+		languages.invalidateAll();
+	}
+
+	@Override
+	public IRI createIRI(String iri) {
+		IRI result = iris.getIfPresent(iri);
+		if (result == null) {
+			result = delegate.createIRI(iri);
+			iris.put(iri, result);
+		}
+		return result;
+	}
+
+	@Override
+	public IRI createIRI(String namespace, String localName) {
+		String iri = namespace + localName;
+		IRI result = iris.getIfPresent(iri);
+		if (result == null) {
+			result = delegate.createIRI(namespace, localName);
+			iris.put(iri, result);
+		}
+		return result;
+	}
+
+	private IRI intern(IRI iri) {
+		if (iri == null) {
+			return null;
+		}
+		String key = iri.stringValue();
+		IRI result = iris.getIfPresent(key);
+		if (result == null) {
+			iris.put(key, iri);
+			result = iri;
+		}
+		return result;
+	}
+
+	private String internLanguage(String language) {
+		if (language == null) {
+			return null;
+		}
+		String result = languages.getIfPresent(language);
+		if (result == null) {
+			languages.put(language, language);
+			result = language;
+		}
+		return result;
+	}
+
+	@Override
+	public BNode createBNode() {
+		return delegate.createBNode();
+	}
+
+	@Override
+	public BNode createBNode(String nodeID) {
+		return delegate.createBNode(nodeID);
+	}
+
+	@Override
+	public Literal createLiteral(String label) {
+		return delegate.createLiteral(label);
+	}
+
+	@Override
+	public Literal createLiteral(String label, String language) {
+		return delegate.createLiteral(label, internLanguage(language));
+	}
+
+	@Override
+	public Literal createLiteral(String label, IRI datatype) {
+		return delegate.createLiteral(label, intern(datatype));
+	}
+
+	@Override
+	public Literal createLiteral(String label, CoreDatatype datatype) {
+		return delegate.createLiteral(label, datatype);
+	}
+
+	@Override
+	public Literal createLiteral(String label, IRI datatype, CoreDatatype coreDatatype) {
+		return delegate.createLiteral(label, intern(datatype), coreDatatype);
+	}
+
+	@Override
+	public Literal createLiteral(boolean value) {
+		return delegate.createLiteral(value);
+	}
+
+	@Override
+	public Literal createLiteral(byte value) {
+		return delegate.createLiteral(value);
+	}
+
+	@Override
+	public Literal createLiteral(short value) {
+		return delegate.createLiteral(value);
+	}
+
+	@Override
+	public Literal createLiteral(int value) {
+		return delegate.createLiteral(value);
+	}
+
+	@Override
+	public Literal createLiteral(long value) {
+		return delegate.createLiteral(value);
+	}
+
+	@Override
+	public Literal createLiteral(float value) {
+		return delegate.createLiteral(value);
+	}
+
+	@Override
+	public Literal createLiteral(double value) {
+		return delegate.createLiteral(value);
+	}
+
+	@Override
+	public Literal createLiteral(BigDecimal bigDecimal) {
+		return delegate.createLiteral(bigDecimal);
+	}
+
+	@Override
+	public Literal createLiteral(BigInteger bigInteger) {
+		return delegate.createLiteral(bigInteger);
+	}
+
+	@Override
+	public Literal createLiteral(TemporalAccessor value) {
+		return delegate.createLiteral(value);
+	}
+
+	@Override
+	public Literal createLiteral(TemporalAmount value) {
+		return delegate.createLiteral(value);
+	}
+
+	@Override
+	public Literal createLiteral(XMLGregorianCalendar calendar) {
+		return delegate.createLiteral(calendar);
+	}
+
+	@Override
+	public Literal createLiteral(Date date) {
+		return delegate.createLiteral(date);
+	}
+
+	@Override
+	public Statement createStatement(Resource subject, IRI predicate, Value object) {
+		return delegate.createStatement(subject, predicate, object);
+	}
+
+	@Override
+	public Statement createStatement(Resource subject, IRI predicate, Value object, Resource context) {
+		return delegate.createStatement(subject, predicate, object, context);
+	}
+
+	@Override
+	public Triple createTriple(Resource subject, IRI predicate, Value object) {
+		return delegate.createTriple(subject, predicate, object);
+	}
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.model.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.InterningValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares loading statements with a small vocabulary of repeated predicates, classes and datatypes into a model, with
+ * and without IRI interning. Run with the GC profiler (as {@link #main(String[])} does) to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xms2G", "-Xmx2G" })
+public class InterningValueFactoryBenchmark {
+
+	private static final int SUBJECTS = 50_000;
+
+	private static final int PREDICATES = 20;
+
+	private static final String NS = "http://example.com/";
+
+	@Param({ "simple", "interning" })
+	public String factory;
+
+	private final List<String> predicates = new ArrayList<>();
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(InterningValueFactoryBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build()
+		).run();
+	}
+
+	@Setup
+	public void setup() {
+		for (int i = 0; i < PREDICATES; i++) {
+			predicates.add(NS + "vocab/property" + i);
+		}
+	}
+
+	private ValueFactory newFactory() {
+		ValueFactory vf = SimpleValueFactory.getInstance();
+		return "interning".equals(factory) ? new InterningValueFactory(vf) : vf;
+	}
+
+	@Benchmark
+	public Model loadModel() {
+		ValueFactory vf = newFactory();
+		Model model = new LinkedHashModel();
+		for (int s = 0; s < SUBJECTS; s++) {
+			// the subject is created the way a parser would: once per occurrence
+			String subject = NS + "resource/" + s;
+			for (int p = 0; p < PREDICATES; p++) {
+				IRI datatype = vf.createIRI("http://www.w3.org/2001/XMLSchema#", "integer");
+				model.add(vf.createIRI(subject), vf.createIRI(predicates.get(p)),
+						vf.createLiteral(Integer.toString(p), datatype));
+			}
+		}
+		return model;
+	}
+
+	@Benchmark
+	public IRI createRepeatedIRIs() {
+		ValueFactory vf = newFactory();
+		IRI last = null;
+		for (int s = 0; s < SUBJECTS; s++) {
+			for (int p = 0; p < PREDICATES; p++) {
+				last = vf.createIRI(predicates.get(p));
+			}
+		}
+		return last;
+	}
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.model.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.ValueFactoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class InterningValueFactoryTest extends ValueFactoryTest {
+
+	private InterningValueFactory f;
+
+	@Override
+	protected ValueFactory factory() {
+		return f;
+	}
+
+	@BeforeEach
+	public void setUp() {
+		f = new InterningValueFactory(SimpleValueFactory.getInstance());
+	}
+
+	@Test
+	public void testIRIsAreInterned() {
+		IRI iri = f.createIRI("http://example.com/a");
+
+		assertThat(f.createIRI("http://example.com/a")).isSameAs(iri);
+		assertThat(f.createIRI("http://example.com/", "a")).isSameAs(iri);
+	}
+
+	@Test
+	public void testDatatypesAreInterned() {
+		IRI datatype = f.createIRI("http://example.com/datatype");
+
+		Literal literal = f.createLiteral("a",
+				SimpleValueFactory.getInstance().createIRI("http://example.com/datatype"));
+
+		assertThat(literal.getDatatype()).isSameAs(datatype);
+	}
+
+	@Test
+	public void testLanguagesAreInterned() {
+		Literal first = f.createLiteral("a", new String("en"));
+		Literal second = f.createLiteral("b", new String("en"));
+
+		assertThat(second.getLanguage().get()).isSameAs(first.getLanguage().get());
+	}
+
+	@Test
+	public void testCapacityIsBounded() {
+		f = new InterningValueFactory(SimpleValueFactory.getInstance(), 10);
+		for (int i = 0; i < 100; i++) {
+			f.createIRI("http://example.com/" + i);
+		}
+
+		assertThat(f.size()).isLessThanOrEqualTo(10);
+	}
+
+	@Test
+	public void testClear() {
+		IRI iri = f.createIRI("http://example.com/a");
+		f.clear();
+
+		assertThat(f.size()).isZero();
+		assertThat(f.createIRI("http://example.com/a")).isEqualTo(iri).isNotSameAs(iri);
+	}
+}
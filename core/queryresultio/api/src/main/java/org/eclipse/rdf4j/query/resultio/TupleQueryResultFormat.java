@@ -63,6 +63,14 @@ public class TupleQueryResultFormat extends QueryResultFormat {
 	public static final TupleQueryResultFormat BINARY = new TupleQueryResultFormat("BINARY",
 			"application/x-binary-rdf-results-table", null, "brt", SUPPORTS_RDF_STAR);
 
+	/**
+	 * Columnar binary RDF results table format. Results are streamed in row groups of dictionary-encoded columns, which
+	 * makes it considerably more compact and cheaper to parse than {@link #BINARY} for wide and long results.
+	 */
+	@Experimental
+	public static final TupleQueryResultFormat BINARY_COLUMNAR = new TupleQueryResultFormat("BINARY-COLUMNAR",
+			"application/x-binary-rdf-results-columnar", null, "brc", SUPPORTS_RDF_STAR);
+
 	/**
 	 * SPARQL Query Results JSON Format.
 	 */
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.resultio.binary;
+
+/**
+ * Interface defining constants for the columnar binary table result format. Like the row-oriented format described in
+ * {@link BinaryQueryResultConstants}, integers in the file header and record headers are encoded as 32-bit big-endian
+ * integers and strings in the header are encoded in UTF-8, preceeded by a 32-bit integer specifying the length in bytes
+ * of the encoded string.
+ * <p>
+ * The file header consists of:
+ * <ul>
+ * <li>4 bytes containing the ASCII codes for the string "BRTC", which stands for Binary RDF Table Columns.
+ * <li>An integer specifying the format version.
+ * <li>An integer specifying the number of columns, followed by that many column headers (strings).
+ * </ul>
+ * Following the header are zero or more records, each starting with a record type marker (a single byte):
+ * <ul>
+ * <li><var>ROW_GROUP</var> (byte value: 1):<br>
+ * A block of consecutive result rows. The marker is followed by an integer for the number of rows, a byte for the
+ * compression codec ({@link #CODEC_NONE} or {@link #CODEC_DEFLATE}), an integer for the uncompressed length of the
+ * payload, an integer for the stored length of the payload and finally the (possibly compressed) payload itself.
+ * <li><var>ERROR</var> (byte value: 126):<br>
+ * Indicates an error, encoded as in the row-oriented binary format.
+ * <li><var>TABLE_END</var> (byte value: 127):<br>
+ * Indicates the end of the results table. Any data following this record should be ignored.
+ * </ul>
+ * Inside a row group payload, all integers are encoded as unsigned variable-length integers (7 bits per byte, least
+ * significant group first) and strings as a variable-length byte count followed by their UTF-8 encoding. A payload
+ * starts with the datatype table of the row group: the number of entries followed by the datatype IRIs. Then, for every
+ * column in header order, follows the dictionary of the column (the number of entries followed by the encoded values)
+ * and one dictionary reference per row, where <var>0</var> indicates an unbound value and <var>n</var> refers to the
+ * <var>n</var>-th dictionary entry. Dictionary values start with a value type marker:
+ * <ul>
+ * <li><var>IRI</var> (byte value: 1): followed by the IRI string.
+ * <li><var>BNODE</var> (byte value: 2): followed by the blank node ID.
+ * <li><var>PLAIN_LITERAL</var> (byte value: 3): followed by the label of an <code>xsd:string</code> literal.
+ * <li><var>LANG_LITERAL</var> (byte value: 4): followed by the label and the language tag.
+ * <li><var>DATATYPE_LITERAL</var> (byte value: 5): followed by the label and an index into the datatype table.
+ * <li><var>TRIPLE</var> (byte value: 6): followed by the subject, predicate and object values of an RDF-star triple.
+ * </ul>
+ * Dictionaries and the datatype table are scoped to a single row group, so that readers and writers only need to retain
+ * a bounded amount of state.
+ */
+public interface BinaryColumnarQueryResultConstants {
+
+	/**
+	 * Magic number for columnar Binary RDF Table Result files.
+	 */
+	byte[] MAGIC_NUMBER = new byte[] { 'B', 'R', 'T', 'C' };
+
+	/**
+	 * The version number of the current format.
+	 */
+	int FORMAT_VERSION = 1;
+
+	/* RECORD TYPES */
+	int ROW_GROUP_RECORD_MARKER = 1;
+
+	int ERROR_RECORD_MARKER = 126;
+
+	int TABLE_END_RECORD_MARKER = 127;
+
+	/* COMPRESSION CODECS */
+	int CODEC_NONE = 0;
+
+	int CODEC_DEFLATE = 1;
+
+	/* VALUE TYPES */
+	int IRI_VALUE_MARKER = 1;
+
+	int BNODE_VALUE_MARKER = 2;
+
+	int PLAIN_LITERAL_VALUE_MARKER = 3;
+
+	int LANG_LITERAL_VALUE_MARKER = 4;
+
+	int DATATYPE_LITERAL_VALUE_MARKER = 5;
+
+	int TRIPLE_VALUE_MARKER = 6;
+
+	/* ERROR TYPES */
+	int MALFORMED_QUERY_ERROR = 1;
+
+	int QUERY_EVALUATION_ERROR = 2;
+}
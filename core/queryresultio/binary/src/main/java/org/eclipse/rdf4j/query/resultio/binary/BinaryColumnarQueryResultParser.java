@@ -0,0 +1,383 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.resultio.binary;
+
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.BNODE_VALUE_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.CODEC_DEFLATE;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.CODEC_NONE;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.DATATYPE_LITERAL_VALUE_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.ERROR_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.FORMAT_VERSION;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.IRI_VALUE_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.LANG_LITERAL_VALUE_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.MAGIC_NUMBER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.MALFORMED_QUERY_ERROR;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.PLAIN_LITERAL_VALUE_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.QUERY_EVALUATION_ERROR;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.ROW_GROUP_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.TABLE_END_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.TRIPLE_VALUE_MARKER;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.eclipse.rdf4j.common.io.IOUtil;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.TupleQueryResultHandlerException;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+import org.eclipse.rdf4j.query.impl.ListBindingSet;
+import org.eclipse.rdf4j.query.resultio.AbstractTupleQueryResultParser;
+import org.eclipse.rdf4j.query.resultio.QueryResultParseException;
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultFormat;
+
+/**
+ * Reader for the columnar binary tuple result format. The format is explained in
+ * {@link BinaryColumnarQueryResultConstants}.
+ * <p>
+ * Row groups are decoded one at a time: every distinct value of a column within a row group is created only once and
+ * shared by all rows that reference it.
+ */
+public class BinaryColumnarQueryResultParser extends AbstractTupleQueryResultParser {
+
+	/**
+	 * Lengths and counts in the stream are not trusted for sizing buffers: buffers grow in steps of at least this size
+	 * as the data actually arrives.
+	 */
+	private static final int READ_CHUNK_SIZE = 8192;
+
+	private DataInputStream in;
+
+	private byte[] payload = new byte[0];
+
+	private byte[] storedPayload = new byte[0];
+
+	private Inflater inflater;
+
+	/**
+	 * Read position in {@link #payload}.
+	 */
+	private int pos;
+
+	private int payloadLength;
+
+	/**
+	 * Creates a new parser for the columnar binary query result format that will use an instance of
+	 * {@link SimpleValueFactory} to create Value objects.
+	 */
+	public BinaryColumnarQueryResultParser() {
+		super();
+	}
+
+	/**
+	 * Creates a new parser for the columnar binary query result format that will use the supplied ValueFactory to
+	 * create Value objects.
+	 */
+	public BinaryColumnarQueryResultParser(ValueFactory valueFactory) {
+		super(valueFactory);
+	}
+
+	@Override
+	public final TupleQueryResultFormat getTupleQueryResultFormat() {
+		return TupleQueryResultFormat.BINARY_COLUMNAR;
+	}
+
+	@Override
+	public synchronized void parse(InputStream in)
+			throws IOException, QueryResultParseException, TupleQueryResultHandlerException {
+		if (in == null) {
+			throw new IllegalArgumentException("Input stream can not be 'null'");
+		}
+
+		this.in = new DataInputStream(in);
+
+		byte[] magicNumber = IOUtil.readBytes(in, MAGIC_NUMBER.length);
+		if (!Arrays.equals(magicNumber, MAGIC_NUMBER)) {
+			throw new QueryResultParseException("File does not contain a columnar binary RDF table result");
+		}
+
+		int formatVersion = this.in.readInt();
+		if (formatVersion > FORMAT_VERSION || formatVersion < 1) {
+			throw new QueryResultParseException("Incompatible format version: " + formatVersion);
+		}
+
+		int columnCount = this.in.readInt();
+		if (columnCount < 0) {
+			throw new QueryResultParseException("Illegal column count specified: " + columnCount);
+		}
+
+		List<String> columnHeaders = new ArrayList<>();
+		for (int i = 0; i < columnCount; i++) {
+			columnHeaders.add(readHeaderString());
+		}
+		columnHeaders = Collections.unmodifiableList(columnHeaders);
+
+		if (handler != null) {
+			handler.startQueryResult(columnHeaders);
+		}
+
+		try {
+			int recordTypeMarker = this.in.readByte();
+			while (recordTypeMarker != TABLE_END_RECORD_MARKER) {
+				if (recordTypeMarker == ROW_GROUP_RECORD_MARKER) {
+					processRowGroup(columnHeaders);
+				} else if (recordTypeMarker == ERROR_RECORD_MARKER) {
+					processError();
+				} else {
+					throw new QueryResultParseException("Unexpected record type: " + recordTypeMarker);
+				}
+
+				recordTypeMarker = this.in.readByte();
+			}
+		} finally {
+			if (inflater != null) {
+				inflater.end();
+				inflater = null;
+			}
+		}
+
+		if (handler != null) {
+			handler.endQueryResult();
+		}
+	}
+
+	private void processRowGroup(List<String> columnHeaders)
+			throws IOException, QueryResultParseException, TupleQueryResultHandlerException {
+		int rowCount = in.readInt();
+		int codec = in.readByte();
+		int rawLength = in.readInt();
+		int storedLength = in.readInt();
+		if (rowCount < 0 || rawLength < 0 || storedLength < 0) {
+			throw new QueryResultParseException("Illegal row group header");
+		}
+
+		int columnCount = columnHeaders.size();
+		if ((long) rowCount * columnCount > rawLength) {
+			// every row takes at least one byte per column
+			throw new QueryResultParseException("Illegal row count for row group of " + rawLength + " bytes: "
+					+ rowCount);
+		}
+
+		if (codec == CODEC_NONE) {
+			if (storedLength != rawLength) {
+				throw new QueryResultParseException("Illegal length for uncompressed row group");
+			}
+			payload = readFully(payload, rawLength);
+		} else if (codec == CODEC_DEFLATE) {
+			storedPayload = readFully(storedPayload, storedLength);
+			if (inflater == null) {
+				inflater = new Inflater();
+			}
+			inflater.reset();
+			inflater.setInput(storedPayload, 0, storedLength);
+			try {
+				int inflated = 0;
+				while (inflated < rawLength && !inflater.finished()) {
+					if (inflated == payload.length) {
+						payload = grow(payload, rawLength);
+					}
+					int n = inflater.inflate(payload, inflated, Math.min(rawLength, payload.length) - inflated);
+					if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+						break;
+					}
+					inflated += n;
+				}
+				if (inflated != rawLength) {
+					throw new QueryResultParseException("Truncated compressed row group");
+				}
+			} catch (DataFormatException e) {
+				throw new QueryResultParseException(e);
+			}
+		} else {
+			throw new QueryResultParseException("Unknown compression codec: " + codec);
+		}
+
+		pos = 0;
+		payloadLength = rawLength;
+
+		int datatypeCount = readVarInt();
+		if (datatypeCount < 0 || datatypeCount > payloadLength - pos) {
+			throw new QueryResultParseException("Illegal datatype count: " + datatypeCount);
+		}
+		IRI[] datatypes = new IRI[datatypeCount];
+		for (int i = 0; i < datatypeCount; i++) {
+			datatypes[i] = valueFactory.createIRI(readString());
+		}
+
+		Value[][] columns = new Value[columnCount][rowCount];
+		for (int c = 0; c < columnCount; c++) {
+			int dictionarySize = readVarInt();
+			if (dictionarySize < 0 || dictionarySize > payloadLength - pos) {
+				throw new QueryResultParseException("Illegal dictionary size: " + dictionarySize);
+			}
+			Value[] dictionary = new Value[dictionarySize + 1];
+			for (int i = 1; i <= dictionarySize; i++) {
+				dictionary[i] = readValue(datatypes);
+			}
+
+			Value[] column = columns[c];
+			for (int row = 0; row < rowCount; row++) {
+				int ref = readVarInt();
+				if (ref < 0 || ref > dictionarySize) {
+					throw new QueryResultParseException("Illegal dictionary reference: " + ref);
+				}
+				column[row] = dictionary[ref];
+			}
+		}
+
+		if (handler == null) {
+			return;
+		}
+
+		for (int row = 0; row < rowCount; row++) {
+			Value[] values = new Value[columnCount];
+			boolean empty = true;
+			for (int c = 0; c < columnCount; c++) {
+				values[c] = columns[c][row];
+				empty &= values[c] == null;
+			}
+
+			if (empty) {
+				handler.handleSolution(EmptyBindingSet.getInstance());
+			} else {
+				handler.handleSolution(new ListBindingSet(columnHeaders, values));
+			}
+		}
+	}
+
+	private Value readValue(IRI[] datatypes) throws IOException, QueryResultParseException {
+		int marker = readByte();
+		switch (marker) {
+		case IRI_VALUE_MARKER:
+			return valueFactory.createIRI(readString());
+		case BNODE_VALUE_MARKER:
+			return valueFactory.createBNode(readString());
+		case PLAIN_LITERAL_VALUE_MARKER:
+			return valueFactory.createLiteral(readString());
+		case LANG_LITERAL_VALUE_MARKER: {
+			String label = readString();
+			return valueFactory.createLiteral(label, readString());
+		}
+		case DATATYPE_LITERAL_VALUE_MARKER: {
+			String label = readString();
+			int index = readVarInt();
+			if (index < 0 || index >= datatypes.length) {
+				throw new QueryResultParseException("Illegal datatype reference: " + index);
+			}
+			return valueFactory.createLiteral(label, datatypes[index]);
+		}
+		case TRIPLE_VALUE_MARKER: {
+			Value subject = readValue(datatypes);
+			if (!(subject instanceof Resource)) {
+				throw new QueryResultParseException("Unexpected value type: " + subject);
+			}
+			Value predicate = readValue(datatypes);
+			if (!(predicate instanceof IRI)) {
+				throw new QueryResultParseException("Unexpected value type: " + predicate);
+			}
+			Value object = readValue(datatypes);
+			return valueFactory.createTriple((Resource) subject, (IRI) predicate, object);
+		}
+		default:
+			throw new QueryResultParseException("Unexpected value type marker: " + marker);
+		}
+	}
+
+	private void processError() throws IOException, QueryResultParseException {
+		byte errTypeFlag = in.readByte();
+
+		QueryErrorType errType;
+		if (errTypeFlag == MALFORMED_QUERY_ERROR) {
+			errType = QueryErrorType.MALFORMED_QUERY_ERROR;
+		} else if (errTypeFlag == QUERY_EVALUATION_ERROR) {
+			errType = QueryErrorType.QUERY_EVALUATION_ERROR;
+		} else {
+			throw new QueryResultParseException("Unknown error type: " + errTypeFlag);
+		}
+
+		throw new QueryResultParseException(errType + ": " + readHeaderString());
+	}
+
+	private String readHeaderString() throws IOException {
+		int stringLength = in.readInt();
+		if (stringLength < 0) {
+			throw new QueryResultParseException("Illegal string length: " + stringLength);
+		}
+		byte[] encodedString = readFully(new byte[0], stringLength);
+		return new String(encodedString, 0, stringLength, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reads <var>length</var> bytes from the stream into the supplied buffer, or into a larger copy of it if the buffer
+	 * is too small. The buffer is grown while reading, so a bogus length fails with an {@link EOFException} instead of
+	 * an allocation of that size.
+	 */
+	private byte[] readFully(byte[] buffer, int length) throws IOException {
+		int read = 0;
+		while (read < length) {
+			if (read == buffer.length) {
+				buffer = grow(buffer, length);
+			}
+			int n = in.read(buffer, read, Math.min(length, buffer.length) - read);
+			if (n < 0) {
+				throw new EOFException("Attempted to read " + length + " bytes but no more than " + read
+						+ " were available");
+			}
+			read += n;
+		}
+		return buffer;
+	}
+
+	private static byte[] grow(byte[] buffer, int length) {
+		return Arrays.copyOf(buffer, (int) Math.min(length, Math.max(READ_CHUNK_SIZE, 2L * buffer.length)));
+	}
+
+	private int readByte() throws EOFException {
+		if (pos >= payloadLength) {
+			throw new EOFException("Unexpected end of row group");
+		}
+		return payload[pos++];
+	}
+
+	private int readVarInt() throws EOFException {
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			int b = readByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new EOFException("Malformed variable-length integer in row group");
+	}
+
+	private String readString() throws EOFException {
+		int length = readVarInt();
+		if (length < 0 || length > payloadLength - pos) {
+			throw new EOFException("Unexpected end of row group");
+		}
+		String s = new String(payload, pos, length, StandardCharsets.UTF_8);
+		pos += length;
+		return s;
+	}
+}
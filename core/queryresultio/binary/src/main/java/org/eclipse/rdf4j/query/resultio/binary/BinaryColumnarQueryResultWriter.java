@@ -0,0 +1,436 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.resultio.binary;
+
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.BNODE_VALUE_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.CODEC_DEFLATE;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.CODEC_NONE;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.DATATYPE_LITERAL_VALUE_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.ERROR_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.FORMAT_VERSION;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.IRI_VALUE_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.LANG_LITERAL_VALUE_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.MAGIC_NUMBER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.MALFORMED_QUERY_ERROR;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.PLAIN_LITERAL_VALUE_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.QUERY_EVALUATION_ERROR;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.ROW_GROUP_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.TABLE_END_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryColumnarQueryResultConstants.TRIPLE_VALUE_MARKER;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import org.eclipse.rdf4j.common.io.ByteSink;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Triple;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+import org.eclipse.rdf4j.model.util.Literals;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryResultHandlerException;
+import org.eclipse.rdf4j.query.TupleQueryResultHandlerException;
+import org.eclipse.rdf4j.query.resultio.AbstractQueryResultWriter;
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultFormat;
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultWriter;
+import org.eclipse.rdf4j.rio.RioSetting;
+
+/**
+ * Writer for the columnar binary tuple result format. The format is explained in
+ * {@link BinaryColumnarQueryResultConstants}.
+ * <p>
+ * Solutions are buffered until a row group is complete (see {@link BinaryColumnarQueryResultWriterSettings}), after
+ * which the row group is dictionary-encoded column by column and written to the underlying stream. Memory use of the
+ * writer is therefore bounded by the row group size, regardless of the size of the result.
+ */
+public class BinaryColumnarQueryResultWriter extends AbstractQueryResultWriter
+		implements TupleQueryResultWriter, ByteSink {
+
+	/**
+	 * The output stream to write the results table to.
+	 */
+	private final DataOutputStream out;
+
+	/**
+	 * Reusable buffer for the (uncompressed) payload of the current row group.
+	 */
+	private final ByteArrayOutputStream payloadBuffer = new ByteArrayOutputStream(64 * 1024);
+
+	private final DataOutputStream payload = new DataOutputStream(payloadBuffer);
+
+	/**
+	 * Reusable buffer for the encoded columns of the current row group, which follow its datatype table.
+	 */
+	private final ByteArrayOutputStream columnBuffer = new ByteArrayOutputStream(64 * 1024);
+
+	private final DataOutputStream column = new DataOutputStream(columnBuffer);
+
+	/**
+	 * Dictionary of the column that is currently being encoded, mapping values to their 1-based ID.
+	 */
+	private final Map<Value, Integer> dictionary = new HashMap<>();
+
+	/**
+	 * Datatype table of the current row group, mapping datatypes to their 0-based index.
+	 */
+	private final Map<IRI, Integer> datatypes = new HashMap<>();
+
+	private final List<Value> dictionaryEntries = new ArrayList<>();
+
+	private Deflater deflater;
+
+	private byte[] compressionBuffer;
+
+	private List<String> bindingNames;
+
+	/**
+	 * Column-wise buffer of the rows in the current row group.
+	 */
+	private Value[][] columns;
+
+	private int rowGroupSize;
+
+	private int rowCount;
+
+	private int[] rowRefs;
+
+	private boolean documentStarted = false;
+
+	protected boolean tupleVariablesFound = false;
+
+	public BinaryColumnarQueryResultWriter(OutputStream out) {
+		this.out = new DataOutputStream(out);
+	}
+
+	@Override
+	public OutputStream getOutputStream() {
+		return out;
+	}
+
+	@Override
+	public final TupleQueryResultFormat getTupleQueryResultFormat() {
+		return TupleQueryResultFormat.BINARY_COLUMNAR;
+	}
+
+	@Override
+	public final TupleQueryResultFormat getQueryResultFormat() {
+		return getTupleQueryResultFormat();
+	}
+
+	@Override
+	public Collection<RioSetting<?>> getSupportedSettings() {
+		return List.of(BinaryColumnarQueryResultWriterSettings.ROW_GROUP_SIZE,
+				BinaryColumnarQueryResultWriterSettings.COMPRESS);
+	}
+
+	@Override
+	public void startDocument() throws TupleQueryResultHandlerException {
+		documentStarted = true;
+		try {
+			out.write(MAGIC_NUMBER);
+			out.writeInt(FORMAT_VERSION);
+		} catch (IOException e) {
+			throw new TupleQueryResultHandlerException(e);
+		}
+	}
+
+	@Override
+	public void startQueryResult(List<String> bindingNames) throws TupleQueryResultHandlerException {
+		super.startQueryResult(bindingNames);
+
+		tupleVariablesFound = true;
+
+		if (!documentStarted) {
+			startDocument();
+		}
+
+		this.bindingNames = List.copyOf(bindingNames);
+
+		rowGroupSize = getWriterConfig().get(BinaryColumnarQueryResultWriterSettings.ROW_GROUP_SIZE);
+		if (rowGroupSize < 1) {
+			throw new IllegalArgumentException("Row group size must be positive: " + rowGroupSize);
+		}
+		if (getWriterConfig().get(BinaryColumnarQueryResultWriterSettings.COMPRESS)) {
+			deflater = new Deflater(Deflater.BEST_SPEED);
+		}
+
+		columns = new Value[this.bindingNames.size()][rowGroupSize];
+		rowRefs = new int[rowGroupSize];
+		rowCount = 0;
+
+		try {
+			out.writeInt(this.bindingNames.size());
+			for (String bindingName : this.bindingNames) {
+				writeHeaderString(bindingName);
+			}
+		} catch (IOException e) {
+			throw new TupleQueryResultHandlerException(e);
+		}
+	}
+
+	@Override
+	public void endQueryResult() throws TupleQueryResultHandlerException {
+		if (!tupleVariablesFound) {
+			throw new IllegalStateException("Could not end query result as startQueryResult was not called first.");
+		}
+
+		try {
+			writeRowGroup();
+			out.writeByte(TABLE_END_RECORD_MARKER);
+			endDocument();
+		} catch (IOException e) {
+			throw new TupleQueryResultHandlerException(e);
+		} finally {
+			if (deflater != null) {
+				deflater.end();
+				deflater = null;
+			}
+		}
+	}
+
+	@Override
+	protected void handleSolutionImpl(BindingSet bindingSet) throws TupleQueryResultHandlerException {
+		if (!tupleVariablesFound) {
+			throw new IllegalStateException("Must call startQueryResult before handleSolution");
+		}
+
+		for (int i = 0; i < columns.length; i++) {
+			columns[i][rowCount] = bindingSet.getValue(bindingNames.get(i));
+		}
+		rowCount++;
+
+		if (rowCount == rowGroupSize) {
+			try {
+				writeRowGroup();
+			} catch (IOException e) {
+				throw new TupleQueryResultHandlerException(e);
+			}
+		}
+	}
+
+	/**
+	 * Encodes the buffered rows as a row group and writes it to the output stream.
+	 */
+	private void writeRowGroup() throws IOException {
+		if (rowCount == 0) {
+			return;
+		}
+
+		payloadBuffer.reset();
+		columnBuffer.reset();
+
+		// the datatype table precedes the columns, so encode the columns into a separate buffer first
+		datatypes.clear();
+		for (Value[] values : columns) {
+			encodeColumn(values);
+		}
+
+		writeVarInt(payload, datatypes.size());
+		IRI[] datatypeTable = new IRI[datatypes.size()];
+		datatypes.forEach((datatype, index) -> datatypeTable[index] = datatype);
+		for (IRI datatype : datatypeTable) {
+			writeString(payload, datatype.stringValue());
+		}
+		columnBuffer.writeTo(payload);
+
+		int rawLength = payloadBuffer.size();
+		byte[] rawPayload = payloadBuffer.toByteArray();
+
+		int codec = CODEC_NONE;
+		byte[] storedPayload = rawPayload;
+		int storedLength = rawLength;
+
+		if (deflater != null) {
+			if (compressionBuffer == null || compressionBuffer.length < rawLength) {
+				compressionBuffer = new byte[rawLength];
+			}
+			deflater.reset();
+			deflater.setInput(rawPayload, 0, rawLength);
+			deflater.finish();
+			int compressedLength = 0;
+			while (!deflater.finished() && compressedLength < rawLength) {
+				compressedLength += deflater.deflate(compressionBuffer, compressedLength, rawLength - compressedLength);
+			}
+			if (deflater.finished() && compressedLength < rawLength) {
+				codec = CODEC_DEFLATE;
+				storedPayload = compressionBuffer;
+				storedLength = compressedLength;
+			}
+		}
+
+		out.writeByte(ROW_GROUP_RECORD_MARKER);
+		out.writeInt(rowCount);
+		out.writeByte(codec);
+		out.writeInt(rawLength);
+		out.writeInt(storedLength);
+		out.write(storedPayload, 0, storedLength);
+
+		for (Value[] values : columns) {
+			Arrays.fill(values, 0, rowCount, null);
+		}
+		rowCount = 0;
+	}
+
+	private void encodeColumn(Value[] values) throws IOException {
+		dictionary.clear();
+		dictionaryEntries.clear();
+
+		for (int row = 0; row < rowCount; row++) {
+			Value value = values[row];
+			if (value == null) {
+				rowRefs[row] = 0;
+			} else {
+				Integer id = dictionary.get(value);
+				if (id == null) {
+					dictionaryEntries.add(value);
+					id = dictionaryEntries.size();
+					dictionary.put(value, id);
+				}
+				rowRefs[row] = id;
+			}
+		}
+
+		writeVarInt(column, dictionaryEntries.size());
+		for (Value value : dictionaryEntries) {
+			writeValue(column, value);
+		}
+		for (int row = 0; row < rowCount; row++) {
+			writeVarInt(column, rowRefs[row]);
+		}
+	}
+
+	private void writeValue(DataOutputStream column, Value value) throws IOException {
+		if (value instanceof IRI) {
+			column.writeByte(IRI_VALUE_MARKER);
+			writeString(column, value.stringValue());
+		} else if (value instanceof BNode) {
+			column.writeByte(BNODE_VALUE_MARKER);
+			writeString(column, ((BNode) value).getID());
+		} else if (value instanceof Literal) {
+			writeLiteral(column, (Literal) value);
+		} else if (value instanceof Triple) {
+			Triple triple = (Triple) value;
+			column.writeByte(TRIPLE_VALUE_MARKER);
+			writeValue(column, triple.getSubject());
+			writeValue(column, triple.getPredicate());
+			writeValue(column, triple.getObject());
+		} else {
+			throw new TupleQueryResultHandlerException("Unknown Value object type: " + value.getClass());
+		}
+	}
+
+	private void writeLiteral(DataOutputStream column, Literal literal) throws IOException {
+		if (Literals.isLanguageLiteral(literal)) {
+			column.writeByte(LANG_LITERAL_VALUE_MARKER);
+			writeString(column, literal.getLabel());
+			writeString(column, literal.getLanguage().get());
+		} else if (literal.getCoreDatatype() == CoreDatatype.XSD.STRING) {
+			column.writeByte(PLAIN_LITERAL_VALUE_MARKER);
+			writeString(column, literal.getLabel());
+		} else {
+			IRI datatype = literal.getDatatype();
+			Integer index = datatypes.get(datatype);
+			if (index == null) {
+				index = datatypes.size();
+				datatypes.put(datatype, index);
+			}
+			column.writeByte(DATATYPE_LITERAL_VALUE_MARKER);
+			writeString(column, literal.getLabel());
+			writeVarInt(column, index);
+		}
+	}
+
+	/**
+	 * Writes an error msg to the stream.
+	 *
+	 * @param errType The error type.
+	 * @param msg     The error message.
+	 * @throws IOException When the error could not be written to the stream.
+	 */
+	public void error(QueryErrorType errType, String msg) throws IOException {
+		out.writeByte(ERROR_RECORD_MARKER);
+
+		if (errType == QueryErrorType.MALFORMED_QUERY_ERROR) {
+			out.writeByte(MALFORMED_QUERY_ERROR);
+		} else {
+			out.writeByte(QUERY_EVALUATION_ERROR);
+		}
+
+		writeHeaderString(msg);
+	}
+
+	private void writeHeaderString(String s) throws IOException {
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static void writeString(DataOutputStream target, String s) throws IOException {
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(target, bytes.length);
+		target.write(bytes);
+	}
+
+	private static void writeVarInt(DataOutputStream target, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			target.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		target.writeByte(value);
+	}
+
+	@Override
+	public void handleStylesheet(String stylesheetUrl) throws QueryResultHandlerException {
+		// Ignored by Binary Query Results format
+	}
+
+	@Override
+	public void startHeader() throws QueryResultHandlerException {
+		// Ignored by Binary Query Results format
+	}
+
+	@Override
+	public void handleLinks(List<String> linkUrls) throws QueryResultHandlerException {
+		// Ignored by Binary Query Results format
+	}
+
+	@Override
+	public void endHeader() throws QueryResultHandlerException {
+		// Ignored by Binary Query Results format
+	}
+
+	@Override
+	public void handleNamespace(String prefix, String uri) throws QueryResultHandlerException {
+		// Binary format does not support explicit setting of namespace prefixes.
+	}
+
+	private void endDocument() throws IOException {
+		out.flush();
+		documentStarted = false;
+	}
+
+	@Override
+	public void handleBoolean(boolean value) throws QueryResultHandlerException {
+		throw new UnsupportedOperationException("Cannot handle boolean results");
+	}
+}
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.resultio.binary;
+
+import java.io.OutputStream;
+
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultFormat;
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultWriter;
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultWriterFactory;
+
+/**
+ * A {@link TupleQueryResultWriterFactory} for writers of columnar binary query results.
+ */
+public class BinaryColumnarQueryResultWriterFactory implements TupleQueryResultWriterFactory {
+
+	/**
+	 * Returns {@link TupleQueryResultFormat#BINARY_COLUMNAR}.
+	 */
+	@Override
+	public TupleQueryResultFormat getTupleQueryResultFormat() {
+		return TupleQueryResultFormat.BINARY_COLUMNAR;
+	}
+
+	/**
+	 * Returns a new instance of BinaryColumnarQueryResultWriter.
+	 */
+	@Override
+	public TupleQueryResultWriter getWriter(OutputStream out) {
+		return new BinaryColumnarQueryResultWriter(out);
+	}
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.resultio.binary;
+
+import org.eclipse.rdf4j.rio.helpers.BooleanRioSetting;
+import org.eclipse.rdf4j.rio.helpers.IntegerRioSetting;
+
+/**
+ * WriterSettings for the columnar binary query result writer.
+ *
+ * @see BinaryColumnarQueryResultWriter
+ */
+public class BinaryColumnarQueryResultWriterSettings {
+
+	/**
+	 * Setting for the maximum number of rows that are buffered and written out as a single row group. Larger row groups
+	 * improve dictionary reuse and compression at the cost of latency and writer memory.
+	 * <p>
+	 * Defaults to {@code 1024}.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.query.resultio.binary.row_group_size}
+	 */
+	public static final IntegerRioSetting ROW_GROUP_SIZE = new IntegerRioSetting(
+			"org.eclipse.rdf4j.query.resultio.binary.row_group_size", "Row group size", 1024);
+
+	/**
+	 * Setting for whether row group payloads are deflate-compressed. Row groups that do not shrink under compression
+	 * are always stored uncompressed.
+	 * <p>
+	 * Defaults to {@code false}.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.query.resultio.binary.compress}
+	 */
+	public static final BooleanRioSetting COMPRESS = new BooleanRioSetting(
+			"org.eclipse.rdf4j.query.resultio.binary.compress", "Compress row groups", false);
+
+	/**
+	 * Private constructor
+	 */
+	private BinaryColumnarQueryResultWriterSettings() {
+	}
+}
@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.resultio.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.impl.MapBindingSet;
+import org.eclipse.rdf4j.query.resultio.QueryResultParseException;
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultParser;
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultParserFactory;
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultWriter;
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultWriterFactory;
+import org.eclipse.rdf4j.query.resultio.helpers.QueryResultCollector;
+import org.eclipse.rdf4j.rio.RioSetting;
+import org.eclipse.rdf4j.testsuite.query.resultio.AbstractTupleQueryResultWriterTest;
+import org.junit.jupiter.api.Test;
+
+public class BinaryColumnarTupleQueryResultWriterTest extends AbstractTupleQueryResultWriterTest {
+
+	@Override
+	protected TupleQueryResultParserFactory getParserFactory() {
+		return new BinaryColumnarQueryResultParserFactory();
+	}
+
+	@Override
+	protected TupleQueryResultWriterFactory getWriterFactory() {
+		return new BinaryColumnarQueryResultWriterFactory();
+	}
+
+	@Override
+	protected RioSetting<?>[] getExpectedSupportedSettings() {
+		return new RioSetting<?>[] { BinaryColumnarQueryResultWriterSettings.ROW_GROUP_SIZE,
+				BinaryColumnarQueryResultWriterSettings.COMPRESS };
+	}
+
+	@Test
+	public void testMultipleRowGroups() throws Exception {
+		List<BindingSet> expected = createBindingSets(1000);
+
+		assertThat(roundTrip(expected, 64, false)).isEqualTo(expected);
+	}
+
+	@Test
+	public void testCompressedRowGroups() throws Exception {
+		List<BindingSet> expected = createBindingSets(1000);
+
+		assertThat(roundTrip(expected, 100, true)).isEqualTo(expected);
+	}
+
+	@Test
+	public void testDictionaryEncodingShrinksOutput() throws Exception {
+		List<BindingSet> bindingSets = createBindingSets(1000);
+
+		int rowGroupsOfOne = write(bindingSets, 1, false).length;
+		int singleRowGroup = write(bindingSets, 1000, false).length;
+		int compressed = write(bindingSets, 1000, true).length;
+
+		assertThat(singleRowGroup).isLessThan(rowGroupsOfOne);
+		assertThat(compressed).isLessThan(singleRowGroup);
+	}
+
+	@Test
+	public void testNegativeDictionaryReference() throws Exception {
+		MapBindingSet bs = new MapBindingSet();
+		bs.addBinding("s", vf.createIRI("http://example.org/s"));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TupleQueryResultWriter writer = getWriterFactory().getWriter(out);
+		writer.getWriterConfig().set(BinaryColumnarQueryResultWriterSettings.COMPRESS, false);
+		writer.startQueryResult(List.of("s"));
+		writer.handleSolution(bs);
+		writer.endQueryResult();
+		byte[] valid = out.toByteArray();
+
+		// the row group payload: no datatypes, a dictionary with the IRI and a reference to it for the single row
+		byte[] iri = "http://example.org/s".getBytes(StandardCharsets.UTF_8);
+		int refPos = indexOf(valid, iri) + iri.length;
+		int payloadStart = refPos - iri.length - 4;
+		int payloadLength = ByteBuffer.wrap(valid, payloadStart - 4, 4).getInt();
+		assertThat(valid[refPos]).isEqualTo((byte) 1);
+
+		// replace the reference by -1, encoded as variable-length integer in five bytes
+		ByteArrayOutputStream corrupted = new ByteArrayOutputStream();
+		DataOutputStream data = new DataOutputStream(corrupted);
+		data.write(valid, 0, payloadStart - 8);
+		data.writeInt(payloadLength + 4);
+		data.writeInt(payloadLength + 4);
+		data.write(valid, payloadStart, refPos - payloadStart);
+		data.write(new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F });
+		data.write(valid, refPos + 1, valid.length - refPos - 1);
+
+		TupleQueryResultParser parser = getParserFactory().getParser();
+		parser.setQueryResultHandler(new QueryResultCollector());
+		assertThatThrownBy(() -> parser.parseQueryResult(new ByteArrayInputStream(corrupted.toByteArray())))
+				.isInstanceOf(QueryResultParseException.class)
+				.hasMessageContaining("Illegal dictionary reference: -1");
+	}
+
+	@Test
+	public void testRowCountExceedingRowGroupLength() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		DataOutputStream data = writeHeader(out, "s", "o");
+		data.writeByte(BinaryColumnarQueryResultConstants.ROW_GROUP_RECORD_MARKER);
+		data.writeInt(Integer.MAX_VALUE);
+		data.writeByte(BinaryColumnarQueryResultConstants.CODEC_NONE);
+		data.writeInt(Integer.MAX_VALUE);
+		data.writeInt(Integer.MAX_VALUE);
+
+		TupleQueryResultParser parser = getParserFactory().getParser();
+		parser.setQueryResultHandler(new QueryResultCollector());
+		assertThatThrownBy(() -> parser.parseQueryResult(new ByteArrayInputStream(out.toByteArray())))
+				.isInstanceOf(QueryResultParseException.class)
+				.hasMessageContaining("Illegal row count");
+	}
+
+	@Test
+	public void testRowGroupLengthExceedingInput() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		DataOutputStream data = writeHeader(out, "s");
+		data.writeByte(BinaryColumnarQueryResultConstants.ROW_GROUP_RECORD_MARKER);
+		data.writeInt(1);
+		data.writeByte(BinaryColumnarQueryResultConstants.CODEC_NONE);
+		data.writeInt(Integer.MAX_VALUE);
+		data.writeInt(Integer.MAX_VALUE);
+		data.write(new byte[] { 0, 0, 0 });
+
+		// fails on the missing data instead of allocating the announced length up front
+		TupleQueryResultParser parser = getParserFactory().getParser();
+		parser.setQueryResultHandler(new QueryResultCollector());
+		assertThatThrownBy(() -> parser.parseQueryResult(new ByteArrayInputStream(out.toByteArray())))
+				.isInstanceOf(EOFException.class);
+	}
+
+	@Test
+	public void testDictionarySizeExceedingRowGroup() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		DataOutputStream data = writeHeader(out, "s");
+		data.writeByte(BinaryColumnarQueryResultConstants.ROW_GROUP_RECORD_MARKER);
+		data.writeInt(1);
+		data.writeByte(BinaryColumnarQueryResultConstants.CODEC_NONE);
+		data.writeInt(7);
+		data.writeInt(7);
+		// no datatypes and a dictionary of 2^28 - 1 entries
+		data.write(new byte[] { 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x7F, 0, 0 });
+
+		TupleQueryResultParser parser = getParserFactory().getParser();
+		parser.setQueryResultHandler(new QueryResultCollector());
+		assertThatThrownBy(() -> parser.parseQueryResult(new ByteArrayInputStream(out.toByteArray())))
+				.isInstanceOf(QueryResultParseException.class)
+				.hasMessageContaining("Illegal dictionary size");
+	}
+
+	private static DataOutputStream writeHeader(ByteArrayOutputStream out, String... columns) throws IOException {
+		DataOutputStream data = new DataOutputStream(out);
+		data.write(BinaryColumnarQueryResultConstants.MAGIC_NUMBER);
+		data.writeInt(BinaryColumnarQueryResultConstants.FORMAT_VERSION);
+		data.writeInt(columns.length);
+		for (String column : columns) {
+			byte[] encoded = column.getBytes(StandardCharsets.UTF_8);
+			data.writeInt(encoded.length);
+			data.write(encoded);
+		}
+		return data;
+	}
+
+	private static int indexOf(byte[] bytes, byte[] part) {
+		for (int i = 0; i <= bytes.length - part.length; i++) {
+			if (Arrays.equals(bytes, i, i + part.length, part, 0, part.length)) {
+				return i;
+			}
+		}
+		throw new AssertionError("not found");
+	}
+
+	private List<BindingSet> createBindingSets(int count) {
+		List<BindingSet> bindingSets = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			MapBindingSet bs = new MapBindingSet();
+			bs.addBinding("s", vf.createIRI("http://example.org/s" + (i % 17)));
+			bs.addBinding("type", vf.createIRI("http://example.org/Type" + (i % 3)));
+			if (i % 5 != 0) {
+				bs.addBinding("o", vf.createLiteral(Integer.toString(i % 7), XSD.INT));
+			}
+			if (i % 11 == 0) {
+				bs.addBinding("label", vf.createLiteral("label " + i, "en"));
+			}
+			bindingSets.add(bs);
+		}
+		return bindingSets;
+	}
+
+	private byte[] write(List<BindingSet> bindingSets, int rowGroupSize, boolean compress) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TupleQueryResultWriter writer = getWriterFactory().getWriter(out);
+		writer.getWriterConfig().set(BinaryColumnarQueryResultWriterSettings.ROW_GROUP_SIZE, rowGroupSize);
+		writer.getWriterConfig().set(BinaryColumnarQueryResultWriterSettings.COMPRESS, compress);
+
+		writer.startQueryResult(List.of("s", "type", "o", "label"));
+		bindingSets.forEach(writer::handleSolution);
+		writer.endQueryResult();
+		return out.toByteArray();
+	}
+
+	private List<BindingSet> roundTrip(List<BindingSet> bindingSets, int rowGroupSize, boolean compress)
+			throws Exception {
+		QueryResultCollector collector = new QueryResultCollector();
+		TupleQueryResultParser parser = getParserFactory().getParser();
+		parser.setQueryResultHandler(collector);
+		parser.parseQueryResult(new ByteArrayInputStream(write(bindingSets, rowGroupSize, compress)));
+
+		assertThat(collector.getBindingNames()).containsExactly("s", "type", "o", "label");
+		return collector.getBindingSets();
+	}
+}
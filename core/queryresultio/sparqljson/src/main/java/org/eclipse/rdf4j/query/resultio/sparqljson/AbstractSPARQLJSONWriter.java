@@ -12,13 +12,13 @@ package org.eclipse.rdf4j.query.resultio.sparqljson;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.io.Writer;
-import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.rdf4j.common.io.CharSink;
@@ -37,10 +37,13 @@ import org.eclipse.rdf4j.query.resultio.BasicQueryWriterSettings;
 import org.eclipse.rdf4j.rio.RioSetting;
 import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
 
+import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonFactoryBuilder;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter.Indenter;
@@ -63,6 +66,25 @@ abstract class AbstractSPARQLJSONWriter extends AbstractQueryResultWriter implem
 			.disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
 			.build();
 
+	/**
+	 * Maximum number of IRIs and datatypes for which the encoded form is cached while writing a single result.
+	 */
+	private static final int MAX_CACHED_VALUES = 4096;
+
+	private static final SerializableString TYPE_FIELD = new SerializedString(AbstractSPARQLJSONParser.TYPE);
+
+	private static final SerializableString VALUE_FIELD = new SerializedString(AbstractSPARQLJSONParser.VALUE);
+
+	private static final SerializableString DATATYPE_FIELD = new SerializedString(AbstractSPARQLJSONParser.DATATYPE);
+
+	private static final SerializableString XMLLANG_FIELD = new SerializedString(AbstractSPARQLJSONParser.XMLLANG);
+
+	private static final SerializableString URI_TYPE = new SerializedString(AbstractSPARQLJSONParser.URI);
+
+	private static final SerializableString BNODE_TYPE = new SerializedString(AbstractSPARQLJSONParser.BNODE);
+
+	private static final SerializableString LITERAL_TYPE = new SerializedString(AbstractSPARQLJSONParser.LITERAL);
+
 	protected boolean firstTupleWritten = false;
 
 	protected boolean documentOpen = false;
@@ -77,13 +99,35 @@ abstract class AbstractSPARQLJSONWriter extends AbstractQueryResultWriter implem
 
 	protected final JsonGenerator jg;
 
-	private final Writer writer;
+	private final OutputStream out;
 
+	private Writer writer;
+
+	/**
+	 * Encoded (escaped and quoted) forms of the binding names, IRIs and datatypes of the current result, so that values
+	 * that occur in many solutions are only escaped and encoded once.
+	 */
+	private final Map<String, SerializableString> encodedBindingNames = new HashMap<>();
+
+	private final Map<IRI, SerializableString> encodedIRIs = new HashMap<>();
+
+	private final Map<IRI, SerializableString> encodedDatatypes = new HashMap<>();
+
+	/**
+	 * Creates a writer that encodes directly to UTF-8 bytes on the supplied {@link OutputStream}, without going through
+	 * an intermediate character stream.
+	 */
 	protected AbstractSPARQLJSONWriter(OutputStream out) {
-		this(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		this.out = out;
+		try {
+			jg = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+		} catch (IOException e) {
+			throw new IllegalArgumentException(e);
+		}
 	}
 
 	protected AbstractSPARQLJSONWriter(Writer writer) {
+		this.out = null;
 		this.writer = writer;
 		try {
 			jg = JSON_FACTORY.createGenerator(writer);
@@ -94,6 +138,33 @@ abstract class AbstractSPARQLJSONWriter extends AbstractQueryResultWriter implem
 
 	@Override
 	public final Writer getWriter() {
+		if (writer == null) {
+			// only used to pass through pre-serialized results: the text goes through the buffer of the JSON generator,
+			// so that it stays in order with the generated output and is flushed by endDocument()
+			writer = new Writer() {
+
+				@Override
+				public void write(char[] cbuf, int off, int len) throws IOException {
+					jg.writeRaw(cbuf, off, len);
+				}
+
+				@Override
+				public void write(String str, int off, int len) throws IOException {
+					jg.writeRaw(str, off, len);
+				}
+
+				@Override
+				public void flush() throws IOException {
+					jg.flush();
+				}
+
+				@Override
+				public void close() throws IOException {
+					jg.flush();
+					out.close();
+				}
+			};
+		}
 		return writer;
 	}
 
@@ -131,9 +202,11 @@ abstract class AbstractSPARQLJSONWriter extends AbstractQueryResultWriter implem
 			}
 
 			tupleVariablesFound = true;
+			clearEncodedValues();
 			jg.writeArrayFieldStart("vars");
 			for (String nextColumn : columnHeaders) {
 				jg.writeString(nextColumn);
+				encodedBindingNames.put(nextColumn, new SerializedString(nextColumn));
 			}
 			jg.writeEndArray();
 		} catch (IOException | QueryResultHandlerException e) {
@@ -167,7 +240,12 @@ abstract class AbstractSPARQLJSONWriter extends AbstractQueryResultWriter implem
 			Iterator<Binding> bindingIter = bindingSet.iterator();
 			while (bindingIter.hasNext()) {
 				Binding binding = bindingIter.next();
-				jg.writeFieldName(binding.getName());
+				SerializableString name = encodedBindingNames.get(binding.getName());
+				if (name != null) {
+					jg.writeFieldName(name);
+				} else {
+					jg.writeFieldName(binding.getName());
+				}
 				writeValue(binding.getValue());
 			}
 
@@ -289,33 +367,64 @@ abstract class AbstractSPARQLJSONWriter extends AbstractQueryResultWriter implem
 		jg.writeStartObject();
 
 		if (value instanceof IRI) {
-			jg.writeStringField("type", "uri");
-			jg.writeStringField("value", ((IRI) value).toString());
+			jg.writeFieldName(TYPE_FIELD);
+			jg.writeString(URI_TYPE);
+			jg.writeFieldName(VALUE_FIELD);
+			writeEncoded(encodedIRIs, (IRI) value);
 		} else if (value instanceof BNode) {
-			jg.writeStringField("type", "bnode");
-			jg.writeStringField("value", ((BNode) value).getID());
+			jg.writeFieldName(TYPE_FIELD);
+			jg.writeString(BNODE_TYPE);
+			jg.writeFieldName(VALUE_FIELD);
+			jg.writeString(((BNode) value).getID());
 		} else if (value instanceof Literal) {
 			Literal lit = (Literal) value;
 
 			if (Literals.isLanguageLiteral(lit)) {
-				jg.writeObjectField("xml:lang", lit.getLanguage().orElse(null));
+				jg.writeFieldName(XMLLANG_FIELD);
+				jg.writeString(lit.getLanguage().orElse(null));
 			} else {
 				IRI datatype = lit.getDatatype();
 				boolean ignoreDatatype = datatype.equals(XSD.STRING) && xsdStringToPlainLiteral();
 				if (!ignoreDatatype) {
-					jg.writeObjectField("datatype", lit.getDatatype().stringValue());
+					jg.writeFieldName(DATATYPE_FIELD);
+					writeEncoded(encodedDatatypes, datatype);
 				}
 			}
 
-			jg.writeObjectField("type", "literal");
+			jg.writeFieldName(TYPE_FIELD);
+			jg.writeString(LITERAL_TYPE);
 
-			jg.writeObjectField("value", lit.getLabel());
+			jg.writeFieldName(VALUE_FIELD);
+			jg.writeString(lit.getLabel());
 		} else {
 			throw new TupleQueryResultHandlerException("Unknown Value object type: " + value.getClass());
 		}
 		jg.writeEndObject();
 	}
 
+	/**
+	 * Writes the supplied IRI as a JSON string, reusing its encoded form if it was written before in the current
+	 * result.
+	 */
+	private void writeEncoded(Map<IRI, SerializableString> cache, IRI iri) throws IOException {
+		SerializableString encoded = cache.get(iri);
+		if (encoded == null) {
+			if (cache.size() >= MAX_CACHED_VALUES) {
+				jg.writeString(iri.stringValue());
+				return;
+			}
+			encoded = new SerializedString(iri.stringValue());
+			cache.put(iri, encoded);
+		}
+		jg.writeString(encoded);
+	}
+
+	private void clearEncodedValues() {
+		encodedBindingNames.clear();
+		encodedIRIs.clear();
+		encodedDatatypes.clear();
+	}
+
 	@Override
 	public void handleBoolean(boolean value) throws QueryResultHandlerException {
 		if (!documentOpen) {
@@ -367,6 +476,7 @@ abstract class AbstractSPARQLJSONWriter extends AbstractQueryResultWriter implem
 			jg.writeRaw(");");
 		}
 		jg.flush();
+		clearEncodedValues();
 		documentOpen = false;
 		headerOpen = false;
 		headerComplete = false;
@@ -10,12 +10,21 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.query.resultio.sparqljson;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
 import org.eclipse.rdf4j.query.resultio.BasicQueryWriterSettings;
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultParser;
 import org.eclipse.rdf4j.query.resultio.TupleQueryResultParserFactory;
 import org.eclipse.rdf4j.query.resultio.TupleQueryResultWriterFactory;
+import org.eclipse.rdf4j.query.resultio.helpers.QueryResultCollector;
 import org.eclipse.rdf4j.rio.RioSetting;
 import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
 import org.eclipse.rdf4j.testsuite.query.resultio.AbstractTupleQueryResultWriterTest;
+import org.junit.jupiter.api.Test;
 
 public class SPARQLResultsJSONWriterTest extends AbstractTupleQueryResultWriterTest {
 
@@ -38,4 +47,22 @@ public class SPARQLResultsJSONWriterTest extends AbstractTupleQueryResultWriterT
 				BasicQueryWriterSettings.JSONP_CALLBACK
 		};
 	}
+
+	@Test
+	public void testPassThroughWriter() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		SPARQLResultsJSONWriter writer = new SPARQLResultsJSONWriter(out);
+		writer.startQueryResult(List.of("s"));
+		writer.endHeader();
+		writer.getWriter().write("{\"s\":{\"type\":\"uri\",\"value\":\"http://example.org/s\"}}");
+		writer.endQueryResult();
+
+		QueryResultCollector collector = new QueryResultCollector();
+		TupleQueryResultParser parser = getParserFactory().getParser();
+		parser.setQueryResultHandler(collector);
+		parser.parseQueryResult(new ByteArrayInputStream(out.toByteArray()));
+
+		assertThat(collector.getBindingSets()).hasSize(1);
+		assertThat(collector.getBindingSets().get(0).getValue("s").stringValue()).isEqualTo("http://example.org/s");
+	}
 }
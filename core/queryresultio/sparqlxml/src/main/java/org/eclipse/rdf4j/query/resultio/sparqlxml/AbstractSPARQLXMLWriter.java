@@ -408,7 +408,8 @@ abstract class AbstractSPARQLXMLWriter extends AbstractQueryResultWriter impleme
 	}
 
 	private boolean isQName(IRI nextUri) {
-		return namespaceTable.containsKey(nextUri.getNamespace());
+		// avoid computing the namespace of every IRI when no namespaces have been declared
+		return !namespaceTable.isEmpty() && namespaceTable.containsKey(nextUri.getNamespace());
 	}
 
 	private void writeTriple(Triple triple) throws IOException {
@@ -442,7 +443,7 @@ abstract class AbstractSPARQLXMLWriter extends AbstractQueryResultWriter impleme
 		if (isQName(uri)) {
 			writeQName(uri);
 		}
-		xmlWriter.textElement(URI_TAG, uri.toString());
+		xmlWriter.textElement(URI_TAG, uri.stringValue());
 	}
 
 	private void writeBNode(BNode bNode) throws IOException {
@@ -20,6 +20,7 @@ import java.util.regex.Pattern;
 import org.apache.http.client.HttpClient;
 import org.eclipse.rdf4j.http.client.HttpClientDependent;
 import org.eclipse.rdf4j.http.client.HttpClientSessionManager;
+import org.eclipse.rdf4j.http.client.HttpClientTransport;
 import org.eclipse.rdf4j.http.client.RDF4JProtocolSession;
 import org.eclipse.rdf4j.http.client.SPARQLProtocolSession;
 import org.eclipse.rdf4j.http.client.SessionManagerDependent;
@@ -70,6 +71,8 @@ public class HTTPRepository extends AbstractRepository implements HttpClientDepe
 	 */
 	private volatile SharedHttpClientSessionManager dependentSessionManager;
 
+	private volatile HttpClientTransport httpClientTransport;
+
 	private String username;
 
 	private String password;
@@ -82,6 +85,8 @@ public class HTTPRepository extends AbstractRepository implements HttpClientDepe
 
 	private TupleQueryResultFormat tupleFormat;
 
+	private int queryPageSize;
+
 	private File dataDir;
 
 	private volatile Boolean compatibleMode = null;
@@ -122,6 +127,26 @@ public class HTTPRepository extends AbstractRepository implements HttpClientDepe
 		return dataDir;
 	}
 
+	/**
+	 * Set the {@link HttpClientTransport} of the HTTP client that this repository creates when no
+	 * {@link HttpClientSessionManager} or {@link HttpClient} has been supplied. Must be called before the repository is
+	 * used.
+	 *
+	 * @param httpClientTransport the transport, or <var>null</var> to use the
+	 *                            {@link SharedHttpClientSessionManager#TRANSPORT_PROPERTY default}.
+	 */
+	public void setHttpClientTransport(HttpClientTransport httpClientTransport) {
+		this.httpClientTransport = httpClientTransport;
+	}
+
+	/**
+	 * @return the {@link HttpClientTransport} of the HTTP client that this repository creates, or <var>null</var> if
+	 *         the default is used.
+	 */
+	public HttpClientTransport getHttpClientTransport() {
+		return httpClientTransport;
+	}
+
 	@Override
 	public HttpClientSessionManager getHttpClientSessionManager() {
 		HttpClientSessionManager result = sessionManager;
@@ -129,7 +154,11 @@ public class HTTPRepository extends AbstractRepository implements HttpClientDepe
 			synchronized (this) {
 				result = sessionManager;
 				if (result == null) {
-					result = sessionManager = dependentSessionManager = new SharedHttpClientSessionManager();
+					SharedHttpClientSessionManager manager = new SharedHttpClientSessionManager();
+					if (httpClientTransport != null) {
+						manager.setTransport(httpClientTransport);
+					}
+					result = sessionManager = dependentSessionManager = manager;
 				}
 			}
 		}
@@ -281,6 +310,26 @@ public class HTTPRepository extends AbstractRepository implements HttpClientDepe
 		return rdfFormat;
 	}
 
+	/**
+	 * Sets the number of solutions per page in which the results of tuple queries are fetched. The server keeps the
+	 * evaluated query result open between pages, so that large results do not have to be transferred in a single
+	 * response. Requires an RDF4J Server that supports result cursors.
+	 *
+	 * @param queryPageSize the page size, or 0 or less, the default, to fetch results in a single response.
+	 * @see RDF4JProtocolSession#setQueryPageSize(int)
+	 */
+	public void setQueryPageSize(int queryPageSize) {
+		this.queryPageSize = queryPageSize;
+	}
+
+	/**
+	 * @return the number of solutions per page in which the results of tuple queries are fetched, or 0 or less if
+	 *         results are not paged.
+	 */
+	public int getQueryPageSize() {
+		return queryPageSize;
+	}
+
 	/**
 	 * Set the username and password to use for authenticating with the remote repository.
 	 *
@@ -338,6 +387,7 @@ public class HTTPRepository extends AbstractRepository implements HttpClientDepe
 		if (rdfFormat != null) {
 			httpClient.setPreferredRDFFormat(rdfFormat);
 		}
+		httpClient.setQueryPageSize(queryPageSize);
 		if (username != null) {
 			httpClient.setUsernameAndPassword(username, password);
 		}
@@ -21,12 +21,18 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.http.client.HttpClient;
 import org.eclipse.rdf4j.common.exception.RDF4JException;
@@ -109,6 +115,15 @@ class HTTPRepositoryConnection extends AbstractRepositoryConnection implements H
 
 	private Model toRemove;
 
+	/**
+	 * Statement buffers that are being uploaded in the background, oldest first.
+	 *
+	 * @see HTTPRepositorySettings#BACKGROUND_UPLOAD_QUEUE_SIZE
+	 */
+	private final Deque<Future<?>> uploads = new ArrayDeque<>();
+
+	private ExecutorService uploader;
+
 	/*--------------*
 	 * Constructors *
 	 *--------------*/
@@ -125,6 +140,8 @@ class HTTPRepositoryConnection extends AbstractRepositoryConnection implements H
 		getParserConfig().set(BasicParserSettings.PRESERVE_BNODE_IDS, true);
 		getParserConfig().set(HTTPRepositorySettings.MAX_STATEMENT_BUFFER_SIZE,
 				HTTPRepositorySettings.MAX_STATEMENT_BUFFER_SIZE.getDefaultValue());
+		getParserConfig().set(HTTPRepositorySettings.BACKGROUND_UPLOAD_QUEUE_SIZE,
+				HTTPRepositorySettings.BACKGROUND_UPLOAD_QUEUE_SIZE.getDefaultValue());
 	}
 
 	/*---------*
@@ -361,6 +378,10 @@ class HTTPRepositoryConnection extends AbstractRepositoryConnection implements H
 				rollback();
 			}
 		} finally {
+			if (uploader != null) {
+				uploader.shutdownNow();
+				uploader = null;
+			}
 			super.close();
 			client.close();
 		}
@@ -598,6 +619,11 @@ class HTTPRepositoryConnection extends AbstractRepositoryConnection implements H
 
 		if (isActive()) {
 			int maxBufferSize = getParserConfig().get(HTTPRepositorySettings.MAX_STATEMENT_BUFFER_SIZE);
+			if (action == Action.ROLLBACK) {
+				cancelUploads();
+			} else if (action != Action.ADD) {
+				awaitUploads();
+			}
 			switch (action) {
 			case ADD:
 				if (toRemove != null) {
@@ -605,7 +631,12 @@ class HTTPRepositoryConnection extends AbstractRepositoryConnection implements H
 					toRemove = null;
 				}
 				if (toAdd != null && maxBufferSize <= toAdd.size()) {
-					addModel(toAdd);
+					int queueSize = getParserConfig().get(HTTPRepositorySettings.BACKGROUND_UPLOAD_QUEUE_SIZE);
+					if (queueSize > 0) {
+						addModelInBackground(toAdd, queueSize);
+					} else {
+						addModel(toAdd);
+					}
 					toAdd = null;
 				}
 				break;
@@ -643,6 +674,69 @@ class HTTPRepositoryConnection extends AbstractRepositoryConnection implements H
 		}
 	}
 
+	/**
+	 * Hands the supplied statements to the background uploader, first waiting for the oldest pending upload if the
+	 * queue is full. Failures of uploads that have completed in the meantime are reported here.
+	 */
+	private void addModelInBackground(Model m, int queueSize) throws RepositoryException {
+		while (!uploads.isEmpty() && (uploads.size() >= queueSize || uploads.peekFirst().isDone())) {
+			awaitUpload(uploads.removeFirst());
+		}
+		if (uploader == null) {
+			uploader = Executors.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "rdf4j-http-transaction-upload");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		uploads.addLast(uploader.submit(() -> addModel(m)));
+	}
+
+	/**
+	 * Waits for all background uploads to complete, so that subsequent operations are applied after them.
+	 */
+	private void awaitUploads() throws RepositoryException {
+		while (!uploads.isEmpty()) {
+			awaitUpload(uploads.removeFirst());
+		}
+	}
+
+	private void awaitUpload(Future<?> upload) throws RepositoryException {
+		try {
+			upload.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			cancelUploads();
+			throw new RepositoryException(e);
+		} catch (ExecutionException e) {
+			cancelUploads();
+			if (e.getCause() instanceof RepositoryException) {
+				throw (RepositoryException) e.getCause();
+			}
+			throw new RepositoryException(e.getCause());
+		}
+	}
+
+	/**
+	 * Discards all pending background uploads, for instance because the transaction is rolled back.
+	 */
+	private void cancelUploads() {
+		if (uploads.isEmpty()) {
+			return;
+		}
+		uploads.forEach(upload -> upload.cancel(false));
+		uploads.clear();
+		try {
+			// an upload that has already started can not be cancelled, wait for it to finish
+			uploader.submit(() -> {
+			}).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			// the transaction is abandoned, failures are of no interest anymore
+		}
+	}
+
 	@Override
 	protected void removeWithoutCommit(Resource subject, IRI predicate, Value object, Resource... contexts)
 			throws RepositoryException {
@@ -709,6 +803,7 @@ class HTTPRepositoryConnection extends AbstractRepositoryConnection implements H
 			if (this.getRepository().useCompatibleMode()) {
 				txn.add(new RemoveNamespaceOperation(prefix));
 			} else {
+				awaitUploads();
 				client.removeNamespacePrefix(prefix);
 			}
 			conditionalCommit(localTransaction);
@@ -731,6 +826,7 @@ class HTTPRepositoryConnection extends AbstractRepositoryConnection implements H
 			return;
 		}
 
+		awaitUploads();
 		try {
 			client.clearNamespaces();
 		} catch (IOException e) {
@@ -754,6 +850,7 @@ class HTTPRepositoryConnection extends AbstractRepositoryConnection implements H
 			return;
 		}
 
+		awaitUploads();
 		try {
 			client.setNamespacePrefix(prefix, name);
 		} catch (IOException e) {
@@ -12,11 +12,16 @@ package org.eclipse.rdf4j.repository.http.config;
 
 import static org.eclipse.rdf4j.repository.http.config.HTTPRepositorySchema.REPOSITORYURL;
 
+import java.util.Locale;
+
+import org.eclipse.rdf4j.http.client.HttpClientTransport;
+import org.eclipse.rdf4j.http.client.SharedHttpClientSessionManager;
 import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.util.Configurations;
 import org.eclipse.rdf4j.model.util.ModelException;
+import org.eclipse.rdf4j.model.util.Models;
 import org.eclipse.rdf4j.model.vocabulary.CONFIG;
 import org.eclipse.rdf4j.repository.config.AbstractRepositoryImplConfig;
 import org.eclipse.rdf4j.repository.config.RepositoryConfigException;
@@ -32,6 +37,8 @@ public class HTTPRepositoryConfig extends AbstractRepositoryImplConfig {
 
 	private String password;
 
+	private HttpClientTransport transport;
+
 	public HTTPRepositoryConfig() {
 		super(HTTPRepositoryFactory.REPOSITORY_TYPE);
 	}
@@ -65,6 +72,21 @@ public class HTTPRepositoryConfig extends AbstractRepositoryImplConfig {
 		this.password = password;
 	}
 
+	/**
+	 * @return the HTTP transport, or <var>null</var> if the default is used.
+	 */
+	public HttpClientTransport getTransport() {
+		return transport;
+	}
+
+	/**
+	 * @param transport the HTTP transport to use, or <var>null</var> to use the default.
+	 * @see SharedHttpClientSessionManager#TRANSPORT_PROPERTY
+	 */
+	public void setTransport(HttpClientTransport transport) {
+		this.transport = transport;
+	}
+
 	@Override
 	public void validate() throws RepositoryConfigException {
 		super.validate();
@@ -86,6 +108,7 @@ public class HTTPRepositoryConfig extends AbstractRepositoryImplConfig {
 			graph.add(implNode, CONFIG.Http.url, SimpleValueFactory.getInstance().createIRI(url));
 
 		}
+		exportTransport(graph, implNode);
 		return implNode;
 	}
 
@@ -97,9 +120,18 @@ public class HTTPRepositoryConfig extends AbstractRepositoryImplConfig {
 			graph.add(implNode, REPOSITORYURL, SimpleValueFactory.getInstance().createIRI(url));
 
 		}
+		exportTransport(graph, implNode);
 		return implNode;
 	}
 
+	private void exportTransport(Model graph, Resource implNode) {
+		if (transport != null) {
+			graph.setNamespace(CONFIG.NS);
+			graph.add(implNode, CONFIG.Http.transport,
+					SimpleValueFactory.getInstance().createLiteral(transport.name().toLowerCase(Locale.ROOT)));
+		}
+	}
+
 	@Override
 	public void parse(Model model, Resource implNode) throws RepositoryConfigException {
 		super.parse(model, implNode);
@@ -118,7 +150,10 @@ public class HTTPRepositoryConfig extends AbstractRepositoryImplConfig {
 					.getLiteralValue(model, implNode, CONFIG.Http.password, HTTPRepositorySchema.PASSWORD)
 					.ifPresent(password -> setPassword(password.getLabel()));
 
-		} catch (ModelException e) {
+			Models.objectLiteral(model.getStatements(implNode, CONFIG.Http.transport, null))
+					.ifPresent(transport -> setTransport(HttpClientTransport.of(transport.getLabel())));
+
+		} catch (ModelException | IllegalArgumentException e) {
 			throw new RepositoryConfigException(e.getMessage(), e);
 		}
 	}
@@ -50,6 +50,7 @@ public class HTTPRepositoryFactory implements RepositoryFactory {
 		if (config instanceof HTTPRepositoryConfig) {
 			HTTPRepositoryConfig httpConfig = (HTTPRepositoryConfig) config;
 			result = new HTTPRepository(httpConfig.getURL());
+			result.setHttpClientTransport(httpConfig.getTransport());
 			// result.setUsernameAndPassword(httpConfig.getUsername(), httpConfig.getPassword());
 		} else {
 			throw new RepositoryConfigException("Invalid configuration class: " + config.getClass());
@@ -35,4 +35,20 @@ public class HTTPRepositorySettings {
 	public static final IntegerRioSetting MAX_STATEMENT_BUFFER_SIZE = new IntegerRioSetting(
 			"org.eclipse.rdf4j.http.maxstatementbuffersize", "Maximum number of statement buffered in memory", 200000);
 
+	/**
+	 * Maximum number of full statement buffers that may be waiting to be uploaded in the background during a
+	 * transaction.
+	 * <p>
+	 * When this is larger than 0, a statement buffer that reaches {@link #MAX_STATEMENT_BUFFER_SIZE} is uploaded to the
+	 * open transaction by a background thread, so that adding further statements overlaps with the upload. Once this
+	 * many uploads are pending, adding statements blocks until the oldest upload has completed. All pending uploads are
+	 * completed before any other operation is sent to the remote repository.
+	 * <p>
+	 * By default this is 0, meaning that full buffers are uploaded synchronously. Background uploads are not supported
+	 * when talking to servers that do not support transactions over the protocol.
+	 */
+	public static final IntegerRioSetting BACKGROUND_UPLOAD_QUEUE_SIZE = new IntegerRioSetting(
+			"org.eclipse.rdf4j.http.backgrounduploadqueuesize",
+			"Maximum number of statement buffers waiting to be uploaded in the background", 0);
+
 }
@@ -10,24 +10,41 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.repository.http;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.rdf4j.http.client.RDF4JProtocolSession;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.FOAF;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.repository.http.helpers.HTTPRepositorySettings;
 import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.UnsupportedRDFormatException;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockserver.client.MockServerClient;
 import org.mockserver.junit.jupiter.MockServerExtension;
 import org.mockserver.model.MediaType;
@@ -35,6 +52,8 @@ import org.mockserver.model.MediaType;
 @ExtendWith(MockServerExtension.class)
 public class HTTPRepositoryConnectionTest {
 
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
 	static HTTPRepository testRepository;
 	static RDF4JProtocolSession session;
 
@@ -113,4 +132,73 @@ public class HTTPRepositoryConnectionTest {
 		}
 	}
 
+	@Test
+	public void testBackgroundUploadsInTransaction() throws Exception {
+		RDF4JProtocolSession uploadSession = mock(RDF4JProtocolSession.class);
+		try (HTTPRepositoryConnection repoConn = new HTTPRepositoryConnection(testRepository, uploadSession)) {
+			repoConn.getParserConfig().set(HTTPRepositorySettings.MAX_STATEMENT_BUFFER_SIZE, 10);
+			repoConn.getParserConfig().set(HTTPRepositorySettings.BACKGROUND_UPLOAD_QUEUE_SIZE, 2);
+
+			repoConn.begin();
+			for (int i = 0; i < 55; i++) {
+				repoConn.add(vf.createIRI("http://example.org/s" + i), RDF.TYPE, FOAF.PERSON);
+			}
+			repoConn.commit();
+		}
+
+		InOrder inOrder = inOrder(uploadSession);
+		inOrder.verify(uploadSession, times(6)).addData(any(InputStream.class), isNull(), eq(RDFFormat.BINARY));
+		inOrder.verify(uploadSession).commitTransaction();
+	}
+
+	@Test
+	public void testBackgroundUploadFailure() throws Exception {
+		RDF4JProtocolSession uploadSession = mock(RDF4JProtocolSession.class);
+		doThrow(new IOException("connection reset")).when(uploadSession)
+				.addData(any(InputStream.class), isNull(), eq(RDFFormat.BINARY));
+		try (HTTPRepositoryConnection repoConn = new HTTPRepositoryConnection(testRepository, uploadSession)) {
+			repoConn.getParserConfig().set(HTTPRepositorySettings.MAX_STATEMENT_BUFFER_SIZE, 10);
+			repoConn.getParserConfig().set(HTTPRepositorySettings.BACKGROUND_UPLOAD_QUEUE_SIZE, 2);
+
+			repoConn.begin();
+			// the failure surfaces on the next add or on commit, depending on when the upload completes
+			assertThatExceptionOfType(RepositoryException.class).isThrownBy(() -> {
+				for (int i = 0; i < 25; i++) {
+					repoConn.add(vf.createIRI("http://example.org/s" + i), RDF.TYPE, FOAF.PERSON);
+				}
+				repoConn.commit();
+			});
+			repoConn.rollback();
+		}
+
+		verify(uploadSession, never()).commitTransaction();
+		verify(uploadSession).rollbackTransaction();
+	}
+
+	@Test
+	public void testNamespaceUpdateWaitsForBackgroundUploads() throws Exception {
+		RDF4JProtocolSession uploadSession = mock(RDF4JProtocolSession.class);
+		List<String> calls = new CopyOnWriteArrayList<>();
+		doAnswer(invocation -> {
+			Thread.sleep(50);
+			calls.add("addData");
+			return null;
+		}).when(uploadSession).addData(any(InputStream.class), isNull(), eq(RDFFormat.BINARY));
+		doAnswer(invocation -> calls.add("setNamespace")).when(uploadSession)
+				.setNamespacePrefix("ex", "http://example.org/");
+		try (HTTPRepositoryConnection repoConn = new HTTPRepositoryConnection(testRepository, uploadSession)) {
+			repoConn.getParserConfig().set(HTTPRepositorySettings.MAX_STATEMENT_BUFFER_SIZE, 10);
+			repoConn.getParserConfig().set(HTTPRepositorySettings.BACKGROUND_UPLOAD_QUEUE_SIZE, 2);
+
+			repoConn.begin();
+			for (int i = 0; i < 20; i++) {
+				repoConn.add(vf.createIRI("http://example.org/s" + i), RDF.TYPE, FOAF.PERSON);
+			}
+			repoConn.setNamespace("ex", "http://example.org/");
+			repoConn.commit();
+		}
+
+		assertThat(calls).containsExactly("addData", "setNamespace", "addData");
+	}
+
 }
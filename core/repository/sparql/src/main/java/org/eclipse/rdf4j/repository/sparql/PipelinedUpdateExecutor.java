@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.repository.sparql;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.rdf4j.http.client.SPARQLProtocolSession;
+import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.repository.sparql.query.SPARQLUpdate;
+
+/**
+ * Sends SPARQL updates to the endpoint in the background, with a bounded number of concurrent requests.
+ * <p>
+ * Updates that only insert data commute with each other, as do updates that only remove data, so these are sent
+ * concurrently. Before switching between inserts and removals all outstanding requests are completed, so that the
+ * endpoint applies the changes in the order in which they were made.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+class PipelinedUpdateExecutor implements AutoCloseable {
+
+	private static final AtomicInteger threadCount = new AtomicInteger();
+
+	private final SPARQLProtocolSession client;
+
+	private final int maxConcurrentUpdates;
+
+	private final Semaphore requestSlots;
+
+	private final ExecutorService executor;
+
+	private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+	private final AtomicInteger completedUpdates = new AtomicInteger();
+
+	/**
+	 * Whether the updates that are currently outstanding insert data.
+	 */
+	private boolean inserting = true;
+
+	PipelinedUpdateExecutor(SPARQLProtocolSession client, int maxConcurrentUpdates) {
+		this.client = client;
+		this.maxConcurrentUpdates = maxConcurrentUpdates;
+		this.requestSlots = new Semaphore(maxConcurrentUpdates);
+
+		final ThreadFactory backingThreadFactory = Executors.defaultThreadFactory();
+		this.executor = Executors.newFixedThreadPool(maxConcurrentUpdates, (Runnable runnable) -> {
+			Thread thread = backingThreadFactory.newThread(runnable);
+			thread.setName(String.format("rdf4j-SPARQLConnection-update-%d", threadCount.getAndIncrement()));
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	int getMaxConcurrentUpdates() {
+		return maxConcurrentUpdates;
+	}
+
+	/**
+	 * Sends the update once a request slot is available.
+	 *
+	 * @param update    the SPARQL update.
+	 * @param inserting <var>true</var> if the update only inserts data, <var>false</var> if it only removes data.
+	 * @throws RepositoryException if a previous update failed, or the current thread was interrupted.
+	 */
+	void submit(String update, boolean inserting) throws RepositoryException {
+		if (this.inserting != inserting) {
+			awaitCompletion();
+			this.inserting = inserting;
+		}
+		checkFailure();
+
+		try {
+			requestSlots.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RepositoryException(e);
+		}
+
+		try {
+			executor.execute(() -> {
+				try {
+					new SPARQLUpdate(client, null, update).execute();
+					completedUpdates.incrementAndGet();
+				} catch (Exception e) {
+					failure.compareAndSet(null, e);
+				} finally {
+					requestSlots.release();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			requestSlots.release();
+			throw new RepositoryException(e);
+		}
+	}
+
+	/**
+	 * Waits until all submitted updates have been sent.
+	 *
+	 * @throws RepositoryException if an update failed, or the current thread was interrupted.
+	 */
+	void awaitCompletion() throws RepositoryException {
+		try {
+			requestSlots.acquire(maxConcurrentUpdates);
+			requestSlots.release(maxConcurrentUpdates);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RepositoryException(e);
+		}
+		checkFailure();
+	}
+
+	/**
+	 * Waits until all submitted updates have been sent, and prepares for the next transaction.
+	 *
+	 * @return the number of updates that have been applied by the endpoint since the last reset.
+	 */
+	int reset() {
+		requestSlots.acquireUninterruptibly(maxConcurrentUpdates);
+		requestSlots.release(maxConcurrentUpdates);
+		failure.set(null);
+		inserting = true;
+		return completedUpdates.getAndSet(0);
+	}
+
+	private void checkFailure() throws RepositoryException {
+		Exception e = failure.get();
+		if (e != null) {
+			throw new RepositoryException("error executing transaction", e);
+		}
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+}
@@ -75,6 +75,8 @@ import org.eclipse.rdf4j.rio.RDFHandler;
 import org.eclipse.rdf4j.rio.RDFHandlerException;
 import org.eclipse.rdf4j.rio.RDFParseException;
 import org.eclipse.rdf4j.rio.helpers.StatementCollector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Provides a {@link RepositoryConnection} interface to any SPARQL endpoint.
@@ -97,6 +99,8 @@ public class SPARQLConnection extends AbstractRepositoryConnection implements Ht
 
 	private static final int DEFAULT_MAX_PENDING_SIZE = 1000000;
 
+	private static final Logger logger = LoggerFactory.getLogger(SPARQLConnection.class);
+
 	private final SPARQLProtocolSession client;
 
 	private final ModelFactory modelFactory = new DynamicModelFactory();
@@ -113,6 +117,14 @@ public class SPARQLConnection extends AbstractRepositoryConnection implements Ht
 	private final boolean quadMode;
 	private boolean silentClear;
 
+	private int updateBatchSize;
+	private int maxConcurrentUpdates = 1;
+
+	/**
+	 * Sends the updates of a transaction while it is in progress, if streaming updates are enabled.
+	 */
+	private PipelinedUpdateExecutor updateExecutor;
+
 	public SPARQLConnection(SPARQLRepository repository, SPARQLProtocolSession client) {
 		this(repository, client, false); // in triple mode by default
 	}
@@ -185,6 +197,34 @@ public class SPARQLConnection extends AbstractRepositoryConnection implements Ht
 		setSilentClear(flag);
 	}
 
+	/**
+	 * Configure the connection to stream the changes of a transaction to the endpoint while the transaction is in
+	 * progress, instead of sending a single update request when the transaction is committed.
+	 * <p>
+	 * By default, all changes of a transaction are accumulated in memory and sent as a single SPARQL update on commit.
+	 * For large transactions this can exceed both the memory of the client and the request size limits of the endpoint.
+	 * In streaming mode, added and removed statements are sent as <code>INSERT DATA</code> and <code>DELETE DATA</code>
+	 * updates of at most <var>updateBatchSize</var> statements each, with at most <var>maxConcurrentUpdates</var>
+	 * requests in progress at the same time. Changes are applied by the endpoint in the order in which they were made.
+	 * <p>
+	 * The SPARQL protocol has no notion of transactions, so a streamed transaction is <strong>not</strong> atomic: the
+	 * endpoint applies each update as soon as it is received, and updates that have been sent can not be rolled back.
+	 * Blank nodes are not shared between updates, so statements that share a blank node should be added in the same
+	 * batch. The setting takes effect at the start of the next transaction.
+	 *
+	 * @param updateBatchSize      the maximum number of statements in each update, or 0 to disable streaming.
+	 * @param maxConcurrentUpdates the maximum number of update requests in progress at the same time.
+	 */
+	public void setUpdateStreaming(int updateBatchSize, int maxConcurrentUpdates) {
+		if (maxConcurrentUpdates < 1) {
+			throw new IllegalArgumentException("maxConcurrentUpdates must be positive");
+		}
+		synchronized (transactionLock) {
+			this.updateBatchSize = Math.max(updateBatchSize, 0);
+			this.maxConcurrentUpdates = maxConcurrentUpdates;
+		}
+	}
+
 	@Override
 	public void setParserConfig(ParserConfig parserConfig) {
 		client.setParserConfig(parserConfig);
@@ -206,7 +246,16 @@ public class SPARQLConnection extends AbstractRepositoryConnection implements Ht
 		try {
 			super.close();
 		} finally {
-			client.close();
+			try {
+				synchronized (transactionLock) {
+					if (updateExecutor != null) {
+						updateExecutor.close();
+						updateExecutor = null;
+					}
+				}
+			} finally {
+				client.close();
+			}
 		}
 	}
 
@@ -503,6 +552,9 @@ public class SPARQLConnection extends AbstractRepositoryConnection implements Ht
 				synchronized (transactionLock) {
 					flushPendingAdds();
 					flushPendingRemoves();
+					if (updateExecutor != null) {
+						updateExecutor.awaitCompletion();
+					}
 					// treat commit as a no-op if transaction string is empty
 					if (sparqlTransaction.length() > 0) {
 						SPARQLUpdate transaction = new SPARQLUpdate(client, null, sparqlTransaction.toString());
@@ -529,6 +581,14 @@ public class SPARQLConnection extends AbstractRepositoryConnection implements Ht
 					sparqlTransaction = null;
 					pendingAdds = getModelFactory().createEmptyModel();
 					pendingRemoves = getModelFactory().createEmptyModel();
+					if (updateExecutor != null) {
+						int appliedUpdates = updateExecutor.reset();
+						if (appliedUpdates > 0) {
+							logger.warn(
+									"{} streamed updates have already been applied by {} and can not be rolled back",
+									appliedUpdates, client.getUpdateURL());
+						}
+					}
 				}
 			} else {
 				throw new RepositoryException("no transaction active.");
@@ -544,6 +604,7 @@ public class SPARQLConnection extends AbstractRepositoryConnection implements Ht
 					sparqlTransaction = new StringBuilder();
 					this.pendingAdds = getModelFactory().createEmptyModel();
 					this.pendingRemoves = getModelFactory().createEmptyModel();
+					prepareUpdateExecutor();
 				}
 			} else {
 				throw new RepositoryException("active transaction already exists");
@@ -700,17 +761,18 @@ public class SPARQLConnection extends AbstractRepositoryConnection implements Ht
 			clearMode = "CLEAR SILENT";
 		}
 
+		// pending changes have been made before the clear operation
+		flushPendingAdds();
+		flushPendingRemoves();
+
 		if (contexts.length == 0) {
-			sparqlTransaction.append(clearMode).append(" ALL ");
-			sparqlTransaction.append("; ");
+			appendUpdate(clearMode + " ALL ", false);
 		} else {
 			for (Resource context : contexts) {
 				if (context == null) {
-					sparqlTransaction.append(clearMode).append(" DEFAULT ");
-					sparqlTransaction.append("; ");
+					appendUpdate(clearMode + " DEFAULT ", false);
 				} else if (context instanceof IRI) {
-					sparqlTransaction.append(clearMode).append(" GRAPH <").append(context.stringValue()).append("> ");
-					sparqlTransaction.append("; ");
+					appendUpdate(clearMode + " GRAPH <" + context.stringValue() + "> ", false);
 				} else {
 					throw new RepositoryException("SPARQL does not support named graphs identified by blank nodes.");
 				}
@@ -925,7 +987,7 @@ public class SPARQLConnection extends AbstractRepositoryConnection implements Ht
 	protected void addWithoutCommit(Statement st, Resource... contexts)
 			throws RepositoryException {
 		flushPendingRemoves();
-		if (pendingAdds.size() >= maxPendingSize) {
+		if (pendingAdds.size() >= getMaxPendingSize()) {
 			flushPendingAdds();
 		}
 		if (contexts.length == 0) {
@@ -939,19 +1001,51 @@ public class SPARQLConnection extends AbstractRepositoryConnection implements Ht
 	protected void addWithoutCommit(Resource subject, IRI predicate, Value object, Resource... contexts)
 			throws RepositoryException {
 		flushPendingRemoves();
-		if (pendingAdds.size() >= maxPendingSize) {
+		if (pendingAdds.size() >= getMaxPendingSize()) {
 			flushPendingAdds();
 		}
 		pendingAdds.add(subject, predicate, object, contexts);
 	}
 
+	private int getMaxPendingSize() {
+		return updateExecutor != null ? updateBatchSize : maxPendingSize;
+	}
+
+	/**
+	 * Adds the update to the transaction, or sends it right away if streaming updates are enabled.
+	 *
+	 * @param sparqlCommand the update.
+	 * @param inserting     <var>true</var> if the update only inserts data, <var>false</var> if it only removes data.
+	 */
+	private void appendUpdate(String sparqlCommand, boolean inserting) {
+		if (updateExecutor != null) {
+			updateExecutor.submit(sparqlCommand, inserting);
+		} else {
+			sparqlTransaction.append(sparqlCommand);
+			sparqlTransaction.append("; ");
+		}
+	}
+
+	private void prepareUpdateExecutor() {
+		if (updateExecutor != null) {
+			updateExecutor.reset();
+			if (updateBatchSize > 0 && updateExecutor.getMaxConcurrentUpdates() == maxConcurrentUpdates) {
+				return;
+			}
+			updateExecutor.close();
+			updateExecutor = null;
+		}
+		if (updateBatchSize > 0) {
+			updateExecutor = new PipelinedUpdateExecutor(client, maxConcurrentUpdates);
+		}
+	}
+
 	private void flushPendingRemoves() {
 		if (!pendingRemoves.isEmpty()) {
 			for (Resource context : pendingRemoves.contexts()) {
 				String sparqlCommand = createDeleteDataCommand(pendingRemoves.getStatements(null, null, null, context),
 						context);
-				sparqlTransaction.append(sparqlCommand);
-				sparqlTransaction.append("; ");
+				appendUpdate(sparqlCommand, false);
 			}
 			pendingRemoves = getModelFactory().createEmptyModel();
 		}
@@ -962,8 +1056,7 @@ public class SPARQLConnection extends AbstractRepositoryConnection implements Ht
 			for (Resource context : pendingAdds.contexts()) {
 				String sparqlCommand = createInsertDataCommand(pendingAdds.getStatements(null, null, null, context),
 						context);
-				sparqlTransaction.append(sparqlCommand);
-				sparqlTransaction.append("; ");
+				appendUpdate(sparqlCommand, true);
 			}
 			pendingAdds = getModelFactory().createEmptyModel();
 		}
@@ -972,7 +1065,7 @@ public class SPARQLConnection extends AbstractRepositoryConnection implements Ht
 	@Override
 	protected void removeWithoutCommit(Statement st, Resource... contexts) throws RepositoryException {
 		flushPendingAdds();
-		if (pendingRemoves.size() >= maxPendingSize) {
+		if (pendingRemoves.size() >= getMaxPendingSize()) {
 			flushPendingRemoves();
 		}
 
@@ -987,7 +1080,7 @@ public class SPARQLConnection extends AbstractRepositoryConnection implements Ht
 	protected void removeWithoutCommit(Resource subject, IRI predicate, Value object, Resource... contexts)
 			throws RepositoryException {
 		flushPendingAdds();
-		if (pendingRemoves.size() >= maxPendingSize) {
+		if (pendingRemoves.size() >= getMaxPendingSize()) {
 			flushPendingRemoves();
 		}
 
@@ -996,8 +1089,7 @@ public class SPARQLConnection extends AbstractRepositoryConnection implements Ht
 		} else {
 			flushPendingRemoves();
 			String sparqlCommand = createDeletePatternCommand(subject, predicate, object, contexts);
-			sparqlTransaction.append(sparqlCommand);
-			sparqlTransaction.append("; ");
+			appendUpdate(sparqlCommand, false);
 		}
 	}
 
@@ -17,6 +17,7 @@ import java.util.Map;
 import org.apache.http.client.HttpClient;
 import org.eclipse.rdf4j.http.client.HttpClientDependent;
 import org.eclipse.rdf4j.http.client.HttpClientSessionManager;
+import org.eclipse.rdf4j.http.client.HttpClientTransport;
 import org.eclipse.rdf4j.http.client.SPARQLProtocolSession;
 import org.eclipse.rdf4j.http.client.SessionManagerDependent;
 import org.eclipse.rdf4j.http.client.SharedHttpClientSessionManager;
@@ -49,6 +50,8 @@ public class SPARQLRepository extends AbstractRepository implements HttpClientDe
 	 */
 	private volatile SharedHttpClientSessionManager dependentClient;
 
+	private volatile HttpClientTransport httpClientTransport;
+
 	private String username;
 
 	private String password;
@@ -61,6 +64,10 @@ public class SPARQLRepository extends AbstractRepository implements HttpClientDe
 
 	private Boolean passThroughEnabled;
 
+	private int updateBatchSize;
+
+	private int maxConcurrentUpdates = 1;
+
 	/**
 	 * Create a new SPARQLRepository using the supplied endpoint URL for queries and updates.
 	 *
@@ -86,6 +93,26 @@ public class SPARQLRepository extends AbstractRepository implements HttpClientDe
 		this.updateEndpointUrl = updateEndpointUrl;
 	}
 
+	/**
+	 * Set the {@link HttpClientTransport} of the HTTP client that this repository creates when no
+	 * {@link HttpClientSessionManager} or {@link HttpClient} has been supplied. Must be called before the repository is
+	 * used.
+	 *
+	 * @param httpClientTransport the transport, or <var>null</var> to use the
+	 *                            {@link SharedHttpClientSessionManager#TRANSPORT_PROPERTY default}.
+	 */
+	public void setHttpClientTransport(HttpClientTransport httpClientTransport) {
+		this.httpClientTransport = httpClientTransport;
+	}
+
+	/**
+	 * @return the {@link HttpClientTransport} of the HTTP client that this repository creates, or <var>null</var> if
+	 *         the default is used.
+	 */
+	public HttpClientTransport getHttpClientTransport() {
+		return httpClientTransport;
+	}
+
 	@Override
 	public HttpClientSessionManager getHttpClientSessionManager() {
 		HttpClientSessionManager result = client;
@@ -93,7 +120,11 @@ public class SPARQLRepository extends AbstractRepository implements HttpClientDe
 			synchronized (this) {
 				result = client;
 				if (result == null) {
-					result = client = dependentClient = new SharedHttpClientSessionManager();
+					SharedHttpClientSessionManager manager = new SharedHttpClientSessionManager();
+					if (httpClientTransport != null) {
+						manager.setTransport(httpClientTransport);
+					}
+					result = client = dependentClient = manager;
 				}
 			}
 		}
@@ -165,7 +196,9 @@ public class SPARQLRepository extends AbstractRepository implements HttpClientDe
 		if (!isInitialized()) {
 			init();
 		}
-		return new SPARQLConnection(this, createSPARQLProtocolSession(), quadMode);
+		SPARQLConnection connection = new SPARQLConnection(this, createSPARQLProtocolSession(), quadMode);
+		connection.setUpdateStreaming(updateBatchSize, maxConcurrentUpdates);
+		return connection;
 	}
 
 	@Override
@@ -282,4 +315,41 @@ public class SPARQLRepository extends AbstractRepository implements HttpClientDe
 	public void setPassThroughEnabled(Boolean passThroughEnabled) {
 		this.passThroughEnabled = passThroughEnabled;
 	}
+
+	/**
+	 * Get the maximum number of statements in each streamed update.
+	 *
+	 * @return the batch size, or 0 if streaming updates are disabled.
+	 * @see SPARQLConnection#setUpdateStreaming(int, int)
+	 */
+	public int getUpdateBatchSize() {
+		return updateBatchSize;
+	}
+
+	/**
+	 * Get the maximum number of streamed update requests in progress at the same time.
+	 *
+	 * @return the maximum number of concurrent update requests.
+	 * @see SPARQLConnection#setUpdateStreaming(int, int)
+	 */
+	public int getMaxConcurrentUpdates() {
+		return maxConcurrentUpdates;
+	}
+
+	/**
+	 * Enable streaming updates for any newly created {@link SPARQLConnection}s: the changes of a transaction are sent
+	 * to the endpoint in bounded batches while the transaction is in progress, instead of in a single request on
+	 * commit. Streamed transactions are not atomic.
+	 *
+	 * @param updateBatchSize      the maximum number of statements in each update, or 0 to disable streaming.
+	 * @param maxConcurrentUpdates the maximum number of update requests in progress at the same time.
+	 * @see SPARQLConnection#setUpdateStreaming(int, int)
+	 */
+	public void setUpdateStreaming(int updateBatchSize, int maxConcurrentUpdates) {
+		if (maxConcurrentUpdates < 1) {
+			throw new IllegalArgumentException("maxConcurrentUpdates must be positive");
+		}
+		this.updateBatchSize = Math.max(updateBatchSize, 0);
+		this.maxConcurrentUpdates = maxConcurrentUpdates;
+	}
 }
@@ -10,7 +10,11 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.repository.sparql.config;
 
+import java.util.Locale;
+
+import org.eclipse.rdf4j.http.client.HttpClientTransport;
 import org.eclipse.rdf4j.http.client.SPARQLProtocolSession;
+import org.eclipse.rdf4j.http.client.SharedHttpClientSessionManager;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
@@ -19,6 +23,7 @@ import org.eclipse.rdf4j.model.impl.BooleanLiteral;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.util.Configurations;
 import org.eclipse.rdf4j.model.util.ModelException;
+import org.eclipse.rdf4j.model.util.Models;
 import org.eclipse.rdf4j.model.vocabulary.CONFIG;
 import org.eclipse.rdf4j.repository.config.AbstractRepositoryImplConfig;
 import org.eclipse.rdf4j.repository.config.RepositoryConfigException;
@@ -65,6 +70,8 @@ public class SPARQLRepositoryConfig extends AbstractRepositoryImplConfig {
 
 	private Boolean passThroughEnabled;
 
+	private HttpClientTransport transport;
+
 	public SPARQLRepositoryConfig() {
 		super(SPARQLRepositoryFactory.REPOSITORY_TYPE);
 	}
@@ -121,6 +128,9 @@ public class SPARQLRepositoryConfig extends AbstractRepositoryImplConfig {
 		if (getPassThroughEnabled() != null) {
 			m.add(implNode, CONFIG.Sparql.passThroughEnabled, BooleanLiteral.valueOf(getPassThroughEnabled()));
 		}
+		if (getTransport() != null) {
+			m.add(implNode, CONFIG.Sparql.transport, vf.createLiteral(getTransport().name().toLowerCase(Locale.ROOT)));
+		}
 
 		return implNode;
 	}
@@ -139,6 +149,10 @@ public class SPARQLRepositoryConfig extends AbstractRepositoryImplConfig {
 		if (getPassThroughEnabled() != null) {
 			m.add(implNode, PASS_THROUGH_ENABLED, BooleanLiteral.valueOf(getPassThroughEnabled()));
 		}
+		if (getTransport() != null) {
+			m.setNamespace(CONFIG.NS);
+			m.add(implNode, CONFIG.Sparql.transport, vf.createLiteral(getTransport().name().toLowerCase(Locale.ROOT)));
+		}
 
 		return implNode;
 	}
@@ -154,7 +168,9 @@ public class SPARQLRepositoryConfig extends AbstractRepositoryImplConfig {
 					.ifPresent(iri -> setUpdateEndpointUrl(iri.stringValue()));
 			Configurations.getLiteralValue(m, implNode, CONFIG.Sparql.passThroughEnabled, PASS_THROUGH_ENABLED)
 					.ifPresent(lit -> setPassThroughEnabled(lit.booleanValue()));
-		} catch (ModelException e) {
+			Models.objectLiteral(m.getStatements(implNode, CONFIG.Sparql.transport, null))
+					.ifPresent(lit -> setTransport(HttpClientTransport.of(lit.getLabel())));
+		} catch (ModelException | IllegalArgumentException e) {
 			throw new RepositoryConfigException(e.getMessage(), e);
 		}
 	}
@@ -172,4 +188,19 @@ public class SPARQLRepositoryConfig extends AbstractRepositoryImplConfig {
 	public void setPassThroughEnabled(Boolean passThroughEnabled) {
 		this.passThroughEnabled = passThroughEnabled;
 	}
+
+	/**
+	 * @return the HTTP transport, or <var>null</var> if the default is used.
+	 */
+	public HttpClientTransport getTransport() {
+		return transport;
+	}
+
+	/**
+	 * @param transport the HTTP transport to use, or <var>null</var> to use the default.
+	 * @see SharedHttpClientSessionManager#TRANSPORT_PROPERTY
+	 */
+	public void setTransport(HttpClientTransport transport) {
+		this.transport = transport;
+	}
 }
@@ -48,6 +48,7 @@ public class SPARQLRepositoryFactory implements RepositoryFactory {
 			if (httpConfig.getPassThroughEnabled() != null) {
 				result.setPassThroughEnabled(httpConfig.getPassThroughEnabled());
 			}
+			result.setHttpClientTransport(httpConfig.getTransport());
 		} else {
 			throw new RepositoryConfigException("Invalid configuration class: " + config.getClass());
 		}
@@ -11,6 +11,7 @@
 package org.eclipse.rdf4j.repository.sparql;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.rdf4j.model.util.Values.iri;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -19,13 +20,16 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.ref.WeakReference;
+import java.util.List;
 
 import org.eclipse.rdf4j.http.client.SPARQLProtocolSession;
 import org.eclipse.rdf4j.model.IRI;
@@ -41,6 +45,7 @@ import org.eclipse.rdf4j.query.impl.TupleQueryResultBuilder;
 import org.eclipse.rdf4j.query.parser.ParsedQuery;
 import org.eclipse.rdf4j.query.parser.sparql.SPARQLParser;
 import org.eclipse.rdf4j.query.parser.sparql.SPARQLParserFactory;
+import org.eclipse.rdf4j.repository.RepositoryException;
 import org.eclipse.rdf4j.rio.ParserConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -231,4 +236,65 @@ public class SPARQLConnectionTest {
 		String sparqlUpdate = sparqlUpdateCaptor.getValue();
 		assertThat(sparqlUpdate).containsOnlyOnce("CLEAR SILENT GRAPH <http://example.org/>");
 	}
+
+	@Test
+	public void testStreamingUpdatesAreBatched() throws Exception {
+		ArgumentCaptor<String> sparqlUpdateCaptor = ArgumentCaptor.forClass(String.class);
+		subject.setUpdateStreaming(2, 2);
+
+		subject.begin();
+		for (int i = 0; i < 5; i++) {
+			subject.add(vf.createIRI("urn:s" + i), RDF.TYPE, RDFS.CLASS);
+		}
+		// two full batches are sent while the transaction is in progress
+		verify(client, timeout(10_000).times(2)).sendUpdate(any(), any(), any(), any(), anyBoolean(), anyInt(),
+				any());
+		subject.commit();
+
+		verify(client, times(3)).sendUpdate(any(), sparqlUpdateCaptor.capture(), any(), any(), anyBoolean(), anyInt(),
+				any());
+		assertThat(sparqlUpdateCaptor.getAllValues()).allSatisfy(update -> {
+			assertThat(update).containsOnlyOnce("INSERT DATA");
+			assertThat(update.split("> \\.")).hasSizeLessThanOrEqualTo(3);
+		});
+		assertThat(String.join("", sparqlUpdateCaptor.getAllValues())).contains("<urn:s0>", "<urn:s4>");
+	}
+
+	@Test
+	public void testStreamingUpdatesKeepOrder() throws Exception {
+		ArgumentCaptor<String> sparqlUpdateCaptor = ArgumentCaptor.forClass(String.class);
+		subject.setUpdateStreaming(1, 4);
+
+		subject.begin();
+		subject.add(FOAF.PERSON, RDF.TYPE, RDFS.CLASS);
+		subject.add(FOAF.AGENT, RDF.TYPE, RDFS.CLASS);
+		subject.remove(FOAF.PERSON, RDF.TYPE, RDFS.CLASS);
+		subject.clear(iri("urn:g1"));
+		subject.add(FOAF.PERSON, RDF.TYPE, RDFS.CLASS);
+		subject.commit();
+
+		verify(client, times(5)).sendUpdate(any(), sparqlUpdateCaptor.capture(), any(), any(), anyBoolean(), anyInt(),
+				any());
+		List<String> updates = sparqlUpdateCaptor.getAllValues();
+		assertThat(updates.subList(0, 2)).allSatisfy(update -> assertThat(update).contains("INSERT DATA"));
+		assertThat(updates.subList(2, 4)).anySatisfy(update -> assertThat(update).contains("DELETE DATA"))
+				.anySatisfy(update -> assertThat(update).contains("CLEAR GRAPH <urn:g1>"));
+		assertThat(updates.get(4)).contains("INSERT DATA").contains("<" + FOAF.PERSON + ">");
+	}
+
+	@Test
+	public void testStreamingUpdateFailure() throws Exception {
+		doThrow(new RepositoryException("endpoint failure")).when(client)
+				.sendUpdate(any(), any(), any(), any(), anyBoolean(), anyInt(), any());
+		subject.setUpdateStreaming(1, 1);
+
+		subject.begin();
+		subject.add(FOAF.PERSON, RDF.TYPE, RDFS.CLASS);
+		subject.add(FOAF.AGENT, RDF.TYPE, RDFS.CLASS);
+		assertThatThrownBy(() -> subject.commit()).isInstanceOf(RepositoryException.class);
+		assertThat(subject.isActive()).isTrue();
+
+		subject.rollback();
+		assertThat(subject.isActive()).isFalse();
+	}
 }
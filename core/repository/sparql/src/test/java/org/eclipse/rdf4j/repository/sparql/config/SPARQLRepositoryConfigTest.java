@@ -11,14 +11,19 @@
 package org.eclipse.rdf4j.repository.sparql.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.rdf4j.model.util.Values.bnode;
 import static org.eclipse.rdf4j.model.util.Values.iri;
 import static org.eclipse.rdf4j.model.util.Values.literal;
 
+import org.eclipse.rdf4j.http.client.HttpClientTransport;
 import org.eclipse.rdf4j.model.BNode;
 import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.impl.BooleanLiteral;
 import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.vocabulary.CONFIG;
+import org.eclipse.rdf4j.repository.config.RepositoryConfigException;
 import org.eclipse.rdf4j.repository.config.RepositoryConfigSchema;
 import org.junit.jupiter.api.Test;
 
@@ -81,4 +86,24 @@ public class SPARQLRepositoryConfigTest {
 		config.parse(m, implNode);
 		assertThat(config.getPassThroughEnabled()).isFalse();
 	}
+
+	@Test
+	public void testTransport() {
+		SPARQLRepositoryConfig config = new SPARQLRepositoryConfig(QUERY_ENDPOINT_URL);
+		assertThat(config.getTransport()).isNull();
+		config.setTransport(HttpClientTransport.JDK);
+
+		Model m = new LinkedHashModel();
+		Resource implNode = config.export(m);
+		assertThat(m.contains(implNode, CONFIG.Sparql.transport, literal("jdk"))).isTrue();
+
+		SPARQLRepositoryConfig parsed = new SPARQLRepositoryConfig();
+		parsed.parse(m, implNode);
+		assertThat(parsed.getTransport()).isEqualTo(HttpClientTransport.JDK);
+
+		m.remove(implNode, CONFIG.Sparql.transport, null);
+		m.add(implNode, CONFIG.Sparql.transport, literal("carrier-pigeon"));
+		assertThatThrownBy(() -> new SPARQLRepositoryConfig().parse(m, implNode))
+				.isInstanceOf(RepositoryConfigException.class);
+	}
 }
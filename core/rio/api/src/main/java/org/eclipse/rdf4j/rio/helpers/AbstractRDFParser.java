@@ -32,6 +32,7 @@ import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.base.CoreDatatype;
+import org.eclipse.rdf4j.model.impl.InterningValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.rio.ParseErrorListener;
 import org.eclipse.rdf4j.rio.ParseLocationListener;
@@ -80,6 +81,14 @@ public abstract class AbstractRDFParser implements RDFParser {
 
 	private ValueFactory originalValueFactory;
 
+	/**
+	 * The interning wrapper around {@link #originalValueFactory}, retained across parse runs while
+	 * {@link BasicParserSettings#INTERN_VALUES} is enabled.
+	 */
+	private InterningValueFactory interningValueFactory;
+
+	private int interningCapacity;
+
 	/**
 	 * The base URI for resolving relative URIs.
 	 */
@@ -291,10 +300,22 @@ public abstract class AbstractRDFParser implements RDFParser {
 		nextBNodePrefix = createUniqueBNodePrefix();
 		namespaceTable.clear();
 		// Don't use the setter setValueFactory() as it will update originalValueFactory too
+		ValueFactory baseValueFactory = originalValueFactory;
+		if (getParserConfig().get(BasicParserSettings.INTERN_VALUES)) {
+			int capacity = getParserConfig().get(BasicParserSettings.INTERN_VALUES_CAPACITY);
+			if (interningValueFactory == null || interningValueFactory.getDelegate() != originalValueFactory
+					|| interningCapacity != capacity) {
+				interningValueFactory = new InterningValueFactory(originalValueFactory, capacity);
+				interningCapacity = capacity;
+			}
+			baseValueFactory = interningValueFactory;
+		} else {
+			interningValueFactory = null;
+		}
 		if (getParserConfig().get(BasicParserSettings.PROCESS_ENCODED_RDF_STAR)) {
-			valueFactory = new RDFStarDecodingValueFactory(originalValueFactory);
+			valueFactory = new RDFStarDecodingValueFactory(baseValueFactory);
 		} else {
-			valueFactory = originalValueFactory;
+			valueFactory = baseValueFactory;
 		}
 
 		initializeNamespaceTableFromConfiguration();
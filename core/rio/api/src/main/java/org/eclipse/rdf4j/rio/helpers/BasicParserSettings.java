@@ -18,6 +18,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import org.eclipse.rdf4j.model.Namespace;
+import org.eclipse.rdf4j.model.impl.InterningValueFactory;
 import org.eclipse.rdf4j.model.util.Namespaces;
 import org.eclipse.rdf4j.rio.DatatypeHandler;
 import org.eclipse.rdf4j.rio.DatatypeHandlerRegistry;
@@ -200,6 +201,34 @@ public class BasicParserSettings {
 	public static final LongRioSetting LARGE_LITERALS_LIMIT = new LongRioSetting(
 			"org.eclipse.rdf4j.rio.large_literals_limit", "Size limit for large literals", 1048576L);
 
+	/**
+	 * Boolean setting for parser to determine whether repeated IRIs, datatype IRIs and language tags should be
+	 * interned, so that all occurrences of the same IRI in the parsed data share a single object. This reduces the
+	 * memory footprint of data that is loaded into an in-memory model, at the cost of a table lookup per IRI.
+	 * <p>
+	 * The interning table is bounded by {@link #INTERN_VALUES_CAPACITY} and is shared across subsequent parse runs of
+	 * the same parser instance.
+	 * <p>
+	 * Defaults to false.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.rio.intern_values}.
+	 *
+	 * @see org.eclipse.rdf4j.model.impl.InterningValueFactory
+	 */
+	public static final BooleanRioSetting INTERN_VALUES = new BooleanRioSetting(
+			"org.eclipse.rdf4j.rio.intern_values", "Intern repeated IRIs while parsing", Boolean.FALSE);
+
+	/**
+	 * Setting used to specify the maximum number of IRIs that are retained when {@link #INTERN_VALUES} is enabled.
+	 * <p>
+	 * Defaults to 100000.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.rio.intern_values_capacity}.
+	 */
+	public static final IntegerRioSetting INTERN_VALUES_CAPACITY = new IntegerRioSetting(
+			"org.eclipse.rdf4j.rio.intern_values_capacity", "Maximum number of interned IRIs",
+			InterningValueFactory.DEFAULT_CAPACITY);
+
 	/**
 	 * <p>
 	 * Setting to provide a collection of {@link Namespace} objects which will be used when parsing RDF as the basis for
@@ -0,0 +1,443 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.helpers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.RDFWriter;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.RioSetting;
+import org.eclipse.rdf4j.rio.WriterConfig;
+
+/**
+ * An {@link RDFWriter} that moves serialization off the thread that produces the statements, so that iterating over a
+ * store and writing the output can proceed in parallel. Events are collected in batches and handed over through a
+ * bounded buffer, which limits memory use and blocks the producer when the serializer falls behind.
+ * <p>
+ * For line-based formats ({@link RDFFormat#NTRIPLES} and {@link RDFFormat#NQUADS}), batches are encoded by several
+ * threads at the same time and written out in their original order. All other formats are written by a single
+ * background thread using a regular writer for the format, which preserves the order of events.
+ * <p>
+ * This writer must be used from a single producer thread. {@link #startRDF()} and {@link #endRDF()} are called on that
+ * thread, and {@link #endRDF()} blocks until all events have been written. Errors that occur during serialization are
+ * rethrown on the producer thread as {@link RDFHandlerException}s. A producer that stops without calling
+ * {@link #endRDF()} leaves the background threads idle until it terminates, so {@link #endRDF()} should be called once
+ * writing has started, also when the producer fails.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+@Experimental
+public class PipelinedRDFWriter implements RDFWriter {
+
+	/**
+	 * The default number of events that are handed to a serializer at once.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1024;
+
+	/**
+	 * The default number of batches that may be waiting to be serialized.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 64;
+
+	private static final AtomicInteger threadCounter = new AtomicInteger();
+
+	private static final long POLL_INTERVAL = 100;
+
+	private final RDFFormat format;
+
+	private final OutputStream out;
+
+	private final int threads;
+
+	private final int batchSize;
+
+	private final int bufferSize;
+
+	/**
+	 * The writer used by the single background serializer. <var>null</var> when batches are encoded in parallel.
+	 */
+	private final RDFWriter delegate;
+
+	private WriterConfig writerConfig;
+
+	private List<Object> batch;
+
+	/* single serializer */
+
+	private BlockingQueue<List<Object>> queue;
+
+	private Thread serializer;
+
+	private Thread producer;
+
+	private volatile Throwable failure;
+
+	/* parallel encoding */
+
+	private ExecutorService encoders;
+
+	private ArrayDeque<Future<byte[]>> pending;
+
+	/**
+	 * Creates a writer that serializes the events with the supplied writer on a single background thread.
+	 *
+	 * @param delegate the writer that produces the output.
+	 */
+	public PipelinedRDFWriter(RDFWriter delegate) {
+		this(delegate, DEFAULT_BATCH_SIZE, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a writer that serializes the events with the supplied writer on a single background thread.
+	 *
+	 * @param delegate   the writer that produces the output.
+	 * @param batchSize  the number of events that are handed to the serializer at once.
+	 * @param bufferSize the maximum number of batches that may be waiting to be serialized.
+	 */
+	public PipelinedRDFWriter(RDFWriter delegate, int batchSize, int bufferSize) {
+		this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+		this.format = delegate.getRDFFormat();
+		this.out = null;
+		this.threads = 1;
+		this.batchSize = checkPositive(batchSize, "batchSize");
+		this.bufferSize = checkPositive(bufferSize, "bufferSize");
+	}
+
+	/**
+	 * Creates a writer for the supplied format. Line-based formats are encoded by the given number of threads, other
+	 * formats by a single background thread.
+	 *
+	 * @param format  the format to write.
+	 * @param out     the stream to write to.
+	 * @param threads the number of threads that encode batches of statements in a line-based format.
+	 */
+	public PipelinedRDFWriter(RDFFormat format, OutputStream out, int threads) {
+		this(format, out, threads, DEFAULT_BATCH_SIZE, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a writer for the supplied format. Line-based formats are encoded by the given number of threads, other
+	 * formats by a single background thread.
+	 *
+	 * @param format     the format to write.
+	 * @param out        the stream to write to.
+	 * @param threads    the number of threads that encode batches of statements in a line-based format.
+	 * @param batchSize  the number of events that are handed to a serializer at once.
+	 * @param bufferSize the maximum number of batches that may be waiting to be serialized.
+	 */
+	public PipelinedRDFWriter(RDFFormat format, OutputStream out, int threads, int batchSize, int bufferSize) {
+		this.format = Objects.requireNonNull(format, "format must not be null");
+		this.out = Objects.requireNonNull(out, "out must not be null");
+		this.threads = checkPositive(threads, "threads");
+		this.batchSize = checkPositive(batchSize, "batchSize");
+		this.bufferSize = checkPositive(bufferSize, "bufferSize");
+		if (isParallel()) {
+			this.delegate = null;
+			this.writerConfig = new WriterConfig();
+		} else {
+			this.delegate = Rio.createWriter(format, out);
+		}
+	}
+
+	private static int checkPositive(int value, String name) {
+		if (value < 1) {
+			throw new IllegalArgumentException(name + " must be positive");
+		}
+		return value;
+	}
+
+	private boolean isParallel() {
+		return threads > 1 && (RDFFormat.NTRIPLES.equals(format) || RDFFormat.NQUADS.equals(format));
+	}
+
+	@Override
+	public RDFFormat getRDFFormat() {
+		return format;
+	}
+
+	@Override
+	public RDFWriter setWriterConfig(WriterConfig config) {
+		if (delegate != null) {
+			delegate.setWriterConfig(config);
+		} else {
+			this.writerConfig = config;
+		}
+		return this;
+	}
+
+	@Override
+	public WriterConfig getWriterConfig() {
+		return delegate != null ? delegate.getWriterConfig() : writerConfig;
+	}
+
+	@Override
+	public Collection<RioSetting<?>> getSupportedSettings() {
+		if (delegate != null) {
+			return delegate.getSupportedSettings();
+		}
+		return Rio.createWriter(format, OutputStream.nullOutputStream()).getSupportedSettings();
+	}
+
+	@Override
+	public <T> RDFWriter set(RioSetting<T> setting, T value) {
+		getWriterConfig().set(setting, value);
+		return this;
+	}
+
+	@Override
+	public void startRDF() throws RDFHandlerException {
+		if (batch != null) {
+			throw new RDFHandlerException("Document writing has already started");
+		}
+		batch = new ArrayList<>(batchSize);
+		failure = null;
+
+		if (isParallel()) {
+			pending = new ArrayDeque<>(bufferSize);
+			encoders = Executors.newFixedThreadPool(threads, runnable -> {
+				Thread thread = new Thread(runnable, "rdf4j-pipelined-writer-" + threadCounter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		} else {
+			delegate.startRDF();
+			producer = Thread.currentThread();
+			queue = new ArrayBlockingQueue<>(bufferSize);
+			serializer = new Thread(this::serialize, "rdf4j-pipelined-writer-" + threadCounter.incrementAndGet());
+			serializer.setDaemon(true);
+			serializer.start();
+		}
+	}
+
+	@Override
+	public void endRDF() throws RDFHandlerException {
+		if (batch == null) {
+			throw new RDFHandlerException("Document writing has not yet started");
+		}
+		try {
+			if (isParallel()) {
+				if (!batch.isEmpty()) {
+					submit(batch);
+				}
+				while (!pending.isEmpty()) {
+					writeBlock(pending.removeFirst());
+				}
+				out.flush();
+			} else {
+				if (!batch.isEmpty()) {
+					enqueue(batch);
+				}
+				enqueue(List.of());
+				serializer.join();
+				checkFailure();
+				delegate.endRDF();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RDFHandlerException(e);
+		} catch (IOException e) {
+			throw new RDFHandlerException(e);
+		} finally {
+			batch = null;
+			if (encoders != null) {
+				encoders.shutdownNow();
+				encoders = null;
+			}
+			if (serializer != null && serializer.isAlive()) {
+				serializer.interrupt();
+			}
+			pending = null;
+			queue = null;
+			serializer = null;
+			producer = null;
+		}
+	}
+
+	@Override
+	public void handleNamespace(String prefix, String uri) throws RDFHandlerException {
+		add(new NamespaceEvent(prefix, uri));
+	}
+
+	@Override
+	public void handleStatement(Statement st) throws RDFHandlerException {
+		add(st);
+	}
+
+	@Override
+	public void handleComment(String comment) throws RDFHandlerException {
+		add(new CommentEvent(comment));
+	}
+
+	private void add(Object event) {
+		if (batch == null) {
+			throw new RDFHandlerException("Document writing has not yet started");
+		}
+		batch.add(event);
+		if (batch.size() >= batchSize) {
+			List<Object> full = batch;
+			batch = new ArrayList<>(batchSize);
+			try {
+				if (isParallel()) {
+					submit(full);
+				} else {
+					enqueue(full);
+				}
+			} catch (InterruptedException e) {
+				abort();
+				Thread.currentThread().interrupt();
+				throw new RDFHandlerException(e);
+			} catch (IOException e) {
+				abort();
+				throw new RDFHandlerException(e);
+			} catch (RDFHandlerException e) {
+				abort();
+				throw e;
+			}
+		}
+	}
+
+	private void enqueue(List<Object> events) throws InterruptedException {
+		do {
+			checkFailure();
+		} while (!queue.offer(events, POLL_INTERVAL, TimeUnit.MILLISECONDS));
+	}
+
+	/**
+	 * Releases the background threads after a failure on the producer side.
+	 */
+	private void abort() {
+		batch = null;
+		if (encoders != null) {
+			encoders.shutdownNow();
+			encoders = null;
+		}
+		if (serializer != null) {
+			serializer.interrupt();
+			serializer = null;
+		}
+	}
+
+	private void checkFailure() {
+		Throwable t = failure;
+		if (t instanceof RDFHandlerException) {
+			throw (RDFHandlerException) t;
+		} else if (t != null) {
+			throw new RDFHandlerException(t);
+		}
+	}
+
+	/**
+	 * Runs on the background thread and forwards all events to the delegate until the end of the document, a failure,
+	 * or the termination of the producer thread.
+	 */
+	private void serialize() {
+		BlockingQueue<List<Object>> queue = this.queue;
+		Thread producer = this.producer;
+		try {
+			while (true) {
+				List<Object> events = queue.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+				if (events == null) {
+					if (!producer.isAlive()) {
+						return;
+					}
+				} else if (events.isEmpty()) {
+					return;
+				} else {
+					forward(events, delegate);
+				}
+			}
+		} catch (Throwable t) {
+			failure = t;
+		}
+	}
+
+	private void submit(List<Object> events) throws InterruptedException, IOException {
+		if (pending.size() >= bufferSize) {
+			writeBlock(pending.removeFirst());
+		}
+		pending.addLast(encoders.submit(() -> encode(events)));
+	}
+
+	private byte[] encode(List<Object> events) {
+		ByteArrayOutputStream block = new ByteArrayOutputStream(events.size() * 128);
+		RDFWriter writer = Rio.createWriter(format, block);
+		writer.setWriterConfig(writerConfig);
+		writer.startRDF();
+		forward(events, writer);
+		writer.endRDF();
+		return block.toByteArray();
+	}
+
+	private void writeBlock(Future<byte[]> block) throws InterruptedException, IOException {
+		try {
+			out.write(block.get());
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RDFHandlerException) {
+				throw (RDFHandlerException) cause;
+			}
+			throw new RDFHandlerException(cause);
+		}
+	}
+
+	private static void forward(List<Object> events, RDFWriter writer) {
+		for (Object event : events) {
+			if (event instanceof Statement) {
+				writer.handleStatement((Statement) event);
+			} else if (event instanceof NamespaceEvent) {
+				NamespaceEvent namespace = (NamespaceEvent) event;
+				writer.handleNamespace(namespace.prefix, namespace.uri);
+			} else {
+				writer.handleComment(((CommentEvent) event).comment);
+			}
+		}
+	}
+
+	private static final class NamespaceEvent {
+
+		private final String prefix;
+
+		private final String uri;
+
+		private NamespaceEvent(String prefix, String uri) {
+			this.prefix = prefix;
+			this.uri = uri;
+		}
+	}
+
+	private static final class CommentEvent {
+
+		private final String comment;
+
+		private CommentEvent(String comment) {
+			this.comment = comment;
+		}
+	}
+}
@@ -17,6 +17,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.InputStream;
 import java.io.Reader;
 
+import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.RDFHandlerException;
@@ -53,6 +54,14 @@ public class AbstractRDFParserTest {
 		public Resource getBNode(String id) {
 			return createNode(id);
 		}
+
+		public IRI getIRI(String iri) {
+			return createURI(iri);
+		}
+
+		public void reset() {
+			clear();
+		}
 	}
 
 	@BeforeEach
@@ -89,4 +98,25 @@ public class AbstractRDFParserTest {
 		assertThat(parser.createNode(longNodeId).stringValue())
 				.endsWith("2A372A91878F0980C8F53341D2D8A944");
 	}
+
+	@Test
+	public void testInternValues() {
+		parser.getParserConfig().set(BasicParserSettings.INTERN_VALUES, true);
+		parser.reset();
+
+		IRI first = parser.getIRI("http://example.com/a");
+		assertThat(parser.getIRI("http://example.com/a")).isSameAs(first);
+
+		// the interning table survives subsequent parse runs
+		parser.reset();
+		assertThat(parser.getIRI("http://example.com/a")).isSameAs(first);
+	}
+
+	@Test
+	public void testInternValuesDisabledByDefault() {
+		parser.reset();
+
+		IRI first = parser.getIRI("http://example.com/a");
+		assertThat(parser.getIRI("http://example.com/a")).isEqualTo(first).isNotSameAs(first);
+	}
 }
@@ -16,6 +16,8 @@ import java.io.Reader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -40,10 +42,15 @@ import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonException;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonString;
 import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
 import no.hasmac.jsonld.JsonLd;
 import no.hasmac.jsonld.JsonLdError;
 import no.hasmac.jsonld.JsonLdOptions;
@@ -51,6 +58,7 @@ import no.hasmac.jsonld.document.Document;
 import no.hasmac.jsonld.document.JsonDocument;
 import no.hasmac.jsonld.lang.Keywords;
 import no.hasmac.jsonld.loader.DocumentLoader;
+import no.hasmac.jsonld.loader.DocumentLoaderOptions;
 import no.hasmac.rdf.RdfConsumer;
 import no.hasmac.rdf.RdfValueFactory;
 
@@ -62,6 +70,11 @@ import no.hasmac.rdf.RdfValueFactory;
 public class JSONLDParser extends AbstractRDFParser {
 	private static final Logger logger = LoggerFactory.getLogger(JSONLDParser.class);
 
+	/**
+	 * Namespace used to carry blank node labels through the JSON-LD processor while streaming.
+	 */
+	private static final String BLANK_NODE_NAMESPACE = "urn:x-rdf4j:jsonld-bnode:";
+
 	/**
 	 * Default constructor
 	 */
@@ -93,6 +106,7 @@ public class JSONLDParser extends AbstractRDFParser {
 		result.add(JSONLDSettings.WHITELIST);
 		result.add(JSONLDSettings.DOCUMENT_LOADER);
 		result.add(JSONLDSettings.DOCUMENT_LOADER_CACHE);
+		result.add(JSONLDSettings.STREAMING);
 		result.add(org.eclipse.rdf4j.rio.helpers.JSONLDSettings.SECURE_MODE);
 		result.add(org.eclipse.rdf4j.rio.helpers.JSONLDSettings.WHITELIST);
 		result.add(org.eclipse.rdf4j.rio.helpers.JSONLDSettings.DOCUMENT_LOADER_CACHE);
@@ -131,8 +145,6 @@ public class JSONLDParser extends AbstractRDFParser {
 
 		try {
 
-			Document document = getDocument(in, reader);
-
 			if (getParserConfig().get(BasicParserSettings.FAIL_ON_UNKNOWN_LANGUAGES)) {
 				logger.warn("JSON-LD parser does not support the {} setting",
 						BasicParserSettings.FAIL_ON_UNKNOWN_LANGUAGES);
@@ -187,87 +199,453 @@ public class JSONLDParser extends AbstractRDFParser {
 				opts.setBase(uri);
 			}
 
-			RDFHandler rdfHandler = getRDFHandler();
+			if (getParserConfig().get(JSONLDSettings.STREAMING) && getRDFFormat() == RDFFormat.JSONLD) {
+				parseStreaming(in, reader, opts, baseURI);
+			} else {
+				Document document = getDocument(in, reader);
+				if (rdfHandler != null) {
+					extractPrefixes(document, rdfHandler::handleNamespace);
+				}
+				toRdf(document, opts, baseURI, false);
+			}
+
 			if (rdfHandler != null) {
-				extractPrefixes(document, rdfHandler::handleNamespace);
+				rdfHandler.endRDF();
 			}
 
-			JsonLd.toRdf(document).options(opts).base(baseURI).get(new RdfConsumer<>() {
-				@Override
-				public void handleTriple(Statement statement) {
-					if (rdfHandler != null) {
-						rdfHandler.handleStatement(statement);
-					}
+		} catch (no.hasmac.jsonld.JsonLdError | JsonException e) {
+			throw new RDFParseException("Could not parse JSONLD", e);
+		} catch (RuntimeException e) {
+			if (e.getCause() != null && e.getCause() instanceof RDFParseException) {
+				throw (RDFParseException) e.getCause();
+			}
+			throw e;
+		} catch (URISyntaxException e) {
+			throw new RDFParseException("Base uri is not a valid URI, " + baseURI, e);
+		} finally {
+			clear();
+		}
+	}
+
+	private void toRdf(Document document, JsonLdOptions opts, String baseURI, boolean streamed)
+			throws JsonLdError {
+		JsonLd.toRdf(document).options(opts).base(baseURI).get(new RdfConsumer<>() {
+			@Override
+			public void handleTriple(Statement statement) {
+				if (rdfHandler != null) {
+					rdfHandler.handleStatement(statement);
+				}
+			}
+
+			@Override
+			public void handleQuad(Statement statement) {
+				if (rdfHandler != null) {
+					rdfHandler.handleStatement(statement);
 				}
+			}
+
+		}, new StatementFactory(streamed));
+	}
 
-				@Override
-				public void handleQuad(Statement statement) {
+	/**
+	 * Processes the document one node object at a time if its structure allows it, see
+	 * {@link JSONLDSettings#STREAMING}. Otherwise the (remainder of the) document is read into memory and processed in
+	 * full.
+	 */
+	private void parseStreaming(InputStream in, Reader reader, JsonLdOptions opts, String baseURI)
+			throws JsonLdError {
+		try (JsonParser json = createJsonParser(in, reader)) {
+			if (!json.hasNext()) {
+				throw new RDFParseException("JSON-LD document is empty");
+			}
+			NodeReferences references = new NodeReferences(new ContextLoader(opts));
+			Document expandContext = opts.getExpandContext();
+			if (expandContext != null) {
+				references.addContext(contextOf(expandContext.getJsonContent().orElse(null)));
+			}
+			switch (json.next()) {
+			case START_ARRAY:
+				long chunk = 0;
+				while (json.next() != JsonParser.Event.END_ARRAY) {
+					JsonValue node = json.getValue();
 					if (rdfHandler != null) {
-						rdfHandler.handleStatement(statement);
+						extractPrefixes(node, rdfHandler::handleNamespace);
+					}
+					if (node instanceof JsonStructure) {
+						toRdfStreaming((JsonStructure) node, null, references, opts, baseURI, chunk++);
 					}
 				}
+				break;
+			case START_OBJECT:
+				parseStreamingObject(json, references, opts, baseURI);
+				break;
+			default:
+				throw new RDFParseException("JSON-LD document must be an object or an array");
+			}
+		}
+	}
 
-			}, new RdfValueFactory<Statement, Statement, IRI, Resource, Resource, Literal, Value>() {
-				@Override
-				public Statement createTriple(Resource subject, IRI predicate, Value object) {
-					return JSONLDParser.this.createStatement(subject, predicate, object);
-				}
+	private void parseStreamingObject(JsonParser json, NodeReferences references, JsonLdOptions opts, String baseURI)
+			throws JsonLdError {
+		JsonObjectBuilder head = Json.createObjectBuilder();
+		JsonValue context = null;
 
-				@Override
-				public Statement createQuad(Resource subject, IRI predicate, Value object, Resource graphName) {
-					return JSONLDParser.this.createStatement(subject, predicate, object, graphName);
-				}
+		JsonParser.Event event;
+		while ((event = json.next()) != JsonParser.Event.END_OBJECT) {
+			String key = json.getString();
+			event = json.next();
 
-				@Override
-				public Statement createQuad(Statement statement, Resource graphName) {
-					return JSONLDParser.this.createStatement(statement.getSubject(), statement.getPredicate(),
-							statement.getObject(), graphName);
+			if (Keywords.CONTEXT.equals(key) && context == null) {
+				context = json.getValue();
+				head.add(key, context);
+				continue;
+			}
+
+			if (Keywords.GRAPH.equals(key) && context != null && event == JsonParser.Event.START_ARRAY) {
+				if (rdfHandler != null) {
+					extractPrefixes(head.build(), rdfHandler::handleNamespace);
+				}
+				NodeReferences graphReferences = new NodeReferences(references);
+				graphReferences.addContext(context);
+				long chunk = 0;
+				while (json.next() != JsonParser.Event.END_ARRAY) {
+					JsonValue node = json.getValue();
+					toRdfStreaming(node, context, graphReferences, opts, baseURI, chunk++);
 				}
+				if (json.next() != JsonParser.Event.END_OBJECT) {
+					throw new RDFParseException("Keys following a streamed @graph are not supported, disable "
+							+ JSONLDSettings.STREAMING.getKey() + " to parse this document");
+				}
+				return;
+			}
+
+			// the structure of this document does not allow streaming, read the rest of it
+			head.add(key, json.getValue());
+			while (json.next() != JsonParser.Event.END_OBJECT) {
+				key = json.getString();
+				json.next();
+				head.add(key, json.getValue());
+			}
+			break;
+		}
+
+		JsonObject document = head.build();
+		if (rdfHandler != null) {
+			extractPrefixes(document, rdfHandler::handleNamespace);
+		}
+		toRdf(JsonDocument.of(document), opts, baseURI, false);
+	}
+
+	/**
+	 * Converts a single node object of a streamed document. Blank node identifiers are scoped to a single conversion by
+	 * the JSON-LD processor, so labelled blank nodes are passed through as IRIs in a reserved namespace and restored by
+	 * the {@link StatementFactory}, and generated blank nodes are made unique per node object.
+	 * <p>
+	 * Only node identifiers are encoded: values of {@code @id} (or its aliases), the {@code @type} of node objects, and
+	 * values of terms that the active context coerces to {@code @id} or {@code @vocab}. Literal values are never
+	 * changed.
+	 *
+	 * @param context    the context of the enclosing document, if any
+	 * @param references the node references of the enclosing document, including its context
+	 */
+	private void toRdfStreaming(JsonValue node, JsonValue context, NodeReferences references, JsonLdOptions opts,
+			String baseURI, long chunk) throws JsonLdError {
+		JsonValue labelled = encodeBlankNodeLabels(node, references, false);
+		JsonStructure document;
+		if (context == null) {
+			document = (JsonStructure) labelled;
+		} else {
+			document = Json.createObjectBuilder()
+					.add(Keywords.CONTEXT, context)
+					.add(Keywords.GRAPH, Json.createArrayBuilder().add(labelled))
+					.build();
+		}
+		toRdf(JsonDocument.of(document), opts, baseURI, true);
+	}
 
-				@Override
-				public IRI createIRI(String value) {
-					return JSONLDParser.this.createURI(value);
+	/**
+	 * @param value      the JSON value
+	 * @param references the keys and terms whose values are node identifiers
+	 * @param identifier whether strings at this position are node identifiers
+	 */
+	private static JsonValue encodeBlankNodeLabels(JsonValue value, NodeReferences references, boolean identifier) {
+		switch (value.getValueType()) {
+		case STRING:
+			String string = ((JsonString) value).getString();
+			if (identifier && string.startsWith("_:")) {
+				return Json.createValue(BLANK_NODE_NAMESPACE + string.substring(2));
+			}
+			return value;
+		case ARRAY:
+			JsonArrayBuilder array = Json.createArrayBuilder();
+			for (JsonValue element : value.asJsonArray()) {
+				array.add(encodeBlankNodeLabels(element, references, identifier));
+			}
+			return array.build();
+		case OBJECT:
+			JsonObject jsonObject = value.asJsonObject();
+			if (jsonObject.containsKey(Keywords.VALUE)) {
+				// a value object, i.e. a literal
+				return value;
+			}
+			NodeReferences scoped = references;
+			if (jsonObject.containsKey(Keywords.CONTEXT)) {
+				scoped = new NodeReferences(references);
+				scoped.addContext(jsonObject.get(Keywords.CONTEXT));
+			}
+			JsonObjectBuilder object = Json.createObjectBuilder();
+			for (Map.Entry<String, JsonValue> entry : jsonObject.entrySet()) {
+				String key = entry.getKey();
+				if (Keywords.CONTEXT.equals(key)) {
+					object.add(key, entry.getValue());
+				} else if (Keywords.LIST.equals(key) || Keywords.SET.equals(key)) {
+					object.add(key, encodeBlankNodeLabels(entry.getValue(), scoped, identifier));
+				} else {
+					object.add(key, encodeBlankNodeLabels(entry.getValue(), scoped, scoped.isIdentifier(key)));
 				}
+			}
+			return object.build();
+		default:
+			return value;
+		}
+	}
+
+	/**
+	 * The keys and terms of a streamed node object whose string values are node identifiers, as determined from the
+	 * expand context and the inline and remote contexts that are in scope.
+	 */
+	private static class NodeReferences {
+
+		private static final Set<String> KEYWORDS = Set.of(Keywords.ID, Keywords.TYPE);
+
+		private final ContextLoader loader;
+
+		private final Set<String> keys;
+
+		NodeReferences(ContextLoader loader) {
+			this.loader = loader;
+			this.keys = new HashSet<>(KEYWORDS);
+		}
 
-				@Override
-				public Resource createBlankNode(String value) {
-					if (value.startsWith("_:")) {
-						return JSONLDParser.this.createNode(value.substring(2));
+		NodeReferences(NodeReferences parent) {
+			this.loader = parent.loader;
+			this.keys = new HashSet<>(parent.keys);
+		}
+
+		boolean isIdentifier(String key) {
+			return keys.contains(key);
+		}
+
+		void addContext(JsonValue context) {
+			addContext(context, loader.base);
+		}
+
+		private void addContext(JsonValue context, URI base) {
+			if (context == null) {
+				return;
+			}
+			switch (context.getValueType()) {
+			case NULL:
+				// resets the active context
+				keys.retainAll(KEYWORDS);
+				keys.addAll(KEYWORDS);
+				break;
+			case STRING:
+				URI location = loader.resolve(((JsonString) context).getString(), base);
+				if (location != null && loader.enter(location)) {
+					try {
+						addContext(loader.load(location), location);
+					} finally {
+						loader.exit(location);
 					}
-					return JSONLDParser.this.createNode(value);
 				}
+				break;
+			case ARRAY:
+				context.asJsonArray().forEach(element -> addContext(element, base));
+				break;
+			case OBJECT:
+				addTermDefinitions(context.asJsonObject());
+				break;
+			default:
+				break;
+			}
+		}
 
-				@Override
-				public Literal createTypedLiteral(String value, String datatype) {
-					return JSONLDParser.this.createLiteral(value, null, valueFactory.createIRI(datatype));
+		private void addTermDefinitions(JsonObject context) {
+			for (Map.Entry<String, JsonValue> entry : context.entrySet()) {
+				JsonValue definition = entry.getValue();
+				if (definition.getValueType() == JsonValue.ValueType.STRING) {
+					// an alias of @id or @type, or a plain IRI mapping that redefines the term
+					String mapping = ((JsonString) definition).getString();
+					if (Keywords.ID.equals(mapping) || Keywords.TYPE.equals(mapping)) {
+						keys.add(entry.getKey());
+					} else {
+						keys.remove(entry.getKey());
+					}
+				} else if (definition.getValueType() == JsonValue.ValueType.OBJECT) {
+					JsonValue type = definition.asJsonObject().get(Keywords.TYPE);
+					if (type != null && type.getValueType() == JsonValue.ValueType.STRING
+							&& (Keywords.ID.equals(((JsonString) type).getString())
+									|| Keywords.VOCAB.equals(((JsonString) type).getString()))) {
+						keys.add(entry.getKey());
+					} else {
+						keys.remove(entry.getKey());
+					}
 				}
+			}
+		}
+	}
+
+	/**
+	 * Loads the remote contexts referenced by a streamed document through the configured document loader, so that their
+	 * term definitions are known when encoding blank node labels. Each context is loaded once per document.
+	 */
+	private static class ContextLoader {
+
+		private final JsonLdOptions opts;
+
+		private final URI base;
+
+		private final Map<URI, JsonValue> contexts = new HashMap<>();
 
-				@Override
-				public Literal createString(String value) {
-					return JSONLDParser.this.createLiteral(value, null, null);
+		private final Set<URI> loading = new HashSet<>();
+
+		ContextLoader(JsonLdOptions opts) {
+			this.opts = opts;
+			this.base = opts.getBase();
+		}
+
+		URI resolve(String reference, URI base) {
+			try {
+				URI uri = new URI(reference);
+				if (!uri.isAbsolute() && base != null) {
+					uri = base.resolve(uri);
 				}
+				return uri.isAbsolute() ? uri : null;
+			} catch (URISyntaxException e) {
+				// reported by the JSON-LD processor
+				return null;
+			}
+		}
 
-				@Override
-				public Literal createLangString(String value, String lang) {
-					return JSONLDParser.this.createLiteral(value, lang, null);
+		boolean enter(URI location) {
+			return loading.add(location);
+		}
+
+		void exit(URI location) {
+			loading.remove(location);
+		}
+
+		JsonValue load(URI location) {
+			return contexts.computeIfAbsent(location, uri -> {
+				try {
+					Document document = opts.getDocumentLoader().loadDocument(uri, new DocumentLoaderOptions());
+					return contextOf(document.getJsonContent().orElse(null));
+				} catch (JsonLdError e) {
+					throw new RDFParseException("Could not load JSON-LD context " + uri, e);
 				}
 			});
+		}
+	}
 
-			if (rdfHandler != null) {
-				rdfHandler.endRDF();
+	/**
+	 * @return the value of the {@code @context} entry of a context document, or the document itself if it has none
+	 */
+	private static JsonValue contextOf(JsonValue document) {
+		if (document != null && document.getValueType() == JsonValue.ValueType.OBJECT
+				&& document.asJsonObject().containsKey(Keywords.CONTEXT)) {
+			return document.asJsonObject().get(Keywords.CONTEXT);
+		}
+		return document;
+	}
+
+	private static JsonParser createJsonParser(InputStream in, Reader reader) {
+		if (in == null && reader != null) {
+			return Json.createParser(reader);
+		} else if (in != null && reader == null) {
+			return Json.createParser(in);
+		} else {
+			throw new IllegalArgumentException("Either in or reader must be set");
+		}
+	}
+
+	/**
+	 * Creates RDF4J values for the JSON-LD processor. When converting a node object of a streamed document, labelled
+	 * blank nodes are decoded from {@link #BLANK_NODE_NAMESPACE}, and the blank nodes generated by the processor are
+	 * replaced by new blank nodes, keeping them apart from those of other node objects and from labelled ones.
+	 */
+	private class StatementFactory
+			implements RdfValueFactory<Statement, Statement, IRI, Resource, Resource, Literal, Value> {
+
+		private final boolean streamed;
+
+		private final Map<String, Resource> generated = new HashMap<>();
+
+		StatementFactory(boolean streamed) {
+			this.streamed = streamed;
+		}
+
+		@Override
+		public Statement createTriple(Resource subject, IRI predicate, Value object) {
+			if (streamed) {
+				return JSONLDParser.this.createStatement(decode(subject), predicate, decode(object));
 			}
+			return JSONLDParser.this.createStatement(subject, predicate, object);
+		}
 
-		} catch (no.hasmac.jsonld.JsonLdError e) {
-			throw new RDFParseException("Could not parse JSONLD", e);
-		} catch (RuntimeException e) {
-			if (e.getCause() != null && e.getCause() instanceof RDFParseException) {
-				throw (RDFParseException) e.getCause();
+		@Override
+		public Statement createQuad(Resource subject, IRI predicate, Value object, Resource graphName) {
+			if (streamed) {
+				return JSONLDParser.this.createStatement(decode(subject), predicate, decode(object),
+						decode(graphName));
 			}
-			throw e;
-		} catch (URISyntaxException e) {
-			throw new RDFParseException("Base uri is not a valid URI, " + baseURI, e);
-		} finally {
-			clear();
+			return JSONLDParser.this.createStatement(subject, predicate, object, graphName);
+		}
+
+		@Override
+		public Statement createQuad(Statement statement, Resource graphName) {
+			return createQuad(statement.getSubject(), statement.getPredicate(), statement.getObject(), graphName);
+		}
+
+		@Override
+		public IRI createIRI(String value) {
+			return JSONLDParser.this.createURI(value);
+		}
+
+		@Override
+		public Resource createBlankNode(String value) {
+			if (value.startsWith("_:")) {
+				value = value.substring(2);
+			}
+			if (streamed) {
+				return generated.computeIfAbsent(value, label -> JSONLDParser.this.createNode());
+			}
+			return JSONLDParser.this.createNode(value);
+		}
+
+		@Override
+		public Literal createTypedLiteral(String value, String datatype) {
+			return JSONLDParser.this.createLiteral(value, null, valueFactory.createIRI(datatype));
+		}
+
+		@Override
+		public Literal createString(String value) {
+			return JSONLDParser.this.createLiteral(value, null, null);
+		}
+
+		@Override
+		public Literal createLangString(String value, String lang) {
+			return JSONLDParser.this.createLiteral(value, lang, null);
+		}
+
+		private <V extends Value> V decode(V value) {
+			if (value instanceof IRI && value.stringValue().startsWith(BLANK_NODE_NAMESPACE)) {
+				@SuppressWarnings("unchecked")
+				V node = (V) JSONLDParser.this
+						.createNode(value.stringValue().substring(BLANK_NODE_NAMESPACE.length()));
+				return node;
+			}
+			return value;
 		}
 	}
 
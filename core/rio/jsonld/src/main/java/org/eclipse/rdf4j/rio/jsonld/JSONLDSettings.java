@@ -195,6 +195,24 @@ public class JSONLDSettings {
 			"The document loader cache is enabled by default. All loaded documents, such as remote contexts, are cached for 1 hour, or until the cache is full. The cache holds up to 1000 documents. The cache is shared between all JSONLDParsers. The cache can be disabled by setting this value to false.",
 			Boolean.TRUE);
 
+	/**
+	 * Boolean setting for the JSON-LD parser to determine whether documents should be processed incrementally instead
+	 * of being loaded into memory as a whole. Streaming applies to documents that are either a top-level array of node
+	 * objects, or a top-level object with an {@code @context} followed by a {@code @graph} array and no other keys.
+	 * Each node object is then read and converted on its own, so memory use is bounded by the size of the largest node
+	 * object. Documents with a different structure are processed in full, as if this setting was disabled.
+	 * <p>
+	 * In streaming mode, prefixes declared in the {@code @context} of individual nodes are reported when these nodes
+	 * are processed. Keys that follow a streamed {@code @graph} array cause a parse error, since they could change the
+	 * meaning of the statements that have already been reported.
+	 * <p>
+	 * Defaults to false.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.rio.jsonld.streaming}.
+	 */
+	public static final BooleanRioSetting STREAMING = new BooleanRioSetting(
+			"org.eclipse.rdf4j.rio.jsonld.streaming", "Process JSON-LD documents incrementally", Boolean.FALSE);
+
 	/**
 	 * Private default constructor.
 	 */
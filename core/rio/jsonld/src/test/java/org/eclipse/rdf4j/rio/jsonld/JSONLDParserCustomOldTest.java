@@ -154,7 +154,7 @@ public class JSONLDParserCustomOldTest {
 
 	@Test
 	public void testSupportedSettings() {
-		assertEquals(19, parser.getSupportedSettings().size());
+		assertEquals(20, parser.getSupportedSettings().size());
 	}
 
 	@Test
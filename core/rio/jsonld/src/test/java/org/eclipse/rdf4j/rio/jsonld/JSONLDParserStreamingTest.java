@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.jsonld;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.rdf4j.model.util.Values.iri;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.function.Consumer;
+
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.model.vocabulary.FOAF;
+import org.eclipse.rdf4j.rio.ParserConfig;
+import org.eclipse.rdf4j.rio.RDFParseException;
+import org.eclipse.rdf4j.rio.RDFParser;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
+import org.junit.jupiter.api.Test;
+
+import no.hasmac.jsonld.JsonLdError;
+import no.hasmac.jsonld.document.Document;
+import no.hasmac.jsonld.document.JsonDocument;
+
+/**
+ * Tests for the incremental processing mode of the JSON-LD parser, comparing its output to the regular mode.
+ */
+public class JSONLDParserStreamingTest {
+
+	private static final String CONTEXT = "\"@context\": {\"foaf\": \"http://xmlns.com/foaf/0.1/\","
+			+ " \"name\": \"foaf:name\", \"knows\": {\"@id\": \"foaf:knows\", \"@type\": \"@id\"}}";
+
+	@Test
+	public void testTopLevelArray() throws IOException {
+		String json = "[{" + CONTEXT + ", \"@id\": \"http://example.com/a\", \"name\": \"A\"},"
+				+ " {" + CONTEXT + ", \"@id\": \"http://example.com/b\", \"name\": \"B\","
+				+ " \"knows\": \"http://example.com/a\"}]";
+
+		Model model = assertSameAsRegular(json);
+		assertThat(model).hasSize(3);
+	}
+
+	@Test
+	public void testContextAndGraph() throws IOException {
+		String json = "{" + CONTEXT + ", \"@graph\": ["
+				+ "{\"@id\": \"http://example.com/a\", \"name\": \"A\"},"
+				+ "{\"@id\": \"http://example.com/b\", \"name\": {\"@value\": \"B\", \"@language\": \"en\"}}]}";
+
+		Model model = assertSameAsRegular(json);
+		assertThat(model).hasSize(2);
+	}
+
+	@Test
+	public void testNamespacesFromContext() throws IOException {
+		String json = "{" + CONTEXT + ", \"@graph\": [{\"@id\": \"http://example.com/a\", \"name\": \"A\"}]}";
+
+		Model model = parse(json, true);
+		assertThat(model.getNamespace("foaf")).hasValueSatisfying(ns -> assertThat(ns.getName())
+				.isEqualTo(FOAF.NAMESPACE));
+	}
+
+	@Test
+	public void testLabelledBlankNodesAcrossNodes() throws IOException {
+		String json = "{" + CONTEXT + ", \"@graph\": ["
+				+ "{\"@id\": \"_:x\", \"name\": \"X\"},"
+				+ "{\"@id\": \"http://example.com/b\", \"knows\": \"_:x\"},"
+				+ "{\"@id\": \"http://example.com/c\", \"knows\": {\"name\": \"anonymous\"}},"
+				+ "{\"@id\": \"http://example.com/d\", \"knows\": {\"name\": \"anonymous\"}}]}";
+
+		Model model = assertSameAsRegular(json);
+
+		Resource x = Models.subject(model.filter(null, FOAF.NAME, null)
+				.filter(null, null, literal(model, "X")))
+				.orElseThrow();
+		assertThat(model.filter(null, FOAF.KNOWS, x)).hasSize(1);
+		assertThat(Models.objectResources(model.filter(null, FOAF.KNOWS, null))).hasSize(3);
+	}
+
+	@Test
+	public void testLabelsOfGeneratedBlankNodes() throws IOException {
+		String json = "{" + CONTEXT + ", \"@graph\": ["
+				+ "{\"@id\": \"http://example.com/c\", \"knows\": {\"name\": \"anonymous\"}},"
+				+ "{\"@id\": \"_:b0\", \"name\": \"X\"},"
+				+ "{\"@id\": \"_:g0-b0\", \"name\": \"Y\"}]}";
+
+		Model model = assertSameAsRegular(json);
+		assertThat(model.subjects()).hasSize(4);
+	}
+
+	@Test
+	public void testIdTermFromExpandContext() throws IOException, JsonLdError {
+		String json = "[{\"@id\": \"_:x\", \"name\": \"X\"},"
+				+ " {\"@id\": \"http://example.com/b\", \"knows\": \"_:x\"}]";
+
+		Document context = JsonDocument.of(new StringReader("{" + CONTEXT + "}"));
+		Consumer<ParserConfig> config = c -> c.set(JSONLDSettings.EXPAND_CONTEXT, context);
+		assertKnowsNamedNode(assertSameAsRegular(json, config));
+	}
+
+	@Test
+	public void testIdTermFromRemoteContext() throws IOException {
+		String json = "{\"@context\": \"http://example.com/context.jsonld\", \"@graph\": ["
+				+ "{\"@id\": \"_:x\", \"name\": \"X\"},"
+				+ "{\"@id\": \"http://example.com/b\", \"knows\": \"_:x\"}]}";
+
+		Consumer<ParserConfig> config = c -> c.set(JSONLDSettings.DOCUMENT_LOADER, (uri, options) -> {
+			assertThat(uri).hasToString("http://example.com/context.jsonld");
+			return JsonDocument.of(new StringReader("{" + CONTEXT + "}"));
+		});
+		assertKnowsNamedNode(assertSameAsRegular(json, config));
+	}
+
+	@Test
+	public void testBlankNodeLabelInLiteral() throws IOException {
+		String json = "[{\"@id\": \"http://example.com/a\", \"http://example.com/p\": \"_:not-a-node\"}]";
+
+		Model model = assertSameAsRegular(json);
+		assertThat(Models.objectLiteral(model).map(Literal::getLabel)).hasValue("_:not-a-node");
+	}
+
+	@Test
+	public void testReservedNamespaceInLiteral() throws IOException {
+		String json = "[{\"@id\": \"_:a\", \"http://example.com/p\": \"see urn:x-rdf4j:jsonld-bnode:a\","
+				+ " \"http://example.com/q\": {\"@value\": \"_:a\", \"@language\": \"en\"}}]";
+
+		Model model = assertSameAsRegular(json);
+		assertThat(Models.objectLiteral(model.filter(null, iri("http://example.com/p"), null))
+				.map(Literal::getLabel)).hasValue("see urn:x-rdf4j:jsonld-bnode:a");
+		assertThat(Models.objectLiteral(model.filter(null, iri("http://example.com/q"), null))
+				.map(Literal::getLabel)).hasValue("_:a");
+		assertThat(Models.subject(model)).hasValueSatisfying(subject -> assertThat(subject.isBNode()).isTrue());
+	}
+
+	@Test
+	public void testFallbackForNonStreamableDocument() throws IOException {
+		String json = "{\"@id\": \"http://example.com/g\", " + CONTEXT + ", \"@graph\": ["
+				+ "{\"@id\": \"http://example.com/a\", \"name\": \"A\"}]}";
+
+		Model model = assertSameAsRegular(json);
+		assertThat(model.contexts()).hasSize(1);
+	}
+
+	@Test
+	public void testKeysAfterStreamedGraph() {
+		String json = "{" + CONTEXT + ", \"@graph\": [{\"@id\": \"http://example.com/a\", \"name\": \"A\"}],"
+				+ " \"@id\": \"http://example.com/g\"}";
+
+		assertThatThrownBy(() -> parse(json, true)).isInstanceOf(RDFParseException.class);
+	}
+
+	@Test
+	public void testInvalidJson() {
+		assertThatThrownBy(() -> parse("[{\"@id\": ", true)).isInstanceOf(RDFParseException.class);
+	}
+
+	private static void assertKnowsNamedNode(Model model) {
+		Resource x = Models.subject(model.filter(null, FOAF.NAME, null)).orElseThrow();
+		assertThat(model.filter(iri("http://example.com/b"), FOAF.KNOWS, x)).hasSize(1);
+		assertThat(model.subjects()).hasSize(2);
+	}
+
+	private static Literal literal(Model model, String label) {
+		return Models.objectLiterals(model).stream().filter(l -> l.getLabel().equals(label)).findFirst().orElseThrow();
+	}
+
+	private static Model assertSameAsRegular(String json) throws IOException {
+		return assertSameAsRegular(json, config -> {
+		});
+	}
+
+	private static Model assertSameAsRegular(String json, Consumer<ParserConfig> config) throws IOException {
+		Model streamed = parse(json, true, config);
+		Model regular = parse(json, false, config);
+		assertThat(Models.isomorphic(streamed, regular)).as("streamed: %s, regular: %s", streamed, regular).isTrue();
+		return streamed;
+	}
+
+	private static Model parse(String json, boolean streaming) throws IOException {
+		return parse(json, streaming, config -> {
+		});
+	}
+
+	private static Model parse(String json, boolean streaming, Consumer<ParserConfig> config) throws IOException {
+		Model model = new LinkedHashModel();
+		RDFParser parser = new JSONLDParser();
+		config.accept(parser.getParserConfig());
+		parser.getParserConfig().set(JSONLDSettings.STREAMING, streaming);
+		parser.setRDFHandler(new StatementCollector(model));
+		parser.parse(new StringReader(json), "");
+		return model;
+	}
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.nquads;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.RDFWriter;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.PipelinedRDFWriter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PipelinedRDFWriter} with the N-Quads and N-Triples writers.
+ */
+public class PipelinedNQuadsWriterTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static Model createModel(int size) {
+		Model model = new LinkedHashModel();
+		IRI predicate = vf.createIRI("http://example.com/p");
+		for (int i = 0; i < size; i++) {
+			model.add(vf.createIRI("http://example.com/s" + i), predicate, vf.createLiteral("value " + i),
+					i % 3 == 0 ? null : vf.createIRI("http://example.com/g" + (i % 3)));
+		}
+		return model;
+	}
+
+	private static void write(Model model, RDFWriter writer) {
+		writer.startRDF();
+		writer.handleComment("comment");
+		for (Statement st : model) {
+			writer.handleStatement(st);
+		}
+		writer.endRDF();
+	}
+
+	private static String expected(Model model, RDFFormat format) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		write(model, Rio.createWriter(format, out));
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void testParallelEncodingKeepsOrder() {
+		Model model = createModel(10_000);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		write(model, new PipelinedRDFWriter(RDFFormat.NQUADS, out, 4, 100, 4));
+
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected(model, RDFFormat.NQUADS));
+	}
+
+	@Test
+	public void testParallelEncodingNTriples() {
+		Model model = createModel(1_000);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		write(model, new PipelinedRDFWriter(RDFFormat.NTRIPLES, out, 3, 64, 2));
+
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected(model, RDFFormat.NTRIPLES));
+	}
+
+	@Test
+	public void testSingleSerializer() {
+		Model model = createModel(5_000);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		write(model, new PipelinedRDFWriter(new NQuadsWriter(out), 100, 2));
+
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected(model, RDFFormat.NQUADS));
+	}
+
+	@Test
+	public void testSerializationFailure() {
+		OutputStream failing = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("disk full");
+			}
+		};
+		Model model = createModel(10_000);
+
+		assertThatThrownBy(() -> write(model, new PipelinedRDFWriter(new NQuadsWriter(failing), 10, 1)))
+				.isInstanceOf(RDFHandlerException.class);
+		assertThatThrownBy(() -> write(model, new PipelinedRDFWriter(RDFFormat.NQUADS, failing, 2, 10, 1)))
+				.isInstanceOf(RDFHandlerException.class);
+	}
+
+	@Test
+	public void testNotStarted() {
+		RDFWriter writer = new PipelinedRDFWriter(RDFFormat.NQUADS, new ByteArrayOutputStream(), 2);
+
+		assertThatThrownBy(() -> writer.handleStatement(createModel(1).iterator().next()))
+				.isInstanceOf(RDFHandlerException.class);
+	}
+}
@@ -54,6 +54,7 @@ import org.eclipse.rdf4j.sail.memory.MemoryStore;
 import org.eclipse.rdf4j.sail.memory.MemoryStoreConnection;
 import org.eclipse.rdf4j.sail.shacl.ast.ContextWithShape;
 import org.eclipse.rdf4j.sail.shacl.ast.Shape;
+import org.eclipse.rdf4j.sail.shacl.wrapper.data.RdfsSubClassOfReasoner;
 import org.eclipse.rdf4j.sail.shacl.wrapper.shape.CombinedShapeSource;
 import org.eclipse.rdf4j.sail.shacl.wrapper.shape.Rdf4jShaclShapeGraphShapeSource;
 import org.eclipse.rdf4j.sail.shacl.wrapper.shape.ShapeSource;
@@ -195,6 +196,14 @@ public class ShaclSail extends ShaclSailBaseConfiguration {
 
 	private final RevivableExecutorService executorService;
 
+	// The rdfs:subClassOf reasoner shared by all connections. The generation is incremented before and after each
+	// commit that modifies rdfs:subClassOf statements, the shared reasoner is only valid for the current generation
+	// and while no such commit is in progress.
+	private final Object rdfsSubClassOfReasonerMonitor = new Object();
+	private long rdfsSubClassOfGeneration;
+	private int rdfsSubClassOfModificationsInProgress;
+	private RdfsSubClassOfReasoner rdfsSubClassOfReasoner;
+
 	@InternalUseOnly
 	StampedLockManager.Cache<List<ContextWithShape>>.WritableState getCachedShapesForWriting()
 			throws InterruptedException {
@@ -207,6 +216,77 @@ public class ShaclSail extends ShaclSailBaseConfiguration {
 		return cachedShapes.getReadState();
 	}
 
+	/**
+	 * @return the generation of the rdfs:subClassOf statements, to be read before a connection starts its transaction
+	 */
+	long getRdfsSubClassOfGeneration() {
+		synchronized (rdfsSubClassOfReasonerMonitor) {
+			return rdfsSubClassOfGeneration;
+		}
+	}
+
+	/**
+	 * @return the shared reasoner if it is valid for the given generation, otherwise null
+	 */
+	RdfsSubClassOfReasoner getRdfsSubClassOfReasoner(long generation) {
+		synchronized (rdfsSubClassOfReasonerMonitor) {
+			if (generation == rdfsSubClassOfGeneration && rdfsSubClassOfModificationsInProgress == 0) {
+				return rdfsSubClassOfReasoner;
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Share a reasoner that was created by a connection which did not modify any rdfs:subClassOf statements. The
+	 * reasoner is ignored if the rdfs:subClassOf statements have been modified since the given generation.
+	 */
+	void setRdfsSubClassOfReasoner(long generation, RdfsSubClassOfReasoner reasoner) {
+		synchronized (rdfsSubClassOfReasonerMonitor) {
+			if (generation == rdfsSubClassOfGeneration && rdfsSubClassOfModificationsInProgress == 0
+					&& rdfsSubClassOfReasoner == null) {
+				rdfsSubClassOfReasoner = reasoner;
+			}
+		}
+	}
+
+	/**
+	 * Called before committing a transaction that modified rdfs:subClassOf statements.
+	 *
+	 * @return the generation of the modification
+	 */
+	long startRdfsSubClassOfModification() {
+		synchronized (rdfsSubClassOfReasonerMonitor) {
+			rdfsSubClassOfModificationsInProgress++;
+			rdfsSubClassOfReasoner = null;
+			return ++rdfsSubClassOfGeneration;
+		}
+	}
+
+	/**
+	 * Called after committing (or failing to commit) a transaction that modified rdfs:subClassOf statements. The
+	 * updated reasoner of the transaction is shared if no other transaction modified rdfs:subClassOf statements in the
+	 * meantime.
+	 *
+	 * @param transactionGeneration  the generation when the transaction was started
+	 * @param modificationGeneration the generation returned by {@link #startRdfsSubClassOfModification()}
+	 * @param reasoner               the reasoner for the state after the commit, or null if not available
+	 */
+	void endRdfsSubClassOfModification(long transactionGeneration, long modificationGeneration,
+			RdfsSubClassOfReasoner reasoner) {
+		synchronized (rdfsSubClassOfReasonerMonitor) {
+			rdfsSubClassOfModificationsInProgress--;
+			boolean concurrentModification = modificationGeneration != transactionGeneration + 1
+					|| modificationGeneration != rdfsSubClassOfGeneration;
+			rdfsSubClassOfGeneration++;
+			if (reasoner != null && !concurrentModification && rdfsSubClassOfModificationsInProgress == 0) {
+				rdfsSubClassOfReasoner = reasoner;
+			} else {
+				rdfsSubClassOfReasoner = null;
+			}
+		}
+	}
+
 	static class CleanableState implements Runnable {
 
 		private final AtomicBoolean initialized;
@@ -357,6 +437,11 @@ public class ShaclSail extends ShaclSailBaseConfiguration {
 
 		executorService.init();
 
+		synchronized (rdfsSubClassOfReasonerMonitor) {
+			rdfsSubClassOfGeneration++;
+			rdfsSubClassOfReasoner = null;
+		}
+
 		if (shapesRepo != null) {
 			shapesRepo.shutDown();
 			shapesRepo = null;
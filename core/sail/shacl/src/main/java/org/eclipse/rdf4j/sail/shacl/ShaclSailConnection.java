@@ -13,6 +13,7 @@ package org.eclipse.rdf4j.sail.shacl;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -35,18 +36,18 @@ import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.util.Statements;
 import org.eclipse.rdf4j.model.vocabulary.RDF4J;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
 import org.eclipse.rdf4j.model.vocabulary.SESAME;
 import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
 import org.eclipse.rdf4j.sail.NotifyingSailConnection;
-import org.eclipse.rdf4j.sail.Sail;
 import org.eclipse.rdf4j.sail.SailConnection;
 import org.eclipse.rdf4j.sail.SailConnectionListener;
 import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.UpdateContext;
 import org.eclipse.rdf4j.sail.helpers.AbstractSailConnection;
 import org.eclipse.rdf4j.sail.helpers.NotifyingSailConnectionWrapper;
-import org.eclipse.rdf4j.sail.memory.MemoryStore;
 import org.eclipse.rdf4j.sail.shacl.ShaclSail.TransactionSettings.ValidationApproach;
 import org.eclipse.rdf4j.sail.shacl.ast.ContextWithShape;
 import org.eclipse.rdf4j.sail.shacl.results.ValidationReport;
@@ -54,6 +55,7 @@ import org.eclipse.rdf4j.sail.shacl.results.lazy.LazyValidationReport;
 import org.eclipse.rdf4j.sail.shacl.results.lazy.ValidationResultIterator;
 import org.eclipse.rdf4j.sail.shacl.wrapper.data.ConnectionsGroup;
 import org.eclipse.rdf4j.sail.shacl.wrapper.data.RdfsSubClassOfReasoner;
+import org.eclipse.rdf4j.sail.shacl.wrapper.data.TransactionDelta;
 import org.eclipse.rdf4j.sail.shacl.wrapper.data.VerySimpleRdfsBackwardsChainingConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,8 +74,8 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 	private final boolean useDefaultShapesGraph;
 	private IRI[] shapesGraphs;
 
-	Sail addedStatements;
-	Sail removedStatements;
+	TransactionDelta addedStatements;
+	TransactionDelta removedStatements;
 
 	private final HashSet<Statement> addedStatementsSet = new HashSet<>();
 	private final HashSet<Statement> removedStatementsSet = new HashSet<>();
@@ -87,6 +89,15 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 
 	RdfsSubClassOfReasoner rdfsSubClassOfReasoner;
 
+	// the generation of the rdfs:subClassOf statements when the transaction was started, see ShaclSail
+	private long rdfsSubClassOfGeneration;
+	// rdfs:subClassOf statements (without context) that may have been added or removed in the current transaction
+	private final HashSet<Statement> modifiedSubClassOfStatements = new HashSet<>();
+	// true if rdfs:subClassOf statements may have been removed by a wildcard removal or by clearing a context
+	private boolean unknownSubClassOfModification = false;
+	// the reasoner for the state after the current transaction has been committed
+	private RdfsSubClassOfReasoner updatedRdfsSubClassOfReasoner;
+
 	private boolean prepareHasBeenCalled = false;
 
 	private Lock exclusiveSerializableValidationLock;
@@ -194,6 +205,8 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 
 		stats = new Stats();
 
+		rdfsSubClassOfGeneration = sail.getRdfsSubClassOfGeneration();
+
 		// start two transactions, synchronize on underlying sail so that we get two transactions immediately
 		// successively
 		synchronized (sail) {
@@ -255,13 +268,6 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 
 	}
 
-	private Sail getNewMemorySail() {
-		MemoryStore sail = new MemoryStore();
-		sail.setDefaultIsolationLevel(IsolationLevels.NONE);
-		sail.init();
-		return sail;
-	}
-
 	@Override
 	public void commit() throws SailException {
 		if (closed) {
@@ -272,6 +278,10 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 			prepare();
 		}
 
+		boolean subClassOfModified = isSubClassOfModified();
+		long modificationGeneration = subClassOfModified ? sail.startRdfsSubClassOfModification() : 0;
+		boolean committed = false;
+
 		try {
 			long before = getTimeStamp();
 			if (previousStateConnection != null) {
@@ -279,18 +289,27 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 			}
 			super.commit();
 			shapesRepoConnection.commit();
+			committed = true;
 
 			if (sail.isPerformanceLogging()) {
 				logger.info("commit() excluding validation and cleanup took {} ms", getTimeStamp() - before);
 			}
 		} finally {
-			cleanup();
+			try {
+				if (subClassOfModified) {
+					sail.endRdfsSubClassOfModification(rdfsSubClassOfGeneration, modificationGeneration,
+							committed ? updatedRdfsSubClassOfReasoner : null);
+				}
+			} finally {
+				cleanup();
+			}
 		}
 	}
 
 	@Override
 	public void addStatement(UpdateContext modify, Resource subj, IRI pred, Value obj, Resource... contexts)
 			throws SailException {
+		trackSubClassOfModification(subj, pred, obj);
 		if (useDefaultShapesGraph && contexts.length == 1 && RDF4J.SHACL_SHAPE_GRAPH.equals(contexts[0])) {
 			shapesRepoConnection.add(subj, pred, obj, contexts);
 			shapeRefreshNeeded = true;
@@ -302,6 +321,7 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 	@Override
 	public void removeStatement(UpdateContext modify, Resource subj, IRI pred, Value obj, Resource... contexts)
 			throws SailException {
+		trackSubClassOfModification(subj, pred, obj);
 		if (useDefaultShapesGraph && contexts.length == 1 && RDF4J.SHACL_SHAPE_GRAPH.equals(contexts[0])) {
 			shapesRepoConnection.remove(subj, pred, obj, contexts);
 			shapeRefreshNeeded = true;
@@ -312,6 +332,7 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 
 	@Override
 	public void addStatement(Resource subj, IRI pred, Value obj, Resource... contexts) throws SailException {
+		trackSubClassOfModification(subj, pred, obj);
 		if (useDefaultShapesGraph && contexts.length == 1 && RDF4J.SHACL_SHAPE_GRAPH.equals(contexts[0])) {
 			shapesRepoConnection.add(subj, pred, obj, contexts);
 			shapeRefreshNeeded = true;
@@ -322,6 +343,7 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 
 	@Override
 	public void removeStatements(Resource subj, IRI pred, Value obj, Resource... contexts) throws SailException {
+		trackSubClassOfModification(subj, pred, obj);
 		if (useDefaultShapesGraph && contexts.length == 1 && RDF4J.SHACL_SHAPE_GRAPH.equals(contexts[0])) {
 			shapesRepoConnection.remove(subj, pred, obj, contexts);
 			shapeRefreshNeeded = true;
@@ -332,6 +354,7 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 
 	@Override
 	public void clear(Resource... contexts) throws SailException {
+		unknownSubClassOfModification = true;
 		if (Arrays.asList(contexts).contains(RDF4J.SHACL_SHAPE_GRAPH)) {
 			shapesRepoConnection.clear();
 			shapeRefreshNeeded = true;
@@ -339,6 +362,21 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 		super.clear(contexts);
 	}
 
+	private void trackSubClassOfModification(Resource subj, IRI pred, Value obj) {
+		if (pred != null && !RDFS.SUBCLASSOF.equals(pred)) {
+			return;
+		}
+		if (subj == null || pred == null || obj == null) {
+			unknownSubClassOfModification = true;
+		} else if (obj.isResource()) {
+			modifiedSubClassOfStatements.add(Statements.statement(subj, pred, obj, null));
+		}
+	}
+
+	private boolean isSubClassOfModified() {
+		return unknownSubClassOfModification || !modifiedSubClassOfStatements.isEmpty();
+	}
+
 	@Override
 	public void rollback() throws SailException {
 		if (closed) {
@@ -392,20 +430,14 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 
 			logger.debug("Cleanup");
 
-			if (addedStatements != null) {
-				if (addedStatements != sail.getBaseSail()) {
-					addedStatements.shutDown();
-				}
-				addedStatements = null;
-			}
-
-			if (removedStatements != null) {
-				removedStatements.shutDown();
-				removedStatements = null;
-			}
+			addedStatements = null;
+			removedStatements = null;
 
 			addedStatementsSet.clear();
 			removedStatementsSet.clear();
+			modifiedSubClassOfStatements.clear();
+			unknownSubClassOfModification = false;
+			updatedRdfsSubClassOfReasoner = null;
 			stats = null;
 			prepareHasBeenCalled = false;
 			shapeRefreshNeeded = false;
@@ -486,7 +518,7 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 		assert isValidationEnabled();
 
 		if (sail.isRdfsSubClassReasoning()) {
-			rdfsSubClassOfReasoner = RdfsSubClassOfReasoner.createReasoner(this, validationSettings);
+			rdfsSubClassOfReasoner = createRdfsSubClassOfReasoner(validationSettings);
 		}
 
 		if (!isBulkValidation()) {
@@ -495,6 +527,54 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 
 	}
 
+	/**
+	 * Reuse the reasoner shared by the sail if it is still valid for this transaction. If this transaction modified
+	 * rdfs:subClassOf statements, the shared reasoner is updated with the statements that were actually added or
+	 * removed, and the updated reasoner is shared once the transaction has been committed.
+	 */
+	private RdfsSubClassOfReasoner createRdfsSubClassOfReasoner(ValidationSettings validationSettings) {
+		RdfsSubClassOfReasoner sharedReasoner = sail.getRdfsSubClassOfReasoner(rdfsSubClassOfGeneration);
+
+		if (!isSubClassOfModified()) {
+			if (sharedReasoner != null) {
+				return sharedReasoner;
+			}
+			RdfsSubClassOfReasoner reasoner = RdfsSubClassOfReasoner.createReasoner(this, validationSettings);
+			sail.setRdfsSubClassOfReasoner(rdfsSubClassOfGeneration, reasoner);
+			return reasoner;
+		}
+
+		if (sharedReasoner == null || unknownSubClassOfModification) {
+			updatedRdfsSubClassOfReasoner = RdfsSubClassOfReasoner.createReasoner(this, validationSettings);
+			return updatedRdfsSubClassOfReasoner;
+		}
+
+		List<Statement> added = new ArrayList<>();
+		List<Statement> removed = new ArrayList<>();
+		for (Statement statement : modifiedSubClassOfStatements) {
+			Resource subClass = statement.getSubject();
+			Resource superClass = (Resource) statement.getObject();
+			boolean present = hasStatement(subClass, RDFS.SUBCLASSOF, superClass, false)
+					|| hasStatement(subClass, RDFS.SUBCLASSOF, superClass, false, RDF4J.SHACL_SHAPE_GRAPH);
+			boolean previouslyPresent = sharedReasoner.hasSubClassOfStatement(subClass, superClass);
+			if (present && !previouslyPresent) {
+				added.add(statement);
+			} else if (!present && previouslyPresent) {
+				removed.add(statement);
+			}
+		}
+
+		if (added.isEmpty() && removed.isEmpty()) {
+			// the statements were re-added or removed statements that did not exist, so the commit does not change the
+			// rdfs:subClassOf statements
+			modifiedSubClassOfStatements.clear();
+			return sharedReasoner;
+		}
+
+		updatedRdfsSubClassOfReasoner = sharedReasoner.update(added, removed);
+		return updatedRdfsSubClassOfReasoner;
+	}
+
 	ConnectionsGroup getConnectionsGroup() {
 
 		return new ConnectionsGroup(new VerySimpleRdfsBackwardsChainingConnection(this, rdfsSubClassOfReasoner),
@@ -628,52 +708,37 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 					.map(set -> (Callable<Object>) () -> {
 
 						Set<Statement> otherSet;
-						Sail repository;
 						if (set == addedStatementsSet) {
 							otherSet = removedStatementsSet;
-
-							if (addedStatements != null && addedStatements != sail.getBaseSail()) {
-								addedStatements.shutDown();
-							}
-
-							addedStatements = getNewMemorySail();
-							repository = addedStatements;
-
 							set.forEach(stats::added);
-
 						} else {
 							otherSet = addedStatementsSet;
-
-							if (removedStatements != null) {
-								removedStatements.shutDown();
-								removedStatements = null;
-							}
-
-							removedStatements = getNewMemorySail();
-							repository = removedStatements;
-
 							set.forEach(stats::removed);
 						}
 
-						try (SailConnection connection = repository.getConnection()) {
-							connection.begin(IsolationLevels.NONE);
-							set.stream()
-									.filter(statement -> !otherSet.contains(statement))
-									.flatMap(statement -> rdfsSubClassOfReasoner == null ? Stream.of(statement)
-											: rdfsSubClassOfReasoner.forwardChain(statement))
-									.forEach(statement -> {
-										if (!Thread.currentThread().isInterrupted()) {
-											connection.addStatement(statement.getSubject(),
-													statement.getPredicate(), statement.getObject(),
-													statement.getContext());
-										}
-
-									});
-							if (Thread.interrupted()) {
-								throw new InterruptedException();
-							}
+						// forward chaining can produce the same statement more than once
+						Collection<Statement> statements = rdfsSubClassOfReasoner == null
+								? new ArrayList<>(set.size())
+								: new HashSet<>();
+						set.stream()
+								.filter(statement -> !otherSet.contains(statement))
+								.flatMap(statement -> rdfsSubClassOfReasoner == null ? Stream.of(statement)
+										: rdfsSubClassOfReasoner.forwardChain(statement))
+								.forEach(statement -> {
+									if (!Thread.currentThread().isInterrupted()) {
+										statements.add(statement);
+									}
+
+								});
+						if (Thread.interrupted()) {
+							throw new InterruptedException();
+						}
 
-							connection.commit();
+						TransactionDelta delta = new TransactionDelta(statements);
+						if (set == addedStatementsSet) {
+							addedStatements = delta;
+						} else {
+							removedStatements = delta;
 						}
 
 						return null;
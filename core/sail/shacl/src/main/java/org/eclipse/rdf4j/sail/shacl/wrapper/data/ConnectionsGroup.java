@@ -21,7 +21,6 @@ import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
-import org.eclipse.rdf4j.sail.Sail;
 import org.eclipse.rdf4j.sail.SailConnection;
 import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.shacl.ShaclSailConnection;
@@ -67,7 +66,8 @@ public class ConnectionsGroup implements AutoCloseable {
 			.build();
 
 	public ConnectionsGroup(SailConnection baseConnection,
-			SailConnection previousStateConnection, Sail addedStatements, Sail removedStatements,
+			SailConnection previousStateConnection, TransactionDelta addedStatements,
+			TransactionDelta removedStatements,
 			Stats stats, RdfsSubClassOfReasonerProvider rdfsSubClassOfReasonerProvider,
 			ShaclSailConnection.Settings transactionSettings, boolean sparqlValidation) {
 		this.baseConnection = baseConnection;
@@ -13,13 +13,16 @@ package org.eclipse.rdf4j.sail.shacl.wrapper.data;
 
 import static org.eclipse.rdf4j.model.util.Statements.statement;
 
-import java.util.ArrayList;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -36,6 +39,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * An immutable snapshot of the rdfs:subClassOf hierarchy. Each class is identified by an int and the direct and
+ * transitive super and sub classes of a class are stored as sorted int arrays.
+ * <p>
+ * A snapshot can be shared between connections. Changes to the hierarchy are applied with
+ * {@link #update(Collection, Collection)}, which creates a new snapshot and only recomputes the closure of the classes
+ * affected by the change.
+ *
  * @apiNote This feature is for internal use only: its existence, signature or behavior may change without warning from
  *          one release to the next.
  */
@@ -44,110 +54,170 @@ public class RdfsSubClassOfReasoner {
 
 	private static final Logger logger = LoggerFactory.getLogger(RdfsSubClassOfReasoner.class);
 
-	private final Collection<Statement> subClassOfStatements = new HashSet<>();
-	private final Collection<Resource> types = new HashSet<>();
+	private static final int[] NONE = new int[0];
+
+	// the minimum number of changed statements for which update(...) recomputes the entire hierarchy
+	private static final int MIN_CHANGES_FOR_RECOMPUTATION = 64;
+
+	private final Map<Resource, Integer> ids;
+	private final Resource[] classes;
+
+	private final int[][] directSuperClasses;
+	private final int[][] directSubClasses;
+
+	// the transitive closure, including the class itself
+	private final int[][] superClasses;
+	private final int[][] subClasses;
+
+	private final int subClassOfStatements;
 
-	private final Map<Resource, Set<Resource>> forwardChainCache = new HashMap<>();
-	private final Map<Resource, Set<Resource>> backwardsChainCache = new HashMap<>();
+	private RdfsSubClassOfReasoner(Map<Resource, Integer> ids, Resource[] classes, int[][] directSuperClasses,
+			int[][] directSubClasses, int[][] superClasses, int[][] subClasses, int subClassOfStatements) {
+		this.ids = ids;
+		this.classes = classes;
+		this.directSuperClasses = directSuperClasses;
+		this.directSubClasses = directSubClasses;
+		this.superClasses = superClasses;
+		this.subClasses = subClasses;
+		this.subClassOfStatements = subClassOfStatements;
+	}
 
 	public Stream<Statement> forwardChain(Statement statement) {
-		if (forwardChainCache.isEmpty()) {
+		if (subClassOfStatements == 0) {
 			return Stream.of(statement);
 		}
 
-		if (statement.getPredicate().equals(RDF.TYPE)
-				&& forwardChainCache.containsKey(statement.getObject())) {
-			return forwardChainCache.get(statement.getObject())
-					.stream()
-					.map(r -> statement(statement.getSubject(), RDF.TYPE, r, statement.getContext()));
+		if (statement.getPredicate().equals(RDF.TYPE)) {
+			Integer id = ids.get(statement.getObject());
+			if (id != null) {
+				return Arrays.stream(superClasses[id])
+						.mapToObj(c -> statement(statement.getSubject(), RDF.TYPE, classes[c],
+								statement.getContext()));
+			}
 		}
 		return Stream.of(statement);
 	}
 
 	public Set<Resource> backwardsChain(Resource type) {
-		if (backwardsChainCache.isEmpty()) {
+		if (subClassOfStatements == 0) {
 			return Collections.singleton(type);
 		}
 
-		Set<Resource> resources = backwardsChainCache.get(type);
-		if (resources != null) {
-			return resources;
+		Integer id = ids.get(type);
+		if (id == null || subClasses[id].length == 1) {
+			return Collections.singleton(type);
 		}
-		return Collections.singleton(type);
+		return new ClassSet(subClasses[id]);
 	}
 
-	private void addSubClassOfStatement(Statement st) {
-		subClassOfStatements.add(Statements.stripContext(st));
-		types.add(st.getSubject());
-		types.add((Resource) st.getObject());
+	/**
+	 * @return true if the hierarchy contains the statement <code>subClass rdfs:subClassOf superClass</code>
+	 */
+	public boolean hasSubClassOfStatement(Resource subClass, Resource superClass) {
+		Integer sub = ids.get(subClass);
+		Integer sup = ids.get(superClass);
+		return sub != null && sup != null && Arrays.binarySearch(directSuperClasses[sub], sup) >= 0;
 	}
 
-	private void calculateSubClassOf(Collection<Statement> subClassOfStatements) {
-		if (subClassOfStatements.isEmpty()) {
-			return;
-		}
-
-		types.forEach(type -> {
-			if (!forwardChainCache.containsKey(type)) {
-				forwardChainCache.put(type, new HashSet<>());
-			}
-			if (!backwardsChainCache.containsKey(type)) {
-				backwardsChainCache.put(type, new HashSet<>());
-			}
-
-			forwardChainCache.get(type).add(type);
-			backwardsChainCache.get(type).add(type);
-
-		});
-
-		subClassOfStatements.forEach(s -> {
-			Resource subClass = s.getSubject();
-			Resource supClass = (Resource) s.getObject();
-			if (!forwardChainCache.containsKey(subClass)) {
-				forwardChainCache.put(subClass, new HashSet<>());
+	/**
+	 * Create a new reasoner for the hierarchy after adding and removing the given rdfs:subClassOf statements. This
+	 * reasoner is not modified.
+	 *
+	 * @param added   the added statements, statements which are already part of the hierarchy are ignored
+	 * @param removed the removed statements, statements which are not part of the hierarchy are ignored
+	 * @return the new reasoner, or this reasoner if the hierarchy has not changed
+	 */
+	public RdfsSubClassOfReasoner update(Collection<Statement> added, Collection<Statement> removed) {
+		Set<Statement> effectiveAdded = new HashSet<>();
+		for (Statement st : added) {
+			if (isSubClassOfStatement(st)
+					&& !hasSubClassOfStatement(st.getSubject(), (Resource) st.getObject())) {
+				effectiveAdded.add(Statements.stripContext(st));
 			}
-			if (!backwardsChainCache.containsKey(supClass)) {
-				backwardsChainCache.put(supClass, new HashSet<>());
+		}
+		Set<Statement> effectiveRemoved = new HashSet<>();
+		for (Statement st : removed) {
+			if (isSubClassOfStatement(st)
+					&& hasSubClassOfStatement(st.getSubject(), (Resource) st.getObject())) {
+				effectiveRemoved.add(Statements.stripContext(st));
 			}
+		}
 
-			forwardChainCache.get(subClass).add((Resource) s.getObject());
-			backwardsChainCache.get(supClass).add(s.getSubject());
+		if (effectiveAdded.isEmpty() && effectiveRemoved.isEmpty()) {
+			return this;
+		}
 
-		});
+		if (effectiveAdded.size() + effectiveRemoved.size() >= Math.max(MIN_CHANGES_FOR_RECOMPUTATION,
+				subClassOfStatements / 16)) {
+			// recomputing the entire hierarchy is cheaper than updating it statement by statement
+			Set<Statement> statements = getSubClassOfStatements();
+			statements.removeAll(effectiveRemoved);
+			statements.addAll(effectiveAdded);
+			return fromStatements(statements);
+		}
 
-		forwardChainUntilFixPoint(forwardChainCache);
-		forwardChainUntilFixPoint(backwardsChainCache);
+		return new Update(this).apply(effectiveAdded, effectiveRemoved);
+	}
 
+	private static boolean isSubClassOfStatement(Statement st) {
+		return RDFS.SUBCLASSOF.equals(st.getPredicate()) && st.getObject().isResource();
 	}
 
-	private void forwardChainUntilFixPoint(Map<Resource, Set<Resource>> forwardChainCache) {
-		// Fixed point approach to finding all sub-classes.
-		// prevSize is the size of the previous application of the function
-		// newSize is the size of the current application of the function
-		// Fixed point is reached when they are the same.
-		// Eg. Two consecutive applications return the same number of subclasses
-		long prevSize = 0;
-		final long[] newSize = { -1 };
-		while (prevSize != newSize[0]) {
+	private Set<Statement> getSubClassOfStatements() {
+		Set<Statement> statements = new HashSet<>();
+		for (int sub = 0; sub < classes.length; sub++) {
+			for (int sup : directSuperClasses[sub]) {
+				statements.add(statement(classes[sub], RDFS.SUBCLASSOF, classes[sup], null));
+			}
+		}
+		return statements;
+	}
 
-			prevSize = newSize[0];
+	private static RdfsSubClassOfReasoner fromStatements(Collection<Statement> subClassOfStatements) {
+		Map<Resource, Integer> ids = new HashMap<>();
+		for (Statement st : subClassOfStatements) {
+			ids.putIfAbsent(st.getSubject(), ids.size());
+			ids.putIfAbsent((Resource) st.getObject(), ids.size());
+		}
 
-			newSize[0] = 0;
+		int size = ids.size();
+		Resource[] classes = new Resource[size];
+		ids.forEach((c, id) -> classes[id] = c);
 
-			forwardChainCache.forEach((key, value) -> {
-				List<Resource> temp = new ArrayList<>();
-				value.forEach(superClass -> temp.addAll(resolveTypes(superClass, forwardChainCache)));
+		int[] superClassCount = new int[size];
+		int[] subClassCount = new int[size];
+		for (Statement st : subClassOfStatements) {
+			superClassCount[ids.get(st.getSubject())]++;
+			subClassCount[ids.get((Resource) st.getObject())]++;
+		}
 
-				value.addAll(temp);
-				newSize[0] += value.size();
-			});
+		int[][] directSuperClasses = new int[size][];
+		int[][] directSubClasses = new int[size][];
+		for (int i = 0; i < size; i++) {
+			directSuperClasses[i] = superClassCount[i] == 0 ? NONE : new int[superClassCount[i]];
+			directSubClasses[i] = subClassCount[i] == 0 ? NONE : new int[subClassCount[i]];
+		}
+		for (Statement st : subClassOfStatements) {
+			int sub = ids.get(st.getSubject());
+			int sup = ids.get((Resource) st.getObject());
+			directSuperClasses[sub][--superClassCount[sub]] = sup;
+			directSubClasses[sup][--subClassCount[sup]] = sub;
+		}
+		for (int i = 0; i < size; i++) {
+			Arrays.sort(directSuperClasses[i]);
+			Arrays.sort(directSubClasses[i]);
+		}
 
+		int[][] superClasses = new int[size][];
+		int[][] subClasses = new int[size][];
+		Traversal traversal = new Traversal(size);
+		for (int i = 0; i < size; i++) {
+			superClasses[i] = traversal.closure(i, directSuperClasses);
+			subClasses[i] = traversal.closure(i, directSubClasses);
 		}
-	}
 
-	private Set<Resource> resolveTypes(Resource value, Map<Resource, Set<Resource>> forwardChainCache) {
-		Set<Resource> iris = forwardChainCache.get(value);
-		return iris != null ? iris : Collections.emptySet();
+		return new RdfsSubClassOfReasoner(ids, classes, directSuperClasses, directSubClasses, superClasses,
+				subClasses, subClassOfStatements.size());
 	}
 
 	public static RdfsSubClassOfReasoner createReasoner(SailConnection sailConnection,
@@ -162,46 +232,262 @@ public class RdfsSubClassOfReasoner {
 			before = System.currentTimeMillis();
 		}
 
-		RdfsSubClassOfReasoner rdfsSubClassOfReasoner = new RdfsSubClassOfReasoner();
+		Set<Statement> subClassOfStatements = new HashSet<>();
 
-		try (Stream<? extends Statement> stream = sailConnection.getStatements(null, RDFS.SUBCLASSOF, null, false)
-				.stream()) {
-			stream.forEach(rdfsSubClassOfReasoner::addSubClassOfStatement);
+		addSubClassOfStatements(sailConnection, subClassOfStatements);
+		if (secondConnection != null) {
+			addSubClassOfStatements(secondConnection, subClassOfStatements);
 		}
 
-		if (secondConnection != null) {
-			try (Stream<? extends Statement> stream = secondConnection.getStatements(null, RDFS.SUBCLASSOF, null, false)
-					.stream()) {
-				stream.forEach(rdfsSubClassOfReasoner::addSubClassOfStatement);
-			}
+		RdfsSubClassOfReasoner rdfsSubClassOfReasoner = fromStatements(subClassOfStatements);
+		if (validationSettings.isPerformanceLogging()) {
+			logger.info("RdfsSubClassOfReasoner.createReasoner() took {} ms", System.currentTimeMillis() - before);
+		}
+		return rdfsSubClassOfReasoner;
+	}
+
+	private static void addSubClassOfStatements(SailConnection connection, Set<Statement> subClassOfStatements) {
+		try (Stream<? extends Statement> stream = connection.getStatements(null, RDFS.SUBCLASSOF, null, false)
+				.stream()) {
+			stream.filter(RdfsSubClassOfReasoner::isSubClassOfStatement)
+					.forEach(st -> subClassOfStatements.add(Statements.stripContext(st)));
 		}
 
-		try (Stream<? extends Statement> stream = sailConnection
+		try (Stream<? extends Statement> stream = connection
 				.getStatements(null, RDFS.SUBCLASSOF, null, false, RDF4J.SHACL_SHAPE_GRAPH)
 				.stream()) {
-			stream.forEach(rdfsSubClassOfReasoner::addSubClassOfStatement);
+			stream.filter(RdfsSubClassOfReasoner::isSubClassOfStatement)
+					.forEach(st -> subClassOfStatements.add(Statements.stripContext(st)));
+		}
+	}
+
+	public boolean isEmpty() {
+		return subClassOfStatements == 0;
+	}
+
+	/**
+	 * A copy-on-write update of a reasoner. The arrays of the classes which are not affected by the update are shared
+	 * with the original reasoner.
+	 */
+	private static class Update {
+
+		private final RdfsSubClassOfReasoner original;
+
+		private Map<Resource, Integer> ids;
+		private Resource[] classes;
+		private int[][] directSuperClasses;
+		private int[][] directSubClasses;
+		private int[][] superClasses;
+		private int[][] subClasses;
+		private int size;
+
+		private Update(RdfsSubClassOfReasoner original) {
+			this.original = original;
+			this.ids = original.ids;
+			this.size = original.classes.length;
+			this.classes = original.classes.clone();
+			this.directSuperClasses = original.directSuperClasses.clone();
+			this.directSubClasses = original.directSubClasses.clone();
+			this.superClasses = original.superClasses.clone();
+			this.subClasses = original.subClasses.clone();
 		}
 
-		if (secondConnection != null) {
-			try (Stream<? extends Statement> stream = secondConnection
-					.getStatements(null, RDFS.SUBCLASSOF, null, false, RDF4J.SHACL_SHAPE_GRAPH)
-					.stream()) {
-				stream.forEach(rdfsSubClassOfReasoner::addSubClassOfStatement);
+		private RdfsSubClassOfReasoner apply(Set<Statement> added, Set<Statement> removed) {
+			int[] changedSubClasses = new int[added.size() + removed.size()];
+			int[] changedSuperClasses = new int[changedSubClasses.length];
+			int i = 0;
+
+			for (Statement st : removed) {
+				int sub = ids.get(st.getSubject());
+				int sup = ids.get((Resource) st.getObject());
+				directSuperClasses[sub] = remove(directSuperClasses[sub], sup);
+				directSubClasses[sup] = remove(directSubClasses[sup], sub);
+				changedSubClasses[i] = sub;
+				changedSuperClasses[i++] = sup;
 			}
+
+			for (Statement st : added) {
+				int sub = getId(st.getSubject());
+				int sup = getId((Resource) st.getObject());
+				directSuperClasses[sub] = insert(directSuperClasses[sub], sup);
+				directSubClasses[sup] = insert(directSubClasses[sup], sub);
+				changedSubClasses[i] = sub;
+				changedSuperClasses[i++] = sup;
+			}
+
+			if (size < classes.length) {
+				classes = Arrays.copyOf(classes, size);
+				directSuperClasses = Arrays.copyOf(directSuperClasses, size);
+				directSubClasses = Arrays.copyOf(directSubClasses, size);
+				superClasses = Arrays.copyOf(superClasses, size);
+				subClasses = Arrays.copyOf(subClasses, size);
+			}
+
+			// The super classes of a class can only change if the class is a sub class of the sub class of a changed
+			// statement, either before the update (its previous sub classes) or after it (the closure over the updated
+			// hierarchy). Likewise, the sub classes of a class can only change if the class is a super class of the
+			// super class of a changed statement.
+			Traversal traversal = new Traversal(size);
+			BitSet superClassesChanged = new BitSet(size);
+			BitSet subClassesChanged = new BitSet(size);
+			for (int j = 0; j < changedSubClasses.length; j++) {
+				mark(superClassesChanged, subClasses[changedSubClasses[j]]);
+				mark(superClassesChanged, traversal.closure(changedSubClasses[j], directSubClasses));
+				mark(subClassesChanged, superClasses[changedSuperClasses[j]]);
+				mark(subClassesChanged, traversal.closure(changedSuperClasses[j], directSuperClasses));
+			}
+
+			for (int c = superClassesChanged.nextSetBit(0); c >= 0; c = superClassesChanged.nextSetBit(c + 1)) {
+				superClasses[c] = traversal.closure(c, directSuperClasses);
+			}
+			for (int c = subClassesChanged.nextSetBit(0); c >= 0; c = subClassesChanged.nextSetBit(c + 1)) {
+				subClasses[c] = traversal.closure(c, directSubClasses);
+			}
+
+			return new RdfsSubClassOfReasoner(ids, classes, directSuperClasses, directSubClasses, superClasses,
+					subClasses, original.subClassOfStatements + added.size() - removed.size());
 		}
 
-		rdfsSubClassOfReasoner.calculateSubClassOf(rdfsSubClassOfReasoner.subClassOfStatements);
-		if (validationSettings.isPerformanceLogging()) {
-			logger.info("RdfsSubClassOfReasoner.createReasoner() took {} ms", System.currentTimeMillis() - before);
+		private int getId(Resource c) {
+			Integer id = ids.get(c);
+			if (id != null) {
+				return id;
+			}
+
+			if (ids == original.ids) {
+				ids = new HashMap<>(original.ids);
+			}
+			if (size == classes.length) {
+				int capacity = Math.max(8, size + (size >> 1));
+				classes = Arrays.copyOf(classes, capacity);
+				directSuperClasses = Arrays.copyOf(directSuperClasses, capacity);
+				directSubClasses = Arrays.copyOf(directSubClasses, capacity);
+				superClasses = Arrays.copyOf(superClasses, capacity);
+				subClasses = Arrays.copyOf(subClasses, capacity);
+			}
+
+			int newId = size++;
+			ids.put(c, newId);
+			classes[newId] = c;
+			directSuperClasses[newId] = NONE;
+			directSubClasses[newId] = NONE;
+			superClasses[newId] = new int[] { newId };
+			subClasses[newId] = new int[] { newId };
+			return newId;
+		}
+
+		private static void mark(BitSet bitSet, int[] ids) {
+			for (int id : ids) {
+				bitSet.set(id);
+			}
+		}
+
+		private static int[] insert(int[] sorted, int value) {
+			int index = Arrays.binarySearch(sorted, value);
+			assert index < 0;
+			index = -index - 1;
+			int[] result = new int[sorted.length + 1];
+			System.arraycopy(sorted, 0, result, 0, index);
+			result[index] = value;
+			System.arraycopy(sorted, index, result, index + 1, sorted.length - index);
+			return result;
+		}
+
+		private static int[] remove(int[] sorted, int value) {
+			int index = Arrays.binarySearch(sorted, value);
+			assert index >= 0;
+			if (sorted.length == 1) {
+				return NONE;
+			}
+			int[] result = new int[sorted.length - 1];
+			System.arraycopy(sorted, 0, result, 0, index);
+			System.arraycopy(sorted, index + 1, result, index, sorted.length - index - 1);
+			return result;
 		}
-		return rdfsSubClassOfReasoner;
 	}
 
-	public boolean isEmpty() {
-		return subClassOfStatements.isEmpty() && forwardChainCache.isEmpty() && backwardsChainCache.isEmpty();
+	/**
+	 * Breadth-first traversal of the class hierarchy, reusing its buffers between traversals.
+	 */
+	private static class Traversal {
+
+		private final int[] visited;
+		private final int[] queue;
+		private int generation = 0;
+
+		private Traversal(int size) {
+			this.visited = new int[size];
+			this.queue = new int[size];
+		}
+
+		/**
+		 * @return the sorted ids of all classes reachable from the start class, including the start class itself
+		 */
+		private int[] closure(int start, int[][] edges) {
+			if (edges[start].length == 0) {
+				return new int[] { start };
+			}
+
+			generation++;
+			int head = 0;
+			int tail = 0;
+			queue[tail++] = start;
+			visited[start] = generation;
+			while (head < tail) {
+				for (int next : edges[queue[head++]]) {
+					if (visited[next] != generation) {
+						visited[next] = generation;
+						queue[tail++] = next;
+					}
+				}
+			}
+
+			int[] closure = Arrays.copyOf(queue, tail);
+			Arrays.sort(closure);
+			return closure;
+		}
 	}
-}
 
-/*
+	/**
+	 * A read-only set view of a sorted array of class ids.
+	 */
+	private class ClassSet extends AbstractSet<Resource> {
 
- */
+		private final int[] classIds;
+
+		private ClassSet(int[] classIds) {
+			this.classIds = classIds;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			Integer id = ids.get(o);
+			return id != null && Arrays.binarySearch(classIds, id) >= 0;
+		}
+
+		@Override
+		public Iterator<Resource> iterator() {
+			return new Iterator<>() {
+				int index = 0;
+
+				@Override
+				public boolean hasNext() {
+					return index < classIds.length;
+				}
+
+				@Override
+				public Resource next() {
+					if (index >= classIds.length) {
+						throw new NoSuchElementException();
+					}
+					return classes[classIds[index++]];
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return classIds.length;
+		}
+	}
+}
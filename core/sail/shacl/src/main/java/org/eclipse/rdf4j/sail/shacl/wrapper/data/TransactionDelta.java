@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+
+package org.eclipse.rdf4j.sail.shacl.wrapper.data;
+
+import java.util.Collection;
+import java.util.Objects;
+
+import org.eclipse.rdf4j.common.annotation.InternalUseOnly;
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.EmptyIteration;
+import org.eclipse.rdf4j.common.iteration.LookAheadIteration;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.sail.SailConnection;
+
+/**
+ * An immutable, indexed set of the statements added or removed in a transaction. The delta is built in one pass from
+ * the changeset and is read through {@link #getConnection()}.
+ * <p>
+ * The statements are kept in three orders: SPO, POS and OSP. The orders are based on the hash codes of the values, so a
+ * lookup finds all statements with the same hash codes as the bound values and filters out the (rare) statements that
+ * only share the hash codes.
+ *
+ * @apiNote This feature is for internal use only: its existence, signature or behavior may change without warning from
+ *          one release to the next.
+ */
+@InternalUseOnly
+public class TransactionDelta {
+
+	// the statements in SPO order
+	private final Statement[] statements;
+
+	// the hash codes of the subject, predicate and object of each statement
+	private final int[] subjects;
+	private final int[] predicates;
+	private final int[] objects;
+
+	private final Index spo;
+	private final Index pos;
+	private final Index osp;
+
+	/**
+	 * @param statements the statements, without duplicates
+	 */
+	public TransactionDelta(Collection<Statement> statements) {
+		int size = statements.size();
+		Statement[] unsorted = statements.toArray(new Statement[0]);
+
+		int[] s = new int[size];
+		int[] p = new int[size];
+		int[] o = new int[size];
+		for (int i = 0; i < size; i++) {
+			s[i] = unsorted[i].getSubject().hashCode();
+			p[i] = unsorted[i].getPredicate().hashCode();
+			o[i] = unsorted[i].getObject().hashCode();
+		}
+
+		int[] order = sort(size, s, p, o);
+		this.statements = new Statement[size];
+		this.subjects = new int[size];
+		this.predicates = new int[size];
+		this.objects = new int[size];
+		for (int i = 0; i < size; i++) {
+			this.statements[i] = unsorted[order[i]];
+			this.subjects[i] = s[order[i]];
+			this.predicates[i] = p[order[i]];
+			this.objects[i] = o[order[i]];
+		}
+
+		this.spo = new Index(null, subjects, predicates, objects);
+		this.pos = new Index(sort(size, predicates, objects, subjects), predicates, objects, subjects);
+		this.osp = new Index(sort(size, objects, subjects, predicates), objects, subjects, predicates);
+	}
+
+	/**
+	 * @return a read-only connection to the statements of this delta
+	 */
+	public SailConnection getConnection() {
+		return new TransactionDeltaConnection(this);
+	}
+
+	public int size() {
+		return statements.length;
+	}
+
+	public boolean isEmpty() {
+		return statements.length == 0;
+	}
+
+	CloseableIteration<Statement> getStatements(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		if (statements.length == 0) {
+			return new EmptyIteration<>();
+		}
+
+		int[] range;
+		Index index;
+		if (subj != null && pred != null) {
+			index = spo;
+			range = obj != null ? spo.range(subj.hashCode(), pred.hashCode(), obj.hashCode())
+					: spo.range(subj.hashCode(), pred.hashCode());
+		} else if (subj != null && obj != null) {
+			index = osp;
+			range = osp.range(obj.hashCode(), subj.hashCode());
+		} else if (subj != null) {
+			index = spo;
+			range = spo.range(subj.hashCode());
+		} else if (pred != null) {
+			index = pos;
+			range = obj != null ? pos.range(pred.hashCode(), obj.hashCode()) : pos.range(pred.hashCode());
+		} else if (obj != null) {
+			index = osp;
+			range = osp.range(obj.hashCode());
+		} else {
+			index = spo;
+			range = new int[] { 0, statements.length };
+		}
+
+		if (range[0] >= range[1]) {
+			return new EmptyIteration<>();
+		}
+
+		return new LookAheadIteration<>() {
+
+			int next = range[0];
+
+			@Override
+			protected Statement getNextElement() {
+				while (next < range[1]) {
+					Statement statement = statements[index.statement(next++)];
+					if ((subj == null || subj.equals(statement.getSubject()))
+							&& (pred == null || pred.equals(statement.getPredicate()))
+							&& (obj == null || obj.equals(statement.getObject()))
+							&& matchesContext(statement, contexts)) {
+						return statement;
+					}
+				}
+				return null;
+			}
+
+			@Override
+			protected void handleClose() {
+				// nothing to close
+			}
+		};
+	}
+
+	private static boolean matchesContext(Statement statement, Resource[] contexts) {
+		if (contexts.length == 0) {
+			return true;
+		}
+		for (Resource context : contexts) {
+			if (Objects.equals(context, statement.getContext())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return the positions 0 to size - 1 sorted by the given keys
+	 */
+	private static int[] sort(int size, int[] first, int[] second, int[] third) {
+		int[] order = new int[size];
+		for (int i = 0; i < size; i++) {
+			order[i] = i;
+		}
+		mergeSort(order, order.clone(), 0, size, first, second, third);
+		return order;
+	}
+
+	// sorts order[from, to), using buffer which must contain the same elements as order
+	private static void mergeSort(int[] order, int[] buffer, int from, int to, int[] first, int[] second,
+			int[] third) {
+		if (to - from < 2) {
+			return;
+		}
+
+		int middle = (from + to) >>> 1;
+		mergeSort(buffer, order, from, middle, first, second, third);
+		mergeSort(buffer, order, middle, to, first, second, third);
+
+		int left = from;
+		int right = middle;
+		for (int i = from; i < to; i++) {
+			if (right >= to || left < middle && compare(buffer[left], buffer[right], first, second, third) <= 0) {
+				order[i] = buffer[left++];
+			} else {
+				order[i] = buffer[right++];
+			}
+		}
+	}
+
+	private static int compare(int a, int b, int[] first, int[] second, int[] third) {
+		int compare = Integer.compare(first[a], first[b]);
+		if (compare == 0) {
+			compare = Integer.compare(second[a], second[b]);
+			if (compare == 0) {
+				compare = Integer.compare(third[a], third[b]);
+			}
+		}
+		return compare;
+	}
+
+	/**
+	 * The statements sorted by three keys.
+	 */
+	private static class Index {
+
+		// the positions of the statements in this order, or null if the statements are stored in this order
+		private final int[] order;
+		private final int[][] keys;
+
+		private Index(int[] order, int[]... keys) {
+			this.order = order;
+			this.keys = keys;
+		}
+
+		private int statement(int position) {
+			return order == null ? position : order[position];
+		}
+
+		/**
+		 * @return the first (inclusive) and last (exclusive) position of the statements with the given key prefix
+		 */
+		private int[] range(int... prefix) {
+			return new int[] { search(prefix, false), search(prefix, true) };
+		}
+
+		// the first position with a key greater than (or equal to, if not after) the prefix
+		private int search(int[] prefix, boolean after) {
+			int low = 0;
+			int high = keys[0].length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				int compare = comparePrefix(statement(middle), prefix);
+				if (compare < 0 || after && compare == 0) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+
+		private int comparePrefix(int statement, int[] prefix) {
+			for (int i = 0; i < prefix.length; i++) {
+				int compare = Integer.compare(keys[i][statement], prefix[i]);
+				if (compare != 0) {
+					return compare;
+				}
+			}
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+
+package org.eclipse.rdf4j.sail.shacl.wrapper.data;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.common.iteration.EmptyIteration;
+import org.eclipse.rdf4j.common.transaction.IsolationLevel;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Namespace;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.Dataset;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.QueryRoot;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategy;
+import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.DefaultEvaluationStrategy;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+import org.eclipse.rdf4j.sail.SailConnection;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.SailReadOnlyException;
+import org.eclipse.rdf4j.sail.UnknownSailTransactionStateException;
+import org.eclipse.rdf4j.sail.UpdateContext;
+
+/**
+ * A read-only {@link SailConnection} to a {@link TransactionDelta}. Transactions are ignored since the delta is
+ * immutable.
+ */
+class TransactionDeltaConnection implements SailConnection {
+
+	private final TransactionDelta delta;
+
+	private final TripleSource tripleSource;
+
+	private volatile boolean open = true;
+
+	TransactionDeltaConnection(TransactionDelta delta) {
+		this.delta = delta;
+		this.tripleSource = new TripleSource() {
+			@Override
+			public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred, Value obj,
+					Resource... contexts) throws QueryEvaluationException {
+				return delta.getStatements(subj, pred, obj, contexts);
+			}
+
+			@Override
+			public ValueFactory getValueFactory() {
+				return SimpleValueFactory.getInstance();
+			}
+		};
+	}
+
+	@Override
+	public boolean isOpen() throws SailException {
+		return open;
+	}
+
+	@Override
+	public void close() throws SailException {
+		open = false;
+	}
+
+	@Override
+	public CloseableIteration<? extends BindingSet> evaluate(TupleExpr tupleExpr, Dataset dataset,
+			BindingSet bindings, boolean includeInferred) throws SailException {
+		// the optimizers modify the query model
+		tupleExpr = tupleExpr.clone();
+		if (!(tupleExpr instanceof QueryRoot)) {
+			tupleExpr = new QueryRoot(tupleExpr);
+		}
+
+		try {
+			EvaluationStrategy strategy = new DefaultEvaluationStrategy(tripleSource, dataset, null);
+			tupleExpr = strategy.optimize(tupleExpr, new EvaluationStatistics(), bindings);
+			return strategy.precompile(tupleExpr).evaluate(EmptyBindingSet.getInstance());
+		} catch (QueryEvaluationException e) {
+			throw new SailException(e);
+		}
+	}
+
+	@Override
+	public CloseableIteration<? extends Resource> getContextIDs() throws SailException {
+		Set<Resource> contexts = new HashSet<>();
+		try (CloseableIteration<Statement> statements = delta.getStatements(null, null, null)) {
+			while (statements.hasNext()) {
+				Resource context = statements.next().getContext();
+				if (context != null) {
+					contexts.add(context);
+				}
+			}
+		}
+		return new CloseableIteratorIteration<>(contexts.iterator());
+	}
+
+	@Override
+	public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred, Value obj,
+			boolean includeInferred, Resource... contexts) throws SailException {
+		return delta.getStatements(subj, pred, obj, contexts);
+	}
+
+	@Override
+	public boolean hasStatement(Resource subj, IRI pred, Value obj, boolean includeInferred, Resource... contexts)
+			throws SailException {
+		try (CloseableIteration<Statement> statements = delta.getStatements(subj, pred, obj, contexts)) {
+			return statements.hasNext();
+		}
+	}
+
+	@Override
+	public long size(Resource... contexts) throws SailException {
+		if (contexts.length == 0) {
+			return delta.size();
+		}
+		long size = 0;
+		try (CloseableIteration<Statement> statements = delta.getStatements(null, null, null, contexts)) {
+			while (statements.hasNext()) {
+				statements.next();
+				size++;
+			}
+		}
+		return size;
+	}
+
+	@Override
+	public void begin() throws SailException {
+		// the delta is immutable
+	}
+
+	@Override
+	public void begin(IsolationLevel level) throws UnknownSailTransactionStateException, SailException {
+		// the delta is immutable
+	}
+
+	@Override
+	public void flush() throws SailException {
+		// the delta is immutable
+	}
+
+	@Override
+	public void prepare() throws SailException {
+		// the delta is immutable
+	}
+
+	@Override
+	public void commit() throws SailException {
+		// the delta is immutable
+	}
+
+	@Override
+	public void rollback() throws SailException {
+		// the delta is immutable
+	}
+
+	@Override
+	public boolean isActive() throws UnknownSailTransactionStateException {
+		return false;
+	}
+
+	@Override
+	public void addStatement(Resource subj, IRI pred, Value obj, Resource... contexts) throws SailException {
+		throw new SailReadOnlyException("Transaction delta is read-only");
+	}
+
+	@Override
+	public void removeStatements(Resource subj, IRI pred, Value obj, Resource... contexts) throws SailException {
+		throw new SailReadOnlyException("Transaction delta is read-only");
+	}
+
+	@Override
+	public void startUpdate(UpdateContext op) throws SailException {
+		throw new SailReadOnlyException("Transaction delta is read-only");
+	}
+
+	@Override
+	public void addStatement(UpdateContext op, Resource subj, IRI pred, Value obj, Resource... contexts)
+			throws SailException {
+		throw new SailReadOnlyException("Transaction delta is read-only");
+	}
+
+	@Override
+	public void removeStatement(UpdateContext op, Resource subj, IRI pred, Value obj, Resource... contexts)
+			throws SailException {
+		throw new SailReadOnlyException("Transaction delta is read-only");
+	}
+
+	@Override
+	public void endUpdate(UpdateContext op) throws SailException {
+		throw new SailReadOnlyException("Transaction delta is read-only");
+	}
+
+	@Override
+	public void clear(Resource... contexts) throws SailException {
+		throw new SailReadOnlyException("Transaction delta is read-only");
+	}
+
+	@Override
+	public CloseableIteration<? extends Namespace> getNamespaces() throws SailException {
+		return new EmptyIteration<>();
+	}
+
+	@Override
+	public String getNamespace(String prefix) throws SailException {
+		return null;
+	}
+
+	@Override
+	public void setNamespace(String prefix, String name) throws SailException {
+		throw new SailReadOnlyException("Transaction delta is read-only");
+	}
+
+	@Override
+	public void removeNamespace(String prefix) throws SailException {
+		throw new SailReadOnlyException("Transaction delta is read-only");
+	}
+
+	@Override
+	public void clearNamespaces() throws SailException {
+		throw new SailReadOnlyException("Transaction delta is read-only");
+	}
+}
@@ -11,18 +11,24 @@
 
 package org.eclipse.rdf4j.sail.shacl;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDF4J;
 import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.model.vocabulary.SHACL;
 import org.eclipse.rdf4j.sail.NotifyingSailConnection;
+import org.eclipse.rdf4j.sail.SailConnection;
 import org.eclipse.rdf4j.sail.memory.MemoryStore;
 import org.eclipse.rdf4j.sail.shacl.wrapper.data.RdfsSubClassOfReasoner;
 import org.eclipse.rdf4j.sail.shacl.wrapper.data.VerySimpleRdfsBackwardsChainingConnection;
@@ -134,6 +140,166 @@ public class RdfsShaclConnectionTest {
 
 	}
 
+	@Test
+	public void testUpdateMatchesRecomputation() {
+
+		Random random = new Random(42);
+		List<IRI> classes = IntStream.range(0, 30)
+				.mapToObj(i -> vf.createIRI("http://example.com/class" + i))
+				.collect(Collectors.toList());
+
+		MemoryStore memoryStore = new MemoryStore();
+		memoryStore.init();
+
+		try (SailConnection connection = memoryStore.getConnection()) {
+			RdfsSubClassOfReasoner reasoner = RdfsSubClassOfReasoner.createReasoner(connection,
+					new ValidationSettings());
+			Assertions.assertTrue(reasoner.isEmpty());
+
+			for (int i = 0; i < 50; i++) {
+				List<Statement> modified = new ArrayList<>();
+
+				connection.begin();
+				for (int j = 0; j < 3; j++) {
+					Statement statement = vf.createStatement(classes.get(random.nextInt(classes.size())),
+							RDFS.SUBCLASSOF, classes.get(random.nextInt(classes.size())));
+					if (random.nextInt(3) == 0) {
+						connection.removeStatements(statement.getSubject(), RDFS.SUBCLASSOF, statement.getObject());
+					} else {
+						connection.addStatement(statement.getSubject(), RDFS.SUBCLASSOF, statement.getObject());
+					}
+					modified.add(statement);
+				}
+				connection.commit();
+
+				List<Statement> added = new ArrayList<>();
+				List<Statement> removed = new ArrayList<>();
+				for (Statement statement : modified) {
+					if (connection.hasStatement(statement.getSubject(), RDFS.SUBCLASSOF, statement.getObject(),
+							false)) {
+						added.add(statement);
+					} else {
+						removed.add(statement);
+					}
+				}
+				reasoner = reasoner.update(added, removed);
+				RdfsSubClassOfReasoner expected = RdfsSubClassOfReasoner.createReasoner(connection,
+						new ValidationSettings());
+
+				for (IRI clazz : classes) {
+					Assertions.assertEquals(expected.backwardsChain(clazz), reasoner.backwardsChain(clazz));
+
+					Statement type = vf.createStatement(aSub, RDF.TYPE, clazz);
+					Assertions.assertEquals(expected.forwardChain(type).collect(Collectors.toSet()),
+							reasoner.forwardChain(type).collect(Collectors.toSet()));
+				}
+			}
+		}
+
+		memoryStore.shutDown();
+
+	}
+
+	@Test
+	public void testUpdateRemovingSubClassOfStatements() {
+
+		List<IRI> classes = IntStream.range(0, 6)
+				.mapToObj(i -> vf.createIRI("http://example.com/class" + i))
+				.collect(Collectors.toList());
+
+		MemoryStore memoryStore = new MemoryStore();
+		memoryStore.init();
+
+		try (SailConnection connection = memoryStore.getConnection()) {
+			// class0 -> class1 -> class2 -> class3, class4 -> class1, class2 -> class5
+			int[][] hierarchy = { { 0, 1 }, { 1, 2 }, { 2, 3 }, { 4, 1 }, { 2, 5 } };
+			connection.begin();
+			for (int[] edge : hierarchy) {
+				connection.addStatement(classes.get(edge[0]), RDFS.SUBCLASSOF, classes.get(edge[1]));
+			}
+			connection.commit();
+			RdfsSubClassOfReasoner reasoner = RdfsSubClassOfReasoner.createReasoner(connection,
+					new ValidationSettings());
+
+			// remove the statements in the middle of the hierarchy within one update
+			List<Statement> removed = List.of(vf.createStatement(classes.get(1), RDFS.SUBCLASSOF, classes.get(2)),
+					vf.createStatement(classes.get(0), RDFS.SUBCLASSOF, classes.get(1)));
+			connection.begin();
+			for (Statement statement : removed) {
+				connection.removeStatements(statement.getSubject(), RDFS.SUBCLASSOF, statement.getObject());
+			}
+			connection.commit();
+
+			reasoner = reasoner.update(List.of(), removed);
+			RdfsSubClassOfReasoner expected = RdfsSubClassOfReasoner.createReasoner(connection,
+					new ValidationSettings());
+
+			for (IRI clazz : classes) {
+				Assertions.assertEquals(expected.backwardsChain(clazz), reasoner.backwardsChain(clazz));
+
+				Statement type = vf.createStatement(aSub, RDF.TYPE, clazz);
+				Assertions.assertEquals(expected.forwardChain(type).collect(Collectors.toSet()),
+						reasoner.forwardChain(type).collect(Collectors.toSet()));
+			}
+		}
+
+		memoryStore.shutDown();
+
+	}
+
+	@Test
+	public void testReasonerSharedBetweenTransactions() {
+
+		ShaclSail shaclSail = new ShaclSail(new MemoryStore());
+		shaclSail.init();
+
+		IRI shape = vf.createIRI("http://example.com/shape");
+		IRI propertyShape = vf.createIRI("http://example.com/propertyShape");
+		IRI path = vf.createIRI("http://example.com/path");
+
+		try (NotifyingSailConnection connection = shaclSail.getConnection()) {
+			connection.begin();
+			connection.addStatement(shape, RDF.TYPE, SHACL.NODE_SHAPE, RDF4J.SHACL_SHAPE_GRAPH);
+			connection.addStatement(shape, SHACL.TARGET_CLASS, sup, RDF4J.SHACL_SHAPE_GRAPH);
+			connection.addStatement(shape, SHACL.PROPERTY, propertyShape, RDF4J.SHACL_SHAPE_GRAPH);
+			connection.addStatement(propertyShape, SHACL.PATH, path, RDF4J.SHACL_SHAPE_GRAPH);
+			connection.addStatement(propertyShape, SHACL.MIN_COUNT, vf.createLiteral(1), RDF4J.SHACL_SHAPE_GRAPH);
+			connection.commit();
+
+			connection.begin();
+			connection.addStatement(sub, RDFS.SUBCLASSOF, sup);
+			connection.addStatement(aSub, RDF.TYPE, sub);
+			connection.addStatement(aSub, path, vf.createLiteral(1));
+			connection.commit();
+
+			RdfsSubClassOfReasoner reasoner = shaclSail
+					.getRdfsSubClassOfReasoner(shaclSail.getRdfsSubClassOfGeneration());
+			Assertions.assertNotNull(reasoner);
+			Assertions.assertEquals(Set.of(sup, sub), reasoner.backwardsChain(sup));
+
+			// the shared reasoner is reused by transactions that do not modify rdfs:subClassOf statements
+			connection.begin();
+			connection.addStatement(aSup, RDF.TYPE, sub);
+			Assertions.assertThrows(ShaclSailValidationException.class, connection::commit);
+			connection.rollback();
+			Assertions.assertSame(reasoner,
+					shaclSail.getRdfsSubClassOfReasoner(shaclSail.getRdfsSubClassOfGeneration()));
+
+			connection.begin();
+			connection.removeStatements(sub, RDFS.SUBCLASSOF, sup);
+			connection.addStatement(aSup, RDF.TYPE, sub);
+			connection.commit();
+
+			reasoner = shaclSail.getRdfsSubClassOfReasoner(shaclSail.getRdfsSubClassOfGeneration());
+			Assertions.assertNotNull(reasoner);
+			Assertions.assertTrue(reasoner.isEmpty());
+			Assertions.assertEquals(Set.of(sup), reasoner.backwardsChain(sup));
+		}
+
+		shaclSail.shutDown();
+
+	}
+
 	private void fill(ShaclSail shaclSail) {
 		try (NotifyingSailConnection connection = shaclSail.getConnection()) {
 			connection.begin();
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+
+package org.eclipse.rdf4j.sail.shacl.wrapper.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+import org.eclipse.rdf4j.query.parser.ParsedQuery;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.eclipse.rdf4j.sail.SailConnection;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TransactionDeltaTest {
+
+	private final SimpleValueFactory vf = SimpleValueFactory.getInstance();
+
+	@Test
+	public void testGetStatements() {
+
+		Random random = new Random(42);
+		List<Resource> resources = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			resources.add(vf.createIRI("http://example.com/resource" + i));
+		}
+		// two strings with the same hash code
+		resources.add(vf.createIRI("http://example.com/Aa"));
+		resources.add(vf.createIRI("http://example.com/BB"));
+		List<IRI> predicates = List.of(RDF.TYPE, vf.createIRI("http://example.com/p1"),
+				vf.createIRI("http://example.com/p2"));
+		Resource[] contexts = { null, vf.createIRI("http://example.com/graph") };
+
+		Set<Statement> statements = new HashSet<>();
+		for (int i = 0; i < 300; i++) {
+			statements.add(vf.createStatement(resources.get(random.nextInt(resources.size())),
+					predicates.get(random.nextInt(predicates.size())),
+					resources.get(random.nextInt(resources.size())), contexts[random.nextInt(contexts.length)]));
+		}
+
+		TransactionDelta delta = new TransactionDelta(statements);
+		Assertions.assertEquals(statements.size(), delta.size());
+
+		List<Resource> subjects = new ArrayList<>(resources);
+		subjects.add(null);
+		List<IRI> preds = new ArrayList<>(predicates);
+		preds.add(null);
+
+		try (SailConnection connection = delta.getConnection()) {
+			Assertions.assertEquals(statements.size(), connection.size());
+			Assertions.assertEquals(Set.of(contexts[1]), Iterations.asSet(connection.getContextIDs()));
+
+			for (Resource subj : subjects) {
+				for (IRI pred : preds) {
+					for (Value obj : subjects) {
+						assertStatements(statements, connection, subj, pred, obj);
+						assertStatements(statements, connection, subj, pred, obj, contexts[1]);
+						assertStatements(statements, connection, subj, pred, obj, (Resource) null);
+					}
+				}
+			}
+		}
+	}
+
+	private void assertStatements(Set<Statement> statements, SailConnection connection, Resource subj, IRI pred,
+			Value obj, Resource... contexts) {
+		Set<Statement> expected = statements.stream()
+				.filter(st -> subj == null || subj.equals(st.getSubject()))
+				.filter(st -> pred == null || pred.equals(st.getPredicate()))
+				.filter(st -> obj == null || obj.equals(st.getObject()))
+				.filter(st -> contexts.length == 0 || Arrays.asList(contexts).contains(st.getContext()))
+				.collect(Collectors.toSet());
+
+		try (CloseableIteration<? extends Statement> actual = connection.getStatements(subj, pred, obj, true,
+				contexts)) {
+			List<Statement> actualList = new ArrayList<>(Iterations.asList(actual));
+			Assertions.assertEquals(expected.size(), actualList.size());
+			Assertions.assertEquals(expected, new HashSet<>(actualList));
+		}
+		Assertions.assertEquals(!expected.isEmpty(), connection.hasStatement(subj, pred, obj, true, contexts));
+	}
+
+	@Test
+	public void testEvaluate() {
+
+		IRI person = vf.createIRI("http://example.com/Person");
+		IRI name = vf.createIRI("http://example.com/name");
+		IRI peter = vf.createIRI("http://example.com/peter");
+		IRI steve = vf.createIRI("http://example.com/steve");
+
+		TransactionDelta delta = new TransactionDelta(List.of(
+				vf.createStatement(peter, RDF.TYPE, person),
+				vf.createStatement(peter, name, vf.createLiteral("Peter")),
+				vf.createStatement(steve, RDF.TYPE, person)));
+
+		ParsedQuery query = QueryParserUtil.parseQuery(QueryLanguage.SPARQL,
+				"SELECT ?a ?name WHERE { ?a a <" + person + "> OPTIONAL { ?a <" + name + "> ?name } }", null);
+
+		try (SailConnection connection = delta.getConnection()) {
+			connection.begin();
+			try (CloseableIteration<? extends BindingSet> result = connection.evaluate(query.getTupleExpr(),
+					query.getDataset(), EmptyBindingSet.getInstance(), true)) {
+				Set<String> values = result.stream()
+						.map(bindings -> bindings.getValue("a").stringValue() + " "
+								+ (bindings.hasBinding("name") ? bindings.getValue("name").stringValue() : ""))
+						.collect(Collectors.toSet());
+				Assertions.assertEquals(Set.of(peter + " Peter", steve + " "), values);
+			}
+			connection.commit();
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.benchmark.queryresultio;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Triple;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.util.Literals;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.query.Binding;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryResultHandlerException;
+import org.eclipse.rdf4j.query.TupleQueryResultHandlerException;
+import org.eclipse.rdf4j.query.resultio.sparqljson.SPARQLResultsJSONWriter;
+
+/**
+ * The {@link SPARQLResultsJSONWriter} as it was before it encoded UTF-8 directly and cached encoded values: an
+ * {@link OutputStream} is wrapped in a character stream, and every field name and value is escaped when it is written.
+ * Used as baseline by the {@link TupleQueryResultWriterBenchmark}.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+class BaselineSPARQLResultsJSONWriter extends SPARQLResultsJSONWriter {
+
+	BaselineSPARQLResultsJSONWriter(OutputStream out) {
+		this(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+	}
+
+	BaselineSPARQLResultsJSONWriter(Writer writer) {
+		super(writer);
+	}
+
+	@Override
+	protected void handleSolutionImpl(BindingSet bindingSet) throws TupleQueryResultHandlerException {
+		try {
+			if (!documentOpen) {
+				startDocument();
+			}
+
+			if (!headerOpen) {
+				startHeader();
+			}
+
+			if (!headerComplete) {
+				endHeader();
+			}
+
+			if (!tupleVariablesFound) {
+				throw new IllegalStateException("Must call startQueryResult before handleSolution");
+			}
+
+			firstTupleWritten = true;
+
+			jg.writeStartObject();
+
+			Iterator<Binding> bindingIter = bindingSet.iterator();
+			while (bindingIter.hasNext()) {
+				Binding binding = bindingIter.next();
+				jg.writeFieldName(binding.getName());
+				writeValue(binding.getValue());
+			}
+
+			jg.writeEndObject();
+		} catch (IOException | QueryResultHandlerException e) {
+			throw new TupleQueryResultHandlerException(e);
+		}
+	}
+
+	@Override
+	protected void writeValue(Value value) throws IOException, QueryResultHandlerException {
+		if (value instanceof Triple) {
+			super.writeValue(value);
+			return;
+		}
+
+		jg.writeStartObject();
+
+		if (value instanceof IRI) {
+			jg.writeStringField("type", "uri");
+			jg.writeStringField("value", ((IRI) value).toString());
+		} else if (value instanceof BNode) {
+			jg.writeStringField("type", "bnode");
+			jg.writeStringField("value", ((BNode) value).getID());
+		} else if (value instanceof Literal) {
+			Literal lit = (Literal) value;
+
+			if (Literals.isLanguageLiteral(lit)) {
+				jg.writeObjectField("xml:lang", lit.getLanguage().orElse(null));
+			} else {
+				IRI datatype = lit.getDatatype();
+				boolean ignoreDatatype = datatype.equals(XSD.STRING) && xsdStringToPlainLiteral();
+				if (!ignoreDatatype) {
+					jg.writeObjectField("datatype", lit.getDatatype().stringValue());
+				}
+			}
+
+			jg.writeObjectField("type", "literal");
+
+			jg.writeObjectField("value", lit.getLabel());
+		} else {
+			throw new TupleQueryResultHandlerException("Unknown Value object type: " + value.getClass());
+		}
+		jg.writeEndObject();
+	}
+}
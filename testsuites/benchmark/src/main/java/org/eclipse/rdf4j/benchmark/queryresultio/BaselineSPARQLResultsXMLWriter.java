@@ -0,0 +1,491 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.benchmark.queryresultio;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.io.CharSink;
+import org.eclipse.rdf4j.common.xml.XMLWriter;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Triple;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.util.Literals;
+import org.eclipse.rdf4j.model.vocabulary.SESAMEQNAME;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.query.Binding;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryResultHandlerException;
+import org.eclipse.rdf4j.query.TupleQueryResultHandlerException;
+import org.eclipse.rdf4j.query.resultio.AbstractQueryResultWriter;
+import org.eclipse.rdf4j.query.resultio.BasicQueryWriterSettings;
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultFormat;
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultWriter;
+import org.eclipse.rdf4j.query.resultio.sparqlxml.SPARQLResultsXMLWriter;
+import org.eclipse.rdf4j.rio.RioSetting;
+import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
+import org.eclipse.rdf4j.rio.helpers.XMLWriterSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SPARQLResultsXMLWriter} as it was before it skipped the namespace lookup of IRIs: a copy of the former
+ * <code>AbstractSPARQLXMLWriter</code>, which is not accessible outside of its package. Together with the
+ * {@link BaselineXMLWriter} it is used as baseline by the {@link TupleQueryResultWriterBenchmark}.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+class BaselineSPARQLResultsXMLWriter extends AbstractQueryResultWriter implements TupleQueryResultWriter, CharSink {
+
+	private static final String NAMESPACE = "http://www.w3.org/2005/sparql-results#";
+
+	private static final String ROOT_TAG = "sparql";
+
+	private static final String HEAD_TAG = "head";
+
+	private static final String LINK_TAG = "link";
+
+	private static final String VAR_TAG = "variable";
+
+	private static final String VAR_NAME_ATT = "name";
+
+	private static final String HREF_ATT = "href";
+
+	private static final String BOOLEAN_TAG = "boolean";
+
+	private static final String BOOLEAN_TRUE = "true";
+
+	private static final String BOOLEAN_FALSE = "false";
+
+	private static final String RESULT_SET_TAG = "results";
+
+	private static final String RESULT_TAG = "result";
+
+	private static final String BINDING_TAG = "binding";
+
+	private static final String BINDING_NAME_ATT = "name";
+
+	private static final String URI_TAG = "uri";
+
+	private static final String BNODE_TAG = "bnode";
+
+	private static final String LITERAL_TAG = "literal";
+
+	private static final String LITERAL_LANG_ATT = "xml:lang";
+
+	private static final String LITERAL_DATATYPE_ATT = "datatype";
+
+	private static final String QNAME = "q:qname";
+
+	private static final String TRIPLE_TAG = "triple";
+
+	private static final String SUBJECT_TAG = "subject";
+
+	private static final String PREDICATE_TAG = "predicate";
+
+	private static final String OBJECT_TAG = "object";
+
+	/**
+	 * XMLWriter to write XML to.
+	 */
+	private final XMLWriter xmlWriter;
+
+	private boolean documentOpen = false;
+
+	private boolean headerOpen = false;
+
+	private boolean headerComplete = false;
+
+	private boolean tupleVariablesFound = false;
+
+	/**
+	 * Map with keys as namespace URI strings and the values as the shortened prefixes.
+	 */
+	private final Map<String, String> namespaceTable = new HashMap<>();
+
+	private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+	BaselineSPARQLResultsXMLWriter(XMLWriter xmlWriter) {
+		this.xmlWriter = xmlWriter;
+		this.xmlWriter.setPrettyPrint(true);
+	}
+
+	@Override
+	public TupleQueryResultFormat getTupleQueryResultFormat() {
+		return TupleQueryResultFormat.SPARQL;
+	}
+
+	@Override
+	public TupleQueryResultFormat getQueryResultFormat() {
+		return getTupleQueryResultFormat();
+	}
+
+	@Override
+	public Writer getWriter() {
+		return xmlWriter.getWriter();
+	}
+
+	private void endDocument() throws IOException {
+		xmlWriter.endTag(ROOT_TAG);
+
+		xmlWriter.endDocument();
+
+		tupleVariablesFound = false;
+		headerOpen = false;
+		headerComplete = false;
+		documentOpen = false;
+	}
+
+	@Override
+	public void handleBoolean(boolean value) throws QueryResultHandlerException {
+		if (!documentOpen) {
+			startDocument();
+		}
+
+		if (!headerOpen) {
+			startHeader();
+		}
+
+		if (!headerComplete) {
+			endHeader();
+		}
+
+		if (tupleVariablesFound) {
+			throw new QueryResultHandlerException("Cannot call handleBoolean after startQueryResults");
+		}
+
+		try {
+			if (value) {
+				xmlWriter.textElement(BOOLEAN_TAG, BOOLEAN_TRUE);
+			} else {
+				xmlWriter.textElement(BOOLEAN_TAG, BOOLEAN_FALSE);
+			}
+
+			endDocument();
+		} catch (IOException e) {
+			throw new QueryResultHandlerException(e);
+		}
+	}
+
+	@Override
+	public void startDocument() throws QueryResultHandlerException {
+		if (!documentOpen) {
+			documentOpen = true;
+			headerOpen = false;
+			headerComplete = false;
+			tupleVariablesFound = false;
+
+			try {
+				xmlWriter.setPrettyPrint(getWriterConfig().get(BasicWriterSettings.PRETTY_PRINT));
+
+				if (getWriterConfig().get(XMLWriterSettings.INCLUDE_XML_PI)) {
+					xmlWriter.startDocument();
+				}
+
+				xmlWriter.setAttribute("xmlns", NAMESPACE);
+
+				if (getWriterConfig().get(BasicQueryWriterSettings.ADD_SESAME_QNAME)) {
+					xmlWriter.setAttribute("xmlns:q", SESAMEQNAME.NAMESPACE);
+				}
+
+				for (String nextPrefix : namespaceTable.keySet()) {
+					this.log.debug("Adding custom prefix for <{}> to map to <{}>", nextPrefix,
+							namespaceTable.get(nextPrefix));
+					xmlWriter.setAttribute("xmlns:" + namespaceTable.get(nextPrefix), nextPrefix);
+				}
+			} catch (IOException e) {
+				throw new QueryResultHandlerException(e);
+			}
+		}
+	}
+
+	@Override
+	public void handleStylesheet(String url) throws QueryResultHandlerException {
+		if (!documentOpen) {
+			startDocument();
+		}
+
+		try {
+			xmlWriter.writeStylesheet(url);
+		} catch (IOException e) {
+			throw new QueryResultHandlerException(e);
+		}
+	}
+
+	@Override
+	public void startHeader() throws QueryResultHandlerException {
+		if (!documentOpen) {
+			startDocument();
+		}
+
+		if (!headerOpen) {
+			try {
+				xmlWriter.startTag(ROOT_TAG);
+
+				xmlWriter.startTag(HEAD_TAG);
+
+				headerOpen = true;
+			} catch (IOException e) {
+				throw new QueryResultHandlerException(e);
+			}
+		}
+	}
+
+	@Override
+	public void handleLinks(List<String> linkUrls) throws QueryResultHandlerException {
+		if (!documentOpen) {
+			startDocument();
+		}
+
+		if (!headerOpen) {
+			startHeader();
+		}
+
+		try {
+			// Write link URLs
+			for (String name : linkUrls) {
+				xmlWriter.setAttribute(HREF_ATT, name);
+				xmlWriter.emptyElement(LINK_TAG);
+			}
+		} catch (IOException e) {
+			throw new QueryResultHandlerException(e);
+		}
+	}
+
+	@Override
+	public void endHeader() throws QueryResultHandlerException {
+		if (!documentOpen) {
+			startDocument();
+		}
+
+		if (!headerOpen) {
+			startHeader();
+		}
+
+		if (!headerComplete) {
+			try {
+				xmlWriter.endTag(HEAD_TAG);
+
+				if (tupleVariablesFound) {
+					// Write start of results, which must always exist, even if there
+					// are no result bindings
+					xmlWriter.startTag(RESULT_SET_TAG);
+				}
+
+				headerComplete = true;
+			} catch (IOException e) {
+				throw new QueryResultHandlerException(e);
+			}
+		}
+	}
+
+	@Override
+	public void startQueryResult(List<String> bindingNames) throws TupleQueryResultHandlerException {
+		super.startQueryResult(bindingNames);
+
+		try {
+			if (!documentOpen) {
+				startDocument();
+			}
+			if (!headerOpen) {
+				startHeader();
+			}
+
+			tupleVariablesFound = true;
+			// Write binding names
+			for (String name : bindingNames) {
+				xmlWriter.setAttribute(VAR_NAME_ATT, name);
+				xmlWriter.emptyElement(VAR_TAG);
+			}
+		} catch (IOException | QueryResultHandlerException e) {
+			throw new TupleQueryResultHandlerException(e);
+		}
+	}
+
+	@Override
+	public void endQueryResult() throws TupleQueryResultHandlerException {
+		try {
+			if (!documentOpen) {
+				startDocument();
+			}
+
+			if (!headerOpen) {
+				startHeader();
+			}
+
+			if (!headerComplete) {
+				endHeader();
+			}
+
+			if (!tupleVariablesFound) {
+				throw new IllegalStateException("Could not end query result as startQueryResult was not called first.");
+			}
+
+			xmlWriter.endTag(RESULT_SET_TAG);
+			endDocument();
+		} catch (IOException | QueryResultHandlerException e) {
+			throw new TupleQueryResultHandlerException(e);
+		}
+	}
+
+	@Override
+	protected void handleSolutionImpl(BindingSet bindingSet) throws TupleQueryResultHandlerException {
+		try {
+			if (!documentOpen) {
+				startDocument();
+			}
+
+			if (!headerOpen) {
+				startHeader();
+			}
+
+			if (!headerComplete) {
+				endHeader();
+			}
+
+			if (!tupleVariablesFound) {
+				throw new IllegalStateException("Must call startQueryResult before handleSolution");
+			}
+
+			xmlWriter.startTag(RESULT_TAG);
+
+			for (Binding binding : bindingSet) {
+				xmlWriter.setAttribute(BINDING_NAME_ATT, binding.getName());
+				xmlWriter.startTag(BINDING_TAG);
+
+				writeValue(binding.getValue());
+
+				xmlWriter.endTag(BINDING_TAG);
+			}
+
+			xmlWriter.endTag(RESULT_TAG);
+		} catch (IOException | QueryResultHandlerException e) {
+			throw new TupleQueryResultHandlerException(e);
+		}
+	}
+
+	@Override
+	public Collection<RioSetting<?>> getSupportedSettings() {
+		Set<RioSetting<?>> result = new HashSet<>(super.getSupportedSettings());
+
+		result.add(BasicWriterSettings.PRETTY_PRINT);
+		result.add(BasicWriterSettings.XSD_STRING_TO_PLAIN_LITERAL);
+		result.add(BasicWriterSettings.ENCODE_RDF_STAR);
+		result.add(BasicQueryWriterSettings.ADD_SESAME_QNAME);
+		result.add(XMLWriterSettings.INCLUDE_XML_PI);
+
+		return result;
+	}
+
+	@Override
+	public void handleNamespace(String prefix, String uri) throws QueryResultHandlerException {
+		// we only support the addition of prefixes before the document is open
+		// fail silently if namespaces are added after this point
+		if (!documentOpen) {
+			// SES-1751 : Do not allow overriding of the fixed sparql or
+			// sesameqname prefixes
+			if (!prefix.trim().isEmpty() && !prefix.trim().equals(SESAMEQNAME.PREFIX)) {
+				this.log.debug("Handle namespace: Will map <{}> to <{}>", uri, prefix);
+				// NOTE: The keys in the namespace table are the URIs and the values
+				// are the prefixes
+				this.namespaceTable.put(uri, prefix);
+			} else {
+				this.log.debug(
+						"handleNamespace was ignored for either the empty prefix or the sesame qname prefix (q). Attempted to map: <{}> to <{}>",
+						uri, prefix);
+			}
+		} else {
+			this.log.warn("handleNamespace was ignored after startDocument: <{}> to <{}>", uri, prefix);
+		}
+	}
+
+	private void writeValue(Value value) throws IOException {
+		if (value instanceof Triple) {
+			writeTriple((Triple) value);
+		} else if (value instanceof IRI) {
+			writeURI((IRI) value);
+		} else if (value instanceof BNode) {
+			writeBNode((BNode) value);
+		} else if (value instanceof Literal) {
+			writeLiteral((Literal) value);
+		}
+	}
+
+	private boolean isQName(IRI nextUri) {
+		return namespaceTable.containsKey(nextUri.getNamespace());
+	}
+
+	private void writeTriple(Triple triple) throws IOException {
+		xmlWriter.startTag(TRIPLE_TAG);
+		xmlWriter.startTag(SUBJECT_TAG);
+		writeValue(triple.getSubject());
+		xmlWriter.endTag(SUBJECT_TAG);
+		xmlWriter.startTag(PREDICATE_TAG);
+		writeValue(triple.getPredicate());
+		xmlWriter.endTag(PREDICATE_TAG);
+		xmlWriter.startTag(OBJECT_TAG);
+		writeValue(triple.getObject());
+		xmlWriter.endTag(OBJECT_TAG);
+		xmlWriter.endTag(TRIPLE_TAG);
+	}
+
+	/**
+	 * Write a QName for the given URI if and only if the {@link BasicQueryWriterSettings#ADD_SESAME_QNAME} setting has
+	 * been set to true. By default it is false, to ensure that this implementation stays within the specification by
+	 * default.
+	 *
+	 * @param nextUri The prefixed URI to be written as a sesame qname attribute.
+	 */
+	private void writeQName(IRI nextUri) {
+		if (getWriterConfig().get(BasicQueryWriterSettings.ADD_SESAME_QNAME)) {
+			xmlWriter.setAttribute(QNAME, namespaceTable.get(nextUri.getNamespace()) + ":" + nextUri.getLocalName());
+		}
+	}
+
+	private void writeURI(IRI uri) throws IOException {
+		if (isQName(uri)) {
+			writeQName(uri);
+		}
+		xmlWriter.textElement(URI_TAG, uri.toString());
+	}
+
+	private void writeBNode(BNode bNode) throws IOException {
+		xmlWriter.textElement(BNODE_TAG, bNode.getID());
+	}
+
+	private void writeLiteral(Literal literal) throws IOException {
+		if (Literals.isLanguageLiteral(literal)) {
+			xmlWriter.setAttribute(LITERAL_LANG_ATT, literal.getLanguage().get());
+		}
+		// Only enter this section for non-language literals now, as the
+		// rdf:langString datatype is handled implicitly above
+		else {
+			IRI datatype = literal.getDatatype();
+			boolean ignoreDatatype = datatype.equals(XSD.STRING) && xsdStringToPlainLiteral();
+			if (!ignoreDatatype) {
+				if (isQName(datatype)) {
+					writeQName(datatype);
+				}
+				xmlWriter.setAttribute(LITERAL_DATATYPE_ATT, datatype.stringValue());
+			}
+		}
+
+		xmlWriter.textElement(LITERAL_TAG, literal.getLabel());
+	}
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.benchmark.queryresultio;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.rdf4j.common.xml.XMLUtil;
+import org.eclipse.rdf4j.common.xml.XMLWriter;
+
+/**
+ * The {@link XMLWriter} as it was before escaping was done in place: tag names are concatenated, text and attribute
+ * values are escaped into intermediate strings and the character stream of an {@link OutputStream} is not buffered.
+ * Used as baseline by the {@link TupleQueryResultWriterBenchmark}.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+class BaselineXMLWriter extends XMLWriter {
+
+	private final String charEncoding;
+
+	private final Map<String, String> attributes = new LinkedHashMap<>();
+
+	BaselineXMLWriter(Writer writer) {
+		super(writer);
+		this.charEncoding = null;
+	}
+
+	BaselineXMLWriter(OutputStream outputStream) {
+		super(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		this.charEncoding = StandardCharsets.UTF_8.name();
+	}
+
+	@Override
+	public void startDocument() throws IOException {
+		_write("<?xml version='1.0'");
+		if (charEncoding != null) {
+			_write(" encoding='" + charEncoding + "'");
+		}
+		_writeLn("?>");
+	}
+
+	@Override
+	public void setAttribute(String name, String value) {
+		attributes.put(name, value);
+	}
+
+	@Override
+	public void startTag(String elName) throws IOException {
+		_writeIndent();
+		_write("<" + elName);
+		writeAtts();
+		_writeLn(">");
+		_indentLevel++;
+	}
+
+	@Override
+	public void endTag(String elName) throws IOException {
+		_indentLevel--;
+		_writeIndent();
+		_writeLn("</" + elName + ">");
+	}
+
+	@Override
+	public void emptyElement(String elName) throws IOException {
+		_writeIndent();
+		_write("<" + elName);
+		writeAtts();
+		_writeLn("/>");
+	}
+
+	@Override
+	public void textElement(String elName, String text) throws IOException {
+		_writeIndent();
+		_write("<" + elName);
+		writeAtts();
+		_write(">");
+		text(text);
+		_writeLn("</" + elName + ">");
+	}
+
+	@Override
+	public void unescapedTextElement(String elName, String text) throws IOException {
+		_writeIndent();
+		_write("<" + elName);
+		writeAtts();
+		_write(">");
+		_write(text);
+		_writeLn("</" + elName + ">");
+	}
+
+	@Override
+	public void text(String text) throws IOException {
+		_write(XMLUtil.escapeCharacterData(text));
+	}
+
+	private void writeAtts() throws IOException {
+		for (Entry<String, String> entry : attributes.entrySet()) {
+			String name = entry.getKey();
+			String value = entry.getValue();
+
+			_write(" " + name + "='");
+			if (value != null) {
+				_write(XMLUtil.escapeSingleQuotedAttValue(value));
+			}
+			_write("'");
+		}
+
+		attributes.clear();
+	}
+}
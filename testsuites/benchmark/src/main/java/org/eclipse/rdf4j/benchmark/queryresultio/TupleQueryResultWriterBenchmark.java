@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.benchmark.queryresultio;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.impl.ListBindingSet;
+import org.eclipse.rdf4j.query.resultio.QueryResultFormat;
+import org.eclipse.rdf4j.query.resultio.QueryResultIO;
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultFormat;
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultWriter;
+import org.eclipse.rdf4j.query.resultio.sparqljson.SPARQLResultsJSONWriter;
+import org.eclipse.rdf4j.query.resultio.sparqlxml.SPARQLResultsXMLWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.util.NullOutputStream;
+
+/**
+ * Benchmark for {@link TupleQueryResultWriter}s writing a wide result with many repeated IRIs and datatypes.
+ * <p>
+ * The <code>stream</code> sink writes to an {@link OutputStream}, which lets the SPARQL JSON and XML writers encode
+ * UTF-8 directly, whereas the <code>writer</code> sink hands them a character {@link Writer} and therefore measures the
+ * character-based code path. The <code>baseline</code> implementation runs the SPARQL JSON and XML writers as they were
+ * before their allocations were reduced (see {@link BaselineSPARQLResultsJSONWriter},
+ * {@link BaselineSPARQLResultsXMLWriter} and {@link BaselineXMLWriter}), the binary writers are the same for both
+ * implementations. Run with <code>-prof gc</code> to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode({ Mode.AverageTime })
+@Fork(value = 1, jvmArgs = { "-Xms2g", "-Xmx2g" })
+public class TupleQueryResultWriterBenchmark {
+
+	public static final int ROWS = 100_000;
+
+	private static final List<String> BINDING_NAMES = List.of("s", "p", "o", "label", "count");
+
+	@Param({ "srj", "srx", "brt", "brc" })
+	public String format;
+
+	@Param({ "stream", "writer" })
+	public String sink;
+
+	@Param({ "current", "baseline" })
+	public String implementation;
+
+	private QueryResultFormat writerFormat;
+
+	private List<BindingSet> bindingSets;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		writerFormat = QueryResultIO.getWriterFormatForFileName("dummy." + format).orElseThrow();
+
+		ValueFactory vf = SimpleValueFactory.getInstance();
+		Random random = new Random(42);
+		bindingSets = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			bindingSets.add(new ListBindingSet(BINDING_NAMES,
+					vf.createIRI("http://example.org/resource/", "r" + random.nextInt(ROWS / 10)),
+					vf.createIRI("http://example.org/property/", "p" + random.nextInt(20)),
+					vf.createIRI("http://example.org/resource/", "r" + random.nextInt(ROWS)),
+					vf.createLiteral("Label with <markup> & \"quotes\" " + i, "en"),
+					vf.createLiteral(Integer.toString(random.nextInt(1000)), XSD.INTEGER)));
+		}
+	}
+
+	@Benchmark
+	public void write() throws Exception {
+		TupleQueryResultWriter writer = createWriter(new NullOutputStream());
+
+		writer.startQueryResult(BINDING_NAMES);
+		for (BindingSet bindingSet : bindingSets) {
+			writer.handleSolution(bindingSet);
+		}
+		writer.endQueryResult();
+	}
+
+	private TupleQueryResultWriter createWriter(OutputStream out) {
+		boolean baseline = "baseline".equals(implementation);
+		Writer characterWriter = "writer".equals(sink) ? new OutputStreamWriter(out, StandardCharsets.UTF_8) : null;
+		if (TupleQueryResultFormat.JSON.equals(writerFormat)) {
+			if (baseline) {
+				return characterWriter != null ? new BaselineSPARQLResultsJSONWriter(characterWriter)
+						: new BaselineSPARQLResultsJSONWriter(out);
+			}
+			return characterWriter != null ? new SPARQLResultsJSONWriter(characterWriter)
+					: new SPARQLResultsJSONWriter(out);
+		}
+		if (TupleQueryResultFormat.SPARQL.equals(writerFormat)) {
+			if (baseline) {
+				return new BaselineSPARQLResultsXMLWriter(characterWriter != null
+						? new BaselineXMLWriter(characterWriter)
+						: new BaselineXMLWriter(out));
+			}
+			return characterWriter != null ? new SPARQLResultsXMLWriter(characterWriter)
+					: new SPARQLResultsXMLWriter(out);
+		}
+		return QueryResultIO.createTupleWriter(writerFormat, out);
+	}
+}
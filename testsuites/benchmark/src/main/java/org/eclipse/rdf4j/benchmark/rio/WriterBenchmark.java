@@ -21,6 +21,7 @@ import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.Rio;
 import org.eclipse.rdf4j.rio.helpers.ContextStatementCollector;
+import org.eclipse.rdf4j.rio.helpers.PipelinedRDFWriter;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -91,4 +92,21 @@ public class WriterBenchmark {
 		Rio.write(model, out, writerFormat);
 	}
 
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	public void pipelinedWriter(Pipeline pipeline) {
+		OutputStream out = new NullOutputStream();
+		Rio.write(model, new PipelinedRDFWriter(writerFormat, out, pipeline.threads));
+	}
+
+	/**
+	 * Number of serializer threads used by {@link #pipelinedWriter(Pipeline)}. Only line-based formats use more than
+	 * one.
+	 */
+	@State(Scope.Benchmark)
+	public static class Pipeline {
+		@Param({ "1", "4" })
+		public int threads;
+	}
+
 }
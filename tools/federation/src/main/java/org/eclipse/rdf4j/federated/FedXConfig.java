@@ -10,19 +10,30 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.federated;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.rdf4j.collection.factory.api.CollectionFactory;
 import org.eclipse.rdf4j.federated.cache.SourceSelectionCache;
 import org.eclipse.rdf4j.federated.cache.SourceSelectionCacheFactory;
 import org.eclipse.rdf4j.federated.cache.SourceSelectionMemoryCache;
+import org.eclipse.rdf4j.federated.cache.SubqueryResultCache;
+import org.eclipse.rdf4j.federated.endpoint.ReplicatedEndpoint;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.ControlledWorkerScheduler;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.TaskWrapper;
 import org.eclipse.rdf4j.federated.evaluation.iterator.ConsumingIteration;
+import org.eclipse.rdf4j.federated.evaluation.join.AdaptiveJoin;
+import org.eclipse.rdf4j.federated.evaluation.join.BoundJoinTuning;
+import org.eclipse.rdf4j.federated.evaluation.join.HashJoin;
 import org.eclipse.rdf4j.federated.monitoring.QueryLog;
 import org.eclipse.rdf4j.federated.monitoring.QueryPlanLog;
+import org.eclipse.rdf4j.federated.monitoring.QueryTrace;
+import org.eclipse.rdf4j.federated.statistics.FederationStatistics;
+import org.eclipse.rdf4j.federated.statistics.StatisticsFedXCostModel;
 import org.eclipse.rdf4j.query.Operation;
 import org.eclipse.rdf4j.query.Query;
+import org.eclipse.rdf4j.query.explanation.Explanation;
 
 import com.google.common.cache.CacheBuilderSpec;
 
@@ -69,6 +80,40 @@ public class FedXConfig {
 
 	private int consumingIterationMax = 1000;
 
+	private boolean enableStatistics = false;
+
+	private int statisticsRefreshInterval = 3600;
+
+	private String statisticsLocation = null;
+
+	private boolean enableAdaptiveBoundJoin = false;
+
+	private int boundJoinMinBlockSize = 5;
+
+	private int boundJoinMaxBlockSize = 250;
+
+	private int boundJoinMaxConcurrentRequests = 20;
+
+	private int boundJoinTargetLatency = 1000;
+
+	private boolean enableSubqueryCache = false;
+
+	private int subqueryCacheTTL = 300;
+
+	private long subqueryCacheMaxSize = 64 * 1024 * 1024;
+
+	private final Map<String, Integer> subqueryCacheEndpointTTL = new ConcurrentHashMap<>();
+
+	private int hedgingPercentile = 95;
+
+	private int hedgingMinDelay = 50;
+
+	private boolean enableAdaptiveJoin = false;
+
+	private int adaptiveJoinThreshold = 1000;
+
+	private boolean enableRequestTracing = false;
+
 	/* factory like setters */
 
 	/**
@@ -272,6 +317,11 @@ public class FedXConfig {
 	 * The {@link SourceSelectionCacheFactory} to be used. If not set explicitly, the default in memory implementation
 	 * is used with the configued {@link #getSourceSelectionCacheSpec()}.
 	 *
+	 * <p>
+	 * Use a {@link org.eclipse.rdf4j.federated.cache.SourceSelectionPersistentCache} to keep the source selection
+	 * information across restarts of the federation.
+	 * </p>
+	 *
 	 * @param factory the {@link SourceSelectionCacheFactory}
 	 * @return the current config
 	 */
@@ -293,6 +343,260 @@ public class FedXConfig {
 		return this;
 	}
 
+	/**
+	 * Enable endpoint statistics. See {@link #isEnableStatistics()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param flag
+	 * @return the current config
+	 */
+	public FedXConfig withEnableStatistics(boolean flag) {
+		this.enableStatistics = flag;
+		return this;
+	}
+
+	/**
+	 * Set the interval in seconds after which endpoint statistics are harvested again. See
+	 * {@link #getStatisticsRefreshInterval()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param statisticsRefreshInterval
+	 * @return the current config
+	 */
+	public FedXConfig withStatisticsRefreshInterval(int statisticsRefreshInterval) {
+		this.statisticsRefreshInterval = statisticsRefreshInterval;
+		return this;
+	}
+
+	/**
+	 * Set the directory in which endpoint statistics are persisted. See {@link #getStatisticsLocation()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param statisticsLocation
+	 * @return the current config
+	 */
+	public FedXConfig withStatisticsLocation(String statisticsLocation) {
+		this.statisticsLocation = statisticsLocation;
+		return this;
+	}
+
+	/**
+	 * Enable the adaptive tuning of the bound join block size and concurrency. See
+	 * {@link #isEnableAdaptiveBoundJoin()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param flag
+	 * @return the current config
+	 */
+	public FedXConfig withEnableAdaptiveBoundJoin(boolean flag) {
+		this.enableAdaptiveBoundJoin = flag;
+		return this;
+	}
+
+	/**
+	 * Set the lower bound of the adaptive bound join block size. See {@link #getBoundJoinMinBlockSize()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param boundJoinMinBlockSize
+	 * @return the current config
+	 */
+	public FedXConfig withBoundJoinMinBlockSize(int boundJoinMinBlockSize) {
+		this.boundJoinMinBlockSize = boundJoinMinBlockSize;
+		return this;
+	}
+
+	/**
+	 * Set the upper bound of the adaptive bound join block size. See {@link #getBoundJoinMaxBlockSize()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param boundJoinMaxBlockSize
+	 * @return the current config
+	 */
+	public FedXConfig withBoundJoinMaxBlockSize(int boundJoinMaxBlockSize) {
+		this.boundJoinMaxBlockSize = boundJoinMaxBlockSize;
+		return this;
+	}
+
+	/**
+	 * Set the maximum number of concurrent bound join requests per endpoint. See
+	 * {@link #getBoundJoinMaxConcurrentRequests()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param boundJoinMaxConcurrentRequests
+	 * @return the current config
+	 */
+	public FedXConfig withBoundJoinMaxConcurrentRequests(int boundJoinMaxConcurrentRequests) {
+		this.boundJoinMaxConcurrentRequests = boundJoinMaxConcurrentRequests;
+		return this;
+	}
+
+	/**
+	 * Set the target latency of bound join requests in milliseconds. See {@link #getBoundJoinTargetLatency()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param boundJoinTargetLatency
+	 * @return the current config
+	 */
+	public FedXConfig withBoundJoinTargetLatency(int boundJoinTargetLatency) {
+		this.boundJoinTargetLatency = boundJoinTargetLatency;
+		return this;
+	}
+
+	/**
+	 * Enable the cache for results of endpoint subqueries. See {@link #isEnableSubqueryCache()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param flag
+	 * @return the current config
+	 */
+	public FedXConfig withEnableSubqueryCache(boolean flag) {
+		this.enableSubqueryCache = flag;
+		return this;
+	}
+
+	/**
+	 * Set the time to live of cached subquery results in seconds. See {@link #getSubqueryCacheTTL()}.
+	 *
+	 * @param subqueryCacheTTL
+	 * @return the current config
+	 */
+	public FedXConfig withSubqueryCacheTTL(int subqueryCacheTTL) {
+		this.subqueryCacheTTL = subqueryCacheTTL;
+		return this;
+	}
+
+	/**
+	 * Set the time to live of cached subquery results of the given endpoint in seconds, overriding
+	 * {@link #getSubqueryCacheTTL()}. A time to live of <code>0</code> disables caching for the endpoint.
+	 *
+	 * @param endpointId       the endpoint identifier
+	 * @param subqueryCacheTTL
+	 * @return the current config
+	 */
+	public FedXConfig withSubqueryCacheTTL(String endpointId, int subqueryCacheTTL) {
+		this.subqueryCacheEndpointTTL.put(endpointId, subqueryCacheTTL);
+		return this;
+	}
+
+	/**
+	 * Set the maximum size of the subquery result cache in bytes. See {@link #getSubqueryCacheMaxSize()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param subqueryCacheMaxSize
+	 * @return the current config
+	 */
+	public FedXConfig withSubqueryCacheMaxSize(long subqueryCacheMaxSize) {
+		this.subqueryCacheMaxSize = subqueryCacheMaxSize;
+		return this;
+	}
+
+	/**
+	 * Set the latency percentile after which a hedged request is sent to another replica of a replica group. See
+	 * {@link #getHedgingPercentile()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param hedgingPercentile the percentile, <code>0</code> disables hedged requests
+	 * @return the current config
+	 */
+	public FedXConfig withHedgingPercentile(int hedgingPercentile) {
+		this.hedgingPercentile = hedgingPercentile;
+		return this;
+	}
+
+	/**
+	 * Set the minimum delay in milliseconds before a hedged request is sent. See {@link #getHedgingMinDelay()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param hedgingMinDelay
+	 * @return the current config
+	 */
+	public FedXConfig withHedgingMinDelay(int hedgingMinDelay) {
+		this.hedgingMinDelay = hedgingMinDelay;
+		return this;
+	}
+
+	/**
+	 * Enable adaptive joins, i.e. choose the join strategy at runtime. See {@link #isEnableAdaptiveJoin()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param flag
+	 * @return the current config
+	 */
+	public FedXConfig withEnableAdaptiveJoin(boolean flag) {
+		this.enableAdaptiveJoin = flag;
+		return this;
+	}
+
+	/**
+	 * Set the maximum number of left bindings buffered by adaptive joins before the join strategy is chosen. See
+	 * {@link #getAdaptiveJoinThreshold()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param adaptiveJoinThreshold
+	 * @return the current config
+	 */
+	public FedXConfig withAdaptiveJoinThreshold(int adaptiveJoinThreshold) {
+		this.adaptiveJoinThreshold = adaptiveJoinThreshold;
+		return this;
+	}
+
+	/**
+	 * Enable tracing of remote requests for all queries. See {@link #isEnableRequestTracing()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param flag
+	 * @return the current config
+	 */
+	public FedXConfig withEnableRequestTracing(boolean flag) {
+		this.enableRequestTracing = flag;
+		return this;
+	}
+
 	/**
 	 * The (maximum) number of join worker threads used in the {@link ControlledWorkerScheduler} for join operations.
 	 * Default is 20.
@@ -497,6 +801,208 @@ public class FedXConfig {
 		return consumingIterationMax;
 	}
 
+	/**
+	 * Flag to enable/disable endpoint statistics. Default=false.
+	 *
+	 * <p>
+	 * If enabled, VoID-like statistics (triples per predicate, instances per class, distinct subjects and objects) are
+	 * harvested from all federation members in the background. They are used to answer source selection without ASK
+	 * requests where possible, and to order joins by the estimated number of results (see
+	 * {@link StatisticsFedXCostModel}).
+	 * </p>
+	 *
+	 * @return whether endpoint statistics are enabled
+	 * @see FederationStatistics
+	 */
+	public boolean isEnableStatistics() {
+		return enableStatistics;
+	}
+
+	/**
+	 * The interval in seconds after which endpoint statistics are harvested again. Default is 3600.
+	 *
+	 * @return the refresh interval in seconds
+	 */
+	public int getStatisticsRefreshInterval() {
+		return statisticsRefreshInterval;
+	}
+
+	/**
+	 * The directory in which endpoint statistics are persisted. Relative paths are resolved against the data directory
+	 * of the federation. If not set, statistics are persisted in the <i>statistics</i> folder of the data directory, or
+	 * kept in memory only if the federation has no data directory.
+	 *
+	 * @return the statistics location or <code>null</code>
+	 */
+	public String getStatisticsLocation() {
+		return statisticsLocation;
+	}
+
+	/**
+	 * Flag to enable/disable the adaptive tuning of bound joins. Default=false.
+	 *
+	 * <p>
+	 * If enabled, the latency, response size and error rate of bound join requests are measured per endpoint, and the
+	 * block size and the number of concurrent requests per endpoint are tuned accordingly within the configured bounds
+	 * (see {@link BoundJoinTuning}). The {@link #getBoundJoinBlockSize()} is used as initial block size. The chosen
+	 * values are exposed through the monitoring service.
+	 * </p>
+	 *
+	 * @return whether bound joins are tuned adaptively
+	 */
+	public boolean isEnableAdaptiveBoundJoin() {
+		return enableAdaptiveBoundJoin;
+	}
+
+	/**
+	 * The lower bound of the adaptive bound join block size. Default is 5.
+	 *
+	 * @return the minimum bound join block size
+	 */
+	public int getBoundJoinMinBlockSize() {
+		return boundJoinMinBlockSize;
+	}
+
+	/**
+	 * The upper bound of the adaptive bound join block size. Default is 250.
+	 *
+	 * @return the maximum bound join block size
+	 */
+	public int getBoundJoinMaxBlockSize() {
+		return boundJoinMaxBlockSize;
+	}
+
+	/**
+	 * The maximum number of concurrent bound join requests per endpoint if bound joins are tuned adaptively. Default is
+	 * 20.
+	 *
+	 * @return the maximum number of concurrent bound join requests per endpoint
+	 */
+	public int getBoundJoinMaxConcurrentRequests() {
+		return boundJoinMaxConcurrentRequests;
+	}
+
+	/**
+	 * The target latency of bound join requests in milliseconds, i.e. the time until the response of an endpoint
+	 * starts. The block size of an endpoint grows as long as its requests are answered within this time, and is halved
+	 * otherwise. Default is 1000.
+	 *
+	 * @return the target latency in milliseconds
+	 */
+	public int getBoundJoinTargetLatency() {
+		return boundJoinTargetLatency;
+	}
+
+	/**
+	 * Flag to enable/disable the cache for results of endpoint subqueries. Default=false.
+	 *
+	 * <p>
+	 * If enabled, the results of SELECT subqueries sent to the endpoints (e.g. for exclusive statements and groups) are
+	 * cached in a compact binary encoding (see {@link SubqueryResultCache}), such that identical subqueries are
+	 * answered without a remote request until the cached result expires. Note that changes of the endpoint data are not
+	 * visible before the cached results expire.
+	 * </p>
+	 *
+	 * @return whether subquery results are cached
+	 */
+	public boolean isEnableSubqueryCache() {
+		return enableSubqueryCache;
+	}
+
+	/**
+	 * The time to live of cached subquery results in seconds. Default is 300.
+	 *
+	 * @return the time to live in seconds
+	 */
+	public int getSubqueryCacheTTL() {
+		return subqueryCacheTTL;
+	}
+
+	/**
+	 * The time to live of cached subquery results of the given endpoint in seconds, see
+	 * {@link #withSubqueryCacheTTL(String, int)}.
+	 *
+	 * @param endpointId the endpoint identifier
+	 * @return the time to live in seconds
+	 */
+	public int getSubqueryCacheTTL(String endpointId) {
+		return subqueryCacheEndpointTTL.getOrDefault(endpointId, subqueryCacheTTL);
+	}
+
+	/**
+	 * The maximum size of the subquery result cache in bytes, i.e. the size of all encoded results. Least recently used
+	 * results are evicted if the cache grows beyond this size. Default is 64MB.
+	 *
+	 * @return the maximum cache size in bytes
+	 */
+	public long getSubqueryCacheMaxSize() {
+		return subqueryCacheMaxSize;
+	}
+
+	/**
+	 * The latency percentile after which a request to a replica of a {@link ReplicatedEndpoint} is hedged, i.e. if a
+	 * replica did not respond within this percentile of the recent response times of the replica group, the same
+	 * request is sent to another replica and the first response is used. Default is 95, <code>0</code> disables hedged
+	 * requests.
+	 *
+	 * @return the hedging percentile
+	 */
+	public int getHedgingPercentile() {
+		return hedgingPercentile;
+	}
+
+	/**
+	 * The minimum delay in milliseconds before a hedged request is sent to another replica, see
+	 * {@link #getHedgingPercentile()}. Default is 50.
+	 *
+	 * @return the minimum hedging delay in milliseconds
+	 */
+	public int getHedgingMinDelay() {
+		return hedgingMinDelay;
+	}
+
+	/**
+	 * Flag to enable/disable adaptive joins. Default=false.
+	 *
+	 * <p>
+	 * If enabled, joins buffer their left bindings up to the {@link #getAdaptiveJoinThreshold()} and then choose
+	 * between a bind join (or nested loop join) and a {@link HashJoin} from the observed number of left bindings and
+	 * the estimated size of the right argument (see {@link AdaptiveJoin}). Estimates of the right argument require
+	 * {@link #isEnableStatistics()}. The chosen strategy is recorded in the query plan.
+	 * </p>
+	 *
+	 * @return whether adaptive joins are enabled
+	 */
+	public boolean isEnableAdaptiveJoin() {
+		return enableAdaptiveJoin;
+	}
+
+	/**
+	 * The maximum number of left bindings buffered by an adaptive join before the join strategy is chosen. Default is
+	 * 1000.
+	 *
+	 * @return the adaptive join threshold
+	 */
+	public int getAdaptiveJoinThreshold() {
+		return adaptiveJoinThreshold;
+	}
+
+	/**
+	 * Flag to enable/disable tracing of remote requests for all queries. Default=false.
+	 *
+	 * <p>
+	 * If enabled, each remote request is traced in the {@link QueryTrace} of the query with its timing and the number
+	 * of received rows and bytes, and written as structured log message to the "RequestTrace" logger once it is
+	 * finished. Independent of this setting requests are traced and retained for the query plan when a query is
+	 * explained with {@link Explanation.Level#Executed} or {@link Explanation.Level#Timed}.
+	 * </p>
+	 *
+	 * @return whether request tracing is enabled
+	 */
+	public boolean isEnableRequestTracing() {
+		return enableRequestTracing;
+	}
+
 	/**
 	 * Set the CollectionFactory to be used by the federation
 	 *
@@ -12,6 +12,8 @@ package org.eclipse.rdf4j.federated;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.rdf4j.collection.factory.api.CollectionFactory;
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
@@ -29,6 +31,7 @@ import org.eclipse.rdf4j.federated.evaluation.concurrent.ParallelTask;
 import org.eclipse.rdf4j.federated.evaluation.iterator.StopRemainingExecutionsOnCloseIteration;
 import org.eclipse.rdf4j.federated.evaluation.union.SynchronousWorkerUnion;
 import org.eclipse.rdf4j.federated.evaluation.union.WorkerUnionBase;
+import org.eclipse.rdf4j.federated.monitoring.QueryTrace;
 import org.eclipse.rdf4j.federated.repository.FedXRepositoryConnection;
 import org.eclipse.rdf4j.federated.structures.QueryInfo;
 import org.eclipse.rdf4j.federated.structures.QueryType;
@@ -46,7 +49,10 @@ import org.eclipse.rdf4j.query.Dataset;
 import org.eclipse.rdf4j.query.Operation;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.helpers.QueryModelTreeToGenericPlanNode;
 import org.eclipse.rdf4j.query.explanation.Explanation;
+import org.eclipse.rdf4j.query.explanation.ExplanationImpl;
+import org.eclipse.rdf4j.query.explanation.GenericPlanNode;
 import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
 import org.eclipse.rdf4j.query.impl.MapBindingSet;
 import org.eclipse.rdf4j.query.impl.SimpleDataset;
@@ -87,6 +93,19 @@ public class FedXConnection extends AbstractSailConnection {
 	 */
 	private WriteStrategy writeStrategy;
 
+	/**
+	 * The level of the currently running
+	 * {@link #explain(Explanation.Level, TupleExpr, Dataset, BindingSet, boolean, int) explain}, <code>null</code> for
+	 * a regular evaluation
+	 */
+	private Explanation.Level explainLevel;
+
+	/**
+	 * The optimized query plan and the query info of the query being explained
+	 */
+	private TupleExpr explainedQuery;
+	private QueryInfo explainedQueryInfo;
+
 	public FedXConnection(FedX federation, FederationContext federationContext) throws SailException {
 		super(federation);
 		this.federation = federation;
@@ -122,6 +141,13 @@ public class FedXConnection extends AbstractSailConnection {
 			query = node.getExpr();
 		}
 
+		// trace the remote requests, if the query is explained or if configured
+		boolean logRequests = federationContext.getConfig().isEnableRequestTracing();
+		boolean explain = explainLevel == Explanation.Level.Executed || explainLevel == Explanation.Level.Timed;
+		if (logRequests || explain) {
+			queryInfo.setQueryTrace(new QueryTrace(queryInfo.getQueryID(), logRequests, explain));
+		}
+
 		if (log.isDebugEnabled()) {
 			log.debug("Optimization start (Query: " + queryInfo.getQueryID() + ")");
 			start = System.currentTimeMillis();
@@ -142,7 +168,7 @@ public class FedXConnection extends AbstractSailConnection {
 		}
 
 		// log the optimized query plan, if Config#isLogQueryPlan(), otherwise void operation
-		federationContext.getMonitoringService().logQueryPlan(query);
+		federationContext.getMonitoringService().logQueryPlan(query, queryInfo);
 
 		if (federationContext.getConfig().isDebugQueryPlan()) {
 			System.out.println("Optimized query execution plan: \n" + query);
@@ -152,6 +178,17 @@ public class FedXConnection extends AbstractSailConnection {
 			log.debug("Optimized query execution plan (Query: " + queryInfo.getQueryID() + ");" + query);
 		}
 
+		if (explainLevel != null) {
+			explainedQuery = query;
+			explainedQueryInfo = queryInfo;
+			if (explainLevel == Explanation.Level.Optimized) {
+				queryInfo.close();
+				return new EmptyIteration<>();
+			}
+			strategy.setTrackResultSize(true);
+			strategy.setTrackTime(explainLevel == Explanation.Level.Timed);
+		}
+
 		try {
 			// make sure to apply any external bindings
 			BindingSet queryBindings = EmptyBindingSet.getInstance();
@@ -167,7 +204,12 @@ public class FedXConnection extends AbstractSailConnection {
 
 			CloseableIteration<? extends BindingSet> res = null;
 			try {
-				res = strategy.evaluate(query, queryBindings);
+				if (explainLevel != null) {
+					// evaluate the precompiled query such that the results of the root are counted only once
+					res = strategy.precompile(query).evaluate(queryBindings);
+				} else {
+					res = strategy.evaluate(query, queryBindings);
+				}
 
 				// mark the query as PassedThrough, such that outer result handlers are aware of this
 				// Note: for SingleSourceQuery (i.e. where we use pass through) res is explicitly
@@ -230,6 +272,11 @@ public class FedXConnection extends AbstractSailConnection {
 			getWriteStrategyInternal().commit();
 		} catch (RepositoryException e) {
 			throw new SailException(e);
+		} finally {
+			// cached subquery results may be outdated
+			if (federationContext.getSubqueryResultCache() != null) {
+				federationContext.getSubqueryResultCache().invalidate();
+			}
 		}
 	}
 
@@ -522,10 +569,52 @@ public class FedXConnection extends AbstractSailConnection {
 		}
 	}
 
+	/**
+	 * Explain the query. For {@link Explanation.Level#Executed} and {@link Explanation.Level#Timed} the query is
+	 * executed and the plan nodes issuing remote requests are annotated with the traced requests (see
+	 * {@link QueryTrace#explain(TupleExpr)}), i.e. the number of requests, rows, bytes and the request time per
+	 * endpoint.
+	 */
 	@Override
 	public Explanation explain(Explanation.Level level, TupleExpr tupleExpr, Dataset dataset, BindingSet bindings,
 			boolean includeInferred, int timeoutSeconds) {
-		throw new UnsupportedOperationException();
+
+		if (level == Explanation.Level.Unoptimized) {
+			QueryModelTreeToGenericPlanNode converter = new QueryModelTreeToGenericPlanNode(tupleExpr);
+			tupleExpr.visit(converter);
+			return new ExplanationImpl(converter.getGenericPlanNode(), false);
+		}
+
+		boolean timedOut = false;
+		explainLevel = level;
+		try {
+			long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeoutSeconds);
+			try (CloseableIteration<? extends BindingSet> res = evaluate(tupleExpr, dataset, bindings,
+					includeInferred)) {
+				while (res.hasNext()) {
+					if (timeoutSeconds > 0 && System.currentTimeMillis() > deadline) {
+						timedOut = true;
+						break;
+					}
+					res.next();
+				}
+			}
+
+			GenericPlanNode plan;
+			Optional<QueryTrace> queryTrace = explainedQueryInfo.getQueryTrace();
+			if (queryTrace.isPresent()) {
+				plan = queryTrace.get().explain(explainedQuery);
+			} else {
+				QueryModelTreeToGenericPlanNode converter = new QueryModelTreeToGenericPlanNode(explainedQuery);
+				explainedQuery.visit(converter);
+				plan = converter.getGenericPlanNode();
+			}
+			return new ExplanationImpl(plan, timedOut);
+		} finally {
+			explainLevel = null;
+			explainedQuery = null;
+			explainedQueryInfo = null;
+		}
 	}
 
 }
@@ -16,10 +16,14 @@ import java.util.List;
 
 import org.eclipse.rdf4j.federated.endpoint.Endpoint;
 import org.eclipse.rdf4j.federated.endpoint.EndpointFactory;
+import org.eclipse.rdf4j.federated.endpoint.ReplicatedEndpoint;
 import org.eclipse.rdf4j.federated.endpoint.provider.NativeRepositoryInformation;
 import org.eclipse.rdf4j.federated.endpoint.provider.ResolvableRepositoryInformation;
 import org.eclipse.rdf4j.federated.endpoint.provider.SPARQLRepositoryInformation;
 import org.eclipse.rdf4j.federated.evaluation.FederationEvaluationStrategyFactory;
+import org.eclipse.rdf4j.federated.evaluation.concurrent.DefaultSchedulerFactory;
+import org.eclipse.rdf4j.federated.evaluation.concurrent.SchedulerFactory;
+import org.eclipse.rdf4j.federated.evaluation.concurrent.VirtualThreadSchedulerFactory;
 import org.eclipse.rdf4j.federated.exception.FedXException;
 import org.eclipse.rdf4j.federated.repository.FedXRepository;
 import org.eclipse.rdf4j.federated.write.DefaultWriteStrategyFactory;
@@ -103,6 +107,7 @@ public class FedXFactory {
 	protected FederatedServiceResolver federatedServiceResolver;
 	protected FederationEvaluationStrategyFactory strategyFactory;
 	protected WriteStrategyFactory writeStrategyFactory;
+	protected SchedulerFactory schedulerFactory;
 	protected List<Endpoint> members = new ArrayList<>();
 	protected FedXConfig config = FedXConfig.DEFAULT_CONFIG;
 	protected File fedxBaseDir;
@@ -138,6 +143,18 @@ public class FedXFactory {
 		return this;
 	}
 
+	/**
+	 * Specify the {@link SchedulerFactory} to be used. If not explicitly set, {@link DefaultSchedulerFactory} is used.
+	 *
+	 * @param schedulerFactory the {@link SchedulerFactory} to be used.
+	 * @return this factory
+	 * @see VirtualThreadSchedulerFactory
+	 */
+	public FedXFactory withSchedulerFactory(SchedulerFactory schedulerFactory) {
+		this.schedulerFactory = schedulerFactory;
+		return this;
+	}
+
 	public FedXFactory withMembers(List<Endpoint> endpoints) {
 		members.addAll(endpoints);
 		return this;
@@ -166,6 +183,19 @@ public class FedXFactory {
 		return this;
 	}
 
+	/**
+	 * Add a group of replicas, i.e. of endpoints holding the same data, as a single federation member. See
+	 * {@link ReplicatedEndpoint}.
+	 *
+	 * @param id       the identifier of the replica group
+	 * @param replicas the replicas
+	 * @return this factory
+	 */
+	public FedXFactory withReplicaGroup(String id, List<Endpoint> replicas) {
+		members.add(EndpointFactory.loadReplicaGroup(id, replicas));
+		return this;
+	}
+
 	public FedXFactory withSparqlEndpoint(String sparqlEndpoint) {
 		members.add(EndpointFactory.loadSPARQLEndpoint(sparqlEndpoint));
 		return this;
@@ -220,6 +250,9 @@ public class FedXFactory {
 		if (this.writeStrategyFactory != null) {
 			federation.setWriteStrategyFactory(writeStrategyFactory);
 		}
+		if (this.schedulerFactory != null) {
+			federation.setSchedulerFactory(schedulerFactory);
+		}
 		FedXRepository repo = new FedXRepository(federation, this.config);
 		if (this.repositoryResolver != null) {
 			repo.setRepositoryResolver(repositoryResolver);
@@ -12,9 +12,12 @@ package org.eclipse.rdf4j.federated;
 
 import org.eclipse.rdf4j.federated.cache.SourceSelectionCache;
 import org.eclipse.rdf4j.federated.cache.SourceSelectionMemoryCache;
+import org.eclipse.rdf4j.federated.cache.SubqueryResultCache;
 import org.eclipse.rdf4j.federated.evaluation.DelegateFederatedServiceResolver;
 import org.eclipse.rdf4j.federated.evaluation.FederationEvalStrategy;
+import org.eclipse.rdf4j.federated.evaluation.join.BoundJoinTuning;
 import org.eclipse.rdf4j.federated.monitoring.Monitoring;
+import org.eclipse.rdf4j.federated.statistics.FederationStatistics;
 import org.eclipse.rdf4j.query.Dataset;
 import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
@@ -41,6 +44,12 @@ public class FederationContext {
 
 	private final SourceSelectionCache sourceSelectionCache;
 
+	private final FederationStatistics federationStatistics;
+
+	private final BoundJoinTuning boundJoinTuning;
+
+	private final SubqueryResultCache subqueryResultCache;
+
 	public FederationContext(FederationManager manager, EndpointManager endpointManager, QueryManager queryManager,
 			DelegateFederatedServiceResolver federatedServiceResolver,
 			Monitoring monitoring, FedXConfig fedXConfig) {
@@ -52,6 +61,15 @@ public class FederationContext {
 		this.monitoring = monitoring;
 		this.fedXConfig = fedXConfig;
 		this.sourceSelectionCache = createSourceSelectionCache();
+		this.federationStatistics = fedXConfig.isEnableStatistics()
+				? new FederationStatistics(endpointManager, fedXConfig.getStatisticsRefreshInterval())
+				: null;
+		this.boundJoinTuning = fedXConfig.isEnableAdaptiveBoundJoin()
+				? new BoundJoinTuning(fedXConfig, endpointManager, monitoring)
+				: null;
+		this.subqueryResultCache = fedXConfig.isEnableSubqueryCache()
+				? new SubqueryResultCache(fedXConfig, monitoring)
+				: null;
 	}
 
 	public FedX getFederation() {
@@ -86,6 +104,33 @@ public class FederationContext {
 		return this.sourceSelectionCache;
 	}
 
+	/**
+	 *
+	 * @return the {@link FederationStatistics}, or <code>null</code> if statistics are not enabled
+	 * @see FedXConfig#isEnableStatistics()
+	 */
+	public FederationStatistics getFederationStatistics() {
+		return this.federationStatistics;
+	}
+
+	/**
+	 *
+	 * @return the {@link BoundJoinTuning}, or <code>null</code> if adaptive bound joins are not enabled
+	 * @see FedXConfig#isEnableAdaptiveBoundJoin()
+	 */
+	public BoundJoinTuning getBoundJoinTuning() {
+		return this.boundJoinTuning;
+	}
+
+	/**
+	 *
+	 * @return the {@link SubqueryResultCache}, or <code>null</code> if the subquery cache is not enabled
+	 * @see FedXConfig#isEnableSubqueryCache()
+	 */
+	public SubqueryResultCache getSubqueryResultCache() {
+		return this.subqueryResultCache;
+	}
+
 	/**
 	 * Create a fresh {@link FederationEvalStrategy} using information from this federation context.
 	 */
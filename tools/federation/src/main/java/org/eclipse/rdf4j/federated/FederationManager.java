@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.federated;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -281,6 +283,17 @@ public class FederationManager {
 
 		try {
 			log.info("Shutting down federation and all underlying repositories ...");
+			if (federationContext.getFederationStatistics() != null) {
+				federationContext.getFederationStatistics().shutDown();
+			}
+			if (federationContext.getSourceSelectionCache() instanceof Closeable) {
+				try {
+					((Closeable) federationContext.getSourceSelectionCache()).close();
+				} catch (IOException e) {
+					log.warn("Failed to close source selection cache: " + e.getMessage());
+					log.debug("Details: ", e);
+				}
+			}
 			// Abort all running queries
 			federationContext.getQueryManager().shutdown();
 			executor.shutdown();
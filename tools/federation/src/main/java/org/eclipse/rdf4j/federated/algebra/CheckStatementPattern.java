@@ -191,7 +191,7 @@ public class CheckStatementPattern implements StatementTupleExpr, BoundJoinTuple
 				Endpoint ownedEndpoint = queryInfo.getFederationContext()
 						.getEndpointManager()
 						.getEndpoint(source.getEndpointID());
-				TripleSource t = ownedEndpoint.getTripleSource();
+				TripleSource t = queryInfo.getTripleSource(ownedEndpoint, this);
 				if (t.hasStatements(st, bindings, queryInfo, queryInfo.getDataset())) {
 					return new SingleBindingSetIteration(bindings);
 				}
@@ -57,7 +57,7 @@ public class ExclusiveStatement extends FedXStatementPattern implements Exclusiv
 			Endpoint ownedEndpoint = queryInfo.getFederationContext()
 					.getEndpointManager()
 					.getEndpoint(getOwner().getEndpointID());
-			TripleSource t = ownedEndpoint.getTripleSource();
+			TripleSource t = queryInfo.getTripleSource(ownedEndpoint, this);
 
 			/*
 			 * Implementation note: for some endpoint types it is much more efficient to use prepared queries as there
@@ -12,7 +12,10 @@ package org.eclipse.rdf4j.federated.algebra;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.rdf4j.federated.structures.QueryInfo;
 import org.eclipse.rdf4j.federated.util.QueryAlgebraUtil;
@@ -29,6 +32,8 @@ public class NJoin extends NTuple {
 
 	private static final long serialVersionUID = -8646701006458860154L;
 
+	private Map<Integer, String> joinStrategies = new ConcurrentHashMap<>();
+
 	/**
 	 * Construct an nary-tuple. Note that the parentNode of all arguments is set to this instance.
 	 *
@@ -46,7 +51,35 @@ public class NJoin extends NTuple {
 
 	@Override
 	public NJoin clone() {
-		return (NJoin) super.clone();
+		NJoin clone = (NJoin) super.clone();
+		clone.joinStrategies = new ConcurrentHashMap<>(joinStrategies);
+		return clone;
+	}
+
+	/**
+	 * Record the join strategy chosen at runtime for the join with the given index, e.g. by an adaptive join.
+	 *
+	 * @param joinIndex the join index, starting with 1
+	 * @param strategy  a description of the join strategy
+	 */
+	public void setJoinStrategy(int joinIndex, String strategy) {
+		joinStrategies.put(joinIndex, strategy);
+	}
+
+	/**
+	 * @param joinIndex the join index, starting with 1
+	 * @return the join strategy chosen at runtime, or <code>null</code> if not (yet) known
+	 */
+	public String getJoinStrategy(int joinIndex) {
+		return joinStrategies.get(joinIndex);
+	}
+
+	@Override
+	public String getSignature() {
+		if (joinStrategies.isEmpty()) {
+			return super.getSignature();
+		}
+		return super.getSignature() + " (join strategies: " + new TreeMap<>(joinStrategies) + ")";
 	}
 
 	/**
@@ -70,7 +70,7 @@ public class StatementSourcePattern extends FedXStatementPattern {
 				Endpoint ownedEndpoint = queryInfo.getFederationContext()
 						.getEndpointManager()
 						.getEndpoint(source.getEndpointID());
-				TripleSource t = ownedEndpoint.getTripleSource();
+				TripleSource t = queryInfo.getTripleSource(ownedEndpoint, this);
 
 				/*
 				 * Implementation note: for some endpoint types it is much more efficient to use prepared queries as
@@ -98,7 +98,7 @@ public class StatementSourcePattern extends FedXStatementPattern {
 					}
 
 					union.addTask(new ParallelPreparedUnionTask(union, preparedQuery, ownedEndpoint, bindings,
-							(isEvaluated.get() ? null : filterExpr), queryInfo));
+							(isEvaluated.get() ? null : filterExpr), queryInfo, this));
 
 				} else {
 					union.addTask(new ParallelUnionTask(union, this, ownedEndpoint, bindings, filterExpr, queryInfo));
@@ -139,7 +139,7 @@ public class StatementSourcePattern extends FedXStatementPattern {
 			Endpoint ownedEndpoint = queryInfo.getFederationContext()
 					.getEndpointManager()
 					.getEndpoint(source.getEndpointID());
-			TripleSource t = ownedEndpoint.getTripleSource();
+			TripleSource t = queryInfo.getTripleSource(ownedEndpoint, this);
 			if (t.hasStatements(this, bindings, queryInfo, queryInfo.getDataset())) {
 				return new SingleBindingSetIteration(bindings);
 			}
@@ -0,0 +1,419 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.cache;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.evaluation.concurrent.NamingThreadFactory;
+import org.eclipse.rdf4j.federated.exception.ExceptionUtil;
+import org.eclipse.rdf4j.federated.exception.FedXRuntimeException;
+import org.eclipse.rdf4j.federated.structures.SubQuery;
+import org.eclipse.rdf4j.federated.util.FedXUtil;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.rio.helpers.NTriplesUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link SourceSelectionCache} which persists its information in an append-only file, such that a
+ * federation can be restarted without having to check every endpoint with ASK requests again.
+ *
+ * <p>
+ * Entries are kept in memory and appended to the file as they are updated. The file is flushed in the background at
+ * most once per second, i.e. the latest updates may be lost if the process crashes. When the file is opened, it is
+ * replayed, the latest information for a sub query and endpoint wins. The file is compacted when it contains
+ * considerably more records than live entries.
+ * </p>
+ *
+ * <p>
+ * Entries older than the configured time to live are still served, but are revalidated in the background the next time
+ * they are looked up, i.e. source selection is never blocked by an outdated entry.
+ * </p>
+ *
+ * <p>
+ * Usage:
+ * </p>
+ *
+ * <pre>
+ * FedXConfig config = new FedXConfig().withSourceSelectionCacheFactory(
+ * 		() -> new SourceSelectionPersistentCache(new File(dataDir, "sourceSelectionCache.log"), 6, TimeUnit.HOURS));
+ * </pre>
+ *
+ * <p>
+ * The cache is closed when the federation is shut down.
+ * </p>
+ *
+ * @author Eclipse RDF4J contributors
+ */
+public class SourceSelectionPersistentCache implements SourceSelectionCache, Closeable {
+
+	private static final Logger log = LoggerFactory.getLogger(SourceSelectionPersistentCache.class);
+
+	/**
+	 * The minimum number of records in the file before it is compacted
+	 */
+	private static final int MIN_COMPACTION_RECORDS = 1000;
+
+	/**
+	 * The delay in milliseconds after which appended records are flushed to the file
+	 */
+	private static final long FLUSH_DELAY = 1000;
+
+	private static final String SEPARATOR = "\t";
+
+	private static final String UNBOUND = "-";
+
+	private final File file;
+
+	private final long timeToLive;
+
+	private final Map<SubQuery, Map<String, Entry>> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * The sub queries and endpoints with a pending revalidation, to avoid duplicate requests
+	 */
+	private final Set<List<Object>> pendingRevalidations = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Runs revalidations, which send requests to the endpoints
+	 */
+	private final ExecutorService revalidationExecutor;
+
+	/**
+	 * Runs flushes of the file, independent of revalidations that wait for slow endpoints
+	 */
+	private final ScheduledExecutorService flushExecutor;
+
+	private Writer writer;
+
+	private int records;
+
+	private boolean flushScheduled;
+
+	private volatile boolean closed;
+
+	/**
+	 *
+	 * @param file       the file to persist the cache in, created if it does not exist
+	 * @param timeToLive the duration after which an entry is revalidated
+	 * @param unit       the unit of the time to live
+	 * @throws FedXRuntimeException if the file cannot be opened
+	 */
+	public SourceSelectionPersistentCache(File file, long timeToLive, TimeUnit unit) {
+		this.file = file;
+		this.timeToLive = unit.toMillis(timeToLive);
+		this.revalidationExecutor = Executors
+				.newSingleThreadExecutor(daemon(new NamingThreadFactory("FedX Source Selection Cache")));
+		this.flushExecutor = Executors
+				.newSingleThreadScheduledExecutor(daemon(new NamingThreadFactory("FedX Source Selection Cache Flush")));
+		try {
+			load();
+			openWriter();
+		} catch (IOException e) {
+			revalidationExecutor.shutdownNow();
+			flushExecutor.shutdownNow();
+			throw new FedXRuntimeException("Failed to open source selection cache at " + file, e);
+		}
+	}
+
+	@Override
+	public StatementSourceAssurance getAssurance(SubQuery subQuery, Endpoint endpoint) {
+
+		// for patterns with three variables we always check the endpoint
+		if (subQuery.isUnbound()) {
+			return StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS;
+		}
+
+		Map<String, Entry> entries = cache.get(subQuery);
+		Entry entry = entries == null ? null : entries.get(endpoint.getId());
+		if (entry != null) {
+			if (System.currentTimeMillis() - entry.timestamp > timeToLive) {
+				revalidate(subQuery, endpoint);
+			}
+			return entry.getAssurance();
+		}
+
+		// check if we can infer something from other cached entries
+		// if endpoint does not have data for {?s foaf:name ?o}, it does also not have data for {?s foaf:name "Alan" }
+		if (subQuery.object() != null) {
+			if (getAssurance(new SubQuery(subQuery.subject(), subQuery.predicate(), null, subQuery.contexts()),
+					endpoint)
+					.equals(StatementSourceAssurance.NONE)) {
+				return StatementSourceAssurance.NONE;
+			}
+		}
+
+		// no information in the cache, we have to check at the source
+		return StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS;
+	}
+
+	@Override
+	public void updateInformation(SubQuery subQuery, Endpoint endpoint, boolean hasStatements) {
+
+		updateCacheEntry(subQuery, endpoint.getId(), hasStatements);
+
+		// if an endpoint has data for {?s foaf:name "Alan"}, it also has data for {?s foaf:name ?o}
+		if (hasStatements && subQuery.object() != null && subQuery.predicate() != null) {
+			updateCacheEntry(new SubQuery(subQuery.subject(), subQuery.predicate(), null), endpoint.getId(), true);
+		}
+	}
+
+	@Override
+	public synchronized void invalidate() {
+		cache.clear();
+		if (closed) {
+			return;
+		}
+		try {
+			rewrite();
+		} catch (IOException e) {
+			log.warn(ExceptionUtil.getExceptionString("Failed to clear source selection cache at " + file, e));
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		revalidationExecutor.shutdownNow();
+		flushExecutor.shutdownNow();
+		writer.close();
+	}
+
+	private static ThreadFactory daemon(ThreadFactory threadFactory) {
+		return r -> {
+			Thread t = threadFactory.newThread(r);
+			t.setDaemon(true);
+			return t;
+		};
+	}
+
+	private void updateCacheEntry(SubQuery subQuery, String endpointId, boolean hasStatements) {
+		Entry entry = new Entry(hasStatements, System.currentTimeMillis());
+		cache.computeIfAbsent(subQuery, k -> new ConcurrentHashMap<>()).put(endpointId, entry);
+		append(subQuery, endpointId, entry);
+	}
+
+	/**
+	 * Check the endpoint for statements of the sub query in the background and update the entry accordingly.
+	 */
+	private void revalidate(SubQuery subQuery, Endpoint endpoint) {
+		List<Object> key = List.of(endpoint.getId(), subQuery);
+		if (closed || !pendingRevalidations.add(key)) {
+			return;
+		}
+		try {
+			revalidationExecutor.execute(() -> {
+				try (RepositoryConnection conn = endpoint.getConnection()) {
+					boolean hasStatements = conn.hasStatement(subQuery.subject(), subQuery.predicate(),
+							subQuery.object(), true, subQuery.contexts());
+					updateCacheEntry(subQuery, endpoint.getId(), hasStatements);
+				} catch (Exception e) {
+					log.debug("Failed to revalidate source selection cache entry for endpoint {}: {}",
+							endpoint.getId(), e.getMessage());
+				} finally {
+					pendingRevalidations.remove(key);
+				}
+			});
+		} catch (Exception e) {
+			// rejected after close
+			pendingRevalidations.remove(key);
+		}
+	}
+
+	private void load() throws IOException {
+		if (!file.isFile()) {
+			return;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				records++;
+				try {
+					parse(line);
+				} catch (Exception e) {
+					// e.g. an incomplete record written during a crash
+					log.warn("Ignoring malformed record in source selection cache {}: {}", file, line);
+				}
+			}
+		}
+		log.debug("Loaded {} source selection cache entries from {}", cache.size(), file);
+	}
+
+	private void parse(String line) {
+		String[] fields = line.split(SEPARATOR, -1);
+		if (fields.length < 6) {
+			throw new IllegalArgumentException("Invalid record: " + line);
+		}
+		long timestamp = Long.parseLong(fields[0]);
+		String endpointId = NTriplesUtil.unescapeString(fields[1]);
+		boolean hasStatements = "1".equals(fields[2]);
+		Resource[] contexts = new Resource[fields.length - 6];
+		for (int i = 0; i < contexts.length; i++) {
+			contexts[i] = (Resource) parseValue(fields[6 + i]);
+		}
+		SubQuery subQuery = new SubQuery((Resource) parseValue(fields[3]), (IRI) parseValue(fields[4]),
+				parseValue(fields[5]), contexts);
+		cache.computeIfAbsent(subQuery, k -> new ConcurrentHashMap<>())
+				.put(endpointId, new Entry(hasStatements, timestamp));
+	}
+
+	private static Value parseValue(String field) {
+		return UNBOUND.equals(field) ? null : NTriplesUtil.parseValue(field, FedXUtil.valueFactory());
+	}
+
+	private static String toString(SubQuery subQuery, String endpointId, Entry entry) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(entry.timestamp)
+				.append(SEPARATOR)
+				.append(NTriplesUtil.escapeString(endpointId))
+				.append(SEPARATOR)
+				.append(entry.hasStatements ? "1" : "0");
+		sb.append(SEPARATOR).append(toString(subQuery.subject()));
+		sb.append(SEPARATOR).append(toString(subQuery.predicate()));
+		sb.append(SEPARATOR).append(toString(subQuery.object()));
+		for (Resource context : subQuery.contexts()) {
+			sb.append(SEPARATOR).append(toString(context));
+		}
+		return sb.toString();
+	}
+
+	private static String toString(Value value) {
+		return value == null ? UNBOUND : NTriplesUtil.toNTriplesString(value);
+	}
+
+	private synchronized void append(SubQuery subQuery, String endpointId, Entry entry) {
+		if (closed) {
+			return;
+		}
+		try {
+			writer.write(toString(subQuery, endpointId, entry));
+			writer.write('\n');
+			records++;
+			if (records > MIN_COMPACTION_RECORDS && records > 2 * liveEntries()) {
+				rewrite();
+			} else {
+				scheduleFlush();
+			}
+		} catch (IOException e) {
+			log.warn(ExceptionUtil.getExceptionString("Failed to persist source selection cache entry to " + file,
+					e));
+		}
+	}
+
+	/**
+	 * Flush the file in the background, such that records appended in the meantime are written at once.
+	 */
+	private synchronized void scheduleFlush() {
+		if (flushScheduled) {
+			return;
+		}
+		try {
+			flushExecutor.schedule(this::flush, FLUSH_DELAY, TimeUnit.MILLISECONDS);
+			flushScheduled = true;
+		} catch (RejectedExecutionException e) {
+			// closed, the file is flushed on close
+		}
+	}
+
+	private synchronized void flush() {
+		flushScheduled = false;
+		if (closed) {
+			return;
+		}
+		try {
+			writer.flush();
+		} catch (IOException e) {
+			log.warn(ExceptionUtil.getExceptionString("Failed to persist source selection cache entries to " + file,
+					e));
+		}
+	}
+
+	private int liveEntries() {
+		return cache.values().stream().mapToInt(Map::size).sum();
+	}
+
+	/**
+	 * Rewrite the file with the live entries only.
+	 */
+	private synchronized void rewrite() throws IOException {
+		if (writer != null) {
+			writer.close();
+		}
+		File tmp = new File(file.getPath() + ".tmp");
+		int written = 0;
+		try (BufferedWriter out = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8)) {
+			for (Map.Entry<SubQuery, Map<String, Entry>> e : cache.entrySet()) {
+				for (Map.Entry<String, Entry> endpointEntry : e.getValue().entrySet()) {
+					out.write(toString(e.getKey(), endpointEntry.getKey(), endpointEntry.getValue()));
+					out.write('\n');
+					written++;
+				}
+			}
+		}
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		records = written;
+		openWriter();
+	}
+
+	private void openWriter() throws IOException {
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			Files.createDirectories(parent.toPath());
+		}
+		writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+				StandardOpenOption.APPEND);
+	}
+
+	/**
+	 * The information for a sub query and endpoint at a point in time
+	 */
+	private static class Entry {
+
+		final boolean hasStatements;
+
+		final long timestamp;
+
+		Entry(boolean hasStatements, long timestamp) {
+			this.hasStatements = hasStatements;
+			this.timestamp = timestamp;
+		}
+
+		StatementSourceAssurance getAssurance() {
+			return hasStatements ? StatementSourceAssurance.HAS_REMOTE_STATEMENTS : StatementSourceAssurance.NONE;
+		}
+	}
+}
@@ -0,0 +1,379 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.IterationWrapper;
+import org.eclipse.rdf4j.federated.FedXConfig;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.monitoring.Monitoring;
+import org.eclipse.rdf4j.federated.structures.QueryInfo;
+import org.eclipse.rdf4j.federated.util.FedXUtil;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.Dataset;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+import org.eclipse.rdf4j.query.impl.TupleQueryResultBuilder;
+import org.eclipse.rdf4j.query.resultio.QueryResultParseException;
+import org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultParser;
+import org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache for the results of SELECT subqueries sent to the federation members.
+ *
+ * <p>
+ * Results are keyed by the endpoint, the normalised subquery string (i.e. with whitespace outside of literals
+ * collapsed), the bindings of the request, the dataset, the base URI and the inference setting. A result is recorded
+ * while it is consumed and only cached once it is completely consumed. Cached results are stored in the compact binary
+ * query result format, expire after the time to live configured for the endpoint, and least recently used results are
+ * evicted if the size of all cached results exceeds the configured bound. Results larger than a tenth of the bound are
+ * not cached.
+ * </p>
+ *
+ * <p>
+ * Cache hits and misses are reported to the {@link Monitoring} service.
+ * </p>
+ *
+ * @author Eclipse RDF4J contributors
+ * @see FedXConfig#isEnableSubqueryCache()
+ */
+public class SubqueryResultCache {
+
+	private static final Logger log = LoggerFactory.getLogger(SubqueryResultCache.class);
+
+	private final FedXConfig config;
+
+	private final Monitoring monitoring;
+
+	private final long maxSize;
+
+	private final long maxEntrySize;
+
+	private final Map<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long size;
+
+	/**
+	 * Incremented by {@link #invalidate()}, so that results that were recorded before are not cached afterwards.
+	 */
+	private long generation;
+
+	public SubqueryResultCache(FedXConfig config, Monitoring monitoring) {
+		this.config = config;
+		this.monitoring = monitoring;
+		this.maxSize = config.getSubqueryCacheMaxSize();
+		this.maxEntrySize = maxSize / 10;
+	}
+
+	/**
+	 * Lookup the cached result of the given subquery.
+	 *
+	 * @param endpoint  the endpoint
+	 * @param query     the subquery
+	 * @param bindings  the bindings of the request, may be <code>null</code>
+	 * @param queryInfo the query info
+	 * @return the cached result, or <code>null</code> if the result is not cached
+	 */
+	public CloseableIteration<BindingSet> get(Endpoint endpoint, String query, BindingSet bindings,
+			QueryInfo queryInfo) {
+		if (!isCacheable(endpoint)) {
+			return null;
+		}
+
+		CacheKey key = new CacheKey(endpoint.getId(), query, bindings, queryInfo);
+		byte[] data = lookup(key);
+		monitoring.monitorSubqueryCacheLookup(endpoint, data != null);
+		if (data == null) {
+			return null;
+		}
+
+		try {
+			TupleQueryResultBuilder builder = new TupleQueryResultBuilder();
+			BinaryQueryResultParser parser = new BinaryQueryResultParser(FedXUtil.valueFactory());
+			parser.setQueryResultHandler(builder);
+			parser.parseQueryResult(new ByteArrayInputStream(data));
+			return builder.getQueryResult();
+		} catch (IOException | QueryResultParseException e) {
+			log.warn("Failed to read cached subquery result: " + e.getMessage());
+			log.debug("Details:", e);
+			synchronized (this) {
+				remove(key);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Record the given result of a subquery while it is consumed. The result is cached once it is completely consumed.
+	 *
+	 * @param endpoint  the endpoint
+	 * @param query     the subquery
+	 * @param bindings  the bindings of the request, may be <code>null</code>
+	 * @param queryInfo the query info
+	 * @param result    the result of the subquery
+	 * @return the result to be consumed
+	 */
+	public CloseableIteration<BindingSet> record(Endpoint endpoint, String query, BindingSet bindings,
+			QueryInfo queryInfo, TupleQueryResult result) {
+		if (!isCacheable(endpoint)) {
+			return result;
+		}
+		return new RecordingIteration(new CacheKey(endpoint.getId(), query, bindings, queryInfo),
+				TimeUnit.SECONDS.toMillis(config.getSubqueryCacheTTL(endpoint.getId())), getGeneration(), result);
+	}
+
+	/**
+	 * Remove all cached results. Results that are being recorded are not cached once they are consumed.
+	 */
+	public synchronized void invalidate() {
+		entries.clear();
+		size = 0;
+		generation++;
+	}
+
+	/**
+	 *
+	 * @return the size of all cached results in bytes
+	 */
+	public synchronized long getSize() {
+		return size;
+	}
+
+	private boolean isCacheable(Endpoint endpoint) {
+		return config.getSubqueryCacheTTL(endpoint.getId()) > 0;
+	}
+
+	private synchronized byte[] lookup(CacheKey key) {
+		CacheEntry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAt < System.currentTimeMillis()) {
+			remove(key);
+			return null;
+		}
+		return entry.data;
+	}
+
+	private synchronized long getGeneration() {
+		return generation;
+	}
+
+	private synchronized void put(CacheKey key, byte[] data, long timeToLive, long recordedGeneration) {
+		if (recordedGeneration != generation) {
+			// the cache was invalidated while the result was recorded
+			return;
+		}
+		remove(key);
+		entries.put(key, new CacheEntry(data, System.currentTimeMillis() + timeToLive));
+		size += data.length;
+
+		// evict expired and least recently used results
+		long now = System.currentTimeMillis();
+		Iterator<CacheEntry> iter = entries.values().iterator();
+		while (iter.hasNext()) {
+			CacheEntry entry = iter.next();
+			if (size > maxSize || entry.expiresAt < now) {
+				iter.remove();
+				size -= entry.data.length;
+			}
+		}
+	}
+
+	private void remove(CacheKey key) {
+		CacheEntry entry = entries.remove(key);
+		if (entry != null) {
+			size -= entry.data.length;
+		}
+	}
+
+	/**
+	 * Normalise the given query string by collapsing whitespace outside of literals and IRIs.
+	 *
+	 * @param query the query string
+	 * @return the normalised query string
+	 */
+	static String normalize(String query) {
+		StringBuilder sb = new StringBuilder(query.length());
+		int n = query.length();
+		int i = 0;
+		boolean whitespace = false;
+		while (i < n) {
+			char c = query.charAt(i);
+			if (Character.isWhitespace(c)) {
+				whitespace = true;
+				i++;
+				continue;
+			}
+			if (whitespace && sb.length() > 0) {
+				sb.append(' ');
+			}
+			whitespace = false;
+
+			int end = i + 1;
+			if (c == '"' || c == '\'') {
+				// copy literals verbatim, including long literals and escape sequences
+				String delimiter = query.startsWith("" + c + c + c, i) ? "" + c + c + c : "" + c;
+				end = i + delimiter.length();
+				while (end < n && !query.startsWith(delimiter, end)) {
+					end += query.charAt(end) == '\\' ? 2 : 1;
+				}
+				end = Math.min(n, end + delimiter.length());
+			} else if (c == '<') {
+				// copy IRIs verbatim
+				int close = query.indexOf('>', i);
+				if (close > 0 && query.substring(i, close).chars().noneMatch(Character::isWhitespace)) {
+					end = close + 1;
+				}
+			}
+			sb.append(query, i, end);
+			i = end;
+		}
+		return sb.toString();
+	}
+
+	private static class CacheKey {
+
+		private final String endpointId;
+
+		private final String query;
+
+		private final BindingSet bindings;
+
+		private final Dataset dataset;
+
+		private final String baseURI;
+
+		private final boolean includeInferred;
+
+		private final int hashCode;
+
+		private CacheKey(String endpointId, String query, BindingSet bindings, QueryInfo queryInfo) {
+			this.endpointId = endpointId;
+			this.query = normalize(query);
+			this.bindings = bindings == null ? EmptyBindingSet.getInstance() : bindings;
+			this.dataset = queryInfo.getDataset();
+			this.baseURI = queryInfo.getBaseURI();
+			this.includeInferred = queryInfo.getIncludeInferred();
+			this.hashCode = Objects.hash(endpointId, this.query, this.bindings, dataset, baseURI, includeInferred);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey other = (CacheKey) obj;
+			return hashCode == other.hashCode && includeInferred == other.includeInferred
+					&& endpointId.equals(other.endpointId) && query.equals(other.query)
+					&& bindings.equals(other.bindings) && Objects.equals(dataset, other.dataset)
+					&& Objects.equals(baseURI, other.baseURI);
+		}
+	}
+
+	private static class CacheEntry {
+
+		private final byte[] data;
+
+		private final long expiresAt;
+
+		private CacheEntry(byte[] data, long expiresAt) {
+			this.data = data;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	/**
+	 * Encodes the consumed results and puts them into the cache once the result is completely consumed.
+	 */
+	private class RecordingIteration extends IterationWrapper<BindingSet> {
+
+		private final CacheKey key;
+
+		private final long timeToLive;
+
+		private final long generation;
+
+		private final TupleQueryResult result;
+
+		private ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		private BinaryQueryResultWriter writer;
+
+		private RecordingIteration(CacheKey key, long timeToLive, long generation, TupleQueryResult result) {
+			super(result);
+			this.key = key;
+			this.timeToLive = timeToLive;
+			this.generation = generation;
+			this.result = result;
+			this.writer = new BinaryQueryResultWriter(out);
+			this.writer.startQueryResult(result.getBindingNames());
+		}
+
+		@Override
+		public boolean hasNext() throws QueryEvaluationException {
+			// check the wrapped result first, the wrapper is closed once it is exhausted
+			if (writer != null && !isClosed() && !result.hasNext()) {
+				writer.endQueryResult();
+				put(key, out.toByteArray(), timeToLive, generation);
+				stopRecording();
+			}
+			return super.hasNext();
+		}
+
+		@Override
+		public BindingSet next() throws QueryEvaluationException {
+			BindingSet next = super.next();
+			if (writer != null) {
+				writer.handleSolution(next);
+				if (out.size() > maxEntrySize) {
+					stopRecording();
+				}
+			}
+			return next;
+		}
+
+		private void stopRecording() {
+			writer = null;
+			out = null;
+		}
+
+		@Override
+		protected void handleClose() throws QueryEvaluationException {
+			try {
+				super.handleClose();
+			} finally {
+				// incompletely consumed results are not cached
+				stopRecording();
+			}
+		}
+	}
+}
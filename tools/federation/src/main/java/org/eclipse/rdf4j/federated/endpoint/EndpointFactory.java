@@ -15,7 +15,10 @@ import java.io.FileReader;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.eclipse.rdf4j.federated.FedXFactory;
 import org.eclipse.rdf4j.federated.endpoint.provider.NativeRepositoryInformation;
@@ -33,11 +36,13 @@ import org.eclipse.rdf4j.federated.exception.FedXRuntimeException;
 import org.eclipse.rdf4j.federated.repository.FedXRepository;
 import org.eclipse.rdf4j.federated.util.FedXUtil;
 import org.eclipse.rdf4j.federated.util.Vocabulary;
+import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.impl.TreeModel;
+import org.eclipse.rdf4j.model.util.Models;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryResolver;
 import org.eclipse.rdf4j.rio.RDFFormat;
@@ -188,6 +193,18 @@ public class EndpointFactory {
 		return repProvider.loadEndpoint(new RepositoryInformation(id, name, location, EndpointType.Other));
 	}
 
+	/**
+	 * Construct a replica group, i.e. a single federation member representing several endpoints holding the same data.
+	 * Requests are load balanced across the replicas and slow requests are hedged, see {@link ReplicatedEndpoint}.
+	 *
+	 * @param id       the identifier of the replica group, e.g. "dbpedia"
+	 * @param replicas the replicas
+	 * @return the replica group
+	 */
+	public static Endpoint loadReplicaGroup(String id, List<Endpoint> replicas) {
+		return new ReplicatedEndpoint(id, "http://" + id, replicas);
+	}
+
 	/**
 	 * Construct a NativeStore endpoint using the provided information.
 	 *
@@ -272,6 +289,17 @@ public class EndpointFactory {
 	 * {@link SPARQLRepositoryInformation}.
 	 * </p>
 	 *
+	 * <p>
+	 * Members sharing the same <code>fedx:replicaGroup</code> value are combined into a single
+	 * {@link ReplicatedEndpoint} with the group value as identifier.
+	 * </p>
+	 *
+	 * <pre>
+	 * &lt;http://dbpedia-1&gt; fedx:store "SPARQLEndpoint" ;
+	 *   sd:endpoint "http://dbpedia-1.example.org/sparql" ;
+	 *   fedx:replicaGroup "dbpedia" .
+	 * </pre>
+	 *
 	 * @param members
 	 * @param baseDir
 	 * @return list of endpoints
@@ -280,9 +308,19 @@ public class EndpointFactory {
 	public static List<Endpoint> loadFederationMembers(Model members, File baseDir) throws FedXException {
 
 		List<Endpoint> res = new ArrayList<>();
+		Map<String, List<Endpoint>> replicaGroups = new LinkedHashMap<>();
 		for (Statement st : members.getStatements(null, Vocabulary.FEDX.STORE, null)) {
 			Endpoint e = loadEndpoint(members, st.getSubject(), st.getObject(), baseDir);
-			res.add(e);
+			Optional<Literal> replicaGroup = Models
+					.objectLiteral(members.getStatements(st.getSubject(), Vocabulary.FEDX.REPLICA_GROUP, null));
+			if (replicaGroup.isPresent()) {
+				replicaGroups.computeIfAbsent(replicaGroup.get().stringValue(), id -> new ArrayList<>()).add(e);
+			} else {
+				res.add(e);
+			}
+		}
+		for (Map.Entry<String, List<Endpoint>> group : replicaGroups.entrySet()) {
+			res.add(loadReplicaGroup(group.getKey(), group.getValue()));
 		}
 
 		return res;
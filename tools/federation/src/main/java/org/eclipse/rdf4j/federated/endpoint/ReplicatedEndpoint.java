@@ -0,0 +1,476 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.endpoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.eclipse.rdf4j.federated.FedXConfig;
+import org.eclipse.rdf4j.federated.FederationContext;
+import org.eclipse.rdf4j.federated.evaluation.ReplicatedTripleSource;
+import org.eclipse.rdf4j.federated.evaluation.TripleSource;
+import org.eclipse.rdf4j.federated.evaluation.concurrent.NamingThreadFactory;
+import org.eclipse.rdf4j.federated.exception.FedXRuntimeException;
+import org.eclipse.rdf4j.query.QueryInterruptedException;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link Endpoint} representing a group of replicas, i.e. of endpoints holding the same data.
+ *
+ * <p>
+ * The replica group is a single federation member, i.e. source selection treats it as one source. Each request is sent
+ * to the replica with the fewest requests in flight (ties are resolved in a round robin fashion). If a replica does not
+ * respond within the configured percentile of the recent response times of the group (see
+ * {@link FedXConfig#getHedgingPercentile()}), a hedged request is sent to another replica. The first response is used
+ * and the slower request is cancelled, i.e. its result is closed. Until enough response times are known, requests are
+ * not hedged, but a failed request is retried on another replica.
+ * </p>
+ *
+ * <p>
+ * Replica groups are read-only: write operations would have to be applied to all replicas.
+ * </p>
+ *
+ * @author Eclipse RDF4J contributors
+ * @see EndpointFactory#loadReplicaGroup(String, List)
+ */
+public class ReplicatedEndpoint implements Endpoint {
+
+	private static final Logger log = LoggerFactory.getLogger(ReplicatedEndpoint.class);
+
+	/**
+	 * The number of recent response times used to compute the hedging threshold
+	 */
+	private static final int LATENCY_WINDOW = 100;
+
+	/**
+	 * The number of response times required before requests are hedged
+	 */
+	private static final int MIN_LATENCY_SAMPLES = 10;
+
+	private final String id;
+
+	private final String name;
+
+	private final List<Endpoint> replicas;
+
+	private final AtomicInteger[] inFlight;
+
+	private final AtomicInteger nextReplica = new AtomicInteger();
+
+	private final long[] latencies = new long[LATENCY_WINDOW];
+
+	private int latencyCount = 0;
+
+	private final AtomicLong hedgedRequests = new AtomicLong();
+
+	private final AtomicLong hedgedResponses = new AtomicLong();
+
+	private int hedgingPercentile;
+
+	private int hedgingMinDelay;
+
+	private ExecutorService executor;
+
+	private TripleSource tripleSource;
+
+	private volatile boolean initialized = false;
+
+	/**
+	 *
+	 * @param id       the identifier of the replica group
+	 * @param name     the name of the replica group
+	 * @param replicas the replicas, i.e. endpoints holding the same data
+	 */
+	public ReplicatedEndpoint(String id, String name, List<Endpoint> replicas) {
+		if (replicas.isEmpty()) {
+			throw new IllegalArgumentException("Replica group " + id + " requires at least one replica");
+		}
+		this.id = id;
+		this.name = name;
+		this.replicas = new ArrayList<>(replicas);
+		this.inFlight = new AtomicInteger[replicas.size()];
+		for (int i = 0; i < inFlight.length; i++) {
+			inFlight[i] = new AtomicInteger();
+		}
+	}
+
+	/**
+	 *
+	 * @return the replicas of this group
+	 */
+	public List<Endpoint> getReplicas() {
+		return Collections.unmodifiableList(replicas);
+	}
+
+	@Override
+	public Repository getRepository() {
+		return replicas.get(selectReplica(-1)).getRepository();
+	}
+
+	@Override
+	public RepositoryConnection getConnection() {
+		if (!initialized) {
+			throw new FedXRuntimeException("Replica group " + getId() + " not initialized");
+		}
+		return replicas.get(selectReplica(-1)).getConnection();
+	}
+
+	@Override
+	public TripleSource getTripleSource() {
+		return tripleSource;
+	}
+
+	@Override
+	public EndpointClassification getEndpointClassification() {
+		for (Endpoint replica : replicas) {
+			if (replica.getEndpointClassification() == EndpointClassification.Remote) {
+				return EndpointClassification.Remote;
+			}
+		}
+		return EndpointClassification.Local;
+	}
+
+	@Override
+	public boolean isWritable() {
+		return false;
+	}
+
+	@Override
+	public String getId() {
+		return id;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the location of the first replica.
+	 */
+	@Override
+	public String getEndpoint() {
+		return replicas.get(0).getEndpoint();
+	}
+
+	@Override
+	public long size() throws RepositoryException {
+		return execute(Endpoint::size, size -> {
+		});
+	}
+
+	@Override
+	public void init(FederationContext federationContext) throws RepositoryException {
+		if (isInitialized()) {
+			return;
+		}
+		for (Endpoint replica : replicas) {
+			replica.init(federationContext);
+		}
+		FedXConfig config = federationContext.getConfig();
+		this.hedgingPercentile = config.getHedgingPercentile();
+		this.hedgingMinDelay = config.getHedgingMinDelay();
+		this.executor = Executors.newCachedThreadPool(new NamingThreadFactory("FedX Replica Group " + id));
+		this.tripleSource = new ReplicatedTripleSource(this);
+		initialized = true;
+	}
+
+	@Override
+	public void shutDown() throws RepositoryException {
+		if (!isInitialized()) {
+			return;
+		}
+		initialized = false;
+		executor.shutdownNow();
+		RepositoryException error = null;
+		for (Endpoint replica : replicas) {
+			try {
+				replica.shutDown();
+			} catch (RepositoryException e) {
+				log.warn("Failed to shutdown replica " + replica.getId() + " of " + id + ": " + e.getMessage());
+				error = e;
+			}
+		}
+		if (error != null) {
+			throw error;
+		}
+	}
+
+	@Override
+	public boolean isInitialized() {
+		return initialized;
+	}
+
+	/**
+	 * Returns the configuration of the first replica.
+	 */
+	@Override
+	public EndpointConfiguration getEndpointConfiguration() {
+		return replicas.get(0).getEndpointConfiguration();
+	}
+
+	/**
+	 *
+	 * @return the number of hedged requests sent to a second replica
+	 */
+	public long getNumberOfHedgedRequests() {
+		return hedgedRequests.get();
+	}
+
+	/**
+	 *
+	 * @return the number of hedged requests which responded before the original request
+	 */
+	public long getNumberOfHedgedResponses() {
+		return hedgedResponses.get();
+	}
+
+	/**
+	 * Perform the given operation on one of the replicas. If the replica does not respond within the hedging threshold,
+	 * the operation is additionally performed on another replica and the first result is returned. The result of the
+	 * slower replica is passed to the given discard function. If the replica fails, the operation is performed on
+	 * another replica.
+	 *
+	 * @param operation the operation, e.g. sending a request to the replica
+	 * @param discard   the function to release the resources of a result which is not used
+	 * @return the first result
+	 */
+	public <T> T execute(Function<Endpoint, T> operation, Consumer<? super T> discard) {
+		int primary = selectReplica(-1);
+		long threshold = hedgingThreshold();
+		if (threshold < 0) {
+			try {
+				return new Attempt<>(primary, operation, discard).call();
+			} catch (RuntimeException e) {
+				if (replicas.size() < 2 || Thread.currentThread().isInterrupted()) {
+					throw e;
+				}
+				log.debug("Request to replica group {} failed, retrying on another replica: {}", id, e.getMessage());
+				try {
+					return new Attempt<>(selectReplica(primary), operation, discard).call();
+				} catch (RuntimeException retryError) {
+					e.addSuppressed(retryError);
+					throw e;
+				}
+			}
+		}
+
+		CompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+		List<Attempt<T>> attempts = new ArrayList<>(2);
+		try {
+			attempts.add(new Attempt<>(primary, operation, discard).submit(completionService));
+
+			Future<T> done = completionService.poll(threshold, TimeUnit.MILLISECONDS);
+			if (done == null || failed(done)) {
+				// the replica is slow or failed: send the same request to another replica
+				attempts.add(new Attempt<>(selectReplica(primary), operation, discard).submit(completionService));
+				hedgedRequests.incrementAndGet();
+				log.debug("Hedged request to replica group {} after {}ms", id, threshold);
+			}
+
+			Throwable error = null;
+			for (int remaining = attempts.size(); remaining > 0; remaining--) {
+				if (done == null) {
+					done = completionService.take();
+				}
+				try {
+					T res = done.get();
+					for (Attempt<T> attempt : attempts) {
+						if (attempt.future == done) {
+							attempt.used = true;
+						}
+					}
+					if (done != attempts.get(0).future) {
+						hedgedResponses.incrementAndGet();
+					}
+					return res;
+				} catch (ExecutionException e) {
+					error = error == null ? e.getCause() : error;
+					done = null;
+				}
+			}
+			throw toRuntimeException(error);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new QueryInterruptedException("Interrupted while waiting for replica group " + id);
+		} finally {
+			for (Attempt<T> attempt : attempts) {
+				if (!attempt.used) {
+					attempt.abandon();
+				}
+			}
+		}
+	}
+
+	private static boolean failed(Future<?> future) throws InterruptedException {
+		try {
+			future.get();
+			return false;
+		} catch (ExecutionException e) {
+			return true;
+		}
+	}
+
+	private static RuntimeException toRuntimeException(Throwable t) {
+		if (t instanceof RuntimeException) {
+			return (RuntimeException) t;
+		}
+		if (t instanceof Error) {
+			throw (Error) t;
+		}
+		return new FedXRuntimeException(t);
+	}
+
+	/**
+	 * Select the replica with the fewest requests in flight.
+	 *
+	 * @param exclude the index of a replica to exclude, or <code>-1</code>
+	 * @return the index of the replica
+	 */
+	private int selectReplica(int exclude) {
+		int n = replicas.size();
+		int start = Math.floorMod(nextReplica.getAndIncrement(), n);
+		int res = -1;
+		for (int i = 0; i < n; i++) {
+			int idx = (start + i) % n;
+			if (idx == exclude && n > 1) {
+				continue;
+			}
+			if (res < 0 || inFlight[idx].get() < inFlight[res].get()) {
+				res = idx;
+			}
+		}
+		return res;
+	}
+
+	/**
+	 *
+	 * @return the delay in milliseconds after which a request is hedged, or <code>-1</code> if requests are not hedged
+	 */
+	private long hedgingThreshold() {
+		if (replicas.size() < 2 || hedgingPercentile <= 0 || executor == null) {
+			return -1;
+		}
+		long[] sorted;
+		synchronized (latencies) {
+			if (latencyCount < MIN_LATENCY_SAMPLES) {
+				return -1;
+			}
+			sorted = Arrays.copyOf(latencies, Math.min(latencyCount, LATENCY_WINDOW));
+		}
+		Arrays.sort(sorted);
+		int idx = (int) Math.ceil(Math.min(hedgingPercentile, 100) / 100.0 * sorted.length) - 1;
+		return Math.max(hedgingMinDelay, sorted[Math.max(0, idx)]);
+	}
+
+	private void recordLatency(long latency) {
+		synchronized (latencies) {
+			latencies[latencyCount % LATENCY_WINDOW] = latency;
+			latencyCount++;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ReplicatedEndpoint [id=" + id + ", name=" + name + ", replicas=" + replicas + "]";
+	}
+
+	/**
+	 * A request to a single replica. The result of an abandoned request is discarded once it is available.
+	 *
+	 * <p>
+	 * The response time of a request is recorded when it completes or, if it is abandoned, when it is cancelled. Slow
+	 * requests are typically the ones abandoned, ignoring them would underestimate the hedging threshold.
+	 * </p>
+	 */
+	private class Attempt<T> implements Callable<T> {
+
+		private static final int RUNNING = 0, DONE = 1, ABANDONED = 2;
+
+		private final int replica;
+
+		private final Function<Endpoint, T> operation;
+
+		private final Consumer<? super T> discard;
+
+		private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+		private Future<T> future;
+
+		private boolean used = false;
+
+		private final long start = System.currentTimeMillis();
+
+		private Attempt(int replica, Function<Endpoint, T> operation, Consumer<? super T> discard) {
+			this.replica = replica;
+			this.operation = operation;
+			this.discard = discard;
+		}
+
+		private Attempt<T> submit(CompletionService<T> completionService) {
+			this.future = completionService.submit(this);
+			return this;
+		}
+
+		@Override
+		public T call() {
+			inFlight[replica].incrementAndGet();
+			try {
+				T res = operation.apply(replicas.get(replica));
+				if (!state.compareAndSet(RUNNING, DONE)) {
+					// abandoned while the request was running
+					discard.accept(res);
+					return res;
+				}
+				recordLatency(System.currentTimeMillis() - start);
+				return res;
+			} finally {
+				inFlight[replica].decrementAndGet();
+			}
+		}
+
+		/**
+		 * Cancel the request, or discard its result if it is already done.
+		 */
+		private void abandon() {
+			if (state.compareAndSet(RUNNING, ABANDONED)) {
+				recordLatency(System.currentTimeMillis() - start);
+				future.cancel(true);
+				return;
+			}
+			try {
+				discard.accept(future.get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				// no result to discard
+			}
+		}
+	}
+}
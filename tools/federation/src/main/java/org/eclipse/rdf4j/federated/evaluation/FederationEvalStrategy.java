@@ -59,6 +59,7 @@ import org.eclipse.rdf4j.federated.evaluation.iterator.FedXPathIteration;
 import org.eclipse.rdf4j.federated.evaluation.iterator.FederatedDescribeIteration;
 import org.eclipse.rdf4j.federated.evaluation.iterator.FilteringIteration;
 import org.eclipse.rdf4j.federated.evaluation.iterator.SingleBindingSetIteration;
+import org.eclipse.rdf4j.federated.evaluation.join.AdaptiveJoin;
 import org.eclipse.rdf4j.federated.evaluation.join.ControlledWorkerBindJoin;
 import org.eclipse.rdf4j.federated.evaluation.join.ControlledWorkerBoundJoin;
 import org.eclipse.rdf4j.federated.evaluation.join.ControlledWorkerJoin;
@@ -76,6 +77,7 @@ import org.eclipse.rdf4j.federated.exception.FedXRuntimeException;
 import org.eclipse.rdf4j.federated.exception.IllegalQueryException;
 import org.eclipse.rdf4j.federated.optimizer.DefaultFedXCostModel;
 import org.eclipse.rdf4j.federated.optimizer.ExclusiveTupleExprOptimizer;
+import org.eclipse.rdf4j.federated.optimizer.FedXCostModel;
 import org.eclipse.rdf4j.federated.optimizer.FilterOptimizer;
 import org.eclipse.rdf4j.federated.optimizer.GenericInfoOptimizer;
 import org.eclipse.rdf4j.federated.optimizer.LimitOptimizer;
@@ -83,6 +85,8 @@ import org.eclipse.rdf4j.federated.optimizer.ServiceOptimizer;
 import org.eclipse.rdf4j.federated.optimizer.SourceSelection;
 import org.eclipse.rdf4j.federated.optimizer.StatementGroupAndJoinOptimizer;
 import org.eclipse.rdf4j.federated.optimizer.UnionOptimizer;
+import org.eclipse.rdf4j.federated.statistics.FederationStatistics;
+import org.eclipse.rdf4j.federated.statistics.StatisticsFedXCostModel;
 import org.eclipse.rdf4j.federated.structures.FedXDataset;
 import org.eclipse.rdf4j.federated.structures.QueryInfo;
 import org.eclipse.rdf4j.federated.structures.QueryType;
@@ -411,7 +415,10 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 
 	protected void optimizeJoinOrder(TupleExpr query, QueryInfo queryInfo, GenericInfoOptimizer info) {
 		// optimize statement groups and join order
-		new StatementGroupAndJoinOptimizer(queryInfo, DefaultFedXCostModel.INSTANCE).optimize(query);
+		FederationStatistics statistics = federationContext.getFederationStatistics();
+		FedXCostModel costModel = statistics != null ? new StatisticsFedXCostModel(statistics)
+				: DefaultFedXCostModel.INSTANCE;
+		new StatementGroupAndJoinOptimizer(queryInfo, costModel).optimize(query);
 	}
 
 	/**
@@ -680,7 +687,8 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 
 		try {
 			Endpoint source = query.getSource();
-			return source.getTripleSource()
+			return query.getQueryInfo()
+					.getTripleSource(source, query)
 					.getStatements(query.getQueryString(), bindings, query.getQueryInfo().getQueryType(),
 							query.getQueryInfo());
 		} catch (RepositoryException | MalformedQueryException e) {
@@ -702,14 +710,29 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 
 		ControlledWorkerScheduler<BindingSet> joinScheduler = federationContext.getManager().getJoinScheduler();
 
+		// the prepared right arguments for hash joins chosen by adaptive joins
+		QueryEvaluationStep[] rightPrepared = null;
+		if (federationContext.getConfig().isEnableAdaptiveJoin()) {
+			rightPrepared = new QueryEvaluationStep[join.getNumberOfArguments()];
+			for (int i = 1; i < rightPrepared.length; i++) {
+				rightPrepared[i] = precompile(join.getArg(i), context);
+			}
+		}
+		final QueryEvaluationStep[] adaptiveRightPrepared = rightPrepared;
+
 		return bindings -> {
 			CloseableIteration<BindingSet> result = null;
 			try {
 				result = resultProvider.evaluate(bindings);
 
 				for (int i = 1, n = join.getNumberOfArguments(); i < n; i++) {
-					result = executeJoin(joinScheduler, result, join.getArg(i), join.getJoinVariables(i), bindings,
-							join.getQueryInfo());
+					if (adaptiveRightPrepared != null) {
+						result = executeAdaptiveJoin(joinScheduler, result, join, i, adaptiveRightPrepared[i],
+								bindings);
+					} else {
+						result = executeJoin(joinScheduler, result, join.getArg(i), join.getJoinVariables(i),
+								bindings, join.getQueryInfo());
+					}
 				}
 			} catch (Throwable t) {
 				if (result != null) {
@@ -885,6 +908,37 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 		};
 	}
 
+	/**
+	 * Execute the join with the given index of the n-ary join as {@link AdaptiveJoin}, i.e. choose the join strategy
+	 * once the left bindings are observed. The join executed by
+	 * {@link #executeJoin(ControlledWorkerScheduler, CloseableIteration, TupleExpr, Set, BindingSet, QueryInfo)} is
+	 * used unless a hash join is chosen.
+	 *
+	 * @param joinScheduler the join scheduler
+	 * @param leftIter      the left bindings
+	 * @param join          the n-ary join
+	 * @param joinIndex     the join index, starting with 1
+	 * @param rightPrepared the prepared right argument of the join
+	 * @param bindings      the bindings
+	 * @return the result
+	 * @throws QueryEvaluationException
+	 * @see FedXConfig#isEnableAdaptiveJoin()
+	 */
+	protected CloseableIteration<BindingSet> executeAdaptiveJoin(ControlledWorkerScheduler<BindingSet> joinScheduler,
+			CloseableIteration<BindingSet> leftIter, NJoin join, int joinIndex, QueryEvaluationStep rightPrepared,
+			BindingSet bindings) throws QueryEvaluationException {
+
+		TupleExpr rightArg = join.getArg(joinIndex);
+		Set<String> joinVars = join.getJoinVariables(joinIndex);
+		QueryInfo queryInfo = join.getQueryInfo();
+
+		AdaptiveJoin adaptiveJoin = new AdaptiveJoin(this, leftIter, join, joinIndex, rightPrepared,
+				left -> executeJoin(joinScheduler, left, rightArg, joinVars, bindings, queryInfo), bindings,
+				queryInfo);
+		executor.execute(adaptiveJoin);
+		return adaptiveJoin;
+	}
+
 	/**
 	 * Execute the join in a separate thread using some join executor.
 	 *
@@ -968,7 +1022,7 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 		Endpoint ownedEndpoint = federationContext
 				.getEndpointManager()
 				.getEndpoint(expr.getOwner().getEndpointID());
-		TripleSource t = ownedEndpoint.getTripleSource();
+		TripleSource t = expr.getQueryInfo().getTripleSource(ownedEndpoint, expr);
 
 		return bindings -> {
 			AtomicBoolean isEvaluated = new AtomicBoolean(false);
@@ -1040,7 +1094,8 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 
 		CloseableIteration<BindingSet> result = null;
 		try {
-			result = evaluateAtStatementSources(preparedQuery, stmt.getStatementSources(), stmt.getQueryInfo());
+			result = evaluateAtStatementSources(preparedQuery, stmt.getStatementSources(), stmt.getQueryInfo(),
+					stmt);
 
 			// apply filter and/or convert to original bindings
 			if (filterExpr != null && !isEvaluated.get()) {
@@ -1213,11 +1268,27 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 
 	protected CloseableIteration<BindingSet> evaluateAtStatementSources(Object preparedQuery,
 			List<StatementSource> statementSources, QueryInfo queryInfo) throws QueryEvaluationException {
+		return evaluateAtStatementSources(preparedQuery, statementSources, queryInfo, null);
+	}
+
+	/**
+	 * Evaluate the prepared query at the given statement sources.
+	 *
+	 * @param preparedQuery    the prepared query, i.e. a {@link String} or a {@link TupleExpr}
+	 * @param statementSources the statement sources
+	 * @param queryInfo        the query info
+	 * @param sourceExpr       the plan node issuing the requests, used for request tracing. May be <code>null</code>
+	 * @return the result iteration
+	 * @throws QueryEvaluationException
+	 */
+	protected CloseableIteration<BindingSet> evaluateAtStatementSources(Object preparedQuery,
+			List<StatementSource> statementSources, QueryInfo queryInfo, TupleExpr sourceExpr)
+			throws QueryEvaluationException {
 		if (preparedQuery instanceof String) {
-			return evaluateAtStatementSources((String) preparedQuery, statementSources, queryInfo);
+			return evaluateAtStatementSources((String) preparedQuery, statementSources, queryInfo, sourceExpr);
 		}
 		if (preparedQuery instanceof TupleExpr) {
-			return evaluateAtStatementSources((TupleExpr) preparedQuery, statementSources, queryInfo);
+			return evaluateAtStatementSources((TupleExpr) preparedQuery, statementSources, queryInfo, sourceExpr);
 		}
 		throw new RuntimeException(
 				"Unsupported type for prepared query: " + preparedQuery.getClass().getCanonicalName());
@@ -1225,6 +1296,12 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 
 	protected CloseableIteration<BindingSet> evaluateAtStatementSources(String preparedQuery,
 			List<StatementSource> statementSources, QueryInfo queryInfo) throws QueryEvaluationException {
+		return evaluateAtStatementSources(preparedQuery, statementSources, queryInfo, null);
+	}
+
+	protected CloseableIteration<BindingSet> evaluateAtStatementSources(String preparedQuery,
+			List<StatementSource> statementSources, QueryInfo queryInfo, TupleExpr sourceExpr)
+			throws QueryEvaluationException {
 
 		try {
 			CloseableIteration<BindingSet> result;
@@ -1232,7 +1309,8 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 			if (statementSources.size() == 1) {
 				Endpoint ownedEndpoint = federationContext.getEndpointManager()
 						.getEndpoint(statementSources.get(0).getEndpointID());
-				org.eclipse.rdf4j.federated.evaluation.TripleSource t = ownedEndpoint.getTripleSource();
+				org.eclipse.rdf4j.federated.evaluation.TripleSource t = queryInfo.getTripleSource(ownedEndpoint,
+						sourceExpr);
 				result = t.getStatements(preparedQuery, EmptyBindingSet.getInstance(), (FilterValueExpr) null,
 						queryInfo);
 			} else {
@@ -1241,7 +1319,7 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 				for (StatementSource source : statementSources) {
 					Endpoint ownedEndpoint = federationContext.getEndpointManager().getEndpoint(source.getEndpointID());
 					union.addTask(new ParallelPreparedUnionTask(union, preparedQuery, ownedEndpoint,
-							EmptyBindingSet.getInstance(), null, queryInfo));
+							EmptyBindingSet.getInstance(), null, queryInfo, sourceExpr));
 				}
 
 				union.run();
@@ -1263,6 +1341,12 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 	protected CloseableIteration<BindingSet> evaluateAtStatementSources(
 			TupleExpr preparedQuery, List<StatementSource> statementSources, QueryInfo queryInfo)
 			throws QueryEvaluationException {
+		return evaluateAtStatementSources(preparedQuery, statementSources, queryInfo, null);
+	}
+
+	protected CloseableIteration<BindingSet> evaluateAtStatementSources(
+			TupleExpr preparedQuery, List<StatementSource> statementSources, QueryInfo queryInfo, TupleExpr sourceExpr)
+			throws QueryEvaluationException {
 
 		try {
 			CloseableIteration<BindingSet> result;
@@ -1270,7 +1354,8 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 			if (statementSources.size() == 1) {
 				Endpoint ownedEndpoint = federationContext.getEndpointManager()
 						.getEndpoint(statementSources.get(0).getEndpointID());
-				org.eclipse.rdf4j.federated.evaluation.TripleSource t = ownedEndpoint.getTripleSource();
+				org.eclipse.rdf4j.federated.evaluation.TripleSource t = queryInfo.getTripleSource(ownedEndpoint,
+						sourceExpr);
 				result = t.getStatements(preparedQuery, EmptyBindingSet.getInstance(), null, queryInfo);
 			} else {
 				WorkerUnionBase<BindingSet> union = federationContext.getManager().createWorkerUnion(queryInfo);
@@ -1278,7 +1363,7 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 				for (StatementSource source : statementSources) {
 					Endpoint ownedEndpoint = federationContext.getEndpointManager().getEndpoint(source.getEndpointID());
 					union.addTask(new ParallelPreparedAlgebraUnionTask(union, preparedQuery, ownedEndpoint,
-							EmptyBindingSet.getInstance(), null, queryInfo));
+							EmptyBindingSet.getInstance(), null, queryInfo, sourceExpr));
 				}
 
 				union.run();
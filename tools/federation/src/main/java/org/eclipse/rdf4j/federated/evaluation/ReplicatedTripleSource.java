@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.evaluation;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.federated.algebra.ExclusiveTupleExpr;
+import org.eclipse.rdf4j.federated.algebra.FilterValueExpr;
+import org.eclipse.rdf4j.federated.endpoint.ReplicatedEndpoint;
+import org.eclipse.rdf4j.federated.structures.QueryInfo;
+import org.eclipse.rdf4j.federated.structures.QueryType;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.Dataset;
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.repository.RepositoryException;
+
+/**
+ * A {@link TripleSource} of a {@link ReplicatedEndpoint}, which sends each request to one of the replicas using the
+ * {@link TripleSource} of the replica. Slow requests are hedged, see {@link ReplicatedEndpoint}.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+public class ReplicatedTripleSource implements TripleSource {
+
+	private final ReplicatedEndpoint endpoint;
+
+	public ReplicatedTripleSource(ReplicatedEndpoint endpoint) {
+		this.endpoint = endpoint;
+	}
+
+	@Override
+	public CloseableIteration<BindingSet> getStatements(TupleExpr preparedQuery, BindingSet bindings,
+			FilterValueExpr filterExpr, QueryInfo queryInfo)
+			throws RepositoryException, MalformedQueryException, QueryEvaluationException {
+		return endpoint.execute(
+				r -> r.getTripleSource().getStatements(preparedQuery, bindings, filterExpr, queryInfo),
+				CloseableIteration::close);
+	}
+
+	@Override
+	public CloseableIteration<BindingSet> getStatements(String preparedQuery, BindingSet bindings,
+			FilterValueExpr filterExpr, QueryInfo queryInfo)
+			throws RepositoryException, MalformedQueryException, QueryEvaluationException {
+		return endpoint.execute(
+				r -> r.getTripleSource().getStatements(preparedQuery, bindings, filterExpr, queryInfo),
+				CloseableIteration::close);
+	}
+
+	@Override
+	public CloseableIteration<BindingSet> getStatements(String preparedQuery, BindingSet queryBindings,
+			QueryType queryType, QueryInfo queryInfo)
+			throws RepositoryException, MalformedQueryException, QueryEvaluationException {
+		return endpoint.execute(
+				r -> r.getTripleSource().getStatements(preparedQuery, queryBindings, queryType, queryInfo),
+				CloseableIteration::close);
+	}
+
+	@Override
+	public CloseableIteration<BindingSet> getStatements(StatementPattern stmt, BindingSet bindings,
+			FilterValueExpr filterExpr, QueryInfo queryInfo)
+			throws RepositoryException, MalformedQueryException, QueryEvaluationException {
+		return endpoint.execute(
+				r -> r.getTripleSource().getStatements(stmt, bindings, filterExpr, queryInfo),
+				CloseableIteration::close);
+	}
+
+	@Override
+	public CloseableIteration<Statement> getStatements(Resource subj, IRI pred, Value obj, QueryInfo queryInfo,
+			Resource... contexts) throws RepositoryException, MalformedQueryException, QueryEvaluationException {
+		return endpoint.execute(
+				r -> r.getTripleSource().getStatements(subj, pred, obj, queryInfo, contexts),
+				CloseableIteration::close);
+	}
+
+	@Override
+	public boolean hasStatements(StatementPattern stmt, BindingSet bindings, QueryInfo queryInfo, Dataset dataset)
+			throws RepositoryException, MalformedQueryException, QueryEvaluationException {
+		return endpoint.execute(r -> r.getTripleSource().hasStatements(stmt, bindings, queryInfo, dataset),
+				res -> {
+				});
+	}
+
+	@Override
+	public boolean hasStatements(Resource subj, IRI pred, Value obj, QueryInfo queryInfo, Resource... contexts)
+			throws RepositoryException {
+		return endpoint.execute(r -> r.getTripleSource().hasStatements(subj, pred, obj, queryInfo, contexts),
+				res -> {
+				});
+	}
+
+	@Override
+	public boolean hasStatements(ExclusiveTupleExpr expr, BindingSet bindings)
+			throws RepositoryException, MalformedQueryException, QueryEvaluationException {
+		return endpoint.execute(r -> r.getTripleSource().hasStatements(expr, bindings), res -> {
+		});
+	}
+
+	@Override
+	public boolean usePreparedQuery(StatementPattern stmt, QueryInfo queryInfo) {
+		return endpoint.getReplicas().get(0).getTripleSource().usePreparedQuery(stmt, queryInfo);
+	}
+
+	@Override
+	public String toString() {
+		return "Replicated Triple Source: Endpoint - " + endpoint.getId();
+	}
+}
@@ -74,7 +74,7 @@ public class SailFederationEvalStrategy extends FederationEvalStrategy {
 				isEvaluated);
 
 		CloseableIteration<BindingSet> result = evaluateAtStatementSources(preparedQuery,
-				stmt.getStatementSources(), stmt.getQueryInfo());
+				stmt.getStatementSources(), stmt.getQueryInfo(), stmt);
 
 		// apply filter and/or convert to original bindings
 		if (filterExpr != null && !isEvaluated) {
@@ -102,7 +102,7 @@ public class SailFederationEvalStrategy extends FederationEvalStrategy {
 		TupleExpr preparedQuery = QueryAlgebraUtil.selectQueryStringBoundCheck(stmt.getStatementPattern(), bindings);
 
 		CloseableIteration<BindingSet> result = evaluateAtStatementSources(preparedQuery,
-				stmt.getStatementSources(), stmt.getQueryInfo());
+				stmt.getStatementSources(), stmt.getQueryInfo(), stmt);
 
 		return new GroupedCheckConversionIteration(result, bindings);
 	}
@@ -138,7 +138,7 @@ public class SailFederationEvalStrategy extends FederationEvalStrategy {
 			QueryEvaluationException {
 
 		// simple thing: use a prepared query
-		TripleSource tripleSource = group.getOwnedEndpoint().getTripleSource();
+		TripleSource tripleSource = group.getQueryInfo().getTripleSource(group.getOwnedEndpoint(), group);
 		AtomicBoolean isEvaluated = new AtomicBoolean(false);
 		TupleExpr preparedQuery = QueryAlgebraUtil.selectQuery(group, bindings, group.getFilterExpr(), isEvaluated);
 		return tripleSource.getStatements(preparedQuery, bindings,
@@ -89,7 +89,8 @@ public class SparqlFederationEvalStrategy extends FederationEvalStrategy {
 
 		CloseableIteration<BindingSet> result = null;
 		try {
-			result = evaluateAtStatementSources(preparedQuery, stmt.getStatementSources(), stmt.getQueryInfo());
+			result = evaluateAtStatementSources(preparedQuery, stmt.getStatementSources(), stmt.getQueryInfo(),
+					stmt);
 
 			// apply filter and/or convert to original bindings
 			if (filterExpr != null && !isEvaluated.get()) {
@@ -140,7 +141,7 @@ public class SparqlFederationEvalStrategy extends FederationEvalStrategy {
 				filterExpr, isEvaluated, stmt.getQueryInfo().getDataset());
 
 		CloseableIteration<BindingSet> result = evaluateAtStatementSources(preparedQuery,
-				stmt.getStatementSources(), stmt.getQueryInfo());
+				stmt.getStatementSources(), stmt.getQueryInfo(), stmt);
 
 		// apply filter and/or convert to original bindings
 		if (filterExpr != null && !isEvaluated) {
@@ -169,7 +170,7 @@ public class SparqlFederationEvalStrategy extends FederationEvalStrategy {
 				stmt.getQueryInfo().getDataset());
 
 		CloseableIteration<BindingSet> result = evaluateAtStatementSources(preparedQuery,
-				stmt.getStatementSources(), stmt.getQueryInfo());
+				stmt.getStatementSources(), stmt.getQueryInfo(), stmt);
 
 		return new GroupedCheckConversionIteration(result, bindings);
 	}
@@ -241,7 +242,7 @@ public class SparqlFederationEvalStrategy extends FederationEvalStrategy {
 			ExclusiveGroup group, BindingSet bindings) throws RepositoryException,
 			MalformedQueryException, QueryEvaluationException {
 
-		TripleSource tripleSource = group.getOwnedEndpoint().getTripleSource();
+		TripleSource tripleSource = group.getQueryInfo().getTripleSource(group.getOwnedEndpoint(), group);
 		AtomicBoolean isEvaluated = new AtomicBoolean(false);
 
 		try {
@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.evaluation;
+
+import java.util.function.ToLongFunction;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.IterationWrapper;
+import org.eclipse.rdf4j.federated.algebra.ExclusiveTupleExpr;
+import org.eclipse.rdf4j.federated.algebra.FilterValueExpr;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.monitoring.QueryTrace;
+import org.eclipse.rdf4j.federated.monitoring.RequestTrace;
+import org.eclipse.rdf4j.federated.structures.QueryInfo;
+import org.eclipse.rdf4j.federated.structures.QueryType;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.Binding;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.Dataset;
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.repository.RepositoryException;
+
+/**
+ * A {@link TripleSource} which records each request to the {@link TripleSource} of the endpoint as {@link RequestTrace}
+ * in the {@link QueryTrace} of the query. Requests are attributed to the plan node using this triple source.
+ *
+ * @author Eclipse RDF4J contributors
+ * @see QueryInfo#getTripleSource(Endpoint, TupleExpr)
+ */
+public class TracingTripleSource implements TripleSource {
+
+	private final Endpoint endpoint;
+
+	private final TripleSource delegate;
+
+	private final TupleExpr source;
+
+	private final QueryTrace queryTrace;
+
+	/**
+	 *
+	 * @param endpoint   the endpoint
+	 * @param source     the plan node issuing the requests, may be <code>null</code>
+	 * @param queryTrace the {@link QueryTrace} of the query
+	 */
+	public TracingTripleSource(Endpoint endpoint, TupleExpr source, QueryTrace queryTrace) {
+		this.endpoint = endpoint;
+		this.delegate = endpoint.getTripleSource();
+		this.source = source;
+		this.queryTrace = queryTrace;
+	}
+
+	@Override
+	public CloseableIteration<BindingSet> getStatements(TupleExpr preparedQuery, BindingSet bindings,
+			FilterValueExpr filterExpr, QueryInfo queryInfo)
+			throws RepositoryException, MalformedQueryException, QueryEvaluationException {
+		RequestTrace request = queryTrace.startRequest(endpoint, source, "getStatements");
+		return trace(request, () -> delegate.getStatements(preparedQuery, bindings, filterExpr, queryInfo),
+				TracingTripleSource::size);
+	}
+
+	@Override
+	public CloseableIteration<BindingSet> getStatements(String preparedQuery, BindingSet bindings,
+			FilterValueExpr filterExpr, QueryInfo queryInfo)
+			throws RepositoryException, MalformedQueryException, QueryEvaluationException {
+		RequestTrace request = queryTrace.startRequest(endpoint, source, "getStatements");
+		return trace(request, () -> delegate.getStatements(preparedQuery, bindings, filterExpr, queryInfo),
+				TracingTripleSource::size);
+	}
+
+	@Override
+	public CloseableIteration<BindingSet> getStatements(String preparedQuery, BindingSet queryBindings,
+			QueryType queryType, QueryInfo queryInfo)
+			throws RepositoryException, MalformedQueryException, QueryEvaluationException {
+		RequestTrace request = queryTrace.startRequest(endpoint, source, "getStatements");
+		return trace(request, () -> delegate.getStatements(preparedQuery, queryBindings, queryType, queryInfo),
+				TracingTripleSource::size);
+	}
+
+	@Override
+	public CloseableIteration<BindingSet> getStatements(StatementPattern stmt, BindingSet bindings,
+			FilterValueExpr filterExpr, QueryInfo queryInfo)
+			throws RepositoryException, MalformedQueryException, QueryEvaluationException {
+		RequestTrace request = queryTrace.startRequest(endpoint, source, "getStatements");
+		return trace(request, () -> delegate.getStatements(stmt, bindings, filterExpr, queryInfo),
+				TracingTripleSource::size);
+	}
+
+	@Override
+	public CloseableIteration<Statement> getStatements(Resource subj, IRI pred, Value obj, QueryInfo queryInfo,
+			Resource... contexts) throws RepositoryException, MalformedQueryException, QueryEvaluationException {
+		RequestTrace request = queryTrace.startRequest(endpoint, source, "getStatements");
+		return trace(request, () -> delegate.getStatements(subj, pred, obj, queryInfo, contexts),
+				TracingTripleSource::size);
+	}
+
+	@Override
+	public boolean hasStatements(StatementPattern stmt, BindingSet bindings, QueryInfo queryInfo, Dataset dataset)
+			throws RepositoryException, MalformedQueryException, QueryEvaluationException {
+		RequestTrace request = queryTrace.startRequest(endpoint, source, "hasStatements");
+		return trace(request, () -> delegate.hasStatements(stmt, bindings, queryInfo, dataset));
+	}
+
+	@Override
+	public boolean hasStatements(Resource subj, IRI pred, Value obj, QueryInfo queryInfo, Resource... contexts)
+			throws RepositoryException {
+		RequestTrace request = queryTrace.startRequest(endpoint, source, "hasStatements");
+		return trace(request, () -> delegate.hasStatements(subj, pred, obj, queryInfo, contexts));
+	}
+
+	@Override
+	public boolean hasStatements(ExclusiveTupleExpr expr, BindingSet bindings)
+			throws RepositoryException, MalformedQueryException, QueryEvaluationException {
+		RequestTrace request = queryTrace.startRequest(endpoint, source, "hasStatements");
+		return trace(request, () -> delegate.hasStatements(expr, bindings));
+	}
+
+	@Override
+	public boolean usePreparedQuery(StatementPattern stmt, QueryInfo queryInfo) {
+		return delegate.usePreparedQuery(stmt, queryInfo);
+	}
+
+	private <T> CloseableIteration<T> trace(RequestTrace request, Request<CloseableIteration<T>> operation,
+			ToLongFunction<T> size) {
+		CloseableIteration<T> res;
+		try {
+			res = operation.execute();
+		} catch (Throwable t) {
+			request.failed();
+			throw t;
+		}
+		request.responded();
+		return new TracingIteration<>(res, request, size);
+	}
+
+	private boolean trace(RequestTrace request, Request<Boolean> operation) {
+		boolean res;
+		try {
+			res = operation.execute();
+		} catch (Throwable t) {
+			request.failed();
+			throw t;
+		}
+		if (res) {
+			request.received(0);
+		}
+		request.finished();
+		return res;
+	}
+
+	private static long size(BindingSet bindings) {
+		long size = 0;
+		for (Binding b : bindings) {
+			size += size(b.getValue());
+		}
+		return size;
+	}
+
+	private static long size(Statement st) {
+		return size(st.getSubject()) + size(st.getPredicate()) + size(st.getObject()) + size(st.getContext());
+	}
+
+	private static long size(Value value) {
+		return value == null ? 0 : value.stringValue().length();
+	}
+
+	@FunctionalInterface
+	private interface Request<T> {
+		T execute() throws RepositoryException, MalformedQueryException, QueryEvaluationException;
+	}
+
+	/**
+	 * Counts the received rows and finishes the request once the iteration is exhausted or closed.
+	 */
+	private static class TracingIteration<T> extends IterationWrapper<T> {
+
+		private final RequestTrace request;
+
+		private final ToLongFunction<T> size;
+
+		private TracingIteration(CloseableIteration<T> iter, RequestTrace request, ToLongFunction<T> size) {
+			super(iter);
+			this.request = request;
+			this.size = size;
+		}
+
+		@Override
+		public boolean hasNext() throws QueryEvaluationException {
+			try {
+				boolean hasNext = super.hasNext();
+				if (!hasNext) {
+					request.finished();
+				}
+				return hasNext;
+			} catch (Throwable t) {
+				request.failed();
+				throw t;
+			}
+		}
+
+		@Override
+		public T next() throws QueryEvaluationException {
+			T next = super.next();
+			request.received(size.applyAsLong(next));
+			return next;
+		}
+
+		@Override
+		protected void handleClose() throws QueryEvaluationException {
+			try {
+				super.handleClose();
+			} finally {
+				request.finished();
+			}
+		}
+	}
+}
@@ -17,6 +17,7 @@ import org.eclipse.rdf4j.common.iteration.EmptyIteration;
 import org.eclipse.rdf4j.federated.FederationContext;
 import org.eclipse.rdf4j.federated.algebra.ExclusiveTupleExpr;
 import org.eclipse.rdf4j.federated.algebra.FilterValueExpr;
+import org.eclipse.rdf4j.federated.cache.SubqueryResultCache;
 import org.eclipse.rdf4j.federated.endpoint.Endpoint;
 import org.eclipse.rdf4j.federated.evaluation.iterator.CloseDependentConnectionIteration;
 import org.eclipse.rdf4j.federated.evaluation.iterator.ConsumingIteration;
@@ -72,6 +73,15 @@ public abstract class TripleSourceBase implements TripleSource {
 			throws RepositoryException, MalformedQueryException,
 			QueryEvaluationException {
 
+		SubqueryResultCache cache = federationContext.getSubqueryResultCache();
+		boolean cacheable = cache != null && queryType == QueryType.SELECT && queryInfo.getResultHandler().isEmpty();
+		if (cacheable) {
+			CloseableIteration<BindingSet> cached = cache.get(endpoint, preparedQuery, queryBindings, queryInfo);
+			if (cached != null) {
+				return cached;
+			}
+		}
+
 		return withConnection((conn, resultHolder) -> {
 			QueryResult<?> evaluate = null;
 
@@ -92,7 +102,12 @@ public abstract class TripleSourceBase implements TripleSource {
 						resultHolder.set(new EmptyIteration<>());
 					} else {
 						evaluate = tQuery.evaluate();
-						resultHolder.set(((TupleQueryResult) evaluate));
+						if (cacheable) {
+							resultHolder.set(cache.record(endpoint, preparedQuery, queryBindings, queryInfo,
+									(TupleQueryResult) evaluate));
+						} else {
+							resultHolder.set(((TupleQueryResult) evaluate));
+						}
 					}
 					return;
 				case CONSTRUCT:
@@ -147,6 +162,24 @@ public abstract class TripleSourceBase implements TripleSource {
 			throws RepositoryException, MalformedQueryException,
 			QueryEvaluationException {
 
+		SubqueryResultCache cache = federationContext.getSubqueryResultCache();
+		if (cache != null) {
+			CloseableIteration<BindingSet> cached = cache.get(endpoint, preparedQuery, null, queryInfo);
+			if (cached != null) {
+				// apply filter and/or insert original bindings
+				if (filterExpr != null) {
+					if (!bindings.isEmpty()) {
+						return new FilteringInsertBindingsIteration(filterExpr, bindings, cached,
+								queryInfo.getStrategy());
+					}
+					return new FilteringIteration(filterExpr, cached, queryInfo.getStrategy());
+				} else if (!bindings.isEmpty()) {
+					return new InsertBindingsIteration(cached, bindings);
+				}
+				return cached;
+			}
+		}
+
 		return withConnection((conn, resultHolder) -> {
 
 			TupleQuery query = conn.prepareTupleQuery(QueryLanguage.SPARQL, preparedQuery, null);
@@ -157,7 +190,8 @@ public abstract class TripleSourceBase implements TripleSource {
 			monitorRemoteRequest();
 			CloseableIteration<BindingSet> res = null;
 			try {
-				res = query.evaluate();
+				res = cache != null ? cache.record(endpoint, preparedQuery, null, queryInfo, query.evaluate())
+						: query.evaluate();
 
 				resultHolder.set(res);
 
@@ -152,6 +152,29 @@ public class ControlledWorkerScheduler<T> implements Scheduler<T>, TaskWrapperAw
 		return executor;
 	}
 
+	/**
+	 * Hook which is invoked in the worker thread right before the given task is performed, e.g. to wait for capacity.
+	 * The default implementation does nothing.
+	 *
+	 * @param task the task to be performed
+	 * @throws InterruptedException if the worker is interrupted while waiting
+	 */
+	@Experimental
+	protected void beforePerformTask(ParallelTask<T> task) throws InterruptedException {
+		// no-op
+	}
+
+	/**
+	 * Hook which is invoked in the worker thread after the given task is performed, if
+	 * {@link #beforePerformTask(ParallelTask)} completed successfully. The default implementation does nothing.
+	 *
+	 * @param task the performed task
+	 */
+	@Experimental
+	protected void afterPerformTask(ParallelTask<T> task) {
+		// no-op
+	}
+
 	@Override
 	public void abort() {
 		if (!executor.isTerminated()) {
@@ -243,7 +266,12 @@ public class ControlledWorkerScheduler<T> implements Scheduler<T>, TaskWrapperAw
 					log.trace("Performing task " + task + " in " + Thread.currentThread().getName());
 				}
 
-				res = task.performTask();
+				beforePerformTask(task);
+				try {
+					res = task.performTask();
+				} finally {
+					afterPerformTask(task);
+				}
 				taskControl.addResult(res);
 				if (aborted) {
 					res.close();
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.federated.evaluation.concurrent;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.federated.structures.QueryInfo;
 
@@ -39,6 +42,16 @@ public interface ParallelTask<T> {
 		return getControl().getQueryInfo();
 	}
 
+	/**
+	 * The identifiers of the federation members that are accessed by this task, e.g. used by schedulers to limit the
+	 * number of concurrent requests per endpoint.
+	 *
+	 * @return the endpoint identifiers, an empty collection if unknown
+	 */
+	default Collection<String> getEndpointIds() {
+		return Collections.emptyList();
+	}
+
 	/**
 	 * Optional implementation to cancel this task on a best effort basis
 	 */
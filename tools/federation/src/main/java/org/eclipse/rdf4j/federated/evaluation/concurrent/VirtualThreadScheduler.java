@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.evaluation.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.federated.structures.QueryInfo;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ControlledWorkerScheduler} which performs each {@link ParallelTask} in its own virtual thread, i.e. the
+ * number of tasks waiting for remote endpoints is not bounded by the size of a thread pool.
+ *
+ * <p>
+ * Instead of the number of worker threads, semaphores limit the number of concurrently performed tasks per query (the
+ * configured number of workers) and per endpoint (see {@link ParallelTask#getEndpointIds()}). A task waits for its
+ * permits at most for the remaining execution time of the query.
+ * </p>
+ *
+ * <p>
+ * Virtual threads require Java 21. On older runtimes the bounded pool of platform threads of the
+ * {@link ControlledWorkerScheduler} is used instead, i.e. the number of tasks waiting for their permits is again
+ * limited by the number of workers.
+ * </p>
+ *
+ * @author Eclipse RDF4J contributors
+ * @see VirtualThreadSchedulerFactory
+ */
+public class VirtualThreadScheduler<T> extends ControlledWorkerScheduler<T> {
+
+	private static final Logger log = LoggerFactory.getLogger(VirtualThreadScheduler.class);
+
+	private final int maxTasksPerQuery;
+
+	private final int maxTasksPerEndpoint;
+
+	private final Map<QueryInfo, QueryPermits> queryPermits = new ConcurrentHashMap<>();
+
+	private final Map<String, Semaphore> endpointPermits = new ConcurrentHashMap<>();
+
+	/**
+	 *
+	 * @param maxTasksPerQuery    the maximum number of concurrently performed tasks of a single query
+	 * @param maxTasksPerEndpoint the maximum number of concurrently performed tasks accessing the same endpoint
+	 * @param name                the base name for the threads
+	 */
+	public VirtualThreadScheduler(int maxTasksPerQuery, int maxTasksPerEndpoint, String name) {
+		super(maxTasksPerQuery, name);
+		this.maxTasksPerQuery = Math.max(1, maxTasksPerQuery);
+		this.maxTasksPerEndpoint = Math.max(1, maxTasksPerEndpoint);
+	}
+
+	@Override
+	protected ExecutorService createExecutorService(int nWorkers, String name) {
+		ThreadFactory threadFactory = createVirtualThreadFactory(name);
+		if (threadFactory != null) {
+			try {
+				return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+						.invoke(null, threadFactory);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				log.debug("Failed to create virtual thread executor: " + e.getMessage());
+			}
+		}
+		log.warn("Virtual threads are not supported by this Java runtime, using " + nWorkers
+				+ " platform threads for " + name + ".");
+		return super.createExecutorService(nWorkers, name);
+	}
+
+	private static ThreadFactory createVirtualThreadFactory(String name) {
+		try {
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			builder = builderClass.getMethod("name", String.class, long.class)
+					.invoke(builder, name.replace(' ', '-') + "-", 1L);
+			return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	@Override
+	protected void beforePerformTask(ParallelTask<T> task) throws InterruptedException {
+		QueryInfo queryInfo = task.getQueryInfo();
+		long deadline = deadline(queryInfo);
+
+		QueryPermits forQuery = queryPermits.compute(queryInfo, (q, p) -> {
+			QueryPermits res = p == null ? new QueryPermits(maxTasksPerQuery) : p;
+			res.users++;
+			return res;
+		});
+
+		boolean queryAcquired = false;
+		List<Semaphore> acquired = new ArrayList<>();
+		try {
+			if (!tryAcquire(forQuery.semaphore, deadline)) {
+				throw new QueryEvaluationException(
+						"Timeout while waiting for a worker of query " + queryInfo.getQueryID());
+			}
+			queryAcquired = true;
+
+			// acquire in a stable order to avoid dead locks between tasks accessing several endpoints
+			for (String endpointId : endpointIds(task)) {
+				Semaphore semaphore = endpointPermits.computeIfAbsent(endpointId,
+						id -> new Semaphore(maxTasksPerEndpoint, true));
+				if (!tryAcquire(semaphore, deadline)) {
+					throw new QueryEvaluationException(
+							"Timeout while waiting for a request slot at endpoint " + endpointId);
+				}
+				acquired.add(semaphore);
+			}
+		} catch (InterruptedException | RuntimeException e) {
+			acquired.forEach(Semaphore::release);
+			releaseQueryPermits(queryInfo, queryAcquired);
+			throw e;
+		}
+	}
+
+	@Override
+	protected void afterPerformTask(ParallelTask<T> task) {
+		for (String endpointId : endpointIds(task)) {
+			endpointPermits.get(endpointId).release();
+		}
+		releaseQueryPermits(task.getQueryInfo(), true);
+	}
+
+	private void releaseQueryPermits(QueryInfo queryInfo, boolean acquired) {
+		queryPermits.computeIfPresent(queryInfo, (q, p) -> {
+			if (acquired) {
+				p.semaphore.release();
+			}
+			p.users--;
+			return p.users == 0 ? null : p;
+		});
+	}
+
+	private static SortedSet<String> endpointIds(ParallelTask<?> task) {
+		return new TreeSet<>(task.getEndpointIds());
+	}
+
+	private static long deadline(QueryInfo queryInfo) {
+		long remaining = queryInfo.getMaxRemainingTimeMS();
+		return remaining == Long.MAX_VALUE ? Long.MAX_VALUE : System.currentTimeMillis() + remaining;
+	}
+
+	private static boolean tryAcquire(Semaphore semaphore, long deadline) throws InterruptedException {
+		if (deadline == Long.MAX_VALUE) {
+			semaphore.acquire();
+			return true;
+		}
+		return semaphore.tryAcquire(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 *
+	 * @return the maximum number of concurrently performed tasks accessing the same endpoint
+	 */
+	public int getMaxTasksPerEndpoint() {
+		return maxTasksPerEndpoint;
+	}
+
+	/**
+	 * The permits of a single query, removed once no more tasks of the query use them.
+	 */
+	private static class QueryPermits {
+
+		private final Semaphore semaphore;
+
+		private int users;
+
+		private QueryPermits(int maxTasks) {
+			this.semaphore = new Semaphore(maxTasks, true);
+		}
+	}
+}
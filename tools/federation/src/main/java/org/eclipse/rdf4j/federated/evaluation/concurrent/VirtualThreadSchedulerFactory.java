@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.evaluation.concurrent;
+
+import org.eclipse.rdf4j.federated.FedXFactory;
+import org.eclipse.rdf4j.federated.FederationContext;
+import org.eclipse.rdf4j.query.BindingSet;
+
+/**
+ * A {@link SchedulerFactory} creating {@link VirtualThreadScheduler}s, i.e. tasks are performed in virtual threads and
+ * the configured number of workers limits the number of concurrently performed tasks per query rather than the number
+ * of threads.
+ *
+ * <p>
+ * The number of concurrently performed tasks per endpoint is limited separately for joins, unions and left joins.
+ * </p>
+ *
+ * @author Eclipse RDF4J contributors
+ * @see FedXFactory#withSchedulerFactory(SchedulerFactory)
+ */
+public class VirtualThreadSchedulerFactory implements SchedulerFactory {
+
+	/**
+	 * The default maximum number of concurrently performed tasks accessing the same endpoint
+	 */
+	public static final int DEFAULT_MAX_TASKS_PER_ENDPOINT = 20;
+
+	private final int maxTasksPerEndpoint;
+
+	public VirtualThreadSchedulerFactory() {
+		this(DEFAULT_MAX_TASKS_PER_ENDPOINT);
+	}
+
+	/**
+	 *
+	 * @param maxTasksPerEndpoint the maximum number of concurrently performed tasks accessing the same endpoint
+	 */
+	public VirtualThreadSchedulerFactory(int maxTasksPerEndpoint) {
+		this.maxTasksPerEndpoint = maxTasksPerEndpoint;
+	}
+
+	@Override
+	public ControlledWorkerScheduler<BindingSet> createJoinScheduler(FederationContext federationContext,
+			int nWorkers) {
+		return new VirtualThreadScheduler<>(nWorkers, maxTasksPerEndpoint, "Join Scheduler");
+	}
+
+	@Override
+	public ControlledWorkerScheduler<BindingSet> createUnionScheduler(FederationContext federationContext,
+			int nWorkers) {
+		return new VirtualThreadScheduler<>(nWorkers, maxTasksPerEndpoint, "Union Scheduler");
+	}
+
+	@Override
+	public ControlledWorkerScheduler<BindingSet> createLeftJoinScheduler(FederationContext federationContext,
+			int nWorkers) {
+		return new VirtualThreadScheduler<>(nWorkers, maxTasksPerEndpoint, "Left Join Scheduler");
+	}
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.evaluation.join;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.common.iteration.DualUnionIteration;
+import org.eclipse.rdf4j.federated.FedXConfig;
+import org.eclipse.rdf4j.federated.algebra.NJoin;
+import org.eclipse.rdf4j.federated.evaluation.FederationEvalStrategy;
+import org.eclipse.rdf4j.federated.statistics.FederationStatistics;
+import org.eclipse.rdf4j.federated.statistics.StatisticsFedXCostModel;
+import org.eclipse.rdf4j.federated.structures.QueryInfo;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
+
+/**
+ * A join which chooses its join strategy at runtime.
+ *
+ * <p>
+ * The left bindings are buffered up to the {@link FedXConfig#getAdaptiveJoinThreshold()}. Then the join commits to a
+ * strategy based on the observed number of left bindings <i>L</i> and the estimated number of results <i>R</i> of the
+ * right argument (see {@link StatisticsFedXCostModel#estimateCardinality}):
+ * </p>
+ *
+ * <ul>
+ * <li>a {@link HashJoin} evaluating the right argument with a single request per source, if <i>L</i> exceeds the bound
+ * join block size (i.e. a bind join needs more than one request) and <i>R &lt;= L</i></li>
+ * <li>otherwise the join chosen at optimization time, i.e. a bind join (e.g. {@link ControlledWorkerBindJoin}) or a
+ * nested loop join ({@link ControlledWorkerJoin})</li>
+ * </ul>
+ *
+ * <p>
+ * Without an estimate of the right argument (e.g. if statistics are not enabled) the join chosen at optimization time
+ * is used. The chosen strategy is recorded in the {@link NJoin}, and thus appears in the query plan.
+ * </p>
+ *
+ * @author Eclipse RDF4J contributors
+ * @see FedXConfig#isEnableAdaptiveJoin()
+ */
+public class AdaptiveJoin extends JoinExecutorBase<BindingSet> {
+
+	private final NJoin join;
+
+	private final int joinIndex;
+
+	private final QueryEvaluationStep rightPrepared;
+
+	private final JoinOperator defaultJoin;
+
+	/**
+	 *
+	 * @param strategy      the evaluation strategy
+	 * @param leftIter      the left bindings
+	 * @param join          the n-ary join
+	 * @param joinIndex     the index of the right argument in the n-ary join, starting with 1
+	 * @param rightPrepared the prepared right argument, used for the hash join
+	 * @param defaultJoin   the join chosen at optimization time
+	 * @param bindings      the bindings
+	 * @param queryInfo     the query info
+	 * @throws QueryEvaluationException
+	 */
+	public AdaptiveJoin(FederationEvalStrategy strategy, CloseableIteration<BindingSet> leftIter, NJoin join,
+			int joinIndex, QueryEvaluationStep rightPrepared, JoinOperator defaultJoin, BindingSet bindings,
+			QueryInfo queryInfo) throws QueryEvaluationException {
+		super(strategy, leftIter, join.getArg(joinIndex), bindings, queryInfo);
+		setJoinVars(join.getJoinVariables(joinIndex));
+		this.join = join;
+		this.joinIndex = joinIndex;
+		this.rightPrepared = rightPrepared;
+		this.defaultJoin = defaultJoin;
+	}
+
+	@Override
+	protected void handleBindings() throws Exception {
+
+		FedXConfig config = queryInfo.getFederationContext().getConfig();
+		int threshold = Math.max(1, config.getAdaptiveJoinThreshold());
+
+		List<BindingSet> buffer = new ArrayList<>();
+		while (!isClosed() && buffer.size() < threshold && leftIter.hasNext()) {
+			buffer.add(leftIter.next());
+		}
+		if (isClosed() || buffer.isEmpty()) {
+			return;
+		}
+		boolean exhausted = !leftIter.hasNext();
+		String observed = (exhausted ? "" : ">") + buffer.size();
+
+		CloseableIteration<BindingSet> left = DualUnionIteration
+				.getInstance(new CloseableIteratorIteration<>(buffer.iterator()), leftIter);
+
+		double rightEstimate = estimateRightSize();
+		if (!getJoinVars().isEmpty() && rightEstimate >= 0 && buffer.size() > config.getBoundJoinBlockSize()
+				&& rightEstimate <= buffer.size()) {
+			recordStrategy("hash join", observed, rightEstimate);
+			HashJoin hashJoin = new HashJoin(strategy, left, rightArg, rightPrepared, getJoinVars(), bindings,
+					queryInfo);
+			addResult(hashJoin);
+			hashJoin.run();
+			return;
+		}
+
+		CloseableIteration<BindingSet> res = defaultJoin.join(left);
+		recordStrategy(res instanceof ControlledWorkerBindJoinBase ? "bind join" : "nested loop join", observed,
+				rightEstimate);
+		addResult(res);
+	}
+
+	/**
+	 * @return the estimated number of results of the right argument, or a negative value if no estimate is possible
+	 */
+	protected double estimateRightSize() {
+		FederationStatistics statistics = queryInfo.getFederationContext().getFederationStatistics();
+		if (statistics == null) {
+			return -1;
+		}
+		return new StatisticsFedXCostModel(statistics).estimateCardinality(rightArg, bindings.getBindingNames());
+	}
+
+	private void recordStrategy(String strategyName, String observed, double rightEstimate) {
+		String description = strategyName + " (left: " + observed + ", right: "
+				+ (rightEstimate < 0 ? "unknown" : "~" + Math.round(rightEstimate)) + ")";
+		join.setJoinStrategy(joinIndex, description);
+		if (log.isDebugEnabled()) {
+			log.debug(getDisplayId() + " uses " + description);
+		}
+	}
+
+	/**
+	 * The join to be used for the buffered and remaining left bindings.
+	 */
+	@FunctionalInterface
+	public interface JoinOperator {
+
+		/**
+		 *
+		 * @param leftIter the left bindings
+		 * @return the join result
+		 * @throws QueryEvaluationException
+		 */
+		CloseableIteration<BindingSet> join(CloseableIteration<BindingSet> leftIter) throws QueryEvaluationException;
+	}
+}
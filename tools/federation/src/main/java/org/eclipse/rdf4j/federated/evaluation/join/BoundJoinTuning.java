@@ -0,0 +1,321 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.evaluation.join;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.IterationWrapper;
+import org.eclipse.rdf4j.federated.EndpointManager;
+import org.eclipse.rdf4j.federated.FedXConfig;
+import org.eclipse.rdf4j.federated.algebra.StatementSource;
+import org.eclipse.rdf4j.federated.algebra.StatementTupleExpr;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.monitoring.Monitoring;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+
+/**
+ * Adaptive tuning of the bound join block size and of the number of concurrent bound join requests per endpoint.
+ *
+ * <p>
+ * For every endpoint the latency (i.e. the time until the response starts) and the error rate of bound join requests
+ * are measured. Following an additive increase / multiplicative decrease scheme, the block size and the number of
+ * concurrent requests are increased while requests are answered within the target latency, and are halved if a request
+ * is slow or fails. The number of concurrent requests starts at one and grows up to the configured maximum. All values
+ * stay within the bounds configured in {@link FedXConfig}. The current values are reported to the {@link Monitoring}
+ * service.
+ * </p>
+ *
+ * <p>
+ * A request occupies its slot until its result is closed, i.e. the concurrency limit also covers streaming the
+ * response.
+ * </p>
+ *
+ * <p>
+ * The block size of a bound join with several sources is the smallest block size of its sources.
+ * </p>
+ *
+ * @author Eclipse RDF4J contributors
+ * @see FedXConfig#withEnableAdaptiveBoundJoin(boolean)
+ */
+public class BoundJoinTuning {
+
+	/**
+	 * Weight of a new measurement in the exponentially weighted moving averages
+	 */
+	private static final double ALPHA = 0.2;
+
+	private final EndpointManager endpointManager;
+
+	private final Monitoring monitoring;
+
+	private final int minBlockSize;
+
+	private final int maxBlockSize;
+
+	private final int initialBlockSize;
+
+	private final int maxConcurrentRequests;
+
+	private final long targetLatency;
+
+	private final Map<String, EndpointTuning> tunings = new ConcurrentHashMap<>();
+
+	public BoundJoinTuning(FedXConfig config, EndpointManager endpointManager, Monitoring monitoring) {
+		this.endpointManager = endpointManager;
+		this.monitoring = monitoring;
+		this.minBlockSize = Math.max(1, config.getBoundJoinMinBlockSize());
+		this.maxBlockSize = Math.max(minBlockSize, config.getBoundJoinMaxBlockSize());
+		this.initialBlockSize = Math.min(maxBlockSize, Math.max(minBlockSize, config.getBoundJoinBlockSize()));
+		this.maxConcurrentRequests = Math.max(1, config.getBoundJoinMaxConcurrentRequests());
+		this.targetLatency = TimeUnit.MILLISECONDS.toNanos(config.getBoundJoinTargetLatency());
+	}
+
+	/**
+	 * The block size for the next bound join request of the given expression.
+	 *
+	 * @param expr the right argument of the bound join
+	 * @return the block size
+	 */
+	public int getBlockSize(StatementTupleExpr expr) {
+		int blockSize = maxBlockSize;
+		for (StatementSource source : expr.getStatementSources()) {
+			blockSize = Math.min(blockSize, getTuning(source.getEndpointID()).getBlockSize());
+		}
+		return blockSize;
+	}
+
+	/**
+	 *
+	 * @param endpointId the endpoint identifier
+	 * @return the current tuning state of the endpoint
+	 */
+	public EndpointTuning getTuning(String endpointId) {
+		return tunings.computeIfAbsent(endpointId, EndpointTuning::new);
+	}
+
+	/**
+	 * Execute a bound join request for the given expression, respecting the concurrency limits of the involved
+	 * endpoints, and feed the measurements into the tuning.
+	 *
+	 * @param expr      the right argument of the bound join
+	 * @param timeoutMS the maximum time to wait for the endpoints to accept another request
+	 * @param request   the request
+	 * @return the result of the request, which must be closed to free the request slots
+	 * @throws QueryEvaluationException if the endpoints do not accept another request in time
+	 */
+	public CloseableIteration<BindingSet> execute(StatementTupleExpr expr, long timeoutMS,
+			Callable<CloseableIteration<BindingSet>> request) throws Exception {
+
+		List<EndpointTuning> involved = new ArrayList<>();
+		for (StatementSource source : expr.getStatementSources()) {
+			involved.add(getTuning(source.getEndpointID()));
+		}
+		// acquire in a stable order to avoid dead locks between requests with several sources
+		involved.sort((a, b) -> a.endpointId.compareTo(b.endpointId));
+
+		long deadline = timeoutMS == Long.MAX_VALUE ? Long.MAX_VALUE : System.currentTimeMillis() + timeoutMS;
+		List<EndpointTuning> acquired = new ArrayList<>(involved.size());
+		try {
+			for (EndpointTuning tuning : involved) {
+				if (!tuning.acquire(deadline)) {
+					throw new QueryEvaluationException(
+							"Timeout while waiting for a bound join request slot at endpoint " + tuning.endpointId);
+				}
+				acquired.add(tuning);
+			}
+
+			long start = System.nanoTime();
+			CloseableIteration<BindingSet> result;
+			try {
+				result = request.call();
+			} catch (Exception e) {
+				for (EndpointTuning tuning : involved) {
+					tuning.onFailure();
+				}
+				throw e;
+			}
+			long latency = System.nanoTime() - start;
+			for (EndpointTuning tuning : involved) {
+				tuning.onSuccess(latency);
+			}
+			CloseableIteration<BindingSet> tunedResult = new TunedIteration(result, involved);
+			// the slots are now owned by the result
+			acquired.clear();
+			return tunedResult;
+		} finally {
+			release(acquired);
+		}
+	}
+
+	private static void release(List<EndpointTuning> acquired) {
+		for (EndpointTuning tuning : acquired) {
+			tuning.release();
+		}
+	}
+
+	/**
+	 * The result of a bound join request, which holds the request slots of the involved endpoints until it is closed.
+	 */
+	private static class TunedIteration extends IterationWrapper<BindingSet> {
+
+		private final List<EndpointTuning> involved;
+
+		private boolean failed;
+
+		private TunedIteration(CloseableIteration<BindingSet> result, List<EndpointTuning> involved) {
+			super(result);
+			this.involved = involved;
+		}
+
+		@Override
+		public boolean hasNext() {
+			try {
+				return super.hasNext();
+			} catch (RuntimeException e) {
+				onFailure();
+				throw e;
+			}
+		}
+
+		@Override
+		public BindingSet next() {
+			try {
+				return super.next();
+			} catch (RuntimeException e) {
+				onFailure();
+				throw e;
+			}
+		}
+
+		// the response of a remote request may fail while it is consumed
+		private void onFailure() {
+			if (!failed) {
+				failed = true;
+				for (EndpointTuning tuning : involved) {
+					tuning.onFailure();
+				}
+			}
+		}
+
+		@Override
+		protected void handleClose() {
+			try {
+				super.handleClose();
+			} finally {
+				release(involved);
+			}
+		}
+	}
+
+	/**
+	 * The tuning state of a single endpoint.
+	 */
+	public class EndpointTuning {
+
+		private final String endpointId;
+
+		private int blockSize = initialBlockSize;
+
+		private int concurrentRequests = 1;
+
+		private int inFlight;
+
+		private double latency = -1;
+
+		private double errorRate;
+
+		private EndpointTuning(String endpointId) {
+			this.endpointId = endpointId;
+		}
+
+		public synchronized int getBlockSize() {
+			return blockSize;
+		}
+
+		/**
+		 *
+		 * @return the maximum number of concurrent bound join requests
+		 */
+		public synchronized int getConcurrentRequests() {
+			return concurrentRequests;
+		}
+
+		/**
+		 *
+		 * @return the average latency of requests in milliseconds, <code>-1</code> if unknown
+		 */
+		public synchronized double getLatency() {
+			return latency < 0 ? -1 : latency / TimeUnit.MILLISECONDS.toNanos(1);
+		}
+
+		/**
+		 *
+		 * @return the average share of failed requests
+		 */
+		public synchronized double getErrorRate() {
+			return errorRate;
+		}
+
+		private synchronized boolean acquire(long deadline) throws InterruptedException {
+			while (inFlight >= concurrentRequests) {
+				if (deadline == Long.MAX_VALUE) {
+					wait();
+				} else {
+					long remaining = deadline - System.currentTimeMillis();
+					if (remaining <= 0) {
+						return false;
+					}
+					wait(remaining);
+				}
+			}
+			inFlight++;
+			return true;
+		}
+
+		private synchronized void release() {
+			inFlight--;
+			notifyAll();
+		}
+
+		private synchronized void onSuccess(long requestLatency) {
+			latency = latency < 0 ? requestLatency : ALPHA * requestLatency + (1 - ALPHA) * latency;
+			errorRate = (1 - ALPHA) * errorRate;
+			if (requestLatency <= targetLatency) {
+				blockSize = Math.min(maxBlockSize, blockSize + Math.max(1, blockSize / 4));
+				concurrentRequests = Math.min(maxConcurrentRequests, concurrentRequests + 1);
+			} else {
+				blockSize = Math.max(minBlockSize, blockSize / 2);
+			}
+			report();
+		}
+
+		private synchronized void onFailure() {
+			errorRate = ALPHA + (1 - ALPHA) * errorRate;
+			blockSize = Math.max(minBlockSize, blockSize / 2);
+			concurrentRequests = Math.max(1, concurrentRequests / 2);
+			report();
+		}
+
+		private void report() {
+			Endpoint endpoint = endpointManager.getEndpoint(endpointId);
+			if (endpoint != null) {
+				monitoring.monitorBoundJoinTuning(endpoint, blockSize, concurrentRequests);
+			}
+		}
+	}
+}
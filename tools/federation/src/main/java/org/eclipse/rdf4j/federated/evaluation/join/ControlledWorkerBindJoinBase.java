@@ -17,6 +17,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.federated.algebra.BoundJoinTupleExpr;
+import org.eclipse.rdf4j.federated.algebra.StatementTupleExpr;
 import org.eclipse.rdf4j.federated.evaluation.FederationEvalStrategy;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.ControlledWorkerScheduler;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.ParallelExecutor;
@@ -71,6 +72,11 @@ public abstract class ControlledWorkerBindJoinBase extends JoinExecutorBase<Bind
 		int totalBindings = 0; // the total number of bindings
 		TupleExpr expr = rightArg;
 
+		// the block size is tuned per endpoint for statements, SERVICE expressions use the configured block size
+		BoundJoinTuning tuning = expr instanceof StatementTupleExpr
+				? this.queryInfo.getFederationContext().getBoundJoinTuning()
+				: null;
+
 		TaskCreator taskCreator = null;
 		Phaser currentPhaser = phaser;
 
@@ -85,7 +91,8 @@ public abstract class ControlledWorkerBindJoinBase extends JoinExecutorBase<Bind
 			}
 
 			// determine the bind join block size
-			nBindings = getNextBindJoinSize(nBindingsCfg, totalBindings);
+			nBindings = getNextBindJoinSize(
+					tuning != null ? tuning.getBlockSize((StatementTupleExpr) expr) : nBindingsCfg, totalBindings);
 
 			bindings = new ArrayList<>(nBindings);
 
@@ -12,13 +12,14 @@ package org.eclipse.rdf4j.federated.evaluation.join;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.federated.evaluation.FederationEvalStrategy;
-import org.eclipse.rdf4j.federated.evaluation.iterator.LazyMutableClosableIteration;
 import org.eclipse.rdf4j.federated.structures.QueryInfo;
 import org.eclipse.rdf4j.federated.util.QueryAlgebraUtil;
 import org.eclipse.rdf4j.model.Value;
@@ -33,6 +34,13 @@ import org.eclipse.rdf4j.repository.sparql.federation.CollectionIteration;
 /**
  * Operator for a hash join of tuple expressions.
  *
+ * <p>
+ * The right argument is evaluated once (i.e. with a single request per source) and indexed by the values of the join
+ * variables. The left bindings are probed against this hash table. As in SPARQL, an unbound join variable is compatible
+ * with any value: right bindings with unbound join variables are kept aside and checked against every left binding, and
+ * left bindings with unbound join variables are checked against all right bindings.
+ * </p>
+ *
  * @author Andreas Schwarte
  * @since 6.0
  */
@@ -59,43 +67,33 @@ public class HashJoin extends JoinExecutorBase<BindingSet> {
 		Collection<String> rightFreeVars = QueryAlgebraUtil.getFreeVars(rightArg);
 		Set<String> joinVars = getJoinVars();
 
-		// evaluate the right join argument
-		// Note: wrapped in lazy mutable iteration for repetitive reading
-		try (LazyMutableClosableIteration rightArgIter = new LazyMutableClosableIteration(
-				rightPrepared.evaluate(bindings))) {
-
-			while (!isClosed() && leftIter.hasNext()) {
-
-				int blockSizeL = 10;
-				if (totalBindingsLeft > 20) {
-					blockSizeL = 100;
-				}
-				List<BindingSet> leftBlock = new ArrayList<>(blockSizeL);
-				for (int i = 0; i < blockSizeL && leftIter.hasNext(); i++) {
-					leftBlock.add(leftIter.next());
-					totalBindingsLeft++;
-				}
-
-				int blockSizeR = 10;
-				while (!isClosed() && rightArgIter.hasNext()) {
-					if (totalBindingsRight > 20) {
-						blockSizeR = 100;
-					}
-					Collection<BindingSet> rightBlock = new ArrayList<>(blockSizeR);
-					for (int i = 0; i < blockSizeR && rightArgIter.hasNext(); i++) {
-						rightBlock.add(rightArgIter.next());
-						totalBindingsRight++;
-					}
+		// evaluate the right join argument once and build the hash table on the join variables
+		RightIndex rightIndex = new RightIndex();
+		try (CloseableIteration<BindingSet> rightArgIter = rightPrepared.evaluate(bindings)) {
+			while (!isClosed() && rightArgIter.hasNext()) {
+				rightIndex.add(rightArgIter.next(), joinVars);
+				totalBindingsRight++;
+			}
+		}
 
-					performJoin(leftBlock, rightBlock, joinVars, rightFreeVars);
-				}
+		while (!isClosed() && leftIter.hasNext()) {
 
-				rightArgIter.resetCursor();
+			int blockSizeL = 10;
+			if (totalBindingsLeft > 20) {
+				blockSizeL = 100;
+			}
+			List<BindingSet> leftBlock = new ArrayList<>(blockSizeL);
+			for (int i = 0; i < blockSizeL && leftIter.hasNext(); i++) {
+				leftBlock.add(leftIter.next());
+				totalBindingsLeft++;
 			}
+
+			addResult(probe(leftBlock, rightIndex, joinVars, rightFreeVars));
 		}
 
 		if (log.isDebugEnabled()) {
-			log.debug("JoinStats: left iter of " + getDisplayId() + " had " + totalBindingsLeft + " results.");
+			log.debug("JoinStats: left iter of " + getDisplayId() + " had " + totalBindingsLeft
+					+ " results, right iter had " + totalBindingsRight + " results.");
 		}
 	}
 
@@ -130,53 +128,137 @@ public class HashJoin extends JoinExecutorBase<BindingSet> {
 	 */
 	static CloseableIteration<BindingSet> join(Collection<BindingSet> leftBlock,
 			Collection<BindingSet> rightBlock, Set<String> joinVariables, Collection<String> freeVariablesRight) {
+		RightIndex rightIndex = new RightIndex();
+		for (BindingSet right : rightBlock) {
+			rightIndex.add(right, joinVariables);
+		}
+		return probe(leftBlock, rightIndex, joinVariables, freeVariablesRight);
+	}
+
+	/**
+	 * Probe the hash table of the right bindings with the left bindings.
+	 */
+	private static CloseableIteration<BindingSet> probe(Collection<BindingSet> leftBlock, RightIndex rightIndex,
+			Set<String> joinVariables, Collection<String> freeVariablesRight) {
 		List<BindingSet> res = new LinkedList<>();
 
 		for (BindingSet left : leftBlock) {
 
-			for (BindingSet right : rightBlock) {
+			List<Value> key = key(left, joinVariables);
+			if (key == null) {
+				// unbound join variables are compatible with any value: check against all right bindings
+				for (List<BindingSet> candidates : rightIndex.index.values()) {
+					join(left, candidates, joinVariables, freeVariablesRight, false, res);
+				}
+			} else {
+				// join variables of the hashed right bindings are equal to the ones of the left binding
+				List<BindingSet> candidates = rightIndex.index.get(key);
+				if (candidates != null) {
+					join(left, candidates, joinVariables, freeVariablesRight, true, res);
+				}
+			}
+			join(left, rightIndex.unbound, joinVariables, freeVariablesRight, false, res);
+		}
 
-				boolean match = false;
-				// check join variables: must be equal in both operands
-				for (String joinVariable : joinVariables) {
-					Value leftValue = left.getValue(joinVariable);
-					Value rightValue = right.getValue(joinVariable);
+		return new CollectionIteration<>(res);
+	}
 
-					// join match
-					if (leftValue != null && leftValue.equals(rightValue)) {
-						match = true;
-						break;
-					}
-				}
+	/**
+	 * Add the merged bindings of the left binding and each compatible right binding to the result.
+	 *
+	 * @param left               the left binding
+	 * @param candidates         the right bindings
+	 * @param joinVariables      the join variables
+	 * @param freeVariablesRight the free variables of the right expression
+	 * @param joinVariablesMatch whether the join variables of the candidates are known to be equal to the ones of the
+	 *                           left binding
+	 * @param res                the result
+	 */
+	private static void join(BindingSet left, List<BindingSet> candidates, Set<String> joinVariables,
+			Collection<String> freeVariablesRight, boolean joinVariablesMatch, List<BindingSet> res) {
+		for (BindingSet right : candidates) {
 
-				// check other free variables of right expression
-				// => must be available in bindings
+			// check join variables and other free variables of right expression
+			// => must be compatible with the bindings
+			boolean match = joinVariablesMatch || compatible(left, right, joinVariables);
+			if (match) {
 				for (String freeVariable : freeVariablesRight) {
 					if (joinVariables.contains(freeVariable)) {
 						continue; // skip
 					}
-					Value leftValue = left.getValue(freeVariable);
-					Value rightValue = right.getValue(freeVariable);
-					if (leftValue != null && leftValue.equals(rightValue)) {
-						match = true;
+					if (!compatible(left, right, freeVariable)) {
+						match = false;
+						break;
 					}
 				}
+			}
 
-				if (match) {
-					// emit a merged binding set
-					MapBindingSet mergedBindings = new MapBindingSet();
-					for (Binding b : left) {
-						mergedBindings.setBinding(b);
-					}
-					for (Binding b : right) {
-						mergedBindings.setBinding(b);
-					}
-					res.add(mergedBindings);
+			if (match) {
+				// emit a merged binding set
+				MapBindingSet mergedBindings = new MapBindingSet();
+				for (Binding b : left) {
+					mergedBindings.setBinding(b);
+				}
+				for (Binding b : right) {
+					mergedBindings.setBinding(b);
 				}
+				res.add(mergedBindings);
 			}
 		}
+	}
 
-		return new CollectionIteration<>(res);
+	private static boolean compatible(BindingSet left, BindingSet right, Set<String> variables) {
+		for (String variable : variables) {
+			if (!compatible(left, right, variable)) {
+				return false;
+			}
+		}
+		return true;
 	}
 
+	/**
+	 * @return <code>true</code> if the variable is unbound in either binding or has the same value in both
+	 */
+	private static boolean compatible(BindingSet left, BindingSet right, String variable) {
+		Value leftValue = left.getValue(variable);
+		Value rightValue = right.getValue(variable);
+		return leftValue == null || rightValue == null || leftValue.equals(rightValue);
+	}
+
+	/**
+	 * @return the values of the join variables, or <code>null</code> if any join variable is unbound
+	 */
+	private static List<Value> key(BindingSet bs, Set<String> joinVariables) {
+		if (joinVariables.isEmpty()) {
+			return null;
+		}
+		List<Value> key = new ArrayList<>(joinVariables.size());
+		for (String joinVariable : joinVariables) {
+			Value value = bs.getValue(joinVariable);
+			if (value == null) {
+				return null;
+			}
+			key.add(value);
+		}
+		return key;
+	}
+
+	/**
+	 * The right bindings, hashed by the values of the join variables if all of them are bound.
+	 */
+	private static class RightIndex {
+
+		private final Map<List<Value>, List<BindingSet>> index = new HashMap<>();
+
+		private final List<BindingSet> unbound = new ArrayList<>();
+
+		private void add(BindingSet right, Set<String> joinVariables) {
+			List<Value> key = key(right, joinVariables);
+			if (key == null) {
+				unbound.add(right);
+			} else {
+				index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(right);
+			}
+		}
+	}
 }
@@ -10,9 +10,12 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.federated.evaluation.join;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.federated.algebra.StatementSource;
 import org.eclipse.rdf4j.federated.algebra.StatementTupleExpr;
 import org.eclipse.rdf4j.federated.evaluation.FederationEvalStrategy;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.ParallelExecutor;
@@ -45,8 +48,18 @@ public class ParallelBindLeftJoinTask extends ParallelTaskBase<BindingSet> {
 		return joinControl;
 	}
 
+	@Override
+	public Collection<String> getEndpointIds() {
+		return rightArg.getStatementSources().stream().map(StatementSource::getEndpointID).collect(Collectors.toList());
+	}
+
 	@Override
 	protected CloseableIteration<BindingSet> performTaskInternal() throws Exception {
+		BoundJoinTuning tuning = getQueryInfo().getFederationContext().getBoundJoinTuning();
+		if (tuning != null) {
+			return tuning.execute(rightArg, getQueryInfo().getMaxRemainingTimeMS(),
+					() -> strategy.evaluateLeftBoundJoinStatementPattern(rightArg, bindings));
+		}
 		return strategy.evaluateLeftBoundJoinStatementPattern(rightArg, bindings);
 	}
 
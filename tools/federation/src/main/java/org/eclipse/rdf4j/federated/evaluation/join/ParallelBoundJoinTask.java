@@ -10,9 +10,12 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.federated.evaluation.join;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.federated.algebra.StatementSource;
 import org.eclipse.rdf4j.federated.algebra.StatementTupleExpr;
 import org.eclipse.rdf4j.federated.evaluation.FederationEvalStrategy;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.ParallelExecutor;
@@ -43,9 +46,19 @@ public class ParallelBoundJoinTask extends ParallelTaskBase<BindingSet> {
 
 	@Override
 	protected CloseableIteration<BindingSet> performTaskInternal() throws Exception {
+		BoundJoinTuning tuning = getQueryInfo().getFederationContext().getBoundJoinTuning();
+		if (tuning != null) {
+			return tuning.execute(expr, getQueryInfo().getMaxRemainingTimeMS(),
+					() -> strategy.evaluateBoundJoinStatementPattern(expr, bindings));
+		}
 		return strategy.evaluateBoundJoinStatementPattern(expr, bindings);
 	}
 
+	@Override
+	public Collection<String> getEndpointIds() {
+		return expr.getStatementSources().stream().map(StatementSource::getEndpointID).collect(Collectors.toList());
+	}
+
 	@Override
 	public ParallelExecutor<BindingSet> getControl() {
 		return joinControl;
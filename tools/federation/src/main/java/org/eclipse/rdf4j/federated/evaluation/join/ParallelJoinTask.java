@@ -10,7 +10,13 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.federated.evaluation.join;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.federated.algebra.StatementSource;
+import org.eclipse.rdf4j.federated.algebra.StatementTupleExpr;
 import org.eclipse.rdf4j.federated.evaluation.FederationEvalStrategy;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.ParallelExecutor;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.ParallelTaskBase;
@@ -42,6 +48,17 @@ public class ParallelJoinTask extends ParallelTaskBase<BindingSet> {
 		return strategy.evaluate(expr, bindings);
 	}
 
+	@Override
+	public Collection<String> getEndpointIds() {
+		if (expr instanceof StatementTupleExpr) {
+			return ((StatementTupleExpr) expr).getStatementSources()
+					.stream()
+					.map(StatementSource::getEndpointID)
+					.collect(Collectors.toList());
+		}
+		return Collections.emptyList();
+	}
+
 	@Override
 	public ParallelExecutor<BindingSet> getControl() {
 		return joinControl;
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.federated.evaluation.union;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.federated.algebra.FilterValueExpr;
 import org.eclipse.rdf4j.federated.endpoint.Endpoint;
@@ -34,20 +37,37 @@ public class ParallelPreparedAlgebraUnionTask extends ParallelTaskBase<BindingSe
 	protected final ParallelExecutor<BindingSet> unionControl;
 	protected final FilterValueExpr filterExpr;
 	protected final QueryInfo queryInfo;
+	protected final TupleExpr source;
 
 	public ParallelPreparedAlgebraUnionTask(ParallelExecutor<BindingSet> unionControl, TupleExpr preparedQuery,
 			Endpoint endpoint, BindingSet bindings, FilterValueExpr filterExpr, QueryInfo queryInfo) {
+		this(unionControl, preparedQuery, endpoint, bindings, filterExpr, queryInfo, null);
+	}
+
+	/**
+	 *
+	 * @param unionControl  the union
+	 * @param preparedQuery the prepared query
+	 * @param endpoint      the endpoint
+	 * @param bindings      the bindings
+	 * @param filterExpr    the filter expression, may be <code>null</code>
+	 * @param queryInfo     the query info
+	 * @param source        the plan node issuing the request, used for request tracing. May be <code>null</code>
+	 */
+	public ParallelPreparedAlgebraUnionTask(ParallelExecutor<BindingSet> unionControl, TupleExpr preparedQuery,
+			Endpoint endpoint, BindingSet bindings, FilterValueExpr filterExpr, QueryInfo queryInfo, TupleExpr source) {
 		this.endpoint = endpoint;
 		this.preparedQuery = preparedQuery;
 		this.bindings = bindings;
 		this.unionControl = unionControl;
 		this.filterExpr = filterExpr;
 		this.queryInfo = queryInfo;
+		this.source = source;
 	}
 
 	@Override
 	protected CloseableIteration<BindingSet> performTaskInternal() throws Exception {
-		TripleSource tripleSource = endpoint.getTripleSource();
+		TripleSource tripleSource = queryInfo.getTripleSource(endpoint, source);
 		return tripleSource.getStatements(preparedQuery, bindings, filterExpr, queryInfo);
 	}
 
@@ -56,6 +76,11 @@ public class ParallelPreparedAlgebraUnionTask extends ParallelTaskBase<BindingSe
 		return unionControl;
 	}
 
+	@Override
+	public Collection<String> getEndpointIds() {
+		return Collections.singletonList(endpoint.getId());
+	}
+
 	@Override
 	public String toString() {
 		return this.getClass().getSimpleName() + " @" + endpoint.getId() + ": " + preparedQuery.toString();
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.federated.evaluation.union;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.federated.algebra.FilterValueExpr;
 import org.eclipse.rdf4j.federated.endpoint.Endpoint;
@@ -18,6 +21,7 @@ import org.eclipse.rdf4j.federated.evaluation.concurrent.ParallelExecutor;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.ParallelTaskBase;
 import org.eclipse.rdf4j.federated.structures.QueryInfo;
 import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
 
 /**
  * A task implementation representing a prepared union, i.e. the prepared query is executed on the provided triple
@@ -33,20 +37,37 @@ public class ParallelPreparedUnionTask extends ParallelTaskBase<BindingSet> {
 	protected final ParallelExecutor<BindingSet> unionControl;
 	protected final FilterValueExpr filterExpr;
 	protected final QueryInfo queryInfo;
+	protected final TupleExpr source;
 
 	public ParallelPreparedUnionTask(ParallelExecutor<BindingSet> unionControl, String preparedQuery, Endpoint endpoint,
 			BindingSet bindings, FilterValueExpr filterExpr, QueryInfo queryInfo) {
+		this(unionControl, preparedQuery, endpoint, bindings, filterExpr, queryInfo, null);
+	}
+
+	/**
+	 *
+	 * @param unionControl  the union
+	 * @param preparedQuery the prepared query
+	 * @param endpoint      the endpoint
+	 * @param bindings      the bindings
+	 * @param filterExpr    the filter expression, may be <code>null</code>
+	 * @param queryInfo     the query info
+	 * @param source        the plan node issuing the request, used for request tracing. May be <code>null</code>
+	 */
+	public ParallelPreparedUnionTask(ParallelExecutor<BindingSet> unionControl, String preparedQuery, Endpoint endpoint,
+			BindingSet bindings, FilterValueExpr filterExpr, QueryInfo queryInfo, TupleExpr source) {
 		this.endpoint = endpoint;
 		this.preparedQuery = preparedQuery;
 		this.bindings = bindings;
 		this.unionControl = unionControl;
 		this.filterExpr = filterExpr;
 		this.queryInfo = queryInfo;
+		this.source = source;
 	}
 
 	@Override
 	protected CloseableIteration<BindingSet> performTaskInternal() throws Exception {
-		TripleSource tripleSource = endpoint.getTripleSource();
+		TripleSource tripleSource = queryInfo.getTripleSource(endpoint, source);
 		return tripleSource.getStatements(preparedQuery, bindings, filterExpr, queryInfo);
 	}
 
@@ -55,6 +76,11 @@ public class ParallelPreparedUnionTask extends ParallelTaskBase<BindingSet> {
 		return unionControl;
 	}
 
+	@Override
+	public Collection<String> getEndpointIds() {
+		return Collections.singletonList(endpoint.getId());
+	}
+
 	@Override
 	public String toString() {
 		return this.getClass().getSimpleName() + " @" + endpoint.getId() + ": " + preparedQuery;
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.federated.evaluation.union;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.federated.algebra.FilterValueExpr;
 import org.eclipse.rdf4j.federated.endpoint.Endpoint;
@@ -47,7 +50,7 @@ public class ParallelUnionTask extends ParallelTaskBase<BindingSet> {
 
 	@Override
 	protected CloseableIteration<BindingSet> performTaskInternal() throws Exception {
-		TripleSource tripleSource = endpoint.getTripleSource();
+		TripleSource tripleSource = queryInfo.getTripleSource(endpoint, stmt);
 		return tripleSource.getStatements(stmt, bindings, filterExpr, queryInfo);
 	}
 
@@ -56,6 +59,11 @@ public class ParallelUnionTask extends ParallelTaskBase<BindingSet> {
 		return unionControl;
 	}
 
+	@Override
+	public Collection<String> getEndpointIds() {
+		return Collections.singletonList(endpoint.getId());
+	}
+
 	@Override
 	public String toString() {
 		return this.getClass().getSimpleName() + " @" + endpoint.getId() + ": " + QueryStringUtil.toString(stmt);
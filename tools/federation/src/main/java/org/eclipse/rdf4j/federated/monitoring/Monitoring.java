@@ -18,9 +18,37 @@ public interface Monitoring {
 
 	void monitorRemoteRequest(Endpoint e);
 
+	/**
+	 * Monitor the bound join block size and the number of concurrent bound join requests chosen for an endpoint.
+	 *
+	 * @param e                     the endpoint
+	 * @param blockSize             the bound join block size
+	 * @param maxConcurrentRequests the maximum number of concurrent bound join requests
+	 * @see org.eclipse.rdf4j.federated.evaluation.join.BoundJoinTuning
+	 */
+	void monitorBoundJoinTuning(Endpoint e, int blockSize, int maxConcurrentRequests);
+
+	/**
+	 * Monitor a lookup of a subquery result in the subquery result cache.
+	 *
+	 * @param e   the endpoint
+	 * @param hit whether the result was served from the cache
+	 * @see org.eclipse.rdf4j.federated.cache.SubqueryResultCache
+	 */
+	void monitorSubqueryCacheLookup(Endpoint e, boolean hit);
+
 	void resetMonitoringInformation();
 
 	void monitorQuery(QueryInfo query);
 
 	void logQueryPlan(TupleExpr tupleExpr);
+
+	/**
+	 * Log the query plan of the given query, including the join strategies chosen while the query is evaluated.
+	 *
+	 * @param tupleExpr the query plan
+	 * @param queryInfo the query
+	 * @see QueryPlanLog
+	 */
+	void logQueryPlan(TupleExpr tupleExpr, QueryInfo queryInfo);
 }
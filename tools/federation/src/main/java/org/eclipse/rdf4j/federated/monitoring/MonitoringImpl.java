@@ -24,7 +24,8 @@ import org.eclipse.rdf4j.query.algebra.TupleExpr;
 /**
  * Implementation supporting the following monitoring features:
  *
- * - monitor remote requests per endpoint - maintain a query backlog using {@link QueryLog}
+ * - monitor remote requests per endpoint - monitor the bound join tuning per endpoint - monitor the subquery cache hit
+ * rate per endpoint - maintain a query backlog using {@link QueryLog}
  *
  *
  * @author andreas_s
@@ -55,6 +56,23 @@ public class MonitoringImpl implements MonitoringService {
 		m.increaseRequests();
 	}
 
+	@Override
+	public void monitorBoundJoinTuning(Endpoint e, int blockSize, int maxConcurrentRequests) {
+		MonitoringInformation m = requestMap.computeIfAbsent(e, (endpoint) -> new MonitoringInformation(endpoint));
+		m.boundJoinBlockSize = blockSize;
+		m.maxConcurrentRequests = maxConcurrentRequests;
+	}
+
+	@Override
+	public void monitorSubqueryCacheLookup(Endpoint e, boolean hit) {
+		MonitoringInformation m = requestMap.computeIfAbsent(e, (endpoint) -> new MonitoringInformation(endpoint));
+		if (hit) {
+			m.subqueryCacheHits.incrementAndGet();
+		} else {
+			m.subqueryCacheMisses.incrementAndGet();
+		}
+	}
+
 	@Override
 	public MonitoringInformation getMonitoringInformation(Endpoint e) {
 		return requestMap.get(e);
@@ -73,6 +91,10 @@ public class MonitoringImpl implements MonitoringService {
 	public static class MonitoringInformation {
 		private final Endpoint e;
 		private AtomicInteger numberOfRequests = new AtomicInteger(0);
+		private volatile int boundJoinBlockSize;
+		private volatile int maxConcurrentRequests;
+		private final AtomicInteger subqueryCacheHits = new AtomicInteger(0);
+		private final AtomicInteger subqueryCacheMisses = new AtomicInteger(0);
 
 		public MonitoringInformation(Endpoint e) {
 			this.e = e;
@@ -94,6 +116,55 @@ public class MonitoringImpl implements MonitoringService {
 		public int getNumberOfRequests() {
 			return numberOfRequests.get();
 		}
+
+		/**
+		 *
+		 * @return the bound join block size chosen for the endpoint, <code>0</code> if not tuned
+		 * @see org.eclipse.rdf4j.federated.FedXConfig#isEnableAdaptiveBoundJoin()
+		 */
+		public int getBoundJoinBlockSize() {
+			return boundJoinBlockSize;
+		}
+
+		/**
+		 *
+		 * @return the maximum number of concurrent bound join requests chosen for the endpoint, <code>0</code> if not
+		 *         tuned
+		 * @see org.eclipse.rdf4j.federated.FedXConfig#isEnableAdaptiveBoundJoin()
+		 */
+		public int getMaxConcurrentRequests() {
+			return maxConcurrentRequests;
+		}
+
+		/**
+		 *
+		 * @return the number of subquery results served from the subquery result cache
+		 * @see org.eclipse.rdf4j.federated.FedXConfig#isEnableSubqueryCache()
+		 */
+		public int getSubqueryCacheHits() {
+			return subqueryCacheHits.get();
+		}
+
+		/**
+		 *
+		 * @return the number of subqueries not found in the subquery result cache
+		 * @see org.eclipse.rdf4j.federated.FedXConfig#isEnableSubqueryCache()
+		 */
+		public int getSubqueryCacheMisses() {
+			return subqueryCacheMisses.get();
+		}
+
+		/**
+		 *
+		 * @return the share of subqueries served from the subquery result cache, <code>0</code> if there were no
+		 *         lookups
+		 * @see org.eclipse.rdf4j.federated.FedXConfig#isEnableSubqueryCache()
+		 */
+		public double getSubqueryCacheHitRate() {
+			int hits = subqueryCacheHits.get();
+			int lookups = hits + subqueryCacheMisses.get();
+			return lookups == 0 ? 0 : (double) hits / lookups;
+		}
 	}
 
 	@Override
@@ -109,4 +180,11 @@ public class MonitoringImpl implements MonitoringService {
 			QueryPlanLog.setQueryPlan(tupleExpr);
 		}
 	}
+
+	@Override
+	public void logQueryPlan(TupleExpr tupleExpr, QueryInfo queryInfo) {
+		if (config.isLogQueryPlan()) {
+			QueryPlanLog.setQueryPlan(tupleExpr, queryInfo);
+		}
+	}
 }
@@ -23,6 +23,14 @@ public class NoopMonitoringImpl implements Monitoring {
 	public void monitorRemoteRequest(Endpoint e) {
 	}
 
+	@Override
+	public void monitorBoundJoinTuning(Endpoint e, int blockSize, int maxConcurrentRequests) {
+	}
+
+	@Override
+	public void monitorSubqueryCacheLookup(Endpoint e, boolean hit) {
+	}
+
 	@Override
 	public void resetMonitoringInformation() {
 	}
@@ -35,4 +43,8 @@ public class NoopMonitoringImpl implements Monitoring {
 	public void logQueryPlan(TupleExpr tupleExpr) {
 	}
 
+	@Override
+	public void logQueryPlan(TupleExpr tupleExpr, QueryInfo queryInfo) {
+	}
+
 }
@@ -11,6 +11,8 @@
 package org.eclipse.rdf4j.federated.monitoring;
 
 import org.eclipse.rdf4j.federated.FedXConfig;
+import org.eclipse.rdf4j.federated.algebra.NJoin;
+import org.eclipse.rdf4j.federated.structures.QueryInfo;
 import org.eclipse.rdf4j.query.algebra.TupleExpr;
 
 /**
@@ -25,13 +27,59 @@ import org.eclipse.rdf4j.query.algebra.TupleExpr;
  */
 public class QueryPlanLog {
 
-	static ThreadLocal<String> queryPlan = new ThreadLocal<>();
+	static ThreadLocal<Plan> queryPlan = new ThreadLocal<>();
 
+	/**
+	 * Returns the query plan. Join strategies chosen at runtime (see {@link NJoin#getJoinStrategy(int)}) are included
+	 * once the respective joins are evaluated.
+	 *
+	 * @return the query plan, or <code>null</code>
+	 */
 	public static String getQueryPlan() {
-		return queryPlan.get();
+		Plan plan = queryPlan.get();
+		return plan == null ? null : plan.render();
 	}
 
 	public static void setQueryPlan(TupleExpr query) {
-		queryPlan.set(query.toString());
+		queryPlan.set(new Plan(query.toString()));
+	}
+
+	/**
+	 * Set the query plan of the given query. The plan is rendered for the last time once the query is closed, such that
+	 * the executing thread does not retain the plan afterwards.
+	 *
+	 * @param query     the query plan
+	 * @param queryInfo the query
+	 */
+	public static void setQueryPlan(TupleExpr query, QueryInfo queryInfo) {
+		Plan plan = new Plan(query);
+		queryPlan.set(plan);
+		queryInfo.onClose(plan::close);
+	}
+
+	static class Plan {
+
+		TupleExpr query;
+
+		private String rendered;
+
+		private Plan(TupleExpr query) {
+			this.query = query;
+		}
+
+		private Plan(String rendered) {
+			this.rendered = rendered;
+		}
+
+		synchronized String render() {
+			return query == null ? rendered : query.toString();
+		}
+
+		synchronized void close() {
+			if (query != null) {
+				rendered = query.toString();
+				query = null;
+			}
+		}
 	}
 }
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.monitoring;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import org.eclipse.rdf4j.federated.FedXConfig;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.query.algebra.QueryModelNode;
+import org.eclipse.rdf4j.query.algebra.QueryRoot;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractQueryModelVisitor;
+import org.eclipse.rdf4j.query.algebra.helpers.QueryModelTreeToGenericPlanNode;
+import org.eclipse.rdf4j.query.explanation.GenericPlanNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Traces the remote requests of a single query. Each {@link RequestTrace} is attributed to the plan node which issued
+ * the request, which allows to annotate the query plan with the remote requests (see {@link #explain(TupleExpr)}).
+ * <p>
+ * If {@link FedXConfig#isEnableRequestTracing()} is set, each finished request is written as structured log message to
+ * a logger with the name "RequestTrace". The requests themselves are only retained if the query is explained, i.e. a
+ * long running query which is only logged does not accumulate its requests.
+ * </p>
+ *
+ * @author Eclipse RDF4J contributors
+ */
+public class QueryTrace {
+
+	private static final Logger requestLog = LoggerFactory.getLogger("RequestTrace");
+
+	private final BigInteger queryId;
+
+	private final boolean logRequests;
+
+	private final boolean retainRequests;
+
+	private final ConcurrentLinkedQueue<RequestTrace> requests = new ConcurrentLinkedQueue<>();
+
+	/**
+	 *
+	 * @param queryId        the id of the traced query
+	 * @param logRequests    whether finished requests are written to the "RequestTrace" logger
+	 * @param retainRequests whether the requests are retained, e.g. to explain the query
+	 */
+	public QueryTrace(BigInteger queryId, boolean logRequests, boolean retainRequests) {
+		this.queryId = queryId;
+		this.logRequests = logRequests;
+		this.retainRequests = retainRequests;
+	}
+
+	public BigInteger getQueryId() {
+		return queryId;
+	}
+
+	/**
+	 * Start the trace of a request.
+	 *
+	 * @param endpoint  the endpoint receiving the request
+	 * @param source    the plan node issuing the request, may be <code>null</code>
+	 * @param operation the kind of request
+	 * @return the {@link RequestTrace}
+	 */
+	public RequestTrace startRequest(Endpoint endpoint, TupleExpr source, String operation) {
+		RequestTrace request = new RequestTrace(this, endpoint.getId(), source, operation);
+		if (retainRequests) {
+			requests.add(request);
+		}
+		return request;
+	}
+
+	void requestFinished(RequestTrace request) {
+		if (logRequests && requestLog.isInfoEnabled()) {
+			requestLog.info(request.toString());
+		}
+	}
+
+	/**
+	 * @return all requests of the query in the order they were issued, empty if requests are not retained
+	 */
+	public List<RequestTrace> getRequests() {
+		return new ArrayList<>(requests);
+	}
+
+	/**
+	 *
+	 * @param source the plan node
+	 * @return the requests issued by the given plan node
+	 */
+	public List<RequestTrace> getRequests(TupleExpr source) {
+		return requests.stream().filter(r -> r.getSource() == source).collect(Collectors.toList());
+	}
+
+	/**
+	 * Convert the query plan into a {@link GenericPlanNode} tree, where the requests issued by a plan node are attached
+	 * as child nodes, aggregated per endpoint. Requests which cannot be attributed to a plan node are attached to the
+	 * root.
+	 *
+	 * @param plan the (optimized) query plan
+	 * @return the annotated plan
+	 */
+	public GenericPlanNode explain(TupleExpr plan) {
+
+		QueryModelTreeToGenericPlanNode converter = new QueryModelTreeToGenericPlanNode(plan);
+		plan.visit(converter);
+		GenericPlanNode root = converter.getGenericPlanNode();
+
+		// the converter creates one plan node per query model node in pre-order, starting with the
+		// top node (i.e. the argument of the query root)
+		QueryModelNode top = plan instanceof QueryRoot ? ((QueryRoot) plan).getArg() : plan;
+		List<QueryModelNode> nodes = new ArrayList<>();
+		top.visit(new AbstractQueryModelVisitor<RuntimeException>() {
+			@Override
+			protected void meetNode(QueryModelNode node) {
+				nodes.add(node);
+				super.meetNode(node);
+			}
+		});
+		List<GenericPlanNode> planNodes = new ArrayList<>();
+		Deque<GenericPlanNode> stack = new ArrayDeque<>();
+		stack.push(root);
+		while (!stack.isEmpty()) {
+			GenericPlanNode planNode = stack.pop();
+			planNodes.add(planNode);
+			List<GenericPlanNode> children = planNode.getPlans();
+			for (int i = children == null ? -1 : children.size() - 1; i >= 0; i--) {
+				stack.push(children.get(i));
+			}
+		}
+
+		Map<QueryModelNode, List<RequestTrace>> requestsBySource = new IdentityHashMap<>();
+		for (RequestTrace request : requests) {
+			requestsBySource.computeIfAbsent(request.getSource(), k -> new ArrayList<>()).add(request);
+		}
+
+		for (int i = 0; i < nodes.size() && i < planNodes.size(); i++) {
+			List<RequestTrace> nodeRequests = requestsBySource.remove(nodes.get(i));
+			if (nodeRequests != null) {
+				addRequestNodes(planNodes.get(i), nodeRequests);
+			}
+		}
+
+		// requests of unknown or no longer existing plan nodes
+		List<RequestTrace> unattributed = requestsBySource.values()
+				.stream()
+				.flatMap(List::stream)
+				.collect(Collectors.toList());
+		if (!unattributed.isEmpty()) {
+			addRequestNodes(root, unattributed);
+		}
+
+		return root;
+	}
+
+	private static void addRequestNodes(GenericPlanNode planNode, List<RequestTrace> requests) {
+		Map<String, List<RequestTrace>> byEndpoint = requests.stream()
+				.collect(Collectors.groupingBy(RequestTrace::getEndpointId, LinkedHashMap::new, Collectors.toList()));
+		for (Map.Entry<String, List<RequestTrace>> e : byEndpoint.entrySet()) {
+			long rows = 0, bytes = 0, failed = 0;
+			double time = 0;
+			for (RequestTrace request : e.getValue()) {
+				rows += request.getRows();
+				bytes += request.getBytes();
+				time += Math.max(0, request.getDuration());
+				if (request.isFailed()) {
+					failed++;
+				}
+			}
+			// note: the request time is not set as totalTimeActual, as requests may run in parallel
+			GenericPlanNode requestNode = new GenericPlanNode("RemoteRequests @" + e.getKey() + " (requests="
+					+ e.getValue().size() + ", bytes=" + bytes + ", time=" + Math.round(time) + "ms"
+					+ (failed > 0 ? ", failed=" + failed : "") + ")");
+			requestNode.setResultSizeActual(rows);
+			planNode.addPlans(requestNode);
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.monitoring;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+
+/**
+ * The trace of a single remote request issued by a {@link org.eclipse.rdf4j.federated.evaluation.TripleSource} on
+ * behalf of a plan node.
+ * <p>
+ * A request is finished once its result has been consumed or closed. The number of bytes is an approximation computed
+ * from the size of the lexical representation of the received values.
+ * </p>
+ *
+ * @author Eclipse RDF4J contributors
+ * @see QueryTrace
+ */
+public class RequestTrace {
+
+	private final QueryTrace queryTrace;
+
+	private final String endpointId;
+
+	private final TupleExpr source;
+
+	private final String operation;
+
+	private final long start = System.nanoTime();
+
+	private volatile long responseTimeNanos = -1;
+
+	private volatile long durationNanos = -1;
+
+	private long rows = 0;
+
+	private long bytes = 0;
+
+	private volatile boolean failed = false;
+
+	RequestTrace(QueryTrace queryTrace, String endpointId, TupleExpr source, String operation) {
+		this.queryTrace = queryTrace;
+		this.endpointId = endpointId;
+		this.source = source;
+		this.operation = operation;
+	}
+
+	/**
+	 * Mark that the endpoint responded to the request, i.e. that the result is available for consumption.
+	 */
+	public void responded() {
+		responseTimeNanos = System.nanoTime() - start;
+	}
+
+	/**
+	 * Record a received row.
+	 *
+	 * @param size the approximate size of the row in bytes
+	 */
+	public synchronized void received(long size) {
+		rows++;
+		bytes += size;
+	}
+
+	/**
+	 * Mark the request as failed. A failed request is finished.
+	 */
+	public void failed() {
+		failed = true;
+		finished();
+	}
+
+	/**
+	 * Mark the request as finished, i.e. the result has been consumed or closed. Subsequent invocations are ignored.
+	 */
+	public void finished() {
+		synchronized (this) {
+			if (durationNanos >= 0) {
+				return;
+			}
+			durationNanos = System.nanoTime() - start;
+			if (responseTimeNanos < 0) {
+				responseTimeNanos = durationNanos;
+			}
+		}
+		queryTrace.requestFinished(this);
+	}
+
+	public String getEndpointId() {
+		return endpointId;
+	}
+
+	/**
+	 * @return the plan node which issued the request, or <code>null</code> if unknown
+	 */
+	public TupleExpr getSource() {
+		return source;
+	}
+
+	/**
+	 * @return the kind of request, e.g. <i>getStatements</i> or <i>hasStatements</i>
+	 */
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return the time in milliseconds until the endpoint responded, or <code>-1</code> if not yet responded
+	 */
+	public double getResponseTime() {
+		long nanos = responseTimeNanos;
+		return nanos < 0 ? -1 : nanos / 1_000_000.0;
+	}
+
+	/**
+	 * @return the time in milliseconds until the result was consumed, or <code>-1</code> if not yet finished
+	 */
+	public double getDuration() {
+		long nanos = durationNanos;
+		return nanos < 0 ? -1 : nanos / 1_000_000.0;
+	}
+
+	public synchronized long getRows() {
+		return rows;
+	}
+
+	public synchronized long getBytes() {
+		return bytes;
+	}
+
+	public boolean isFinished() {
+		return durationNanos >= 0;
+	}
+
+	public boolean isFailed() {
+		return failed;
+	}
+
+	/**
+	 * @return the request as structured log message consisting of <code>key=value</code> pairs
+	 */
+	@Override
+	public String toString() {
+		return "query=" + queryTrace.getQueryId()
+				+ " endpoint=" + endpointId
+				+ " operation=" + operation
+				+ " source=" + (source == null ? "unknown" : source.getSignature().replace(' ', '_'))
+				+ " status=" + (failed ? "failed" : "ok")
+				+ " rows=" + getRows()
+				+ " bytes=" + getBytes()
+				+ " responseTimeMs=" + TimeUnit.NANOSECONDS.toMillis(Math.max(0, responseTimeNanos))
+				+ " durationMs=" + TimeUnit.NANOSECONDS.toMillis(Math.max(0, durationNanos));
+	}
+}
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.federated.optimizer;
 
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.rdf4j.query.algebra.TupleExpr;
@@ -30,4 +31,15 @@ public interface FedXCostModel {
 	 * @return the cost associated to the tupleExpr
 	 */
 	double estimateCost(TupleExpr tupleExpr, Set<String> joinVars);
+
+	/**
+	 * Return the cost model used to order the arguments of a join. The costs of all arguments are compared with each
+	 * other, i.e. they must be estimated by the same model.
+	 *
+	 * @param joinArgs the arguments of the join
+	 * @return the cost model for the join, by default this model
+	 */
+	default FedXCostModel forJoin(List<TupleExpr> joinArgs) {
+		return this;
+	}
 }
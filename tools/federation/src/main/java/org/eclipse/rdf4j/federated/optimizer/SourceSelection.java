@@ -35,6 +35,7 @@ import org.eclipse.rdf4j.federated.evaluation.concurrent.ParallelExecutor;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.ParallelTaskBase;
 import org.eclipse.rdf4j.federated.exception.ExceptionUtil;
 import org.eclipse.rdf4j.federated.exception.OptimizationException;
+import org.eclipse.rdf4j.federated.statistics.FederationStatistics;
 import org.eclipse.rdf4j.federated.structures.QueryInfo;
 import org.eclipse.rdf4j.federated.structures.SubQuery;
 import org.eclipse.rdf4j.federated.util.QueryStringUtil;
@@ -57,11 +58,13 @@ public class SourceSelection {
 	protected final List<Endpoint> endpoints;
 	protected final SourceSelectionCache cache;
 	protected final QueryInfo queryInfo;
+	protected final FederationStatistics statistics;
 
 	public SourceSelection(List<Endpoint> endpoints, SourceSelectionCache cache, QueryInfo queryInfo) {
 		this.endpoints = endpoints;
 		this.cache = cache;
 		this.queryInfo = queryInfo;
+		this.statistics = queryInfo.getFederationContext().getFederationStatistics();
 	}
 
 	/**
@@ -95,9 +98,14 @@ public class SourceSelection {
 
 			SubQuery q = new SubQuery(stmt, queryInfo.getDataset());
 
-			// check for each current federation member (cache or remote ASK)
+			// check for each current federation member (statistics, cache or remote ASK)
 			for (Endpoint e : endpoints) {
-				StatementSourceAssurance a = cache.getAssurance(q, e);
+				StatementSourceAssurance a = statistics != null
+						? statistics.getAssurance(stmt, queryInfo.getDataset(), e)
+						: StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS;
+				if (a == StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS) {
+					a = cache.getAssurance(q, e);
+				}
 				if (a == StatementSourceAssurance.HAS_REMOTE_STATEMENTS) {
 					addSource(stmt, new StatementSource(e.getId(), StatementSourceType.REMOTE));
 				} else if (a == StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS) {
@@ -245,6 +245,7 @@ public class StatementGroupAndJoinOptimizer extends AbstractSimpleQueryModelVisi
 	 */
 	protected List<TupleExpr> optimizeJoinOrder(List<TupleExpr> joinArgs) {
 
+		FedXCostModel joinCostModel = costModel.forJoin(joinArgs);
 		List<TupleExpr> optimized = new ArrayList<>(joinArgs.size());
 		List<TupleExpr> left = new LinkedList<>(joinArgs);
 		Set<String> joinVars = new HashSet<>();
@@ -256,7 +257,7 @@ public class StatementGroupAndJoinOptimizer extends AbstractSimpleQueryModelVisi
 			double minCost = Double.MAX_VALUE;
 			for (TupleExpr tmp : left) {
 
-				double currentCost = estimateCost(tmp, joinVars);
+				double currentCost = estimateCost(joinCostModel, tmp, joinVars);
 				if (currentCost < minCost) {
 					item = tmp;
 					minCost = currentCost;
@@ -275,6 +276,10 @@ public class StatementGroupAndJoinOptimizer extends AbstractSimpleQueryModelVisi
 	}
 
 	protected double estimateCost(TupleExpr tupleExpr, Set<String> joinVars) {
+		return estimateCost(costModel, tupleExpr, joinVars);
+	}
+
+	protected double estimateCost(FedXCostModel costModel, TupleExpr tupleExpr, Set<String> joinVars) {
 		return costModel.estimateCost(tupleExpr, joinVars);
 	}
 }
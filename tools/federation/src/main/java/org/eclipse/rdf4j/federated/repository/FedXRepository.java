@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.federated.repository;
 
+import java.io.File;
+
 import org.eclipse.rdf4j.federated.EndpointManager;
 import org.eclipse.rdf4j.federated.FedX;
 import org.eclipse.rdf4j.federated.FedXConfig;
@@ -22,6 +24,7 @@ import org.eclipse.rdf4j.federated.evaluation.DelegateFederatedServiceResolver;
 import org.eclipse.rdf4j.federated.exception.FedXException;
 import org.eclipse.rdf4j.federated.monitoring.Monitoring;
 import org.eclipse.rdf4j.federated.monitoring.MonitoringFactory;
+import org.eclipse.rdf4j.federated.statistics.FederationStatistics;
 import org.eclipse.rdf4j.query.algebra.evaluation.federation.FederatedServiceResolver;
 import org.eclipse.rdf4j.repository.RepositoryException;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
@@ -96,6 +99,29 @@ public class FedXRepository extends SailRepository {
 
 		queryManager.init(this, federationContext);
 		fedxServiceResolver.initialize();
+
+		FederationStatistics statistics = federationContext.getFederationStatistics();
+		if (statistics != null) {
+			statistics.start(getStatisticsLocation());
+		}
+	}
+
+	/**
+	 * Resolve the location for persisting endpoint statistics, see {@link FedXConfig#getStatisticsLocation()}.
+	 *
+	 * @return the directory or <code>null</code> if statistics are kept in memory only
+	 */
+	private File getStatisticsLocation() {
+		String location = fedXConfig.getStatisticsLocation();
+		File dataDir = federation.getDataDir();
+		if (location == null) {
+			return dataDir == null ? null : new File(dataDir, "statistics");
+		}
+		File file = new File(location);
+		if (!file.isAbsolute() && dataDir != null) {
+			file = new File(dataDir, location);
+		}
+		return file;
 	}
 
 	@Override
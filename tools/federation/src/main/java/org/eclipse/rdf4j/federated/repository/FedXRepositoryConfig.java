@@ -180,6 +180,88 @@ public class FedXRepositoryConfig extends AbstractRepositoryImplConfig {
 	 */
 	public static final IRI CONFIG_CONSUMING_ITERATION_MAX = vf.createIRI(NAMESPACE, "consumingIterationMax");
 
+	/**
+	 * IRI of the property populating {@link FedXConfig#isEnableStatistics()}
+	 */
+	public static final IRI CONFIG_ENABLE_STATISTICS = vf.createIRI(NAMESPACE, "enableStatistics");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#getStatisticsRefreshInterval()}
+	 */
+	public static final IRI CONFIG_STATISTICS_REFRESH_INTERVAL = vf.createIRI(NAMESPACE,
+			"statisticsRefreshInterval");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#getStatisticsLocation()}
+	 */
+	public static final IRI CONFIG_STATISTICS_LOCATION = vf.createIRI(NAMESPACE, "statisticsLocation");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#isEnableAdaptiveBoundJoin()}
+	 */
+	public static final IRI CONFIG_ENABLE_ADAPTIVE_BOUND_JOIN = vf.createIRI(NAMESPACE, "enableAdaptiveBoundJoin");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#getBoundJoinMinBlockSize()}
+	 */
+	public static final IRI CONFIG_BOUND_JOIN_MIN_BLOCK_SIZE = vf.createIRI(NAMESPACE, "boundJoinMinBlockSize");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#getBoundJoinMaxBlockSize()}
+	 */
+	public static final IRI CONFIG_BOUND_JOIN_MAX_BLOCK_SIZE = vf.createIRI(NAMESPACE, "boundJoinMaxBlockSize");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#getBoundJoinMaxConcurrentRequests()}
+	 */
+	public static final IRI CONFIG_BOUND_JOIN_MAX_CONCURRENT_REQUESTS = vf.createIRI(NAMESPACE,
+			"boundJoinMaxConcurrentRequests");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#getBoundJoinTargetLatency()}
+	 */
+	public static final IRI CONFIG_BOUND_JOIN_TARGET_LATENCY = vf.createIRI(NAMESPACE, "boundJoinTargetLatency");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#isEnableSubqueryCache()}
+	 */
+	public static final IRI CONFIG_ENABLE_SUBQUERY_CACHE = vf.createIRI(NAMESPACE, "enableSubqueryCache");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#getSubqueryCacheTTL()}
+	 */
+	public static final IRI CONFIG_SUBQUERY_CACHE_TTL = vf.createIRI(NAMESPACE, "subqueryCacheTTL");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#getSubqueryCacheMaxSize()}
+	 */
+	public static final IRI CONFIG_SUBQUERY_CACHE_MAX_SIZE = vf.createIRI(NAMESPACE, "subqueryCacheMaxSize");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#getHedgingPercentile()}
+	 */
+	public static final IRI CONFIG_HEDGING_PERCENTILE = vf.createIRI(NAMESPACE, "hedgingPercentile");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#getHedgingMinDelay()}
+	 */
+	public static final IRI CONFIG_HEDGING_MIN_DELAY = vf.createIRI(NAMESPACE, "hedgingMinDelay");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#isEnableAdaptiveJoin()}
+	 */
+	public static final IRI CONFIG_ENABLE_ADAPTIVE_JOIN = vf.createIRI(NAMESPACE, "enableAdaptiveJoin");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#getAdaptiveJoinThreshold()}
+	 */
+	public static final IRI CONFIG_ADAPTIVE_JOIN_THRESHOLD = vf.createIRI(NAMESPACE, "adaptiveJoinThreshold");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#isEnableRequestTracing()}
+	 */
+	public static final IRI CONFIG_ENABLE_REQUEST_TRACING = vf.createIRI(NAMESPACE, "enableRequestTracing");
+
 	/**
 	 * the location of the data configuration
 	 */
@@ -363,6 +445,54 @@ public class FedXRepositoryConfig extends AbstractRepositoryImplConfig {
 		Models.objectLiteral(m.getStatements(confNode, CONFIG_CONSUMING_ITERATION_MAX, null))
 				.ifPresent(value -> config.withConsumingIterationMax(value.intValue()));
 
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_ENABLE_STATISTICS, null))
+				.ifPresent(value -> config.withEnableStatistics(value.booleanValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_STATISTICS_REFRESH_INTERVAL, null))
+				.ifPresent(value -> config.withStatisticsRefreshInterval(value.intValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_STATISTICS_LOCATION, null))
+				.ifPresent(value -> config.withStatisticsLocation(value.stringValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_ENABLE_ADAPTIVE_BOUND_JOIN, null))
+				.ifPresent(value -> config.withEnableAdaptiveBoundJoin(value.booleanValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_BOUND_JOIN_MIN_BLOCK_SIZE, null))
+				.ifPresent(value -> config.withBoundJoinMinBlockSize(value.intValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_BOUND_JOIN_MAX_BLOCK_SIZE, null))
+				.ifPresent(value -> config.withBoundJoinMaxBlockSize(value.intValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_BOUND_JOIN_MAX_CONCURRENT_REQUESTS, null))
+				.ifPresent(value -> config.withBoundJoinMaxConcurrentRequests(value.intValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_BOUND_JOIN_TARGET_LATENCY, null))
+				.ifPresent(value -> config.withBoundJoinTargetLatency(value.intValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_ENABLE_SUBQUERY_CACHE, null))
+				.ifPresent(value -> config.withEnableSubqueryCache(value.booleanValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_SUBQUERY_CACHE_TTL, null))
+				.ifPresent(value -> config.withSubqueryCacheTTL(value.intValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_SUBQUERY_CACHE_MAX_SIZE, null))
+				.ifPresent(value -> config.withSubqueryCacheMaxSize(value.longValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_HEDGING_PERCENTILE, null))
+				.ifPresent(value -> config.withHedgingPercentile(value.intValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_HEDGING_MIN_DELAY, null))
+				.ifPresent(value -> config.withHedgingMinDelay(value.intValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_ENABLE_ADAPTIVE_JOIN, null))
+				.ifPresent(value -> config.withEnableAdaptiveJoin(value.booleanValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_ADAPTIVE_JOIN_THRESHOLD, null))
+				.ifPresent(value -> config.withAdaptiveJoinThreshold(value.intValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_ENABLE_REQUEST_TRACING, null))
+				.ifPresent(value -> config.withEnableRequestTracing(value.booleanValue()));
+
 	}
 
 	/**
@@ -417,6 +547,42 @@ public class FedXRepositoryConfig extends AbstractRepositoryImplConfig {
 
 		model.add(confNode, CONFIG_CONSUMING_ITERATION_MAX, vf.createLiteral(config.getConsumingIterationMax()));
 
+		model.add(confNode, CONFIG_ENABLE_STATISTICS, vf.createLiteral(config.isEnableStatistics()));
+
+		model.add(confNode, CONFIG_STATISTICS_REFRESH_INTERVAL,
+				vf.createLiteral(config.getStatisticsRefreshInterval()));
+
+		if (config.getStatisticsLocation() != null) {
+			model.add(confNode, CONFIG_STATISTICS_LOCATION, vf.createLiteral(config.getStatisticsLocation()));
+		}
+
+		model.add(confNode, CONFIG_ENABLE_ADAPTIVE_BOUND_JOIN, vf.createLiteral(config.isEnableAdaptiveBoundJoin()));
+
+		model.add(confNode, CONFIG_BOUND_JOIN_MIN_BLOCK_SIZE, vf.createLiteral(config.getBoundJoinMinBlockSize()));
+
+		model.add(confNode, CONFIG_BOUND_JOIN_MAX_BLOCK_SIZE, vf.createLiteral(config.getBoundJoinMaxBlockSize()));
+
+		model.add(confNode, CONFIG_BOUND_JOIN_MAX_CONCURRENT_REQUESTS,
+				vf.createLiteral(config.getBoundJoinMaxConcurrentRequests()));
+
+		model.add(confNode, CONFIG_BOUND_JOIN_TARGET_LATENCY, vf.createLiteral(config.getBoundJoinTargetLatency()));
+
+		model.add(confNode, CONFIG_ENABLE_SUBQUERY_CACHE, vf.createLiteral(config.isEnableSubqueryCache()));
+
+		model.add(confNode, CONFIG_SUBQUERY_CACHE_TTL, vf.createLiteral(config.getSubqueryCacheTTL()));
+
+		model.add(confNode, CONFIG_SUBQUERY_CACHE_MAX_SIZE, vf.createLiteral(config.getSubqueryCacheMaxSize()));
+
+		model.add(confNode, CONFIG_HEDGING_PERCENTILE, vf.createLiteral(config.getHedgingPercentile()));
+
+		model.add(confNode, CONFIG_HEDGING_MIN_DELAY, vf.createLiteral(config.getHedgingMinDelay()));
+
+		model.add(confNode, CONFIG_ENABLE_ADAPTIVE_JOIN, vf.createLiteral(config.isEnableAdaptiveJoin()));
+
+		model.add(confNode, CONFIG_ADAPTIVE_JOIN_THRESHOLD, vf.createLiteral(config.getAdaptiveJoinThreshold()));
+
+		model.add(confNode, CONFIG_ENABLE_REQUEST_TRACING, vf.createLiteral(config.isEnableRequestTracing()));
+
 		model.add(implNode, FEDX_CONFIG, confNode);
 	}
 }
@@ -0,0 +1,292 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.statistics;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.util.FedXUtil;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.model.vocabulary.DCTERMS;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.VOID;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+
+/**
+ * A summary of the data provided by a federation member in the style of a VoID description: the number of triples and
+ * distinct subjects and objects, triple counts per predicate (property partitions) and the number of instances per
+ * class (class partitions).
+ *
+ * <p>
+ * Statistics describe the default graph of the endpoint at the time they were harvested.
+ * </p>
+ *
+ * @author Eclipse RDF4J contributors
+ * @see FederationStatistics
+ */
+public class EndpointStatistics {
+
+	private static final String PROPERTY_PARTITIONS_QUERY = "SELECT ?p (COUNT(*) AS ?triples) "
+			+ "(COUNT(DISTINCT ?s) AS ?distinctSubjects) (COUNT(DISTINCT ?o) AS ?distinctObjects) "
+			+ "WHERE { ?s ?p ?o } GROUP BY ?p";
+
+	private static final String TOTALS_QUERY = "SELECT (COUNT(DISTINCT ?s) AS ?distinctSubjects) "
+			+ "(COUNT(DISTINCT ?o) AS ?distinctObjects) WHERE { ?s ?p ?o }";
+
+	private static final String CLASS_PARTITIONS_QUERY = "SELECT ?c (COUNT(DISTINCT ?s) AS ?entities) "
+			+ "WHERE { ?s a ?c } GROUP BY ?c";
+
+	/**
+	 * The statistics of a single predicate.
+	 */
+	public static class PropertyPartition {
+
+		private final long triples;
+
+		private final long distinctSubjects;
+
+		private final long distinctObjects;
+
+		public PropertyPartition(long triples, long distinctSubjects, long distinctObjects) {
+			this.triples = triples;
+			this.distinctSubjects = distinctSubjects;
+			this.distinctObjects = distinctObjects;
+		}
+
+		public long getTriples() {
+			return triples;
+		}
+
+		public long getDistinctSubjects() {
+			return distinctSubjects;
+		}
+
+		public long getDistinctObjects() {
+			return distinctObjects;
+		}
+	}
+
+	private final String endpointId;
+
+	private final long timestamp;
+
+	private final long triples;
+
+	private final long distinctSubjects;
+
+	private final long distinctObjects;
+
+	private final Map<IRI, PropertyPartition> propertyPartitions;
+
+	private final Map<IRI, Long> classPartitions;
+
+	/**
+	 *
+	 * @param endpointId         the identifier of the federation member
+	 * @param timestamp          the time the statistics were harvested, in milliseconds since the epoch
+	 * @param distinctSubjects   the number of distinct subjects
+	 * @param distinctObjects    the number of distinct objects
+	 * @param propertyPartitions the statistics per predicate
+	 * @param classPartitions    the number of instances per class
+	 */
+	public EndpointStatistics(String endpointId, long timestamp, long distinctSubjects, long distinctObjects,
+			Map<IRI, PropertyPartition> propertyPartitions, Map<IRI, Long> classPartitions) {
+		this.endpointId = endpointId;
+		this.timestamp = timestamp;
+		this.distinctSubjects = distinctSubjects;
+		this.distinctObjects = distinctObjects;
+		this.propertyPartitions = Collections.unmodifiableMap(new HashMap<>(propertyPartitions));
+		this.classPartitions = Collections.unmodifiableMap(new HashMap<>(classPartitions));
+		this.triples = propertyPartitions.values().stream().mapToLong(PropertyPartition::getTriples).sum();
+	}
+
+	/**
+	 * Harvest the statistics of the given endpoint by means of aggregate queries. Note that these queries scan all data
+	 * of the endpoint.
+	 *
+	 * @param endpoint the initialized endpoint
+	 * @return the statistics
+	 */
+	public static EndpointStatistics harvest(Endpoint endpoint) {
+		long timestamp = System.currentTimeMillis();
+		Map<IRI, PropertyPartition> propertyPartitions = new HashMap<>();
+		Map<IRI, Long> classPartitions = new HashMap<>();
+		long distinctSubjects = 0;
+		long distinctObjects = 0;
+
+		try (RepositoryConnection conn = endpoint.getConnection()) {
+			try (TupleQueryResult res = conn.prepareTupleQuery(PROPERTY_PARTITIONS_QUERY).evaluate()) {
+				while (res.hasNext()) {
+					BindingSet b = res.next();
+					Value p = b.getValue("p");
+					if (p instanceof IRI) {
+						propertyPartitions.put((IRI) p, new PropertyPartition(longValue(b, "triples"),
+								longValue(b, "distinctSubjects"), longValue(b, "distinctObjects")));
+					}
+				}
+			}
+
+			try (TupleQueryResult res = conn.prepareTupleQuery(TOTALS_QUERY).evaluate()) {
+				if (res.hasNext()) {
+					BindingSet b = res.next();
+					distinctSubjects = longValue(b, "distinctSubjects");
+					distinctObjects = longValue(b, "distinctObjects");
+				}
+			}
+
+			try (TupleQueryResult res = conn.prepareTupleQuery(CLASS_PARTITIONS_QUERY).evaluate()) {
+				while (res.hasNext()) {
+					BindingSet b = res.next();
+					Value c = b.getValue("c");
+					if (c instanceof IRI) {
+						classPartitions.put((IRI) c, longValue(b, "entities"));
+					}
+				}
+			}
+		}
+
+		return new EndpointStatistics(endpoint.getId(), timestamp, distinctSubjects, distinctObjects,
+				propertyPartitions, classPartitions);
+	}
+
+	private static long longValue(BindingSet b, String name) {
+		Value value = b.getValue(name);
+		return value instanceof Literal ? ((Literal) value).longValue() : 0;
+	}
+
+	/**
+	 * Read statistics from a VoID description as written by {@link #toModel()}.
+	 *
+	 * @param endpointId the identifier of the federation member
+	 * @param model      the VoID description
+	 * @return the statistics
+	 * @throws IllegalArgumentException if the model does not contain a VoID dataset
+	 */
+	public static EndpointStatistics fromModel(String endpointId, Model model) {
+		Resource dataset = Models.subject(model.filter(null, RDF.TYPE, VOID.DATASET))
+				.orElseThrow(() -> new IllegalArgumentException("No void:Dataset in statistics of " + endpointId));
+
+		Map<IRI, PropertyPartition> propertyPartitions = new HashMap<>();
+		for (Value partition : model.filter(dataset, VOID.PROPERTY_PARTITION, null).objects()) {
+			Models.objectIRI(model.filter((Resource) partition, VOID.PROPERTY, null))
+					.ifPresent(p -> propertyPartitions.put(p,
+							new PropertyPartition(longValue(model, (Resource) partition, VOID.TRIPLES),
+									longValue(model, (Resource) partition, VOID.DISTINCT_SUBJECTS),
+									longValue(model, (Resource) partition, VOID.DISTINCT_OBJECTS))));
+		}
+
+		Map<IRI, Long> classPartitions = new HashMap<>();
+		for (Value partition : model.filter(dataset, VOID.CLASS_PARTITION, null).objects()) {
+			Models.objectIRI(model.filter((Resource) partition, VOID.CLASS, null))
+					.ifPresent(c -> classPartitions.put(c, longValue(model, (Resource) partition, VOID.ENTITIES)));
+		}
+
+		long timestamp = Models.objectLiteral(model.filter(dataset, DCTERMS.MODIFIED, null))
+				.map(l -> l.calendarValue().toGregorianCalendar().getTimeInMillis())
+				.orElse(0L);
+
+		return new EndpointStatistics(endpointId, timestamp, longValue(model, dataset, VOID.DISTINCT_SUBJECTS),
+				longValue(model, dataset, VOID.DISTINCT_OBJECTS), propertyPartitions, classPartitions);
+	}
+
+	private static long longValue(Model model, Resource subject, IRI property) {
+		return Models.objectLiteral(model.filter(subject, property, null)).map(Literal::longValue).orElse(0L);
+	}
+
+	/**
+	 * Write the statistics as a VoID description.
+	 *
+	 * @return the VoID description
+	 */
+	public Model toModel() {
+		ValueFactory vf = FedXUtil.valueFactory();
+		Model model = new LinkedHashModel();
+		BNode dataset = vf.createBNode();
+		model.add(dataset, RDF.TYPE, VOID.DATASET);
+		model.add(dataset, DCTERMS.MODIFIED, vf.createLiteral(new Date(timestamp)));
+		model.add(dataset, VOID.TRIPLES, vf.createLiteral(triples));
+		model.add(dataset, VOID.DISTINCT_SUBJECTS, vf.createLiteral(distinctSubjects));
+		model.add(dataset, VOID.DISTINCT_OBJECTS, vf.createLiteral(distinctObjects));
+
+		propertyPartitions.forEach((p, stats) -> {
+			BNode partition = vf.createBNode();
+			model.add(dataset, VOID.PROPERTY_PARTITION, partition);
+			model.add(partition, VOID.PROPERTY, p);
+			model.add(partition, VOID.TRIPLES, vf.createLiteral(stats.getTriples()));
+			model.add(partition, VOID.DISTINCT_SUBJECTS, vf.createLiteral(stats.getDistinctSubjects()));
+			model.add(partition, VOID.DISTINCT_OBJECTS, vf.createLiteral(stats.getDistinctObjects()));
+		});
+
+		classPartitions.forEach((c, entities) -> {
+			BNode partition = vf.createBNode();
+			model.add(dataset, VOID.CLASS_PARTITION, partition);
+			model.add(partition, VOID.CLASS, c);
+			model.add(partition, VOID.ENTITIES, vf.createLiteral(entities));
+		});
+
+		return model;
+	}
+
+	public String getEndpointId() {
+		return endpointId;
+	}
+
+	/**
+	 *
+	 * @return the time the statistics were harvested, in milliseconds since the epoch
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	public long getTriples() {
+		return triples;
+	}
+
+	public long getDistinctSubjects() {
+		return distinctSubjects;
+	}
+
+	public long getDistinctObjects() {
+		return distinctObjects;
+	}
+
+	/**
+	 *
+	 * @param predicate the predicate
+	 * @return the statistics of the predicate, or <code>null</code> if the endpoint does not use the predicate
+	 */
+	public PropertyPartition getPropertyPartition(IRI predicate) {
+		return propertyPartitions.get(predicate);
+	}
+
+	/**
+	 *
+	 * @param type the class
+	 * @return the number of instances of the class, <code>0</code> if there are none
+	 */
+	public long getEntities(IRI type) {
+		return classPartitions.getOrDefault(type, 0L);
+	}
+}
@@ -0,0 +1,294 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.statistics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.federated.EndpointManager;
+import org.eclipse.rdf4j.federated.cache.SourceSelectionCache.StatementSourceAssurance;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.evaluation.concurrent.NamingThreadFactory;
+import org.eclipse.rdf4j.federated.exception.ExceptionUtil;
+import org.eclipse.rdf4j.federated.statistics.EndpointStatistics.PropertyPartition;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.query.Dataset;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maintains the {@link EndpointStatistics} of all federation members. Statistics are harvested in the background and
+ * refreshed periodically. If a location is configured, they are persisted as VoID descriptions (one Turtle file per
+ * endpoint) and reused after a restart until they are due for refresh.
+ *
+ * <p>
+ * Statistics are used in source selection to rule out endpoints that do not use a predicate or class, and to confirm
+ * endpoints for patterns that only bind a predicate, in both cases without an ASK request. Moreover they provide the
+ * cardinality estimates of the {@link StatisticsFedXCostModel}. As statistics are a snapshot, data that an endpoint
+ * starts to provide for a new predicate is only considered after the next refresh.
+ * </p>
+ *
+ * @author Eclipse RDF4J contributors
+ * @see org.eclipse.rdf4j.federated.FedXConfig#withEnableStatistics(boolean)
+ */
+public class FederationStatistics {
+
+	private static final Logger log = LoggerFactory.getLogger(FederationStatistics.class);
+
+	private final EndpointManager endpointManager;
+
+	private final int refreshInterval;
+
+	private final Map<String, EndpointStatistics> statistics = new ConcurrentHashMap<>();
+
+	private File location;
+
+	private ScheduledExecutorService scheduler;
+
+	/**
+	 *
+	 * @param endpointManager the endpoint manager of the federation
+	 * @param refreshInterval the interval in seconds after which statistics are harvested again
+	 */
+	public FederationStatistics(EndpointManager endpointManager, int refreshInterval) {
+		this.endpointManager = endpointManager;
+		this.refreshInterval = Math.max(1, refreshInterval);
+	}
+
+	/**
+	 * Load persisted statistics (if any) and schedule the periodic harvesting in the background. The first harvest
+	 * starts immediately unless persisted statistics are available for all endpoints and are not yet due for refresh.
+	 *
+	 * @param location the directory to persist statistics in, may be <code>null</code> to keep them in memory only
+	 */
+	public synchronized void start(File location) {
+		if (scheduler != null) {
+			throw new IllegalStateException("Statistics have already been started");
+		}
+		this.location = location;
+		long oldest = Long.MAX_VALUE;
+		for (Endpoint endpoint : endpointManager.getAvailableEndpoints()) {
+			EndpointStatistics stats = load(endpoint);
+			oldest = Math.min(oldest, stats == null ? 0 : stats.getTimestamp());
+		}
+		long age = oldest == Long.MAX_VALUE ? refreshInterval
+				: TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - oldest);
+		long initialDelay = Math.max(0, refreshInterval - age);
+
+		scheduler = Executors.newSingleThreadScheduledExecutor(new NamingThreadFactory("FedX Statistics"));
+		scheduler.scheduleWithFixedDelay(this::refresh, initialDelay, refreshInterval, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Harvest the statistics of all available endpoints. Failures are logged, the previous statistics of an endpoint
+	 * that cannot be harvested are kept.
+	 */
+	public void refresh() {
+		for (Endpoint endpoint : endpointManager.getAvailableEndpoints()) {
+			try {
+				refresh(endpoint);
+			} catch (Exception e) {
+				log.warn(ExceptionUtil.getExceptionString(
+						"Failed to harvest statistics of endpoint " + endpoint.getId(), e));
+			}
+		}
+	}
+
+	/**
+	 * Harvest the statistics of the given endpoint, and persist them if a location is configured.
+	 *
+	 * @param endpoint the endpoint
+	 * @return the harvested statistics
+	 */
+	public EndpointStatistics refresh(Endpoint endpoint) {
+		log.debug("Harvesting statistics of endpoint {}", endpoint.getId());
+		EndpointStatistics stats = EndpointStatistics.harvest(endpoint);
+		statistics.put(endpoint.getId(), stats);
+		persist(stats);
+		return stats;
+	}
+
+	/**
+	 *
+	 * @param endpointId the identifier of the endpoint
+	 * @return the statistics of the endpoint, or <code>null</code> if none have been harvested yet
+	 */
+	public EndpointStatistics getStatistics(String endpointId) {
+		return statistics.get(endpointId);
+	}
+
+	/**
+	 * Determine whether the given endpoint can provide results for a statement pattern based on its statistics.
+	 * Patterns in the scope of a dataset or of a named graph, bound or not, are never decided, as statistics only
+	 * describe the default graph.
+	 *
+	 * @param stmt     the statement pattern
+	 * @param dataset  the dataset of the query, may be <code>null</code>
+	 * @param endpoint the endpoint
+	 * @return the {@link StatementSourceAssurance}, {@link StatementSourceAssurance#POSSIBLY_HAS_STATEMENTS} if the
+	 *         statistics are not conclusive
+	 */
+	public StatementSourceAssurance getAssurance(StatementPattern stmt, Dataset dataset, Endpoint endpoint) {
+		EndpointStatistics stats = statistics.get(endpoint.getId());
+		if (stats == null || dataset != null || stmt.getContextVar() != null) {
+			return StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS;
+		}
+		boolean subjectBound = hasValue(stmt.getSubjectVar());
+		boolean objectBound = hasValue(stmt.getObjectVar());
+
+		Value predicate = stmt.getPredicateVar().getValue();
+		if (predicate == null) {
+			if (stats.getTriples() == 0) {
+				return StatementSourceAssurance.NONE;
+			}
+			return !subjectBound && !objectBound ? StatementSourceAssurance.HAS_REMOTE_STATEMENTS
+					: StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS;
+		}
+		if (!(predicate instanceof IRI) || stats.getPropertyPartition((IRI) predicate) == null) {
+			return StatementSourceAssurance.NONE;
+		}
+
+		if (RDF.TYPE.equals(predicate) && stmt.getObjectVar().getValue() instanceof IRI) {
+			if (stats.getEntities((IRI) stmt.getObjectVar().getValue()) == 0) {
+				return StatementSourceAssurance.NONE;
+			}
+			return !subjectBound ? StatementSourceAssurance.HAS_REMOTE_STATEMENTS
+					: StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS;
+		}
+
+		return !subjectBound && !objectBound ? StatementSourceAssurance.HAS_REMOTE_STATEMENTS
+				: StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS;
+	}
+
+	/**
+	 * Estimate the number of results of a statement pattern at the given endpoint, assuming that the variables of the
+	 * pattern contained in <i>boundVars</i> are bound by preceding join arguments.
+	 *
+	 * @param stmt       the statement pattern
+	 * @param endpointId the identifier of the endpoint
+	 * @param boundVars  the names of the variables that are bound at evaluation time
+	 * @return the estimated number of results, or a negative value if no estimate is possible
+	 */
+	public double estimateCardinality(StatementPattern stmt, String endpointId, Set<String> boundVars) {
+		EndpointStatistics stats = statistics.get(endpointId);
+		if (stats == null || stmt.getContextVar() != null) {
+			return -1;
+		}
+		boolean subjectBound = isBound(stmt.getSubjectVar(), boundVars);
+		boolean objectBound = isBound(stmt.getObjectVar(), boundVars);
+
+		Value predicate = stmt.getPredicateVar().getValue();
+		if (predicate == null) {
+			double cardinality = stats.getTriples();
+			if (subjectBound) {
+				cardinality /= Math.max(1, stats.getDistinctSubjects());
+			}
+			if (objectBound) {
+				cardinality /= Math.max(1, stats.getDistinctObjects());
+			}
+			return cardinality;
+		}
+
+		PropertyPartition partition = predicate instanceof IRI ? stats.getPropertyPartition((IRI) predicate) : null;
+		if (partition == null) {
+			return 0;
+		}
+
+		if (RDF.TYPE.equals(predicate) && stmt.getObjectVar().getValue() instanceof IRI) {
+			long entities = stats.getEntities((IRI) stmt.getObjectVar().getValue());
+			return subjectBound ? Math.min(1, entities) : entities;
+		}
+
+		double cardinality = partition.getTriples();
+		if (subjectBound) {
+			cardinality /= Math.max(1, partition.getDistinctSubjects());
+		}
+		if (objectBound) {
+			cardinality /= Math.max(1, partition.getDistinctObjects());
+		}
+		return cardinality;
+	}
+
+	/**
+	 * Stop the periodic harvesting.
+	 */
+	public synchronized void shutDown() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			scheduler = null;
+		}
+	}
+
+	private static boolean hasValue(Var var) {
+		return var != null && var.hasValue();
+	}
+
+	private static boolean isBound(Var var, Set<String> boundVars) {
+		return var.hasValue() || boundVars.contains(var.getName());
+	}
+
+	private File getFile(String endpointId) {
+		return new File(location, endpointId.replaceAll("[^A-Za-z0-9._-]", "_") + ".ttl");
+	}
+
+	private EndpointStatistics load(Endpoint endpoint) {
+		if (location == null) {
+			return null;
+		}
+		File file = getFile(endpoint.getId());
+		if (!file.isFile()) {
+			return null;
+		}
+		try (InputStream in = Files.newInputStream(file.toPath())) {
+			EndpointStatistics stats = EndpointStatistics.fromModel(endpoint.getId(),
+					Rio.parse(in, "", RDFFormat.TURTLE));
+			statistics.put(endpoint.getId(), stats);
+			return stats;
+		} catch (Exception e) {
+			log.warn(ExceptionUtil.getExceptionString("Failed to load statistics from " + file, e));
+			return null;
+		}
+	}
+
+	private void persist(EndpointStatistics stats) {
+		if (location == null) {
+			return;
+		}
+		File file = getFile(stats.getEndpointId());
+		try {
+			Files.createDirectories(location.toPath());
+			File tmp = new File(location, file.getName() + ".tmp");
+			try (OutputStream out = Files.newOutputStream(tmp.toPath())) {
+				Rio.write(stats.toModel(), out, RDFFormat.TURTLE);
+			}
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			log.warn(ExceptionUtil.getExceptionString("Failed to persist statistics to " + file, e));
+		}
+	}
+}
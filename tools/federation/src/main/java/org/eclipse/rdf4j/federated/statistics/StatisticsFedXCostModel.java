@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.statistics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.rdf4j.federated.algebra.ExclusiveGroup;
+import org.eclipse.rdf4j.federated.algebra.ExclusiveStatement;
+import org.eclipse.rdf4j.federated.algebra.ExclusiveTupleExpr;
+import org.eclipse.rdf4j.federated.algebra.NJoin;
+import org.eclipse.rdf4j.federated.algebra.NUnion;
+import org.eclipse.rdf4j.federated.algebra.StatementSource;
+import org.eclipse.rdf4j.federated.algebra.StatementSourcePattern;
+import org.eclipse.rdf4j.federated.optimizer.DefaultFedXCostModel;
+import org.eclipse.rdf4j.federated.optimizer.FedXCostModel;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+
+/**
+ * A {@link FedXCostModel} which estimates the cost of an expression as the number of its results, computed from the
+ * {@link FederationStatistics} of the relevant sources.
+ *
+ * <p>
+ * Expressions for which no statistics are available, e.g. SERVICE clauses, sub queries or patterns at endpoints whose
+ * statistics have not been harvested yet, are estimated by the {@link DefaultFedXCostModel}. The heuristic costs of
+ * that model are not comparable with cardinalities, hence the arguments of a join are ordered by the default model if
+ * any of them has no statistics (see {@link #forJoin(List)}).
+ * </p>
+ *
+ * @author Eclipse RDF4J contributors
+ */
+public class StatisticsFedXCostModel implements FedXCostModel {
+
+	private final FederationStatistics statistics;
+
+	private final FedXCostModel fallback;
+
+	public StatisticsFedXCostModel(FederationStatistics statistics) {
+		this(statistics, DefaultFedXCostModel.INSTANCE);
+	}
+
+	/**
+	 *
+	 * @param statistics the statistics of the federation
+	 * @param fallback   the cost model for expressions without statistics
+	 */
+	public StatisticsFedXCostModel(FederationStatistics statistics, FedXCostModel fallback) {
+		this.statistics = statistics;
+		this.fallback = fallback;
+	}
+
+	@Override
+	public double estimateCost(TupleExpr tupleExpr, Set<String> joinVars) {
+		double cardinality = estimateCardinality(tupleExpr, joinVars);
+		if (cardinality < 0) {
+			return fallback.estimateCost(tupleExpr, joinVars);
+		}
+		return cardinality;
+	}
+
+	/**
+	 * Returns the fallback model if the cardinality of any of the arguments cannot be estimated.
+	 */
+	@Override
+	public FedXCostModel forJoin(List<TupleExpr> joinArgs) {
+		for (TupleExpr arg : joinArgs) {
+			if (estimateCardinality(arg, Collections.emptySet()) < 0) {
+				return fallback;
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Estimate the number of results of the given expression.
+	 *
+	 * @param tupleExpr the expression
+	 * @param joinVars  the variables bound by preceding join arguments
+	 * @return the estimated number of results, or a negative value if no estimate is possible
+	 */
+	public double estimateCardinality(TupleExpr tupleExpr, Set<String> joinVars) {
+
+		if (tupleExpr instanceof ExclusiveStatement) {
+			ExclusiveStatement stmt = (ExclusiveStatement) tupleExpr;
+			return statistics.estimateCardinality(stmt, stmt.getOwner().getEndpointID(), joinVars);
+		}
+		if (tupleExpr instanceof StatementSourcePattern) {
+			return estimateCardinality((StatementSourcePattern) tupleExpr, joinVars);
+		}
+		if (tupleExpr instanceof ExclusiveGroup) {
+			return estimateCardinality((ExclusiveGroup) tupleExpr, joinVars);
+		}
+		if (tupleExpr instanceof NJoin) {
+			// the join order of the join is already determined, the first argument is the most selective
+			return estimateCardinality(((NJoin) tupleExpr).getArg(0), joinVars);
+		}
+		if (tupleExpr instanceof NUnion) {
+			double sum = 0;
+			for (TupleExpr arg : ((NUnion) tupleExpr).getArgs()) {
+				double cardinality = estimateCardinality(arg, joinVars);
+				if (cardinality < 0) {
+					return -1;
+				}
+				sum += cardinality;
+			}
+			return sum;
+		}
+
+		return -1;
+	}
+
+	private double estimateCardinality(StatementSourcePattern stmt, Set<String> joinVars) {
+		double sum = 0;
+		for (StatementSource source : stmt.getStatementSources()) {
+			double cardinality = statistics.estimateCardinality(stmt, source.getEndpointID(), joinVars);
+			if (cardinality < 0) {
+				return -1;
+			}
+			sum += cardinality;
+		}
+		return sum;
+	}
+
+	/**
+	 * The result size of a group is bounded by its most selective statement.
+	 */
+	private double estimateCardinality(ExclusiveGroup group, Set<String> joinVars) {
+		String endpointId = group.getOwner().getEndpointID();
+		List<ExclusiveTupleExpr> expressions = group.getExclusiveExpressions();
+		double result = Double.MAX_VALUE;
+		for (ExclusiveTupleExpr expr : expressions) {
+			if (!(expr instanceof StatementPattern)) {
+				return -1;
+			}
+			double cardinality = statistics.estimateCardinality((StatementPattern) expr, endpointId, joinVars);
+			if (cardinality < 0) {
+				return -1;
+			}
+			result = Math.min(result, cardinality);
+		}
+		return result;
+	}
+}
@@ -16,6 +16,7 @@ import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.Dataset;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.explanation.Explanation;
 import org.eclipse.rdf4j.query.parser.ParsedBooleanQuery;
 import org.eclipse.rdf4j.repository.sail.SailBooleanQuery;
 
@@ -44,6 +45,12 @@ public class FedXBooleanQuery extends SailBooleanQuery {
 		return delegate.evaluate();
 	}
 
+	@Override
+	public Explanation explain(Explanation.Level level) {
+		FedXUtil.applyQueryBindings(this);
+		return delegate.explain(level);
+	}
+
 	/*
 	 * DELEGATE TO ACTUAL SailBooleanQuery
 	 */
@@ -17,6 +17,7 @@ import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.Dataset;
 import org.eclipse.rdf4j.query.GraphQueryResult;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.explanation.Explanation;
 import org.eclipse.rdf4j.query.parser.ParsedGraphQuery;
 import org.eclipse.rdf4j.repository.sail.SailGraphQuery;
 import org.eclipse.rdf4j.rio.RDFHandler;
@@ -53,6 +54,12 @@ public class FedXGraphQuery extends SailGraphQuery {
 		delegate.evaluate(handler);
 	}
 
+	@Override
+	public Explanation explain(Explanation.Level level) {
+		FedXUtil.applyQueryBindings(this);
+		return delegate.explain(level);
+	}
+
 	/*
 	 * DELEGATE TO ACTUAL SailGraphQuery
 	 */
@@ -22,6 +22,7 @@ import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.eclipse.rdf4j.query.TupleQueryResultHandler;
 import org.eclipse.rdf4j.query.TupleQueryResultHandlerException;
 import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.explanation.Explanation;
 import org.eclipse.rdf4j.query.parser.ParsedTupleQuery;
 import org.eclipse.rdf4j.repository.sail.SailTupleQuery;
 
@@ -83,6 +84,12 @@ public class FedXTupleQuery extends SailTupleQuery {
 
 	}
 
+	@Override
+	public Explanation explain(Explanation.Level level) {
+		FedXUtil.applyQueryBindings(this);
+		return delegate.explain(level);
+	}
+
 	/*
 	 * DELEGATE TO ACTUAL SailTupleQuery
 	 */
@@ -11,6 +11,8 @@
 package org.eclipse.rdf4j.federated.structures;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -18,8 +20,12 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.rdf4j.federated.FederationContext;
 import org.eclipse.rdf4j.federated.algebra.PassThroughTupleExpr;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
 import org.eclipse.rdf4j.federated.evaluation.FederationEvalStrategy;
+import org.eclipse.rdf4j.federated.evaluation.TracingTripleSource;
+import org.eclipse.rdf4j.federated.evaluation.TripleSource;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.ParallelTask;
+import org.eclipse.rdf4j.federated.monitoring.QueryTrace;
 import org.eclipse.rdf4j.federated.util.QueryStringUtil;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
@@ -28,6 +34,7 @@ import org.eclipse.rdf4j.query.Dataset;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.TupleQuery;
 import org.eclipse.rdf4j.query.TupleQueryResultHandler;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +64,8 @@ public class QueryInfo {
 
 	private TupleQueryResultHandler resultHandler = null;
 
+	private QueryTrace queryTrace = null;
+
 	private final FederationContext federationContext;
 
 	private final FederationEvalStrategy strategy;
@@ -65,6 +74,8 @@ public class QueryInfo {
 
 	protected Set<ParallelTask<?>> scheduledSubtasks = ConcurrentHashMap.newKeySet();
 
+	private final List<Runnable> closeHandlers = new ArrayList<>();
+
 	/**
 	 * @param query
 	 * @param queryType
@@ -196,6 +207,55 @@ public class QueryInfo {
 		this.resultHandler = resultHandler;
 	}
 
+	/**
+	 * Returns the {@link QueryTrace} recording the remote requests of this query, if request tracing is active.
+	 *
+	 * @return the {@link QueryTrace}
+	 */
+	public Optional<QueryTrace> getQueryTrace() {
+		return Optional.ofNullable(queryTrace);
+	}
+
+	/**
+	 * Set the {@link QueryTrace} to record the remote requests of this query. Must be set before evaluation.
+	 *
+	 * @param queryTrace the {@link QueryTrace}
+	 */
+	public void setQueryTrace(QueryTrace queryTrace) {
+		this.queryTrace = queryTrace;
+	}
+
+	/**
+	 * Returns the {@link TripleSource} to be used by the given plan node for requests to the provided endpoint. If
+	 * request tracing is active the requests are recorded in the {@link QueryTrace} and attributed to the plan node.
+	 *
+	 * @param endpoint the endpoint
+	 * @param source   the plan node issuing the requests, may be <code>null</code>
+	 * @return the {@link TripleSource}
+	 */
+	public TripleSource getTripleSource(Endpoint endpoint, TupleExpr source) {
+		if (queryTrace == null) {
+			return endpoint.getTripleSource();
+		}
+		return new TracingTripleSource(endpoint, source, queryTrace);
+	}
+
+	/**
+	 * Register an action to be run once this query is closed or aborted. If the query is already done, the action is
+	 * run immediately.
+	 *
+	 * @param handler the action
+	 */
+	public void onClose(Runnable handler) {
+		synchronized (this) {
+			if (!done) {
+				closeHandlers.add(handler);
+				return;
+			}
+		}
+		handler.run();
+	}
+
 	/**
 	 * Mark the query as aborted and abort all scheduled (future) tasks known at this point in time. Also do not accept
 	 * any new scheduled tasks
@@ -206,7 +266,11 @@ public class QueryInfo {
 		}
 		done = true;
 
-		abortScheduledTasks();
+		try {
+			abortScheduledTasks();
+		} finally {
+			runCloseHandlers();
+		}
 	}
 
 	/**
@@ -220,7 +284,23 @@ public class QueryInfo {
 		}
 		done = true;
 
-		closeScheduledTasks();
+		try {
+			closeScheduledTasks();
+		} finally {
+			runCloseHandlers();
+		}
+	}
+
+	private void runCloseHandlers() {
+		for (Runnable handler : closeHandlers) {
+			try {
+				handler.run();
+			} catch (RuntimeException e) {
+				log.warn("Failed to run close handler of query " + queryID + ": " + e.getMessage());
+				log.debug("Details:", e);
+			}
+		}
+		closeHandlers.clear();
 	}
 
 	/**
@@ -49,6 +49,8 @@ public class Vocabulary {
 		public static final IRI REPOSITORY_NAME = vf.createIRI(NAMESPACE, "repositoryName");
 
 		public static final IRI WRITABLE = vf.createIRI(NAMESPACE, "writable");
+
+		public static final IRI REPLICA_GROUP = vf.createIRI(NAMESPACE, "replicaGroup");
 	}
 
 	/**
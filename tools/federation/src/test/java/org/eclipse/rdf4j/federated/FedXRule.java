@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.function.Consumer;
 
 import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.evaluation.concurrent.SchedulerFactory;
 import org.eclipse.rdf4j.federated.repository.FedXRepository;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
@@ -29,6 +30,8 @@ public class FedXRule implements BeforeEachCallback, AfterEachCallback {
 	// settings that get applied in the actual config
 	protected List<Consumer<FedXConfig>> configurations = Lists.newArrayList();
 
+	protected SchedulerFactory schedulerFactory;
+
 	public FedXRule() {
 	}
 
@@ -37,6 +40,11 @@ public class FedXRule implements BeforeEachCallback, AfterEachCallback {
 		return this;
 	}
 
+	public FedXRule withSchedulerFactory(SchedulerFactory schedulerFactory) {
+		this.schedulerFactory = schedulerFactory;
+		return this;
+	}
+
 	@Override
 	public void beforeEach(ExtensionContext ctx) {
 		FedXConfig fedxConfig = new FedXConfig();
@@ -45,7 +53,11 @@ public class FedXRule implements BeforeEachCallback, AfterEachCallback {
 		}
 
 		List<Endpoint> endpoints = Collections.<Endpoint>emptyList();
-		repository = FedXFactory.newFederation().withMembers(endpoints).withConfig(fedxConfig).create();
+		repository = FedXFactory.newFederation()
+				.withMembers(endpoints)
+				.withConfig(fedxConfig)
+				.withSchedulerFactory(schedulerFactory)
+				.create();
 		repository.init();
 	}
 
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.cache;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.federated.SPARQLBaseTest;
+import org.eclipse.rdf4j.federated.cache.SourceSelectionCache.StatementSourceAssurance;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.endpoint.EndpointFactory;
+import org.eclipse.rdf4j.federated.structures.SubQuery;
+import org.eclipse.rdf4j.model.vocabulary.FOAF;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+public class SourceSelectionPersistentCacheTest extends SPARQLBaseTest {
+
+	@TempDir
+	File cacheDir;
+
+	@Test
+	public void test_persistence() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		File file = new File(cacheDir, "cache.log");
+		Endpoint ep = EndpointFactory.loadResolvableRepository("dummy");
+
+		SubQuery s1 = new SubQuery(null, FOAF.NAME, l("Alan\tTuring"));
+		SubQuery s2 = new SubQuery(null, FOAF.NAME, null);
+		SubQuery s3 = new SubQuery(iri("http://example.org/", "a"), FOAF.AGE, null, iri("http://example.org/", "g"));
+		SubQuery s4 = new SubQuery(null, FOAF.INTEREST, null);
+
+		try (SourceSelectionPersistentCache cache = new SourceSelectionPersistentCache(file, 1, TimeUnit.HOURS)) {
+			cache.updateInformation(s1, ep, true);
+			cache.updateInformation(s3, ep, true);
+			cache.updateInformation(s4, ep, true);
+			cache.updateInformation(s4, ep, false);
+		}
+
+		try (SourceSelectionPersistentCache cache = new SourceSelectionPersistentCache(file, 1, TimeUnit.HOURS)) {
+			Assertions.assertEquals(StatementSourceAssurance.HAS_REMOTE_STATEMENTS, cache.getAssurance(s1, ep));
+			Assertions.assertEquals(StatementSourceAssurance.HAS_REMOTE_STATEMENTS, cache.getAssurance(s2, ep));
+			Assertions.assertEquals(StatementSourceAssurance.HAS_REMOTE_STATEMENTS, cache.getAssurance(s3, ep));
+			// the latest information wins
+			Assertions.assertEquals(StatementSourceAssurance.NONE, cache.getAssurance(s4, ep));
+			Assertions.assertEquals(StatementSourceAssurance.NONE,
+					cache.getAssurance(new SubQuery(null, FOAF.INTEREST, l("Music")), ep));
+
+			cache.invalidate();
+			Assertions.assertEquals(StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS, cache.getAssurance(s1, ep));
+		}
+
+		try (SourceSelectionPersistentCache cache = new SourceSelectionPersistentCache(file, 1, TimeUnit.HOURS)) {
+			Assertions.assertEquals(StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS, cache.getAssurance(s1, ep));
+		}
+	}
+
+	@Test
+	public void test_backgroundFlush() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		File file = new File(cacheDir, "cache.log");
+		Endpoint ep = EndpointFactory.loadResolvableRepository("dummy");
+
+		try (SourceSelectionPersistentCache cache = new SourceSelectionPersistentCache(file, 1, TimeUnit.HOURS)) {
+			cache.updateInformation(new SubQuery(null, FOAF.NAME, null), ep, true);
+			cache.updateInformation(new SubQuery(null, FOAF.INTEREST, null), ep, false);
+
+			// the records are written without closing the cache
+			long deadline = System.currentTimeMillis() + 10000;
+			while (Files.readAllLines(file.toPath()).size() < 2 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			Assertions.assertEquals(2, Files.readAllLines(file.toPath()).size());
+		}
+	}
+
+	@Test
+	public void test_revalidation() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		List<Endpoint> endpoints = prepareTest(
+				Arrays.asList("/tests/basic/data01endpoint1.ttl", "/tests/basic/data01endpoint2.ttl"));
+		Endpoint ep1 = endpoints.get(0);
+
+		File file = new File(cacheDir, "cache.log");
+		SubQuery subQuery = new SubQuery(null, FOAF.INTEREST, null);
+
+		try (SourceSelectionPersistentCache cache = new SourceSelectionPersistentCache(file, 0,
+				TimeUnit.MILLISECONDS)) {
+
+			// outdated information
+			cache.updateInformation(subQuery, ep1, true);
+			Thread.sleep(5);
+
+			// served from the cache, revalidated in the background
+			Assertions.assertEquals(StatementSourceAssurance.HAS_REMOTE_STATEMENTS, cache.getAssurance(subQuery, ep1));
+
+			long deadline = System.currentTimeMillis() + 10000;
+			while (cache.getAssurance(subQuery, ep1) != StatementSourceAssurance.NONE
+					&& System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			Assertions.assertEquals(StatementSourceAssurance.NONE, cache.getAssurance(subQuery, ep1));
+		}
+	}
+
+	@Test
+	public void test_flushWhileRevalidationHangs() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		File file = new File(cacheDir, "cache.log");
+		CountDownLatch release = new CountDownLatch(1);
+		Endpoint hanging = Mockito.mock(Endpoint.class);
+		Mockito.when(hanging.getId()).thenReturn("hanging");
+		Mockito.when(hanging.getConnection()).thenAnswer(invocation -> {
+			release.await();
+			throw new IllegalStateException("endpoint not reachable");
+		});
+
+		try (SourceSelectionPersistentCache cache = new SourceSelectionPersistentCache(file, 0,
+				TimeUnit.MILLISECONDS)) {
+			SubQuery subQuery = new SubQuery(null, FOAF.NAME, null);
+			cache.updateInformation(subQuery, hanging, true);
+			Thread.sleep(5);
+
+			// triggers a revalidation that blocks on the endpoint
+			cache.getAssurance(subQuery, hanging);
+			cache.updateInformation(new SubQuery(null, FOAF.INTEREST, null), hanging, false);
+
+			long deadline = System.currentTimeMillis() + 10000;
+			while (Files.readAllLines(file.toPath()).size() < 2 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			Assertions.assertEquals(2, Files.readAllLines(file.toPath()).size());
+		} finally {
+			release.countDown();
+		}
+	}
+}
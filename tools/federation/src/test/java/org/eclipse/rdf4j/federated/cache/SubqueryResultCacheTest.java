@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.cache;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.federated.FedXConfig;
+import org.eclipse.rdf4j.federated.SPARQLBaseTest;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.monitoring.Monitoring;
+import org.eclipse.rdf4j.federated.monitoring.MonitoringImpl.MonitoringInformation;
+import org.eclipse.rdf4j.federated.monitoring.MonitoringService;
+import org.eclipse.rdf4j.federated.structures.QueryInfo;
+import org.eclipse.rdf4j.federated.util.FedXUtil;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.impl.IteratingTupleQueryResult;
+import org.eclipse.rdf4j.query.impl.ListBindingSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SubqueryResultCacheTest extends SPARQLBaseTest {
+
+	@Override
+	protected void initFedXConfig() {
+		fedxRule.withConfiguration(c -> c.withEnableMonitoring(true).withEnableSubqueryCache(true));
+	}
+
+	@Test
+	public void testCachedResults() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		List<Endpoint> endpoints = prepareTest(Arrays.asList("/tests/medium/data1.ttl", "/tests/medium/data2.ttl",
+				"/tests/medium/data3.ttl", "/tests/medium/data4.ttl"));
+
+		execute("/tests/medium/query01.rq", "/tests/medium/query01.srx", false, true);
+		int requests = numberOfRequests(endpoints);
+		int hits = cacheHits(endpoints);
+		Assertions.assertTrue(federationContext().getSubqueryResultCache().getSize() > 0);
+
+		// the same subqueries are answered from the cache
+		execute("/tests/medium/query01.rq", "/tests/medium/query01.srx", false, true);
+		Assertions.assertTrue(cacheHits(endpoints) > hits);
+		Assertions.assertTrue(numberOfRequests(endpoints) - requests < requests);
+
+		MonitoringInformation m = monitoring().getMonitoringInformation(endpoints.get(0));
+		Assertions.assertTrue(m.getSubqueryCacheHitRate() > 0);
+
+		federationContext().getSubqueryResultCache().invalidate();
+		Assertions.assertEquals(0, federationContext().getSubqueryResultCache().getSize());
+	}
+
+	@Test
+	public void testEndpointTTL() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		List<Endpoint> endpoints = prepareTest(
+				Arrays.asList("/tests/basic/data01endpoint1.ttl", "/tests/basic/data01endpoint2.ttl"));
+		federationContext().getConfig().withSubqueryCacheTTL(endpoints.get(1).getId(), 0);
+
+		execute("/tests/basic/query01.rq", "/tests/basic/query01.srx", false, true);
+		execute("/tests/basic/query01.rq", "/tests/basic/query01.srx", false, true);
+
+		Assertions.assertTrue(monitoring().getMonitoringInformation(endpoints.get(0)).getSubqueryCacheHits() > 0);
+		Assertions.assertEquals(0, monitoring().getMonitoringInformation(endpoints.get(1)).getSubqueryCacheHits());
+	}
+
+	@Test
+	public void testInvalidateWhileRecording() {
+		SubqueryResultCache cache = new SubqueryResultCache(new FedXConfig().withEnableSubqueryCache(true),
+				mock(Monitoring.class));
+		Endpoint endpoint = mock(Endpoint.class);
+		when(endpoint.getId()).thenReturn("endpoint1");
+		QueryInfo queryInfo = mock(QueryInfo.class);
+		String query = "SELECT ?s WHERE { ?s ?p ?o }";
+		BindingSet solution = new ListBindingSet(List.of("s"), FedXUtil.valueFactory().createIRI("urn:s"));
+
+		try (CloseableIteration<BindingSet> result = cache.record(endpoint, query, null, queryInfo,
+				new IteratingTupleQueryResult(List.of("s"), List.of(solution)))) {
+			result.next();
+			cache.invalidate();
+			Assertions.assertFalse(result.hasNext());
+		}
+		Assertions.assertNull(cache.get(endpoint, query, null, queryInfo));
+		Assertions.assertEquals(0, cache.getSize());
+
+		// recorded results are cached if the cache is not invalidated in the meantime
+		try (CloseableIteration<BindingSet> result = cache.record(endpoint, query, null, queryInfo,
+				new IteratingTupleQueryResult(List.of("s"), List.of(solution)))) {
+			result.next();
+			Assertions.assertFalse(result.hasNext());
+		}
+		Assertions.assertNotNull(cache.get(endpoint, query, null, queryInfo));
+	}
+
+	@Test
+	public void testNormalize() {
+		Assertions.assertEquals("SELECT ?s WHERE { ?s <http://x.org/a> \"a  b\" }",
+				SubqueryResultCache.normalize("SELECT ?s\n WHERE {\t?s  <http://x.org/a>   \"a  b\" }  "));
+		Assertions.assertEquals("SELECT * { ?s ?p '''x \n ''' . ?s ?p \"y\\\"  \" }",
+				SubqueryResultCache.normalize("SELECT *  { ?s ?p '''x \n ''' .  ?s ?p \"y\\\"  \" }"));
+	}
+
+	private int numberOfRequests(List<Endpoint> endpoints) {
+		return endpoints.stream()
+				.map(e -> monitoring().getMonitoringInformation(e))
+				.mapToInt(m -> m == null ? 0 : m.getNumberOfRequests())
+				.sum();
+	}
+
+	private int cacheHits(List<Endpoint> endpoints) {
+		return endpoints.stream()
+				.map(e -> monitoring().getMonitoringInformation(e))
+				.mapToInt(m -> m == null ? 0 : m.getSubqueryCacheHits())
+				.sum();
+	}
+
+	private MonitoringService monitoring() {
+		return (MonitoringService) federationContext().getMonitoringService();
+	}
+}
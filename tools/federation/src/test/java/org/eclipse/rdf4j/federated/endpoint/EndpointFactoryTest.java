@@ -107,4 +107,29 @@ public class EndpointFactoryTest extends SPARQLBaseTest {
 		assertThat(nativeStore.isWritable()).isTrue();
 	}
 
+	@Test
+	public void testDataConfig_replicaGroup() throws Exception {
+
+		File baseDir = new File("target/tmp/fedxTest");
+
+		File dataConfig = new File(
+				EndpointFactoryTest.class.getResource("/tests/dataconfig/endpointfactoryTest_replicas.ttl").toURI());
+
+		List<Endpoint> endpoints = EndpointFactory.loadFederationMembers(dataConfig, baseDir);
+
+		endpoints.sort((e1, e2) -> e1.getName().compareTo(e2.getName()));
+
+		assertThat(endpoints.size()).isEqualTo(2);
+
+		Endpoint dbpedia = endpoints.get(0);
+		assertThat(dbpedia).isInstanceOf(ReplicatedEndpoint.class);
+		assertThat(dbpedia.getId()).isEqualTo("dbpedia");
+		assertThat(dbpedia.isWritable()).isFalse();
+		assertThat(((ReplicatedEndpoint) dbpedia).getReplicas()).extracting(Endpoint::getEndpoint)
+				.containsExactlyInAnyOrder("http://dbpedia-1.example.org/sparql",
+						"http://dbpedia-2.example.org/sparql");
+
+		assertThat(endpoints.get(1).getEndpoint()).isEqualTo("http://wikidata.example.org/sparql");
+	}
+
 }
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.endpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.federated.FedXConfig;
+import org.eclipse.rdf4j.federated.FedXFactory;
+import org.eclipse.rdf4j.federated.repository.FedXRepository;
+import org.eclipse.rdf4j.federated.util.FedXUtil;
+import org.eclipse.rdf4j.model.vocabulary.FOAF;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.repository.base.RepositoryWrapper;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReplicatedEndpointTest {
+
+	private static final String QUERY = "SELECT ?name WHERE { ?person <" + FOAF.NAME + "> ?name }";
+
+	private SlowRepository replica1;
+
+	private SlowRepository replica2;
+
+	private ReplicatedEndpoint group;
+
+	private FedXRepository federation;
+
+	@BeforeEach
+	public void setup() {
+		replica1 = new SlowRepository(createReplica());
+		replica2 = new SlowRepository(createReplica());
+		group = (ReplicatedEndpoint) EndpointFactory.loadReplicaGroup("group",
+				Arrays.asList(EndpointFactory.loadEndpoint("replica1", replica1),
+						EndpointFactory.loadEndpoint("replica2", replica2)));
+		federation = FedXFactory.newFederation()
+				.withMembers(Arrays.asList(group))
+				.withConfig(new FedXConfig().withHedgingMinDelay(20))
+				.create();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		federation.shutDown();
+		replica1.shutDown();
+		replica2.shutDown();
+	}
+
+	@Test
+	public void testLoadBalancing() {
+		for (int i = 0; i < 20; i++) {
+			assertThat(evaluate()).hasSize(3);
+		}
+		assertThat(replica1.requests.get()).isGreaterThan(0);
+		assertThat(replica2.requests.get()).isGreaterThan(0);
+		assertThat(group.getNumberOfHedgedRequests()).isEqualTo(0);
+	}
+
+	@Test
+	public void testHedgedRequests() {
+		// collect response times of the replica group
+		for (int i = 0; i < 20; i++) {
+			evaluate();
+		}
+
+		replica2.delay = 5000;
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < 10; i++) {
+			assertThat(evaluate()).hasSize(3);
+		}
+		assertThat(System.currentTimeMillis() - start).isLessThan(5000);
+		assertThat(group.getNumberOfHedgedRequests()).isGreaterThan(0);
+		assertThat(group.getNumberOfHedgedResponses()).isGreaterThan(0);
+	}
+
+	@Test
+	public void testFailoverWithoutResponseTimes() {
+		// no response times are known yet, i.e. requests are not hedged
+		replica2.failing = true;
+		for (int i = 0; i < 5; i++) {
+			assertThat(evaluate()).hasSize(3);
+		}
+		assertThat(replica2.requests.get()).isGreaterThan(0);
+	}
+
+	private List<BindingSet> evaluate() {
+		try (RepositoryConnection conn = federation.getConnection()) {
+			return Iterations.asList(conn.prepareTupleQuery(QUERY).evaluate());
+		}
+	}
+
+	private static Repository createReplica() {
+		Repository repo = new SailRepository(new MemoryStore());
+		try (RepositoryConnection conn = repo.getConnection()) {
+			for (String name : Arrays.asList("Alan", "Ada", "Grace")) {
+				conn.add(FedXUtil.iri("http://example.org/" + name), FOAF.NAME, FedXUtil.literal(name));
+			}
+		}
+		return repo;
+	}
+
+	/**
+	 * A repository counting requests which can be configured to respond slowly or to fail.
+	 */
+	private static class SlowRepository extends RepositoryWrapper {
+
+		private final AtomicInteger requests = new AtomicInteger();
+
+		private volatile long delay = 0;
+
+		private volatile boolean failing = false;
+
+		private SlowRepository(Repository delegate) {
+			super(delegate);
+		}
+
+		@Override
+		public RepositoryConnection getConnection() throws RepositoryException {
+			requests.incrementAndGet();
+			if (failing) {
+				throw new RepositoryException("replica unavailable");
+			}
+			if (delay > 0) {
+				try {
+					Thread.sleep(delay);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new RepositoryException(e);
+				}
+			}
+			return super.getConnection();
+		}
+	}
+}
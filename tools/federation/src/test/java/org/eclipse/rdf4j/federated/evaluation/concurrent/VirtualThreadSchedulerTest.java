@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.evaluation.concurrent;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.EmptyIteration;
+import org.eclipse.rdf4j.federated.SPARQLBaseTest;
+import org.eclipse.rdf4j.federated.structures.QueryInfo;
+import org.eclipse.rdf4j.model.vocabulary.FOAF;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadSchedulerTest extends SPARQLBaseTest {
+
+	@Override
+	protected void initFedXConfig() {
+		fedxRule.withSchedulerFactory(new VirtualThreadSchedulerFactory(2))
+				.withConfiguration(c -> c.withJoinWorkerThreads(4).withUnionWorkerThreads(4));
+	}
+
+	@Test
+	public void testQueries() throws Exception {
+		Assertions.assertTrue(
+				federationContext().getManager().getJoinScheduler() instanceof VirtualThreadScheduler);
+
+		prepareTest(Arrays.asList("/tests/medium/data1.ttl", "/tests/medium/data2.ttl", "/tests/medium/data3.ttl",
+				"/tests/medium/data4.ttl"));
+		execute("/tests/medium/query01.rq", "/tests/medium/query01.srx", false, true);
+		execute("/tests/medium/query04.rq", "/tests/medium/query04.srx", false, true);
+	}
+
+	@Test
+	public void testEndpointLimit() throws Exception {
+		VirtualThreadScheduler<BindingSet> scheduler = new VirtualThreadScheduler<>(4, 2, "Test Scheduler");
+		try {
+			TestControl control = new TestControl(10);
+			for (int i = 0; i < 10; i++) {
+				scheduler.schedule(new TestTask(control, "endpoint1"));
+			}
+			Assertions.assertTrue(control.finished.await(10, TimeUnit.SECONDS));
+			Assertions.assertEquals(2, control.maxRunning.get());
+		} finally {
+			scheduler.shutdown();
+		}
+	}
+
+	@Test
+	public void testQueryLimit() throws Exception {
+		VirtualThreadScheduler<BindingSet> scheduler = new VirtualThreadScheduler<>(4, 2, "Test Scheduler");
+		try {
+			TestControl control = new TestControl(10);
+			for (int i = 0; i < 10; i++) {
+				scheduler.schedule(new TestTask(control, "endpoint" + i));
+			}
+			Assertions.assertTrue(control.finished.await(10, TimeUnit.SECONDS));
+			Assertions.assertEquals(4, control.maxRunning.get());
+		} finally {
+			scheduler.shutdown();
+		}
+	}
+
+	private class TestControl implements ParallelExecutor<BindingSet> {
+
+		private final QueryInfo queryInfo = new QueryInfo(null, FOAF.NAME, null, 0, true, federationContext(), null,
+				null);
+
+		private final AtomicInteger running = new AtomicInteger();
+
+		private final AtomicInteger maxRunning = new AtomicInteger();
+
+		private final CountDownLatch finished;
+
+		private TestControl(int tasks) {
+			this.finished = new CountDownLatch(tasks);
+		}
+
+		@Override
+		public void run() {
+		}
+
+		@Override
+		public void addResult(CloseableIteration<BindingSet> res) {
+		}
+
+		@Override
+		public void toss(Exception e) {
+		}
+
+		@Override
+		public void done() {
+			finished.countDown();
+		}
+
+		@Override
+		public boolean isFinished() {
+			return false;
+		}
+
+		@Override
+		public QueryInfo getQueryInfo() {
+			return queryInfo;
+		}
+	}
+
+	private static class TestTask extends ParallelTaskBase<BindingSet> {
+
+		private final TestControl control;
+
+		private final String endpointId;
+
+		private TestTask(TestControl control, String endpointId) {
+			this.control = control;
+			this.endpointId = endpointId;
+		}
+
+		@Override
+		protected CloseableIteration<BindingSet> performTaskInternal() throws Exception {
+			int running = control.running.incrementAndGet();
+			control.maxRunning.accumulateAndGet(running, Math::max);
+			Thread.sleep(50);
+			control.running.decrementAndGet();
+			return new EmptyIteration<>();
+		}
+
+		@Override
+		public Collection<String> getEndpointIds() {
+			return Collections.singletonList(endpointId);
+		}
+
+		@Override
+		public ParallelExecutor<BindingSet> getControl() {
+			return control;
+		}
+	}
+}
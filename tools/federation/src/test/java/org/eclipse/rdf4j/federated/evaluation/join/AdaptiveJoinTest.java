@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.evaluation.join;
+
+import java.util.Arrays;
+
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.federated.SPARQLBaseTest;
+import org.eclipse.rdf4j.federated.monitoring.QueryPlanLog;
+import org.eclipse.rdf4j.model.vocabulary.FOAF;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveJoinTest extends SPARQLBaseTest {
+
+	@Override
+	protected void initFedXConfig() {
+		fedxRule.withConfiguration(c -> c.withEnableAdaptiveJoin(true)
+				.withAdaptiveJoinThreshold(3)
+				.withBoundJoinBlockSize(1)
+				.withEnableStatistics(true)
+				.withEnableMonitoring(true)
+				.withLogQueryPlan(true));
+	}
+
+	@Test
+	public void testQueries() throws Exception {
+		prepareTest(Arrays.asList("/tests/medium/data1.ttl", "/tests/medium/data2.ttl", "/tests/medium/data3.ttl",
+				"/tests/medium/data4.ttl"));
+		execute("/tests/medium/query01.rq", "/tests/medium/query01.srx", false, true);
+		execute("/tests/medium/query04.rq", "/tests/medium/query04.srx", false, true);
+		execute("/tests/medium/query05.rq", "/tests/medium/query05.srx", false, true);
+	}
+
+	@Test
+	public void testHashJoin() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		prepareTest(Arrays.asList("/tests/basic/data01endpoint1.ttl", "/tests/basic/data01endpoint2.ttl"));
+		federationContext().getFederationStatistics().refresh();
+
+		String query = "SELECT * WHERE { ?person <" + FOAF.NAME + "> ?name . ?person <" + FOAF.INTEREST
+				+ "> ?interest }";
+		try (TupleQueryResult tqr = federationContext().getQueryManager().prepareTupleQuery(query).evaluate()) {
+			Assertions.assertEquals(2, Iterations.asList(tqr).size());
+		}
+
+		// the right argument is small compared to the left bindings
+		Assertions.assertTrue(QueryPlanLog.getQueryPlan().contains("hash join"), QueryPlanLog.getQueryPlan());
+	}
+
+	@Test
+	public void testHashJoinWithUnboundJoinVariable() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		prepareTest(Arrays.asList("/tests/basic/data01endpoint1.ttl", "/tests/basic/data01endpoint2.ttl"));
+		federationContext().getFederationStatistics().refresh();
+
+		// ?person is unbound in the bindings of the second union branch, i.e. compatible with every interest
+		String query = "SELECT * WHERE { { ?person <" + FOAF.NAME + "> \"Alan\" } UNION { ?other <" + FOAF.NAME
+				+ "> \"Bob\" } ?person <" + FOAF.INTEREST + "> ?interest }";
+		try (TupleQueryResult tqr = federationContext().getQueryManager().prepareTupleQuery(query).evaluate()) {
+			Assertions.assertEquals(3, Iterations.asList(tqr).size());
+		}
+
+		Assertions.assertTrue(QueryPlanLog.getQueryPlan().contains("hash join"), QueryPlanLog.getQueryPlan());
+	}
+
+	@Test
+	public void testBindJoinWithoutEstimate() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		prepareTest(Arrays.asList("/tests/basic/data01endpoint1.ttl", "/tests/basic/data01endpoint2.ttl"));
+
+		String query = "SELECT * WHERE { ?person <" + FOAF.NAME + "> ?name . ?person <" + FOAF.INTEREST
+				+ "> ?interest }";
+		try (TupleQueryResult tqr = federationContext().getQueryManager().prepareTupleQuery(query).evaluate()) {
+			Assertions.assertEquals(2, Iterations.asList(tqr).size());
+		}
+
+		// no statistics harvested yet
+		Assertions.assertTrue(QueryPlanLog.getQueryPlan().contains("bind join (left: 2, right: unknown)"),
+				QueryPlanLog.getQueryPlan());
+	}
+}
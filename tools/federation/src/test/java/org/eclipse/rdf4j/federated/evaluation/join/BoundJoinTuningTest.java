@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.evaluation.join;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.EmptyIteration;
+import org.eclipse.rdf4j.federated.SPARQLBaseTest;
+import org.eclipse.rdf4j.federated.algebra.ExclusiveStatement;
+import org.eclipse.rdf4j.federated.algebra.StatementSource;
+import org.eclipse.rdf4j.federated.algebra.StatementSource.StatementSourceType;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.evaluation.join.BoundJoinTuning.EndpointTuning;
+import org.eclipse.rdf4j.federated.monitoring.MonitoringImpl.MonitoringInformation;
+import org.eclipse.rdf4j.federated.monitoring.MonitoringService;
+import org.eclipse.rdf4j.federated.structures.QueryInfo;
+import org.eclipse.rdf4j.model.vocabulary.FOAF;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BoundJoinTuningTest extends SPARQLBaseTest {
+
+	@Override
+	protected void initFedXConfig() {
+		fedxRule.withConfiguration(c -> c.withEnableMonitoring(true)
+				.withEnableAdaptiveBoundJoin(true)
+				.withBoundJoinBlockSize(4)
+				.withBoundJoinMinBlockSize(2)
+				.withBoundJoinMaxBlockSize(8));
+	}
+
+	@Test
+	public void testBlockSizeIncreases() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		List<Endpoint> endpoints = prepareTest(Arrays.asList("/tests/data/data1.ttl", "/tests/data/data2.ttl"));
+		execute("/tests/boundjoin/query01.rq", "/tests/boundjoin/query01.srx", false, true);
+
+		BoundJoinTuning tuning = federationContext().getBoundJoinTuning();
+		int tunedEndpoints = 0;
+		for (Endpoint endpoint : endpoints) {
+			MonitoringInformation m = monitoring().getMonitoringInformation(endpoint);
+			if (m == null || m.getBoundJoinBlockSize() == 0) {
+				continue;
+			}
+			tunedEndpoints++;
+			EndpointTuning endpointTuning = tuning.getTuning(endpoint.getId());
+
+			// fast local requests: the block size grows within the bounds
+			Assertions.assertTrue(endpointTuning.getBlockSize() > 4);
+			Assertions.assertTrue(endpointTuning.getBlockSize() <= 8);
+			Assertions.assertEquals(endpointTuning.getBlockSize(), m.getBoundJoinBlockSize());
+			Assertions.assertEquals(endpointTuning.getConcurrentRequests(), m.getMaxConcurrentRequests());
+			Assertions.assertTrue(endpointTuning.getLatency() >= 0);
+			Assertions.assertEquals(0, endpointTuning.getErrorRate());
+		}
+		Assertions.assertTrue(tunedEndpoints > 0);
+	}
+
+	@Test
+	public void testFailingRequest() throws Exception {
+
+		List<Endpoint> endpoints = prepareTest(Arrays.asList("/tests/data/data1.ttl", "/tests/data/data2.ttl"));
+		Endpoint endpoint = endpoints.get(1);
+
+		QueryInfo queryInfo = new QueryInfo(null, FOAF.NAME, null, 0, true, federationContext(), null, null);
+		ExclusiveStatement stmt = new ExclusiveStatement(
+				new StatementPattern(new Var("s"), new Var("p", FOAF.NAME), new Var("o")),
+				new StatementSource(endpoint.getId(), StatementSourceType.REMOTE), queryInfo);
+
+		BoundJoinTuning tuning = federationContext().getBoundJoinTuning();
+		Assertions.assertThrows(QueryEvaluationException.class, () -> tuning.execute(stmt, 1000, () -> {
+			throw new QueryEvaluationException("Simulated failure");
+		}));
+
+		// block size is halved, concurrency starts low and stays at its minimum
+		EndpointTuning endpointTuning = tuning.getTuning(endpoint.getId());
+		Assertions.assertEquals(2, endpointTuning.getBlockSize());
+		Assertions.assertEquals(1, endpointTuning.getConcurrentRequests());
+		Assertions.assertTrue(endpointTuning.getErrorRate() > 0);
+		Assertions.assertEquals(2, monitoring().getMonitoringInformation(endpoint).getBoundJoinBlockSize());
+		Assertions.assertEquals(1, monitoring().getMonitoringInformation(endpoint).getMaxConcurrentRequests());
+
+		// and increase again with successful requests
+		tuning.execute(stmt, 1000, () -> new EmptyIteration<>()).close();
+		Assertions.assertEquals(3, endpointTuning.getBlockSize());
+		Assertions.assertEquals(2, endpointTuning.getConcurrentRequests());
+	}
+
+	@Test
+	public void testRequestSlotHeldUntilClose() throws Exception {
+
+		List<Endpoint> endpoints = prepareTest(Arrays.asList("/tests/data/data1.ttl", "/tests/data/data2.ttl"));
+		Endpoint endpoint = endpoints.get(1);
+
+		QueryInfo queryInfo = new QueryInfo(null, FOAF.NAME, null, 0, true, federationContext(), null, null);
+		ExclusiveStatement stmt = new ExclusiveStatement(
+				new StatementPattern(new Var("s"), new Var("p", FOAF.NAME), new Var("o")),
+				new StatementSource(endpoint.getId(), StatementSourceType.REMOTE), queryInfo);
+
+		BoundJoinTuning tuning = federationContext().getBoundJoinTuning();
+		Assertions.assertEquals(1, tuning.getTuning(endpoint.getId()).getConcurrentRequests());
+
+		// fast responses increase the concurrency
+		CloseableIteration<BindingSet> first = tuning.execute(stmt, 1000, () -> new EmptyIteration<>());
+		CloseableIteration<BindingSet> second = tuning.execute(stmt, 1000, () -> new EmptyIteration<>());
+		Assertions.assertEquals(3, tuning.getTuning(endpoint.getId()).getConcurrentRequests());
+
+		// a failure reduces it again, while the open results still hold their slots
+		Assertions.assertThrows(QueryEvaluationException.class, () -> tuning.execute(stmt, 1000, () -> {
+			throw new QueryEvaluationException("Simulated failure");
+		}));
+		Assertions.assertEquals(1, tuning.getTuning(endpoint.getId()).getConcurrentRequests());
+		Assertions.assertThrows(QueryEvaluationException.class,
+				() -> tuning.execute(stmt, 100, () -> new EmptyIteration<>()));
+
+		first.close();
+		Assertions.assertThrows(QueryEvaluationException.class,
+				() -> tuning.execute(stmt, 100, () -> new EmptyIteration<>()));
+
+		second.close();
+		tuning.execute(stmt, 100, () -> new EmptyIteration<>()).close();
+	}
+
+	private MonitoringService monitoring() {
+		return (MonitoringService) federationContext().getMonitoringService();
+	}
+}
@@ -78,7 +78,7 @@ public class HashJoinTest {
 	}
 
 	@Test
-	public void testLeftJoin_NoResultForBinding() {
+	public void testLeftJoin_UnboundJoinVariable() {
 
 		List<BindingSet> leftBlock = new ArrayList<>();
 		leftBlock.add(bindingSet(binding("x", irid("p1")), binding("y", l("P1"))));
@@ -92,10 +92,34 @@ public class HashJoinTest {
 				Collections.emptyList());
 		List<BindingSet> joinResult = Iterations.asList(joinResultIter);
 
-		Assertions.assertEquals(1, joinResult.size());
-		Assertions.assertEquals(
+		// the unbound join variable is compatible with any value
+		Assertions.assertEquals(Lists.newArrayList(
 				bindingSet(binding("x", irid("p1")), binding("y", l("P1")), binding("z", l("something"))),
-				joinResult.get(0));
+				bindingSet(binding("x", irid("p1")), binding("y", l("P2")), binding("z", l("something")))),
+				joinResult);
+	}
+
+	@Test
+	public void testRightJoin_UnboundJoinVariable() {
+
+		List<BindingSet> leftBlock = new ArrayList<>();
+		leftBlock.add(bindingSet(binding("x", irid("p1")), binding("y", l("P1"))));
+		leftBlock.add(bindingSet(binding("x", irid("p2")), binding("y", l("P2"))));
+
+		List<BindingSet> rightBlock = new ArrayList<>();
+		rightBlock.add(bindingSet(binding("x", irid("p1")), binding("y", l("P2"))));
+		rightBlock.add(bindingSet(binding("z", l("something"))));
+
+		CloseableIteration<BindingSet> joinResultIter = HashJoin.join(leftBlock, rightBlock,
+				Sets.newHashSet("x", "y"),
+				Collections.emptyList());
+		List<BindingSet> joinResult = Iterations.asList(joinResultIter);
+
+		// the first right binding conflicts on y, the second one is compatible with every left binding
+		Assertions.assertEquals(Lists.newArrayList(
+				bindingSet(binding("x", irid("p1")), binding("y", l("P1")), binding("z", l("something"))),
+				bindingSet(binding("x", irid("p2")), binding("y", l("P2")), binding("z", l("something")))),
+				joinResult);
 	}
 
 	protected BindingSet bindingSet(Binding... bindings) {
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.monitoring;
+
+import java.util.Arrays;
+
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.federated.SPARQLBaseTest;
+import org.eclipse.rdf4j.model.vocabulary.FOAF;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class QueryPlanLogTest extends SPARQLBaseTest {
+
+	@Override
+	protected void initFedXConfig() {
+		fedxRule.withConfiguration(c -> c.withEnableMonitoring(true).withLogQueryPlan(true));
+	}
+
+	@Test
+	public void testPlanReleasedOnClose() throws Exception {
+
+		prepareTest(Arrays.asList("/tests/basic/data01endpoint1.ttl", "/tests/basic/data01endpoint2.ttl"));
+
+		String query = "SELECT * WHERE { ?person <" + FOAF.NAME + "> ?name . ?person <" + FOAF.INTEREST
+				+ "> ?interest }";
+		String plan;
+		try (TupleQueryResult tqr = federationContext().getQueryManager().prepareTupleQuery(query).evaluate()) {
+			Assertions.assertNotNull(QueryPlanLog.queryPlan.get().query);
+			plan = QueryPlanLog.getQueryPlan();
+			Assertions.assertEquals(2, Iterations.asList(tqr).size());
+		}
+
+		// the rendered plan is kept, the plan itself is no longer referenced by the thread
+		Assertions.assertNull(QueryPlanLog.queryPlan.get().query);
+		Assertions.assertNotNull(QueryPlanLog.getQueryPlan());
+		Assertions.assertTrue(QueryPlanLog.getQueryPlan().contains("NJoin"), QueryPlanLog.getQueryPlan());
+		Assertions.assertTrue(plan.contains("NJoin"), plan);
+	}
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.eclipse.rdf4j.federated.SPARQLBaseTest;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.endpoint.EndpointFactory;
+import org.eclipse.rdf4j.model.vocabulary.FOAF;
+import org.eclipse.rdf4j.query.explanation.Explanation;
+import org.eclipse.rdf4j.query.explanation.GenericPlanNode;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.junit.jupiter.api.Test;
+
+public class RequestTracingTest extends SPARQLBaseTest {
+
+	private static final String QUERY = "SELECT * WHERE { ?person <" + FOAF.NAME + "> ?name . ?person <"
+			+ FOAF.INTEREST + "> ?interest }";
+
+	@Override
+	protected void initFedXConfig() {
+		fedxRule.withConfiguration(c -> c.withEnableRequestTracing(true));
+	}
+
+	@Test
+	public void testQueries() throws Exception {
+		prepareTest(Arrays.asList("/tests/medium/data1.ttl", "/tests/medium/data2.ttl", "/tests/medium/data3.ttl",
+				"/tests/medium/data4.ttl"));
+		execute("/tests/medium/query01.rq", "/tests/medium/query01.srx", false, true);
+		execute("/tests/medium/query04.rq", "/tests/medium/query04.srx", false, true);
+	}
+
+	@Test
+	public void testExplainExecuted() throws Exception {
+
+		prepareTest(Arrays.asList("/tests/basic/data01endpoint1.ttl", "/tests/basic/data01endpoint2.ttl"));
+
+		try (RepositoryConnection conn = fedxRule.getRepository().getConnection()) {
+			Explanation explanation = conn.prepareTupleQuery(QUERY).explain(Explanation.Level.Executed);
+			GenericPlanNode plan = explanation.toGenericPlanNode();
+
+			assertThat(explanation.toString()).contains("RemoteRequests @");
+			assertThat(plan.getResultSizeActual()).isEqualTo(2);
+			assertThat(receivedRows(plan)).isGreaterThanOrEqualTo(2);
+		}
+	}
+
+	@Test
+	public void testExplainTimed() throws Exception {
+
+		prepareTest(Arrays.asList("/tests/basic/data01endpoint1.ttl", "/tests/basic/data01endpoint2.ttl"));
+
+		try (RepositoryConnection conn = fedxRule.getRepository().getConnection()) {
+			Explanation explanation = conn.prepareTupleQuery(QUERY).explain(Explanation.Level.Timed);
+
+			assertThat(explanation.toString()).contains("RemoteRequests @");
+			assertThat(explanation.toGenericPlanNode().getTotalTimeActual()).isNotNull();
+		}
+	}
+
+	@Test
+	public void testExplainOptimized() throws Exception {
+
+		prepareTest(Arrays.asList("/tests/basic/data01endpoint1.ttl", "/tests/basic/data01endpoint2.ttl"));
+
+		try (RepositoryConnection conn = fedxRule.getRepository().getConnection()) {
+			Explanation explanation = conn.prepareTupleQuery(QUERY).explain(Explanation.Level.Optimized);
+
+			assertThat(explanation.toString()).contains("NJoin").doesNotContain("RemoteRequests");
+		}
+	}
+
+	@Test
+	public void testRequestsRetainedOnlyForExplain() throws Exception {
+
+		Endpoint endpoint = EndpointFactory.loadResolvableRepository("dummy");
+
+		QueryTrace logged = new QueryTrace(BigInteger.ONE, true, false);
+		logged.startRequest(endpoint, null, "getStatements").finished();
+		assertThat(logged.getRequests()).isEmpty();
+
+		QueryTrace explained = new QueryTrace(BigInteger.TWO, false, true);
+		explained.startRequest(endpoint, null, "getStatements").finished();
+		assertThat(explained.getRequests()).hasSize(1);
+	}
+
+	private static long receivedRows(GenericPlanNode node) {
+		long rows = 0;
+		if (node.getType().startsWith("RemoteRequests")) {
+			rows += node.getResultSizeActual();
+		}
+		if (node.getPlans() != null) {
+			for (GenericPlanNode child : node.getPlans()) {
+				rows += receivedRows(child);
+			}
+		}
+		return rows;
+	}
+}
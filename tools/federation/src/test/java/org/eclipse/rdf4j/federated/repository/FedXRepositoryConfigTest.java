@@ -159,7 +159,8 @@ public class FedXRepositoryConfigTest {
 					.orElse(null);
 			assertThat(configNode).isNotNull();
 
-			assertThat(export.filter(configNode, null, null)).hasSize(15);
+			// Note: 30 instead of 31 since CONFIG_STATISTICS_LOCATION is not set
+			assertThat(export.filter(configNode, null, null)).hasSize(30);
 
 			assertThat(
 					Models.objectLiteral(
@@ -245,9 +246,9 @@ public class FedXRepositoryConfigTest {
 					.orElse(null);
 			assertThat(configNode).isNotNull();
 
-			// Note: 13 instead of 15 since CONFIG_SOURCE_SELECTION_CACHE_SPEC & CONFIG_PREFIX_DECLARATIONS are null
-			// and thus should not be populated
-			assertThat(export.filter(configNode, null, null)).hasSize(13);
+			// Note: 28 instead of 31 since CONFIG_SOURCE_SELECTION_CACHE_SPEC, CONFIG_PREFIX_DECLARATIONS &
+			// CONFIG_STATISTICS_LOCATION are null and thus should not be populated
+			assertThat(export.filter(configNode, null, null)).hasSize(28);
 
 			assertThat(
 					Models.objectLiteral(
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.statistics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.federated.SPARQLBaseTest;
+import org.eclipse.rdf4j.federated.algebra.ExclusiveStatement;
+import org.eclipse.rdf4j.federated.algebra.StatementSource;
+import org.eclipse.rdf4j.federated.algebra.StatementSource.StatementSourceType;
+import org.eclipse.rdf4j.federated.cache.SourceSelectionCache.StatementSourceAssurance;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.monitoring.MonitoringImpl.MonitoringInformation;
+import org.eclipse.rdf4j.federated.monitoring.MonitoringService;
+import org.eclipse.rdf4j.federated.optimizer.DefaultFedXCostModel;
+import org.eclipse.rdf4j.federated.optimizer.FedXCostModel;
+import org.eclipse.rdf4j.model.vocabulary.FOAF;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.StatementPattern.Scope;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FederationStatisticsTest extends SPARQLBaseTest {
+
+	@Override
+	protected void initFedXConfig() {
+		fedxRule.withConfiguration(c -> c.withEnableMonitoring(true).withEnableStatistics(true));
+	}
+
+	@Test
+	public void testSourceSelection() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		List<Endpoint> endpoints = prepareTest(
+				Arrays.asList("/tests/basic/data01endpoint1.ttl", "/tests/basic/data01endpoint2.ttl"));
+		statistics().refresh();
+		monitoring().resetMonitoringInformation();
+
+		String query = "SELECT * WHERE { ?person <" + FOAF.NAME + "> ?name }";
+		try (TupleQueryResult tqr = federationContext().getQueryManager().prepareTupleQuery(query).evaluate()) {
+			Assertions.assertEquals(2, Iterations.asList(tqr).size());
+		}
+
+		// no request for source selection, 1 for fetching data
+		Assertions.assertEquals(1, requestsForEndpoint(endpoints.get(0)));
+		// endpoint 2 does not use foaf:name
+		Assertions.assertEquals(0, requestsForEndpoint(endpoints.get(1)));
+
+		monitoring().resetMonitoringInformation();
+
+		// statistics are not conclusive for bound objects: ASK request at endpoint 1 only
+		String query2 = "SELECT * WHERE { ?person <" + FOAF.NAME + "> 'Alan' }";
+		try (TupleQueryResult tqr = federationContext().getQueryManager().prepareTupleQuery(query2).evaluate()) {
+			Assertions.assertEquals(1, Iterations.asList(tqr).size());
+		}
+		Assertions.assertEquals(2, requestsForEndpoint(endpoints.get(0)));
+		Assertions.assertEquals(0, requestsForEndpoint(endpoints.get(1)));
+	}
+
+	@Test
+	public void testAssuranceAndCardinality() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		List<Endpoint> endpoints = prepareTest(
+				Arrays.asList("/tests/basic/data01endpoint1.ttl", "/tests/basic/data01endpoint2.ttl"));
+		Endpoint ep1 = endpoints.get(0);
+		statistics().refresh(ep1);
+
+		StatementPattern names = new StatementPattern(new Var("s"), new Var("p", FOAF.NAME), new Var("o"));
+		StatementPattern alan = new StatementPattern(new Var("s"), new Var("p", FOAF.NAME), new Var("o", l("Alan")));
+		StatementPattern interests = new StatementPattern(new Var("s"), new Var("p", FOAF.INTEREST), new Var("o"));
+
+		Assertions.assertEquals(StatementSourceAssurance.HAS_REMOTE_STATEMENTS,
+				statistics().getAssurance(names, null, ep1));
+		Assertions.assertEquals(StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS,
+				statistics().getAssurance(alan, null, ep1));
+		Assertions.assertEquals(StatementSourceAssurance.NONE, statistics().getAssurance(interests, null, ep1));
+
+		// no statistics for endpoint 2 yet
+		Assertions.assertEquals(StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS,
+				statistics().getAssurance(interests, null, endpoints.get(1)));
+
+		Assertions.assertEquals(2, statistics().estimateCardinality(names, ep1.getId(), Collections.emptySet()));
+		Assertions.assertEquals(1, statistics().estimateCardinality(names, ep1.getId(), Set.of("s")));
+		Assertions.assertEquals(0, statistics().estimateCardinality(interests, ep1.getId(), Collections.emptySet()));
+		Assertions.assertTrue(
+				statistics().estimateCardinality(names, endpoints.get(1).getId(), Collections.emptySet()) < 0);
+
+		// GRAPH ?g: statistics only describe the default graph
+		StatementPattern namedGraphs = new StatementPattern(Scope.NAMED_CONTEXTS, new Var("s"),
+				new Var("p", FOAF.NAME), new Var("o"), new Var("g"));
+		Assertions.assertEquals(StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS,
+				statistics().getAssurance(namedGraphs, null, ep1));
+		Assertions.assertTrue(statistics().estimateCardinality(namedGraphs, ep1.getId(), Collections.emptySet()) < 0);
+	}
+
+	@Test
+	public void testCostModelForJoin() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		List<Endpoint> endpoints = prepareTest(
+				Arrays.asList("/tests/basic/data01endpoint1.ttl", "/tests/basic/data01endpoint2.ttl"));
+		statistics().refresh(endpoints.get(0));
+
+		StatementPattern names = new StatementPattern(new Var("s"), new Var("p", FOAF.NAME), new Var("o"));
+		ExclusiveStatement withStatistics = new ExclusiveStatement(names,
+				new StatementSource(endpoints.get(0).getId(), StatementSourceType.REMOTE), null);
+		ExclusiveStatement withoutStatistics = new ExclusiveStatement(names,
+				new StatementSource(endpoints.get(1).getId(), StatementSourceType.REMOTE), null);
+
+		StatisticsFedXCostModel costModel = new StatisticsFedXCostModel(statistics());
+		Assertions.assertSame(costModel, costModel.forJoin(List.of(withStatistics, withStatistics)));
+
+		// cardinalities and heuristic costs are not comparable
+		FedXCostModel joinCostModel = costModel.forJoin(List.of(withStatistics, withoutStatistics));
+		Assertions.assertSame(DefaultFedXCostModel.INSTANCE, joinCostModel);
+	}
+
+	@Test
+	public void testVoidRoundTrip() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		List<Endpoint> endpoints = prepareTest(Arrays.asList("/tests/basic/data01endpoint1.ttl"));
+		EndpointStatistics stats = EndpointStatistics.harvest(endpoints.get(0));
+		EndpointStatistics parsed = EndpointStatistics.fromModel(stats.getEndpointId(), stats.toModel());
+
+		Assertions.assertEquals(2, parsed.getTriples());
+		Assertions.assertEquals(2, parsed.getDistinctSubjects());
+		Assertions.assertEquals(2, parsed.getDistinctObjects());
+		Assertions.assertEquals(2, parsed.getPropertyPartition(FOAF.NAME).getDistinctSubjects());
+		Assertions.assertNull(parsed.getPropertyPartition(FOAF.INTEREST));
+		Assertions.assertEquals(stats.getTimestamp(), parsed.getTimestamp());
+	}
+
+	private FederationStatistics statistics() {
+		return federationContext().getFederationStatistics();
+	}
+
+	private int requestsForEndpoint(Endpoint endpoint) {
+		MonitoringInformation m = monitoring().getMonitoringInformation(endpoint);
+		return m == null ? 0 : m.getNumberOfRequests();
+	}
+
+	private MonitoringService monitoring() {
+		return (MonitoringService) federationContext().getMonitoringService();
+	}
+}
@@ -0,0 +1,445 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.eclipse.rdf4j.common.webapp.util.HeaderElement;
+import org.eclipse.rdf4j.common.webapp.util.HttpServerUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Response wrapper that compresses the response body with the <var>gzip</var> or <var>deflate</var> content coding, as
+ * negotiated through the <var>Accept-Encoding</var> header of the request. The start of the body is buffered until the
+ * compression threshold is reached, so that small responses are sent as-is; larger responses are compressed while they
+ * are streamed.
+ * <p>
+ * Response compression is disabled by default and can be enabled by setting the system property
+ * {@value #COMPRESSION_THRESHOLD_PROPERTY} to the minimum size, in bytes, of responses that are compressed.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+public class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+	/**
+	 * Configurable system property {@code rdf4j.server.response.compression.threshold} for the minimum size, in bytes,
+	 * of response bodies that are compressed. A negative value, the default, disables response compression.
+	 */
+	public static final String COMPRESSION_THRESHOLD_PROPERTY = "rdf4j.server.response.compression.threshold";
+
+	private static final Logger logger = LoggerFactory.getLogger(CompressingResponseWrapper.class);
+
+	private static final int COMPRESSION_THRESHOLD = getConfiguredThreshold();
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final String encoding;
+
+	private final int threshold;
+
+	private CompressingOutputStream stream;
+
+	private PrintWriter writer;
+
+	/**
+	 * Set when the length of the body is known to be below the threshold, in which case it is never compressed.
+	 */
+	private boolean identity;
+
+	/**
+	 * Set once the body is being compressed.
+	 */
+	private boolean compressing;
+
+	private CompressingResponseWrapper(HttpServletResponse response, String encoding, int threshold) {
+		super(response);
+		this.encoding = encoding;
+		this.threshold = threshold;
+	}
+
+	private static int getConfiguredThreshold() {
+		final String configuredValue = System.getProperty(COMPRESSION_THRESHOLD_PROPERTY);
+		if (configuredValue != null) {
+			try {
+				return Integer.parseInt(configuredValue.trim());
+			} catch (NumberFormatException e) {
+				logger.warn("Expected integer value for property {}. Response compression will be disabled.",
+						COMPRESSION_THRESHOLD_PROPERTY);
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Wraps the response to compress its body, if response compression is enabled and the client accepts a supported
+	 * content coding.
+	 *
+	 * @param request  the request that is being handled.
+	 * @param response the response to the request.
+	 * @return a compressing response, or the supplied response if it should not be compressed.
+	 */
+	public static HttpServletResponse wrap(HttpServletRequest request, HttpServletResponse response) {
+		return wrap(request, response, COMPRESSION_THRESHOLD);
+	}
+
+	/**
+	 * Wraps the response to compress its body, if the client accepts a supported content coding.
+	 *
+	 * @param request   the request that is being handled.
+	 * @param response  the response to the request.
+	 * @param threshold the minimum size of compressed response bodies, in bytes, or a negative value to disable
+	 *                  compression.
+	 * @return a compressing response, or the supplied response if it should not be compressed.
+	 */
+	public static HttpServletResponse wrap(HttpServletRequest request, HttpServletResponse response, int threshold) {
+		if (threshold < 0 || response instanceof CompressingResponseWrapper) {
+			return response;
+		}
+		response.addHeader("Vary", "Accept-Encoding");
+		String encoding = selectEncoding(request);
+		if (encoding == null) {
+			return response;
+		}
+		return new CompressingResponseWrapper(response, encoding, threshold);
+	}
+
+	/**
+	 * Completes the response body, if the supplied response was created by
+	 * {@link #wrap(HttpServletRequest, HttpServletResponse)}. Views must call this once they are done with the
+	 * response.
+	 *
+	 * @param response a response that may have been wrapped.
+	 * @throws IOException if the response body could not be completed.
+	 */
+	public static void finish(HttpServletResponse response) throws IOException {
+		if (response instanceof CompressingResponseWrapper) {
+			((CompressingResponseWrapper) response).finish();
+		}
+	}
+
+	private static String selectEncoding(HttpServletRequest request) {
+		float gzipQuality = 0;
+		float deflateQuality = 0;
+		for (HeaderElement element : HttpServerUtil.getHeaderElements(request, "Accept-Encoding")) {
+			float quality = 1;
+			String qualityStr = element.getParameterValue("q");
+			if (qualityStr != null) {
+				try {
+					quality = Float.parseFloat(qualityStr);
+				} catch (NumberFormatException e) {
+					quality = 0;
+				}
+			}
+
+			String coding = element.getValue().trim().toLowerCase(Locale.ROOT);
+			if (coding.equals("gzip") || coding.equals("x-gzip") || coding.equals("*")) {
+				gzipQuality = Math.max(gzipQuality, quality);
+			} else if (coding.equals("deflate")) {
+				deflateQuality = quality;
+			}
+		}
+
+		if (gzipQuality > 0 && gzipQuality >= deflateQuality) {
+			return "gzip";
+		} else if (deflateQuality > 0) {
+			return "deflate";
+		}
+		return null;
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		if (writer != null) {
+			throw new IllegalStateException("getWriter() has already been called on this response");
+		}
+		if (stream == null) {
+			stream = new CompressingOutputStream();
+		}
+		return stream;
+	}
+
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if (writer == null) {
+			if (stream != null) {
+				throw new IllegalStateException("getOutputStream() has already been called on this response");
+			}
+			stream = new CompressingOutputStream();
+			writer = new PrintWriter(new OutputStreamWriter(stream, getCharacterEncoding()));
+		}
+		return writer;
+	}
+
+	@Override
+	public void setContentLength(int len) {
+		setContentLengthLong(len);
+	}
+
+	@Override
+	public void setContentLengthLong(long len) {
+		// the length of a compressed body is not known in advance, so it is only passed on for bodies that will not be
+		// compressed
+		if (!compressing && (len < threshold || identity)) {
+			identity = true;
+			super.setContentLengthLong(len);
+		}
+	}
+
+	@Override
+	public void setHeader(String name, String value) {
+		if ("Content-Length".equalsIgnoreCase(name)) {
+			setContentLengthLong(Long.parseLong(value.trim()));
+		} else {
+			super.setHeader(name, value);
+		}
+	}
+
+	@Override
+	public void addHeader(String name, String value) {
+		if ("Content-Length".equalsIgnoreCase(name)) {
+			setContentLengthLong(Long.parseLong(value.trim()));
+		} else {
+			super.addHeader(name, value);
+		}
+	}
+
+	@Override
+	public void setIntHeader(String name, int value) {
+		if ("Content-Length".equalsIgnoreCase(name)) {
+			setContentLengthLong(value);
+		} else {
+			super.setIntHeader(name, value);
+		}
+	}
+
+	@Override
+	public void addIntHeader(String name, int value) {
+		if ("Content-Length".equalsIgnoreCase(name)) {
+			setContentLengthLong(value);
+		} else {
+			super.addIntHeader(name, value);
+		}
+	}
+
+	@Override
+	public void flushBuffer() throws IOException {
+		if (writer != null) {
+			writer.flush();
+		}
+		if (stream != null) {
+			stream.commit();
+		}
+		super.flushBuffer();
+	}
+
+	@Override
+	public void reset() {
+		super.reset();
+		super.addHeader("Vary", "Accept-Encoding");
+		identity = false;
+		compressing = false;
+		if (stream != null) {
+			stream.discard();
+		}
+	}
+
+	@Override
+	public void resetBuffer() {
+		super.resetBuffer();
+		if (stream != null) {
+			stream.discard();
+		}
+	}
+
+	@Override
+	public void sendError(int sc) throws IOException {
+		abandon();
+		super.sendError(sc);
+	}
+
+	@Override
+	public void sendError(int sc, String msg) throws IOException {
+		abandon();
+		super.sendError(sc, msg);
+	}
+
+	private void abandon() {
+		if (stream != null) {
+			stream.closed = true;
+		}
+	}
+
+	private void finish() throws IOException {
+		if (writer != null) {
+			writer.close();
+		} else if (stream != null) {
+			stream.close();
+		}
+	}
+
+	/**
+	 * Buffers the start of the body, and decides between sending it compressed or as-is once the threshold is reached
+	 * or the body is complete.
+	 */
+	private final class CompressingOutputStream extends ServletOutputStream {
+
+		private byte[] buffer = new byte[0];
+
+		private int count;
+
+		/**
+		 * The stream that the body is written to once the decision about compression has been made.
+		 */
+		private OutputStream target;
+
+		private boolean closed;
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (closed) {
+				throw new IOException("Stream closed");
+			}
+			if (target == null) {
+				if (!compressing && (identity || count + len < threshold)) {
+					if (!identity) {
+						buffer(b, off, len);
+						return;
+					}
+					startIdentity();
+				} else {
+					startCompression();
+				}
+			}
+			target.write(b, off, len);
+		}
+
+		private void buffer(byte[] b, int off, int len) {
+			if (count + len > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.min(threshold, Math.max(count + len, buffer.length * 2)));
+			}
+			System.arraycopy(b, off, buffer, count, len);
+			count += len;
+		}
+
+		private void startIdentity() throws IOException {
+			target = getResponse().getOutputStream();
+			writeBuffer();
+		}
+
+		private void startCompression() throws IOException {
+			compressing = true;
+			CompressingResponseWrapper.super.setHeader("Content-Encoding", encoding);
+			OutputStream out = getResponse().getOutputStream();
+			if (encoding.equals("gzip")) {
+				target = new GZIPOutputStream(out, BUFFER_SIZE);
+			} else {
+				Deflater deflater = new Deflater();
+				target = new DeflaterOutputStream(out, deflater, BUFFER_SIZE) {
+
+					@Override
+					public void close() throws IOException {
+						try {
+							super.close();
+						} finally {
+							// a deflater passed to the stream is not released by the stream itself
+							deflater.end();
+						}
+					}
+				};
+			}
+			writeBuffer();
+		}
+
+		private void writeBuffer() throws IOException {
+			if (count > 0) {
+				target.write(buffer, 0, count);
+			}
+			buffer = null;
+			count = 0;
+		}
+
+		/**
+		 * Sends the buffered start of the body as-is, if no decision has been made yet.
+		 */
+		private void commit() throws IOException {
+			if (target == null && !closed) {
+				startIdentity();
+			}
+		}
+
+		/**
+		 * Discards the buffered body after the response has been reset.
+		 */
+		private void discard() {
+			if (!closed) {
+				buffer = new byte[0];
+				count = 0;
+				target = null;
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			// the start of the body is held back until the decision about compression has been made
+			if (target != null && !closed) {
+				target.flush();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (closed) {
+				return;
+			}
+			if (target == null) {
+				if (count == 0) {
+					// nothing has been written
+					closed = true;
+					getResponse().getOutputStream().close();
+					return;
+				}
+				startIdentity();
+			}
+			closed = true;
+			target.close();
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			throw new UnsupportedOperationException("Asynchronous output is not supported by compressed responses");
+		}
+	}
+}
@@ -52,6 +52,11 @@ public class ProtocolExceptionResolver implements HandlerExceptionResolver {
 
 			if (exception instanceof ClientHTTPException) {
 				logger.info("Client sent bad request ( " + statusCode + ")", exception);
+			} else if (exception instanceof ServiceUnavailableException) {
+				logger.info("Request rejected ({}): {}", statusCode, errMsg);
+				Map<String, String> headers = new HashMap<>();
+				headers.put("Retry-After", String.valueOf(((ServiceUnavailableException) exception).getRetryAfter()));
+				model.put(SimpleResponseView.CUSTOM_HEADERS_KEY, headers);
 			} else {
 				logger.error("Error while handling request (" + statusCode + ")", exception);
 			}
@@ -12,11 +12,18 @@ package org.eclipse.rdf4j.http.server;
 
 import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
 import static javax.servlet.http.HttpServletResponse.SC_NOT_ACCEPTABLE;
+import static javax.servlet.http.HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -204,6 +211,48 @@ public class ProtocolUtil {
 		return maxExecutionTime;
 	}
 
+	/**
+	 * Returns the body of the request, decoded according to its <var>Content-Encoding</var> header. The <var>gzip</var>
+	 * and <var>deflate</var> content codings are supported.
+	 *
+	 * @param request the request
+	 * @return a stream with the decoded request body.
+	 * @throws ClientHTTPException if the request body uses an unsupported content coding.
+	 * @throws IOException         if the request body could not be read.
+	 */
+	public static InputStream getRequestInputStream(HttpServletRequest request)
+			throws ClientHTTPException, IOException {
+		String contentEncoding = request.getHeader("Content-Encoding");
+		if (contentEncoding == null) {
+			return request.getInputStream();
+		}
+		switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+		case "":
+		case "identity":
+			return request.getInputStream();
+		case "gzip":
+		case "x-gzip":
+			return new GZIPInputStream(request.getInputStream(), 8192);
+		case "deflate":
+			Inflater inflater = new Inflater();
+			return new InflaterInputStream(request.getInputStream(), inflater, 8192) {
+
+				@Override
+				public void close() throws IOException {
+					try {
+						super.close();
+					} finally {
+						// only inflaters created by the stream itself are ended on close
+						inflater.end();
+					}
+				}
+			};
+		default:
+			throw new ClientHTTPException(SC_UNSUPPORTED_MEDIA_TYPE,
+					"Unsupported content encoding: " + contentEncoding);
+		}
+	}
+
 	public static void logAcceptableFormats(HttpServletRequest request) {
 		Logger logger = LoggerFactory.getLogger(ProtocolUtil.class);
 		if (logger.isDebugEnabled()) {
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.server;
+
+import java.net.HttpURLConnection;
+
+/**
+ * HTTP-related exception indicating that the server is temporarily unable to handle a request because it is overloaded.
+ * Results in status code <var>503 Service Unavailable</var> and a <var>Retry-After</var> header that tells the client
+ * how long to back off.
+ */
+public class ServiceUnavailableException extends ServerHTTPException {
+
+	private static final long serialVersionUID = 2372018653469102758L;
+
+	private final int retryAfter;
+
+	/**
+	 * Creates a {@link ServiceUnavailableException} with status code 503 "Service Unavailable".
+	 *
+	 * @param message    the error message.
+	 * @param retryAfter the number of seconds after which the client may retry the request.
+	 */
+	public ServiceUnavailableException(String message, int retryAfter) {
+		super(HttpURLConnection.HTTP_UNAVAILABLE, message);
+		this.retryAfter = retryAfter;
+	}
+
+	/**
+	 * @return the number of seconds after which the client may retry the request.
+	 */
+	public int getRetryAfter() {
+		return retryAfter;
+	}
+}
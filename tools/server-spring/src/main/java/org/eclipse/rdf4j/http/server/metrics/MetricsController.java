@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.server.metrics;
+
+import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rdf4j.http.server.ClientHTTPException;
+import org.springframework.context.ApplicationContextException;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.AbstractController;
+
+/**
+ * Handles scrape requests for the {@link ServerMetrics}, which are returned in the Prometheus text exposition format.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+public class MetricsController extends AbstractController {
+
+	private final ServerMetrics metrics;
+
+	public MetricsController() throws ApplicationContextException {
+		this(ServerMetrics.getInstance());
+	}
+
+	public MetricsController(ServerMetrics metrics) throws ApplicationContextException {
+		this.metrics = metrics;
+		setSupportedMethods(METHOD_GET, METHOD_HEAD);
+	}
+
+	@Override
+	protected ModelAndView handleRequestInternal(HttpServletRequest request, HttpServletResponse response)
+			throws Exception {
+		if (!metrics.isEnabled()) {
+			throw new ClientHTTPException(SC_NOT_FOUND, "Metrics are disabled");
+		}
+
+		StringWriter writer = new StringWriter();
+		metrics.write(writer);
+		byte[] content = writer.toString().getBytes(StandardCharsets.UTF_8);
+
+		response.setStatus(HttpServletResponse.SC_OK);
+		response.setContentType(ServerMetrics.CONTENT_TYPE);
+		response.setHeader("Cache-Control", "no-cache");
+		response.setContentLength(content.length);
+		if (!METHOD_HEAD.equals(request.getMethod())) {
+			response.getOutputStream().write(content);
+		}
+		return null;
+	}
+}
@@ -0,0 +1,541 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.server.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rdf4j.common.webapp.util.HttpServerUtil;
+import org.eclipse.rdf4j.http.protocol.Protocol;
+import org.eclipse.rdf4j.http.protocol.Protocol.Action;
+import org.eclipse.rdf4j.http.server.repository.RepositoryInterceptor;
+import org.eclipse.rdf4j.http.server.repository.cursor.CursorRegistry;
+import org.eclipse.rdf4j.http.server.repository.handler.QueryScheduler;
+import org.eclipse.rdf4j.http.server.repository.transaction.ActiveTransactionRegistry;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryResultHandler;
+import org.eclipse.rdf4j.query.QueryResultHandlerException;
+import org.eclipse.rdf4j.query.TupleQueryResultHandlerException;
+import org.eclipse.rdf4j.rio.RDFHandler;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.helpers.RDFHandlerWrapper;
+
+/**
+ * Records the number, outcome and latency of the requests on each repository, and writes them in the Prometheus text
+ * exposition format.
+ * <p>
+ * Requests are grouped by repository and by operation, such as <var>query</var>, <var>update</var> or
+ * <var>commit</var>. Recording only increments {@link LongAdder}s, so that concurrent requests do not contend with each
+ * other. The number of results written by query and export requests, the conditional requests that were answered with
+ * <var>304 Not Modified</var>, and the state of the {@link QueryScheduler} and the {@link ActiveTransactionRegistry}
+ * are exported as well.
+ * <p>
+ * Metrics are enabled by default and can be disabled by setting the system property {@value #METRICS_PROPERTY} to
+ * <var>false</var>.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+public class ServerMetrics {
+
+	/**
+	 * Configurable system property {@code rdf4j.server.metrics.enabled} to disable the recording and export of request
+	 * metrics.
+	 */
+	public static final String METRICS_PROPERTY = "rdf4j.server.metrics.enabled";
+
+	/**
+	 * The content type of the Prometheus text exposition format.
+	 */
+	public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+	/**
+	 * The repository label of requests that failed on a repository that did not exist when they started, such as an
+	 * unsuccessful attempt to create one. Requests with arbitrary repository IDs do not each add their own time series.
+	 */
+	public static final String UNKNOWN_REPOSITORY = "(unknown)";
+
+	/**
+	 * The upper bounds, in seconds, of the buckets of the request latency histograms.
+	 */
+	private static final double[] LATENCY_BUCKETS = { 0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10,
+			30, 60 };
+
+	private static final String START_TIME_KEY = ServerMetrics.class.getName() + ".startTime";
+
+	private static final String OPERATION_KEY = ServerMetrics.class.getName() + ".operation";
+
+	private static final String REPOSITORY_LABEL_KEY = ServerMetrics.class.getName() + ".repository";
+
+	private static final String RESULT_SIZE_KEY = ServerMetrics.class.getName() + ".resultSize";
+
+	private static final ServerMetrics INSTANCE = new ServerMetrics(
+			Boolean.parseBoolean(System.getProperty(METRICS_PROPERTY, "true")));
+
+	private final boolean enabled;
+
+	private final Map<String, RepositoryMetrics> repositories = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the metrics that are configured through the system property {@value #METRICS_PROPERTY}.
+	 */
+	public static ServerMetrics getInstance() {
+		return INSTANCE;
+	}
+
+	public ServerMetrics(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * @return <var>true</var> if request metrics are recorded.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Marks the start of a request on the repository that has been resolved by the {@link RepositoryInterceptor}.
+	 *
+	 * @param request the request
+	 */
+	public void requestStarted(HttpServletRequest request) {
+		String repositoryID = RepositoryInterceptor.getRepositoryID(request);
+		if (!enabled || repositoryID == null) {
+			return;
+		}
+		// a repository that is yet to be created only gets its own label once the request has succeeded
+		String label = RepositoryInterceptor.getRepository(request) == null ? UNKNOWN_REPOSITORY : repositoryID;
+		request.setAttribute(START_TIME_KEY, System.nanoTime());
+		request.setAttribute(OPERATION_KEY, getOperation(request));
+		request.setAttribute(REPOSITORY_LABEL_KEY, label);
+		getRepositoryMetrics(label).inFlight.increment();
+	}
+
+	/**
+	 * Records a request that was started with {@link #requestStarted(HttpServletRequest)}, once the response has been
+	 * written.
+	 *
+	 * @param request  the request
+	 * @param response the response
+	 */
+	public void requestCompleted(HttpServletRequest request, HttpServletResponse response) {
+		Long startTime = (Long) request.getAttribute(START_TIME_KEY);
+		String repositoryID = RepositoryInterceptor.getRepositoryID(request);
+		if (startTime == null || repositoryID == null) {
+			return;
+		}
+		request.removeAttribute(START_TIME_KEY);
+
+		long duration = System.nanoTime() - startTime;
+		String operation = (String) request.getAttribute(OPERATION_KEY);
+		String label = (String) request.getAttribute(REPOSITORY_LABEL_KEY);
+		int status = response.getStatus();
+
+		RepositoryMetrics repositoryMetrics = getRepositoryMetrics(label);
+		repositoryMetrics.inFlight.decrement();
+		if (UNKNOWN_REPOSITORY.equals(label) && status < 300) {
+			repositoryMetrics = getRepositoryMetrics(repositoryID);
+		}
+
+		OperationMetrics operationMetrics = repositoryMetrics.getOperationMetrics(operation);
+		operationMetrics.record(status, duration);
+
+		Long resultSize = (Long) request.getAttribute(RESULT_SIZE_KEY);
+		if (resultSize != null) {
+			operationMetrics.resultCount.increment();
+			operationMetrics.resultSize.add(resultSize);
+		}
+
+		if (status == HttpServletResponse.SC_NOT_MODIFIED) {
+			repositoryMetrics.cacheHits.increment();
+		} else if (status == HttpServletResponse.SC_OK && response.containsHeader("ETag")) {
+			repositoryMetrics.cacheMisses.increment();
+		}
+
+		if ("repository".equals(operation) && "DELETE".equals(request.getMethod()) && status < 300) {
+			repositories.remove(repositoryID);
+		}
+	}
+
+	/**
+	 * Records the number of results, solutions or statements, that have been written in response to a request.
+	 *
+	 * @param request    the request
+	 * @param resultSize the number of results
+	 */
+	public static void setResultSize(HttpServletRequest request, long resultSize) {
+		request.setAttribute(RESULT_SIZE_KEY, resultSize);
+	}
+
+	/**
+	 * Wraps a handler so that the number of solutions it receives is recorded as the result size of the request.
+	 *
+	 * @param request the request
+	 * @param handler the handler that writes the solutions
+	 * @return the wrapped handler
+	 */
+	public static QueryResultHandler countSolutions(HttpServletRequest request, QueryResultHandler handler) {
+		return new QueryResultHandler() {
+
+			private long count;
+
+			@Override
+			public void handleBoolean(boolean value) throws QueryResultHandlerException {
+				handler.handleBoolean(value);
+			}
+
+			@Override
+			public void handleLinks(List<String> linkUrls) throws QueryResultHandlerException {
+				handler.handleLinks(linkUrls);
+			}
+
+			@Override
+			public void startQueryResult(List<String> bindingNames) throws TupleQueryResultHandlerException {
+				handler.startQueryResult(bindingNames);
+			}
+
+			@Override
+			public void handleSolution(BindingSet bindingSet) throws TupleQueryResultHandlerException {
+				handler.handleSolution(bindingSet);
+				count++;
+			}
+
+			@Override
+			public void endQueryResult() throws TupleQueryResultHandlerException {
+				handler.endQueryResult();
+				setResultSize(request, count);
+			}
+		};
+	}
+
+	/**
+	 * Wraps a handler so that the number of statements it receives is recorded as the result size of the request.
+	 *
+	 * @param request the request
+	 * @param handler the handler that writes the statements
+	 * @return the wrapped handler
+	 */
+	public static RDFHandler countStatements(HttpServletRequest request, RDFHandler handler) {
+		return new RDFHandlerWrapper(handler) {
+
+			private long count;
+
+			@Override
+			public void handleStatement(Statement st) throws RDFHandlerException {
+				super.handleStatement(st);
+				count++;
+			}
+
+			@Override
+			public void endRDF() throws RDFHandlerException {
+				super.endRDF();
+				setResultSize(request, count);
+			}
+		};
+	}
+
+	/**
+	 * Writes all metrics in the Prometheus text exposition format.
+	 *
+	 * @param writer the writer to write the metrics to
+	 * @throws IOException if the metrics could not be written
+	 */
+	public void write(Writer writer) throws IOException {
+		Map<String, RepositoryMetrics> sorted = new TreeMap<>(repositories);
+
+		writeHeader(writer, "rdf4j_server_requests_total", "counter",
+				"Number of completed requests, by repository, operation and status class.");
+		for (Map.Entry<String, RepositoryMetrics> repository : sorted.entrySet()) {
+			for (Map.Entry<String, OperationMetrics> operation : repository.getValue().getOperations().entrySet()) {
+				LongAdder[] statusCounts = operation.getValue().statusCounts;
+				for (int i = 0; i < statusCounts.length; i++) {
+					long count = statusCounts[i].sum();
+					if (count > 0) {
+						writeSample(writer, "rdf4j_server_requests_total",
+								labels(repository.getKey(), operation.getKey()) + ",status=\"" + (i + 1) + "xx\"",
+								count);
+					}
+				}
+			}
+		}
+
+		writeHeader(writer, "rdf4j_server_request_duration_seconds", "histogram",
+				"Latency of completed requests, including writing the response.");
+		for (Map.Entry<String, RepositoryMetrics> repository : sorted.entrySet()) {
+			for (Map.Entry<String, OperationMetrics> operation : repository.getValue().getOperations().entrySet()) {
+				OperationMetrics metrics = operation.getValue();
+				String labels = labels(repository.getKey(), operation.getKey());
+				long cumulative = 0;
+				for (int i = 0; i < LATENCY_BUCKETS.length; i++) {
+					cumulative += metrics.buckets[i].sum();
+					writeSample(writer, "rdf4j_server_request_duration_seconds_bucket",
+							labels + ",le=\"" + LATENCY_BUCKETS[i] + "\"", cumulative);
+				}
+				long count = metrics.count.sum();
+				writeSample(writer, "rdf4j_server_request_duration_seconds_bucket", labels + ",le=\"+Inf\"", count);
+				writeSample(writer, "rdf4j_server_request_duration_seconds_sum", labels,
+						metrics.durationNanos.sum() / 1e9);
+				writeSample(writer, "rdf4j_server_request_duration_seconds_count", labels, count);
+			}
+		}
+
+		writeHeader(writer, "rdf4j_server_result_size", "summary",
+				"Number of solutions or statements written in response to query and export requests.");
+		for (Map.Entry<String, RepositoryMetrics> repository : sorted.entrySet()) {
+			for (Map.Entry<String, OperationMetrics> operation : repository.getValue().getOperations().entrySet()) {
+				OperationMetrics metrics = operation.getValue();
+				long count = metrics.resultCount.sum();
+				if (count > 0) {
+					String labels = labels(repository.getKey(), operation.getKey());
+					writeSample(writer, "rdf4j_server_result_size_sum", labels, metrics.resultSize.sum());
+					writeSample(writer, "rdf4j_server_result_size_count", labels, count);
+				}
+			}
+		}
+
+		writeHeader(writer, "rdf4j_server_requests_in_flight", "gauge",
+				"Number of requests that are currently being handled, by repository.");
+		for (Map.Entry<String, RepositoryMetrics> repository : sorted.entrySet()) {
+			writeSample(writer, "rdf4j_server_requests_in_flight", labels(repository.getKey()),
+					repository.getValue().inFlight.sum());
+		}
+
+		writeHeader(writer, "rdf4j_server_cache_requests_total", "counter",
+				"Number of conditional requests that were answered with 304 Not Modified (hit) or with a new result"
+						+ " (miss).");
+		for (Map.Entry<String, RepositoryMetrics> repository : sorted.entrySet()) {
+			RepositoryMetrics metrics = repository.getValue();
+			String labels = labels(repository.getKey());
+			writeSample(writer, "rdf4j_server_cache_requests_total", labels + ",result=\"hit\"",
+					metrics.cacheHits.sum());
+			writeSample(writer, "rdf4j_server_cache_requests_total", labels + ",result=\"miss\"",
+					metrics.cacheMisses.sum());
+		}
+
+		writeQueryScheduler(writer, QueryScheduler.getInstance());
+		writeTransactions(writer, ActiveTransactionRegistry.INSTANCE);
+		writeHeader(writer, "rdf4j_server_cursors_open", "gauge", "Number of open query result cursors.");
+		writeSample(writer, "rdf4j_server_cursors_open", null, CursorRegistry.getInstance().getOpenCursorCount());
+	}
+
+	private void writeQueryScheduler(Writer writer, QueryScheduler scheduler) throws IOException {
+		Map<String, QueryScheduler.RepositoryQueue> queues = new TreeMap<>();
+		for (QueryScheduler.RepositoryQueue queue : scheduler.getQueues()) {
+			queues.put(queue.getRepositoryID(), queue);
+		}
+
+		writeHeader(writer, "rdf4j_server_queries_running", "gauge",
+				"Number of queries that hold an admission permit, by repository.");
+		for (QueryScheduler.RepositoryQueue queue : queues.values()) {
+			writeSample(writer, "rdf4j_server_queries_running", labels(queue.getRepositoryID()), queue.getRunning());
+		}
+		writeHeader(writer, "rdf4j_server_queries_queued", "gauge",
+				"Number of queries waiting for an admission permit, by repository.");
+		for (QueryScheduler.RepositoryQueue queue : queues.values()) {
+			writeSample(writer, "rdf4j_server_queries_queued", labels(queue.getRepositoryID()), queue.getQueued());
+		}
+		writeHeader(writer, "rdf4j_server_queries_rejected_total", "counter",
+				"Number of queries rejected because the admission queue was full or the wait timed out.");
+		for (QueryScheduler.RepositoryQueue queue : queues.values()) {
+			writeSample(writer, "rdf4j_server_queries_rejected_total", labels(queue.getRepositoryID()),
+					queue.getRejected());
+		}
+		writeHeader(writer, "rdf4j_server_queries_queue_seconds_total", "counter",
+				"Accumulated time that admitted queries waited for a permit.");
+		for (QueryScheduler.RepositoryQueue queue : queues.values()) {
+			writeSample(writer, "rdf4j_server_queries_queue_seconds_total", labels(queue.getRepositoryID()),
+					queue.getTotalWaitTime(TimeUnit.MICROSECONDS) / 1e6);
+		}
+	}
+
+	private void writeTransactions(Writer writer, ActiveTransactionRegistry registry) throws IOException {
+		writeHeader(writer, "rdf4j_server_transactions_active", "gauge", "Number of open transactions.");
+		writeSample(writer, "rdf4j_server_transactions_active", null, registry.getActiveTransactionCount());
+		writeHeader(writer, "rdf4j_server_transaction_operations_total", "counter",
+				"Number of transaction operations that have started executing.");
+		writeSample(writer, "rdf4j_server_transaction_operations_total", null, registry.getOperationCount());
+		writeHeader(writer, "rdf4j_server_transaction_queue_seconds_total", "counter",
+				"Accumulated time that transaction operations waited for the transaction thread.");
+		writeSample(writer, "rdf4j_server_transaction_queue_seconds_total", null,
+				registry.getTotalQueueTime(TimeUnit.MICROSECONDS) / 1e6);
+	}
+
+	private RepositoryMetrics getRepositoryMetrics(String repositoryID) {
+		RepositoryMetrics result = repositories.get(repositoryID);
+		if (result == null) {
+			result = repositories.computeIfAbsent(repositoryID, id -> new RepositoryMetrics());
+		}
+		return result;
+	}
+
+	/**
+	 * Determines the operation of a request from its path, method and parameters. The set of operations is bounded, so
+	 * that the number of exported time series does not depend on the requests that clients send.
+	 */
+	static String getOperation(HttpServletRequest request) {
+		String pathInfo = request.getPathInfo();
+		String[] path = pathInfo == null ? new String[0] : pathInfo.substring(1).split("/");
+		String method = request.getMethod();
+
+		if (path.length <= 1) {
+			if ("PUT".equals(method) || "DELETE".equals(method)) {
+				return "repository";
+			}
+			return "query";
+		}
+
+		switch (path[1]) {
+		case Protocol.STATEMENTS:
+			if ("GET".equals(method) || "HEAD".equals(method)) {
+				return "export";
+			} else if ("DELETE".equals(method)) {
+				return "remove";
+			}
+			String mimeType = HttpServerUtil.getMIMEType(request.getContentType());
+			if (Protocol.TXN_MIME_TYPE.equals(mimeType)) {
+				return "transaction";
+			} else if (Protocol.SPARQL_UPDATE_MIME_TYPE.equals(mimeType)
+					|| request.getParameterMap().containsKey(Protocol.UPDATE_PARAM_NAME)) {
+				return "update";
+			}
+			return "add";
+		case Protocol.TRANSACTIONS:
+			if (path.length == 2) {
+				return "begin";
+			}
+			String action = request.getParameter(Protocol.ACTION_PARAM_NAME);
+			if (action == null || "DELETE".equals(method)) {
+				return "rollback";
+			}
+			try {
+				return Action.valueOf(action).name().toLowerCase(Locale.ROOT);
+			} catch (IllegalArgumentException e) {
+				return "other";
+			}
+		case Protocol.SIZE:
+			return "size";
+		case Protocol.NAMESPACES:
+			return "namespaces";
+		case Protocol.CONTEXTS:
+		case "rdf-graphs":
+			return "contexts";
+		case Protocol.CONFIG:
+			return "config";
+		case Protocol.CURSORS:
+			return "DELETE".equals(method) ? "close_cursor" : "page";
+		default:
+			return "other";
+		}
+	}
+
+	private static String labels(String repositoryID) {
+		return "repository=\"" + escape(repositoryID) + "\"";
+	}
+
+	private static String labels(String repositoryID, String operation) {
+		return labels(repositoryID) + ",operation=\"" + operation + "\"";
+	}
+
+	private static String escape(String labelValue) {
+		return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+
+	private static void writeHeader(Writer writer, String name, String type, String help) throws IOException {
+		writer.write("# HELP " + name + " " + help + "\n");
+		writer.write("# TYPE " + name + " " + type + "\n");
+	}
+
+	private static void writeSample(Writer writer, String name, String labels, Object value) throws IOException {
+		writer.write(name);
+		if (labels != null) {
+			writer.write("{" + labels + "}");
+		}
+		writer.write(" " + value + "\n");
+	}
+
+	private static final class RepositoryMetrics {
+
+		private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+
+		private final LongAdder inFlight = new LongAdder();
+
+		private final LongAdder cacheHits = new LongAdder();
+
+		private final LongAdder cacheMisses = new LongAdder();
+
+		private OperationMetrics getOperationMetrics(String operation) {
+			OperationMetrics result = operations.get(operation);
+			if (result == null) {
+				result = operations.computeIfAbsent(operation, op -> new OperationMetrics());
+			}
+			return result;
+		}
+
+		private Map<String, OperationMetrics> getOperations() {
+			return new TreeMap<>(operations);
+		}
+	}
+
+	private static final class OperationMetrics {
+
+		private final LongAdder count = new LongAdder();
+
+		private final LongAdder durationNanos = new LongAdder();
+
+		private final LongAdder[] buckets = newAdders(LATENCY_BUCKETS.length);
+
+		/**
+		 * The number of responses with a 1xx, 2xx, 3xx, 4xx and 5xx status code.
+		 */
+		private final LongAdder[] statusCounts = newAdders(5);
+
+		private final LongAdder resultCount = new LongAdder();
+
+		private final LongAdder resultSize = new LongAdder();
+
+		private void record(int status, long nanos) {
+			count.increment();
+			durationNanos.add(nanos);
+
+			double seconds = nanos / 1e9;
+			for (int i = 0; i < LATENCY_BUCKETS.length; i++) {
+				if (seconds <= LATENCY_BUCKETS[i]) {
+					buckets[i].increment();
+					break;
+				}
+			}
+
+			int statusClass = status / 100 - 1;
+			if (statusClass >= 0 && statusClass < statusCounts.length) {
+				statusCounts[statusClass].increment();
+			}
+		}
+
+		private static LongAdder[] newAdders(int length) {
+			LongAdder[] adders = new LongAdder[length];
+			for (int i = 0; i < length; i++) {
+				adders[i] = new LongAdder();
+			}
+			return adders;
+		}
+	}
+}
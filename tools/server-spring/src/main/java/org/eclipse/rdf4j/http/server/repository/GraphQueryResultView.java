@@ -21,6 +21,7 @@ import java.util.Map;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.rdf4j.http.server.metrics.ServerMetrics;
 import org.eclipse.rdf4j.query.GraphQueryResult;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.QueryInterruptedException;
@@ -76,7 +77,7 @@ public class GraphQueryResultView extends QueryResultView {
 				try {
 					RDFWriter rdfWriter = rdfWriterFactory.getWriter(out);
 					GraphQueryResult graphQueryResult = (GraphQueryResult) model.get(QUERY_RESULT_KEY);
-					QueryResults.report(graphQueryResult, rdfWriter);
+					QueryResults.report(graphQueryResult, ServerMetrics.countStatements(request, rdfWriter));
 				} catch (QueryInterruptedException e) {
 					logger.error("Query interrupted", e);
 					response.sendError(SC_SERVICE_UNAVAILABLE, "Query evaluation took too long");
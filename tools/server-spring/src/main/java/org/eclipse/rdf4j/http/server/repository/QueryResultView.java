@@ -20,6 +20,8 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.rdf4j.common.lang.FileFormat;
+import org.eclipse.rdf4j.http.server.CompressingResponseWrapper;
+import org.eclipse.rdf4j.http.server.repository.handler.QueryScheduler;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,15 +61,30 @@ public abstract class QueryResultView implements View {
 
 	public static final String HEADERS_ONLY = "headersOnly";
 
+	/**
+	 * Key by which the {@link QueryScheduler.Permit} of the query is stored in the Model. If this is present, the
+	 * {@link QueryResultView} will release it after processing the query result.
+	 */
+	public static final String PERMIT_KEY = "queryPermit";
+
 	@SuppressWarnings("rawtypes")
 	@Override
 	public final void render(Map model, HttpServletRequest request, HttpServletResponse response) throws IOException {
 		try {
-			renderInternal(model, request, response);
+			HttpServletResponse compressingResponse = CompressingResponseWrapper.wrap(request, response);
+			renderInternal(model, request, compressingResponse);
+			CompressingResponseWrapper.finish(compressingResponse);
 		} finally {
-			RepositoryConnection conn = (RepositoryConnection) model.get(CONNECTION_KEY);
-			if (conn != null) {
-				conn.close();
+			try {
+				RepositoryConnection conn = (RepositoryConnection) model.get(CONNECTION_KEY);
+				if (conn != null) {
+					conn.close();
+				}
+			} finally {
+				QueryScheduler.Permit permit = (QueryScheduler.Permit) model.get(PERMIT_KEY);
+				if (permit != null) {
+					permit.close();
+				}
 			}
 		}
 	}
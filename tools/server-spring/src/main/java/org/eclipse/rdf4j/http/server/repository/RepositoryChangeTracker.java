@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.server.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rdf4j.http.protocol.Protocol;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.NotifyingSail;
+import org.eclipse.rdf4j.sail.Sail;
+import org.eclipse.rdf4j.sail.SailChangedEvent;
+import org.eclipse.rdf4j.sail.SailChangedListener;
+
+/**
+ * Keeps a monotonic change counter for each repository, which is advanced whenever a transaction is committed in the
+ * underlying SAIL, and derives entity tags for responses from it. A response to a GET request can be revalidated with
+ * an <var>If-None-Match</var> header, which is answered with <var>304 Not Modified</var> as long as the repository has
+ * not changed.
+ * <p>
+ * Changes are only tracked for {@link SailRepository SailRepositories} backed by a {@link NotifyingSail}; responses
+ * from other repositories, such as federations or proxies for remote endpoints, do not get an entity tag. Queries that
+ * use non-deterministic functions or federate to a <var>SERVICE</var> do not get an entity tag either.
+ * <p>
+ * Entity tags are disabled by default and can be enabled by setting the system property {@value #ETAG_PROPERTY} to
+ * <var>true</var>.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+public class RepositoryChangeTracker {
+
+	/**
+	 * Configurable system property {@code rdf4j.server.etag.enabled} to enable entity tags and conditional requests on
+	 * the query, statements and size endpoints of repositories.
+	 */
+	public static final String ETAG_PROPERTY = "rdf4j.server.etag.enabled";
+
+	/**
+	 * Matches the SPARQL functions and clauses whose results may change while the repository does not.
+	 */
+	private static final Pattern NON_DETERMINISTIC = Pattern
+			.compile("(?i)\\b(?:NOW|RAND|UUID|STRUUID|BNODE)\\s*\\(|\\bSERVICE\\b");
+
+	private static final RepositoryChangeTracker INSTANCE = new RepositoryChangeTracker(
+			Boolean.getBoolean(ETAG_PROPERTY));
+
+	private final boolean enabled;
+
+	/**
+	 * The counters of the tracked SAILs, which are only weakly referenced to not keep repositories that have been shut
+	 * down alive.
+	 */
+	private final Map<Sail, ChangeCounter> counters = Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * Returns the tracker that is configured through the system property {@value #ETAG_PROPERTY}.
+	 */
+	public static RepositoryChangeTracker getInstance() {
+		return INSTANCE;
+	}
+
+	public RepositoryChangeTracker(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Gets the number of transactions that have been committed in the repository since its changes are tracked.
+	 *
+	 * @param repository the repository.
+	 * @return the number of changes, or <var>-1</var> if changes of the repository can not be tracked.
+	 */
+	public long getChangeCount(Repository repository) {
+		ChangeCounter counter = getCounter(repository);
+		return counter == null ? -1 : counter.count.get();
+	}
+
+	/**
+	 * Gets the entity tag of the response to the supplied request. The entity tag changes whenever the repository
+	 * changes, and differs for requests with different parameters or <var>Accept</var> headers.
+	 *
+	 * @param request    the GET or HEAD request.
+	 * @param repository the repository that the request is for.
+	 * @return a weak entity tag, or <var>null</var> if entity tags are disabled or the response may change while the
+	 *         repository does not.
+	 */
+	public String getETag(HttpServletRequest request, Repository repository) {
+		if (!enabled) {
+			return null;
+		}
+		String query = request.getParameter(Protocol.QUERY_PARAM_NAME);
+		if (query != null && NON_DETERMINISTIC.matcher(query).find()) {
+			return null;
+		}
+		ChangeCounter counter = getCounter(repository);
+		if (counter == null) {
+			return null;
+		}
+		return "W/\"" + Long.toHexString(counter.epoch) + "-" + counter.count.get() + "-" + hashRequest(request)
+				+ "\"";
+	}
+
+	/**
+	 * Checks whether the <var>If-None-Match</var> header of the request matches the supplied entity tag, using the weak
+	 * comparison function.
+	 *
+	 * @param request the request.
+	 * @param etag    the current entity tag of the response, may be <var>null</var>.
+	 * @return <var>true</var> if the client already has the current response.
+	 */
+	public static boolean isNotModified(HttpServletRequest request, String etag) {
+		if (etag == null) {
+			return false;
+		}
+		String opaqueTag = stripWeakIndicator(etag);
+		Enumeration<String> headers = request.getHeaders("If-None-Match");
+		while (headers != null && headers.hasMoreElements()) {
+			for (String tag : headers.nextElement().split(",")) {
+				tag = tag.trim();
+				if (tag.equals("*") || stripWeakIndicator(tag).equals(opaqueTag)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Adds the entity tag to the response. Caches are asked to revalidate the response on every use, since the
+	 * repository may change at any time.
+	 *
+	 * @param response the response.
+	 * @param etag     the entity tag of the response.
+	 */
+	public static void setETag(HttpServletResponse response, String etag) {
+		response.setHeader("ETag", etag);
+		response.setHeader("Cache-Control", "no-cache");
+	}
+
+	/**
+	 * Completes the response with the <var>304 Not Modified</var> status, without a body.
+	 *
+	 * @param response the response.
+	 * @param etag     the entity tag of the response.
+	 */
+	public static void sendNotModified(HttpServletResponse response, String etag) {
+		response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+		setETag(response, etag);
+	}
+
+	private ChangeCounter getCounter(Repository repository) {
+		if (!(repository instanceof SailRepository)) {
+			return null;
+		}
+		Sail sail = ((SailRepository) repository).getSail();
+		if (!(sail instanceof NotifyingSail)) {
+			return null;
+		}
+		synchronized (counters) {
+			ChangeCounter counter = counters.get(sail);
+			if (counter == null) {
+				counter = new ChangeCounter();
+				((NotifyingSail) sail).addSailChangedListener(counter);
+				counters.put(sail, counter);
+			}
+			return counter;
+		}
+	}
+
+	private static String stripWeakIndicator(String tag) {
+		return tag.startsWith("W/") ? tag.substring(2) : tag;
+	}
+
+	private static String hashRequest(HttpServletRequest request) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		update(digest, request.getRequestURI());
+		for (Map.Entry<String, String[]> param : new TreeMap<>(request.getParameterMap()).entrySet()) {
+			update(digest, param.getKey());
+			for (String value : param.getValue()) {
+				update(digest, value);
+			}
+		}
+		Enumeration<String> accept = request.getHeaders("Accept");
+		while (accept != null && accept.hasMoreElements()) {
+			update(digest, accept.nextElement());
+		}
+
+		byte[] hash = digest.digest();
+		StringBuilder result = new StringBuilder(16);
+		for (int i = 0; i < 8; i++) {
+			result.append(Character.forDigit((hash[i] >> 4) & 0xF, 16)).append(Character.forDigit(hash[i] & 0xF, 16));
+		}
+		return result.toString();
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		if (value != null) {
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+		}
+		// separator, so that adjacent values can not be confused
+		digest.update((byte) 0);
+	}
+
+	/**
+	 * Counts the committed transactions of a SAIL. The random epoch distinguishes the counters of repositories that
+	 * have been recreated, for example after a server restart.
+	 */
+	private static final class ChangeCounter implements SailChangedListener {
+
+		private final long epoch = ThreadLocalRandom.current().nextLong();
+
+		private final AtomicLong count = new AtomicLong();
+
+		@Override
+		public void sailChanged(SailChangedEvent event) {
+			// every commit is counted, since namespace changes are not reported in the event but do change exports
+			count.incrementAndGet();
+		}
+	}
+}
@@ -22,6 +22,7 @@ import org.eclipse.rdf4j.http.server.ClientHTTPException;
 import org.eclipse.rdf4j.http.server.ProtocolUtil;
 import org.eclipse.rdf4j.http.server.ServerHTTPException;
 import org.eclipse.rdf4j.http.server.ServerInterceptor;
+import org.eclipse.rdf4j.http.server.metrics.ServerMetrics;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
@@ -82,7 +83,19 @@ public class RepositoryInterceptor extends ServerInterceptor {
 
 		ProtocolUtil.logRequestParameters(request);
 
-		return super.preHandle(request, respons, handler);
+		boolean result = super.preHandle(request, respons, handler);
+		ServerMetrics.getInstance().requestStarted(request);
+		return result;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception exception) throws Exception {
+		try {
+			ServerMetrics.getInstance().requestCompleted(request, response);
+		} finally {
+			super.afterCompletion(request, response, handler, exception);
+		}
 	}
 
 	@Override
@@ -22,6 +22,7 @@ import java.util.regex.Pattern;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.rdf4j.http.server.metrics.ServerMetrics;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.QueryInterruptedException;
 import org.eclipse.rdf4j.query.QueryResults;
@@ -101,7 +102,7 @@ public class TupleQueryResultView extends QueryResultView {
 						}
 					}
 
-					QueryResults.report(tupleQueryResult, qrWriter);
+					QueryResults.report(tupleQueryResult, ServerMetrics.countSolutions(request, qrWriter));
 				} catch (QueryInterruptedException e) {
 					logger.error("Query interrupted", e);
 					response.sendError(SC_SERVICE_UNAVAILABLE, "Query evaluation took too long");
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.server.repository.cursor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.QueryInterruptedException;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.query.impl.IteratingTupleQueryResult;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * An evaluated tuple query result that is kept open between requests, so that its solutions can be fetched page by page
+ * without evaluating the query again. A cursor owns the connection on which the query was evaluated, and closes it
+ * together with the result.
+ * <p>
+ * Like a transaction, a cursor reads its result and closes its connection on a single, dedicated thread, as
+ * {@link RepositoryConnection} is not guaranteed thread-safe and pages are requested by arbitrary HTTP request worker
+ * threads, while idle cursors are closed by the cleanup thread of the {@link CursorRegistry}.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+public class Cursor {
+
+	private static final Logger logger = LoggerFactory.getLogger(Cursor.class);
+
+	private static final ThreadFactory threadFactory = new ThreadFactoryBuilder().setNameFormat("rdf4j-cursor-%d")
+			.setDaemon(true)
+			.build();
+
+	private final UUID id;
+
+	private final String repositoryID;
+
+	private final String client;
+
+	private final RepositoryConnection connection;
+
+	private final TupleQueryResult result;
+
+	private final int pageSize;
+
+	/**
+	 * The {@link ExecutorService} that performs all operations on the result and the connection of this cursor.
+	 */
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(threadFactory);
+
+	private volatile long lastAccess = System.nanoTime();
+
+	private boolean closed;
+
+	Cursor(UUID id, String repositoryID, String client, RepositoryConnection connection, TupleQueryResult result,
+			int pageSize) {
+		this.id = id;
+		this.repositoryID = repositoryID;
+		this.client = client;
+		this.connection = connection;
+		this.result = result;
+		this.pageSize = pageSize;
+	}
+
+	public UUID getID() {
+		return id;
+	}
+
+	public String getRepositoryID() {
+		return repositoryID;
+	}
+
+	public String getClient() {
+		return client;
+	}
+
+	/**
+	 * @return the page size that was requested when the cursor was opened.
+	 */
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	/**
+	 * Reads the next page of solutions from the underlying result. The page is buffered, so that the returned result no
+	 * longer depends on the cursor.
+	 *
+	 * @param size the maximum number of solutions in the page.
+	 * @return the solutions of the page.
+	 * @throws QueryEvaluationException if the underlying result could not be read, in which case the cursor is closed.
+	 */
+	public synchronized TupleQueryResult nextPage(int size) throws QueryEvaluationException {
+		if (closed) {
+			throw new QueryEvaluationException("Cursor " + id + " is closed");
+		}
+		lastAccess = System.nanoTime();
+		try {
+			return execute(() -> {
+				List<String> bindingNames = result.getBindingNames();
+				List<BindingSet> page = new ArrayList<>(Math.min(size, 1024));
+				while (page.size() < size && result.hasNext()) {
+					page.add(result.next());
+				}
+				return new IteratingTupleQueryResult(bindingNames, page);
+			});
+		} catch (RuntimeException e) {
+			close();
+			throw e;
+		} finally {
+			lastAccess = System.nanoTime();
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the cursor has solutions left for another page.
+	 */
+	public synchronized boolean hasNext() {
+		if (closed) {
+			return false;
+		}
+		try {
+			return execute(result::hasNext);
+		} catch (RuntimeException e) {
+			close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Closes the cursor if it has not been accessed since the supplied point in time.
+	 *
+	 * @param deadline a {@link System#nanoTime()} value.
+	 * @return <code>true</code> if the cursor is closed.
+	 */
+	synchronized boolean closeIfIdleSince(long deadline) {
+		if (!closed && lastAccess - deadline < 0) {
+			logger.debug("closing idle cursor {}", id);
+			close();
+		}
+		return closed;
+	}
+
+	synchronized boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * Closes the result and the connection of the cursor.
+	 */
+	public synchronized void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			execute(() -> {
+				try {
+					result.close();
+				} catch (Exception e) {
+					logger.warn("Error closing result of cursor {}", id, e);
+				} finally {
+					try {
+						connection.close();
+					} catch (Exception e) {
+						logger.warn("Error closing connection of cursor {}", id, e);
+					}
+				}
+				return null;
+			});
+		} catch (RuntimeException e) {
+			logger.warn("Error closing cursor {}", id, e);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Runs the task on the thread of this cursor and waits for its result.
+	 */
+	private <T> T execute(Callable<T> task) {
+		Future<T> future = executor.submit(task);
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new QueryInterruptedException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new QueryEvaluationException(cause);
+		}
+	}
+}
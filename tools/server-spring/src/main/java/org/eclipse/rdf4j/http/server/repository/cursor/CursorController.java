@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.server.repository.cursor;
+
+import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+import static javax.servlet.http.HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rdf4j.common.webapp.views.EmptySuccessView;
+import org.eclipse.rdf4j.http.protocol.Protocol;
+import org.eclipse.rdf4j.http.server.ClientHTTPException;
+import org.eclipse.rdf4j.http.server.ProtocolUtil;
+import org.eclipse.rdf4j.http.server.ServerHTTPException;
+import org.eclipse.rdf4j.http.server.repository.QueryResultView;
+import org.eclipse.rdf4j.http.server.repository.RepositoryInterceptor;
+import org.eclipse.rdf4j.http.server.repository.TupleQueryResultView;
+import org.eclipse.rdf4j.http.server.repository.handler.QueryScheduler;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.QueryInterruptedException;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultWriterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContextException;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.AbstractController;
+
+/**
+ * Handles requests on the cursors of a repository: GET fetches the next page of solutions from a cursor, DELETE closes
+ * a cursor before it is exhausted.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+public class CursorController extends AbstractController {
+
+	private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+	private final CursorRegistry cursorRegistry;
+
+	private final QueryScheduler queryScheduler;
+
+	public CursorController() throws ApplicationContextException {
+		this(CursorRegistry.getInstance(), QueryScheduler.getInstance());
+	}
+
+	public CursorController(CursorRegistry cursorRegistry, QueryScheduler queryScheduler)
+			throws ApplicationContextException {
+		this.cursorRegistry = cursorRegistry;
+		this.queryScheduler = queryScheduler;
+		setSupportedMethods(METHOD_GET, "DELETE");
+	}
+
+	@Override
+	protected ModelAndView handleRequestInternal(HttpServletRequest request, HttpServletResponse response)
+			throws Exception {
+		String repositoryID = RepositoryInterceptor.getRepositoryID(request);
+		Cursor cursor = cursorRegistry.getCursor(repositoryID, CursorRegistry.getClient(request),
+				getCursorID(request));
+
+		if ("DELETE".equals(request.getMethod())) {
+			logger.debug("closing cursor {}", cursor.getID());
+			cursorRegistry.close(cursor);
+			return new ModelAndView(EmptySuccessView.getInstance());
+		}
+
+		int pageSize = cursorRegistry.checkPageSize(
+				ProtocolUtil.parseLongParam(request, Protocol.PAGE_SIZE_PARAM_NAME, cursor.getPageSize()));
+
+		Map<String, Object> model = new HashMap<>();
+		model.put(QueryResultView.FILENAME_HINT_KEY, "query-result");
+		model.put(QueryResultView.FACTORY_KEY,
+				ProtocolUtil.getAcceptableService(request, response, TupleQueryResultWriterRegistry.getInstance()));
+		model.put(QueryResultView.HEADERS_ONLY, false);
+
+		// the page is read under a query permit, but buffered, so that the permit is not held while it is written
+		TupleQueryResult page;
+		try (QueryScheduler.Permit permit = queryScheduler.acquire(repositoryID,
+				queryScheduler.getPriority(request))) {
+			page = cursor.nextPage(pageSize);
+			if (cursor.hasNext()) {
+				response.setHeader(Protocol.CURSOR_HEADER, cursor.getID().toString());
+			} else {
+				cursorRegistry.close(cursor);
+			}
+		} catch (QueryInterruptedException e) {
+			logger.info("Query interrupted", e);
+			cursorRegistry.close(cursor);
+			throw new ServerHTTPException(SC_SERVICE_UNAVAILABLE, "Query evaluation took too long");
+		} catch (QueryEvaluationException e) {
+			logger.info("Query evaluation error", e);
+			cursorRegistry.close(cursor);
+			throw new ServerHTTPException("Query evaluation error: " + e.getMessage());
+		}
+		model.put(QueryResultView.QUERY_RESULT_KEY, page);
+
+		return new ModelAndView(TupleQueryResultView.getInstance(), model);
+	}
+
+	private String getCursorID(HttpServletRequest request) throws ClientHTTPException {
+		String pathInfoStr = request.getPathInfo();
+		if (pathInfoStr != null) {
+			// should be of the form: /<Repository>/cursors/<cursorID>
+			String[] pathInfo = pathInfoStr.substring(1).split("/");
+			if (pathInfo.length == 3) {
+				return pathInfo[2];
+			}
+		}
+		throw new ClientHTTPException(SC_NOT_FOUND, "No cursor specified");
+	}
+}
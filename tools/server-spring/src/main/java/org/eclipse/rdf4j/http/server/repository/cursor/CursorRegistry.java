@@ -0,0 +1,292 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.server.repository.cursor;
+
+import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
+import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.eclipse.rdf4j.http.server.ClientHTTPException;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry keeping track of open {@link Cursor}s identified by a {@link UUID}. Cursors that are not accessed within the
+ * configured timeout are closed, and the number of open cursors is bounded both per client and in total, so that
+ * abandoned paged queries do not hold on to connections indefinitely.
+ * <p>
+ * The shared instance returned by {@link #getInstance()} is configured through the system properties
+ * {@value #TIMEOUT_PROPERTY}, {@value #MAX_PER_CLIENT_PROPERTY}, {@value #MAX_PROPERTY} and
+ * {@value #MAX_PAGE_SIZE_PROPERTY}.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+public class CursorRegistry {
+
+	/**
+	 * Configurable system property for the time, in seconds, after which a cursor that has not been accessed is closed.
+	 * Defaults to {@value #DEFAULT_TIMEOUT}.
+	 */
+	public static final String TIMEOUT_PROPERTY = "rdf4j.server.cursor.timeout";
+
+	/**
+	 * Configurable system property for the maximum number of cursors that a single client may keep open. Clients are
+	 * identified by their authenticated user name or, for anonymous requests, by their address. Defaults to
+	 * {@value #DEFAULT_MAX_PER_CLIENT}.
+	 */
+	public static final String MAX_PER_CLIENT_PROPERTY = "rdf4j.server.cursor.maxPerClient";
+
+	/**
+	 * Configurable system property for the maximum number of cursors that may be open at the same time across all
+	 * clients. Every open cursor holds a repository connection. Defaults to {@value #DEFAULT_MAX}.
+	 */
+	public static final String MAX_PROPERTY = "rdf4j.server.cursor.max";
+
+	/**
+	 * Configurable system property for the largest page size that a client may request. Every page is read into memory
+	 * before it is written, so this bounds the memory used by a single paged request. Defaults to
+	 * {@value #DEFAULT_MAX_PAGE_SIZE}.
+	 */
+	public static final String MAX_PAGE_SIZE_PROPERTY = "rdf4j.server.cursor.maxPageSize";
+
+	public static final int DEFAULT_TIMEOUT = 60;
+
+	public static final int DEFAULT_MAX_PER_CLIENT = 16;
+
+	public static final int DEFAULT_MAX = 256;
+
+	public static final int DEFAULT_MAX_PAGE_SIZE = 10_000;
+
+	private static final int SC_TOO_MANY_REQUESTS = 429;
+
+	private static final Logger logger = LoggerFactory.getLogger(CursorRegistry.class);
+
+	private static volatile CursorRegistry instance;
+
+	private final long timeout;
+
+	private final int maxPerClient;
+
+	private final int max;
+
+	private final int maxPageSize;
+
+	private final Map<UUID, Cursor> cursors = new ConcurrentHashMap<>();
+
+	private final ScheduledExecutorService cleanupScheduler;
+
+	/**
+	 * Creates a new registry that allows at most {@value #DEFAULT_MAX} open cursors in total.
+	 *
+	 * @param timeout      the time, in seconds, after which an idle cursor is closed.
+	 * @param maxPerClient the maximum number of open cursors per client.
+	 */
+	public CursorRegistry(long timeout, int maxPerClient) {
+		this(timeout, maxPerClient, DEFAULT_MAX);
+	}
+
+	/**
+	 * Creates a new registry that allows pages of at most {@value #DEFAULT_MAX_PAGE_SIZE} solutions.
+	 *
+	 * @param timeout      the time, in seconds, after which an idle cursor is closed.
+	 * @param maxPerClient the maximum number of open cursors per client.
+	 * @param max          the maximum number of open cursors across all clients.
+	 */
+	public CursorRegistry(long timeout, int maxPerClient, int max) {
+		this(timeout, maxPerClient, max, DEFAULT_MAX_PAGE_SIZE);
+	}
+
+	/**
+	 * Creates a new registry.
+	 *
+	 * @param timeout      the time, in seconds, after which an idle cursor is closed.
+	 * @param maxPerClient the maximum number of open cursors per client.
+	 * @param max          the maximum number of open cursors across all clients.
+	 * @param maxPageSize  the largest page size that a client may request.
+	 */
+	public CursorRegistry(long timeout, int maxPerClient, int max, int maxPageSize) {
+		this.timeout = Math.max(1, timeout);
+		this.maxPerClient = Math.max(1, maxPerClient);
+		this.max = Math.max(1, max);
+		this.maxPageSize = Math.max(1, maxPageSize);
+		cleanupScheduler = Executors.newSingleThreadScheduledExecutor((Runnable runnable) -> {
+			Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+			thread.setName("rdf4j-cursor-cleanup");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long period = Math.max(1, this.timeout / 2);
+		cleanupScheduler.scheduleWithFixedDelay(this::closeIdleCursors, period, period, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * @return the registry shared by all query request handlers, configured from system properties.
+	 */
+	public static CursorRegistry getInstance() {
+		CursorRegistry result = instance;
+		if (result == null) {
+			synchronized (CursorRegistry.class) {
+				result = instance;
+				if (result == null) {
+					instance = result = new CursorRegistry(getIntProperty(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT),
+							getIntProperty(MAX_PER_CLIENT_PROPERTY, DEFAULT_MAX_PER_CLIENT),
+							getIntProperty(MAX_PROPERTY, DEFAULT_MAX),
+							getIntProperty(MAX_PAGE_SIZE_PROPERTY, DEFAULT_MAX_PAGE_SIZE));
+				}
+			}
+		}
+		return result;
+	}
+
+	private static int getIntProperty(String property, int defaultValue) {
+		final String configuredValue = System.getProperty(property);
+		if (configuredValue != null) {
+			try {
+				return Integer.parseInt(configuredValue.trim());
+			} catch (NumberFormatException e) {
+				logger.warn("Expected integer value for property {}. Value will default to {}.", property,
+						defaultValue);
+			}
+		}
+		return defaultValue;
+	}
+
+	/**
+	 * Identifies the client that sent a request, by its authenticated user name or, if there is none, its address.
+	 *
+	 * @param request the request
+	 * @return the client identifier
+	 */
+	public static String getClient(HttpServletRequest request) {
+		String user = request.getRemoteUser();
+		return user != null ? user : request.getRemoteAddr();
+	}
+
+	/**
+	 * Checks a page size requested by a client.
+	 *
+	 * @param pageSize the requested page size.
+	 * @return the page size.
+	 * @throws ClientHTTPException with status 400 if the page size is not positive or exceeds the maximum page size.
+	 */
+	public int checkPageSize(long pageSize) throws ClientHTTPException {
+		if (pageSize <= 0) {
+			throw new ClientHTTPException(SC_BAD_REQUEST, "Invalid page size: " + pageSize);
+		}
+		if (pageSize > maxPageSize) {
+			throw new ClientHTTPException(SC_BAD_REQUEST,
+					"Page size " + pageSize + " exceeds the maximum page size of " + maxPageSize);
+		}
+		return (int) pageSize;
+	}
+
+	/**
+	 * Opens a cursor on an evaluated tuple query result. The cursor takes ownership of the result and the connection.
+	 *
+	 * @param repositoryID the ID of the repository that was queried.
+	 * @param client       the client that sent the query, see {@link #getClient(HttpServletRequest)}.
+	 * @param connection   the connection on which the query was evaluated.
+	 * @param result       the evaluated result.
+	 * @param pageSize     the requested page size.
+	 * @return the new cursor.
+	 * @throws ClientHTTPException with status 429 if the client, or the server as a whole, already has the maximum
+	 *                             number of cursors open, in which case the caller keeps ownership of the result and
+	 *                             the connection.
+	 */
+	public Cursor register(String repositoryID, String client, RepositoryConnection connection,
+			TupleQueryResult result, int pageSize) throws ClientHTTPException {
+		synchronized (cursors) {
+			if (cursors.size() >= max) {
+				throw new ClientHTTPException(SC_TOO_MANY_REQUESTS,
+						"Too many open cursors on the server, retry later or query without paging");
+			}
+			long open = cursors.values().stream().filter(cursor -> cursor.getClient().equals(client)).count();
+			if (open >= maxPerClient) {
+				throw new ClientHTTPException(SC_TOO_MANY_REQUESTS,
+						"Too many open cursors, close or exhaust existing cursors first");
+			}
+			Cursor cursor = new Cursor(UUID.randomUUID(), repositoryID, client, connection, result, pageSize);
+			cursors.put(cursor.getID(), cursor);
+			logger.debug("registered cursor {} for client {}", cursor.getID(), client);
+			return cursor;
+		}
+	}
+
+	/**
+	 * Gets an open cursor.
+	 *
+	 * @param repositoryID the ID of the repository of the cursor.
+	 * @param client       the client that requests the cursor.
+	 * @param cursorID     the ID of the cursor.
+	 * @return the cursor.
+	 * @throws ClientHTTPException with status 404 if there is no open cursor with the supplied ID for the repository
+	 *                             and client, for instance because it has timed out.
+	 */
+	public Cursor getCursor(String repositoryID, String client, String cursorID) throws ClientHTTPException {
+		Cursor cursor = null;
+		try {
+			cursor = cursors.get(UUID.fromString(cursorID));
+		} catch (IllegalArgumentException e) {
+			// not a cursor ID, fall through
+		}
+		if (cursor == null || cursor.isClosed() || !cursor.getRepositoryID().equals(repositoryID)
+				|| !cursor.getClient().equals(client)) {
+			throw new ClientHTTPException(SC_NOT_FOUND, "Unknown cursor: " + cursorID);
+		}
+		return cursor;
+	}
+
+	/**
+	 * Closes a cursor and removes it from the registry.
+	 *
+	 * @param cursor the cursor
+	 */
+	public void close(Cursor cursor) {
+		cursors.remove(cursor.getID());
+		cursor.close();
+		logger.debug("deregistered cursor {}", cursor.getID());
+	}
+
+	/**
+	 * @return the number of open cursors.
+	 */
+	public int getOpenCursorCount() {
+		return cursors.size();
+	}
+
+	public long getTimeout(TimeUnit unit) {
+		return unit.convert(timeout, TimeUnit.SECONDS);
+	}
+
+	void closeIdleCursors() {
+		long deadline = System.nanoTime() - TimeUnit.SECONDS.toNanos(timeout);
+		cursors.values().removeIf(cursor -> cursor.closeIfIdleSince(deadline));
+	}
+
+	/**
+	 * Closes all open cursors and stops the cleanup of idle cursors.
+	 */
+	public void shutDown() {
+		cleanupScheduler.shutdownNow();
+		cursors.values().forEach(Cursor::close);
+		cursors.clear();
+	}
+}
@@ -171,8 +171,8 @@ public class GraphController extends AbstractController {
 			logger.info("no base URI specified, using '{}'", baseURI);
 		}
 
-		InputStream in = request.getInputStream();
-		try (RepositoryConnection repositoryCon = RepositoryInterceptor.getRepositoryConnection(request)) {
+		InputStream in = ProtocolUtil.getRequestInputStream(request);
+		try (in; RepositoryConnection repositoryCon = RepositoryInterceptor.getRepositoryConnection(request)) {
 			boolean localTransaction = !repositoryCon.isActive();
 
 			if (localTransaction) {
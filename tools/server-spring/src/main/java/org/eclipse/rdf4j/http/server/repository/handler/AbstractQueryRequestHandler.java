@@ -16,6 +16,7 @@ import static javax.servlet.http.HttpServletResponse.SC_SERVICE_UNAVAILABLE;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -28,10 +29,14 @@ import org.eclipse.rdf4j.http.server.HTTPException;
 import org.eclipse.rdf4j.http.server.ProtocolUtil;
 import org.eclipse.rdf4j.http.server.ServerHTTPException;
 import org.eclipse.rdf4j.http.server.repository.QueryResultView;
+import org.eclipse.rdf4j.http.server.repository.RepositoryChangeTracker;
+import org.eclipse.rdf4j.http.server.repository.cursor.Cursor;
+import org.eclipse.rdf4j.http.server.repository.cursor.CursorRegistry;
 import org.eclipse.rdf4j.http.server.repository.resolver.RepositoryResolver;
 import org.eclipse.rdf4j.query.Query;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.QueryInterruptedException;
+import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.slf4j.Logger;
@@ -49,8 +54,64 @@ public abstract class AbstractQueryRequestHandler implements QueryRequestHandler
 
 	private final RepositoryResolver repositoryResolver;
 
+	private final QueryScheduler queryScheduler;
+
+	private final RepositoryChangeTracker changeTracker;
+
+	private final CursorRegistry cursorRegistry;
+
+	/**
+	 * The server components that a query request handler works with. Components that are not set explicitly default to
+	 * the instances that are shared by the server.
+	 */
+	public static class Settings {
+
+		private QueryScheduler queryScheduler;
+
+		private RepositoryChangeTracker changeTracker;
+
+		private CursorRegistry cursorRegistry;
+
+		/**
+		 * @param queryScheduler the scheduler that admits queries for evaluation.
+		 * @return these settings.
+		 */
+		public Settings queryScheduler(QueryScheduler queryScheduler) {
+			this.queryScheduler = queryScheduler;
+			return this;
+		}
+
+		/**
+		 * @param changeTracker the tracker that provides the ETags of query results.
+		 * @return these settings.
+		 */
+		public Settings changeTracker(RepositoryChangeTracker changeTracker) {
+			this.changeTracker = changeTracker;
+			return this;
+		}
+
+		/**
+		 * @param cursorRegistry the registry of the cursors over paged query results.
+		 * @return these settings.
+		 */
+		public Settings cursorRegistry(CursorRegistry cursorRegistry) {
+			this.cursorRegistry = cursorRegistry;
+			return this;
+		}
+	}
+
 	public AbstractQueryRequestHandler(RepositoryResolver repositoryResolver) {
+		this(repositoryResolver, new Settings());
+	}
+
+	public AbstractQueryRequestHandler(RepositoryResolver repositoryResolver, Settings settings) {
 		this.repositoryResolver = repositoryResolver;
+		this.queryScheduler = settings.queryScheduler != null ? settings.queryScheduler
+				: QueryScheduler.getInstance();
+		this.changeTracker = settings.changeTracker != null ? settings.changeTracker
+				: RepositoryChangeTracker.getInstance();
+		this.cursorRegistry = settings.cursorRegistry != null ? settings.cursorRegistry
+				: CursorRegistry.getInstance();
 	}
 
 	@Override
@@ -59,9 +120,31 @@ public abstract class AbstractQueryRequestHandler implements QueryRequestHandler
 
 		RepositoryConnection repositoryCon = null;
 		Object queryResponse = null;
+		QueryScheduler.Permit permit = null;
 
 		try {
 			Repository repository = repositoryResolver.getRepository(request);
+			long pageSize = getPageSize(request);
+
+			// paged responses are not cacheable: they carry the ID of a cursor that only lives on this server for a
+			// limited time
+			if ((requestMethod == RequestMethod.GET || requestMethod == RequestMethod.HEAD)
+					&& pageSize == 0) {
+				String etag = changeTracker.getETag(request, repository);
+				if (etag != null) {
+					if (RepositoryChangeTracker.isNotModified(request, etag)) {
+						// the client already has the current result, so the query is not evaluated at all
+						RepositoryChangeTracker.sendNotModified(response, etag);
+						return null;
+					}
+					RepositoryChangeTracker.setETag(response, etag);
+				}
+			}
+
+			// a query does not wait for admission longer than it may take to evaluate
+			permit = queryScheduler.acquire(repositoryResolver.getRepositoryID(request),
+					queryScheduler.getPriority(request),
+					TimeUnit.SECONDS.toMillis(ProtocolUtil.parseTimeoutParam(request)));
 			repositoryCon = repositoryResolver.getRepositoryConnection(request, repository);
 
 			String queryString = getQueryString(request, requestMethod);
@@ -82,6 +165,26 @@ public abstract class AbstractQueryRequestHandler implements QueryRequestHandler
 					queryResponse = evaluateQuery(query, limit, offset, distinct);
 				}
 
+				if (pageSize > 0 && queryResponse instanceof TupleQueryResult) {
+					// the cursor takes over the result and the connection, and the view only writes the first page
+					Cursor cursor = cursorRegistry.register(repositoryResolver.getRepositoryID(request),
+							CursorRegistry.getClient(request), repositoryCon, (TupleQueryResult) queryResponse,
+							(int) pageSize);
+					queryResponse = null;
+					repositoryCon = null;
+					try {
+						queryResponse = cursor.nextPage((int) pageSize);
+						if (cursor.hasNext()) {
+							response.setHeader(Protocol.CURSOR_HEADER, cursor.getID().toString());
+						} else {
+							cursorRegistry.close(cursor);
+						}
+					} catch (RuntimeException e) {
+						cursorRegistry.close(cursor);
+						throw e;
+					}
+				}
+
 				FileFormatServiceRegistry<? extends FileFormat, ?> registry = getResultWriterFor(query);
 				if (registry == null) {
 					throw new UnsupportedOperationException(
@@ -94,7 +197,11 @@ public abstract class AbstractQueryRequestHandler implements QueryRequestHandler
 							"Unknown view for query of type: " + query.getClass().getName());
 				}
 
-				return getModelAndView(request, response, headersOnly, repositoryCon, view, queryResponse, registry);
+				ModelAndView modelAndView = getModelAndView(request, response, headersOnly, repositoryCon, view,
+						queryResponse, registry);
+				// the view releases the permit once the result has been written
+				modelAndView.addObject(QueryResultView.PERMIT_KEY, permit);
+				return modelAndView;
 
 			} catch (QueryInterruptedException e) {
 				logger.info("Query interrupted", e);
@@ -112,8 +219,8 @@ public abstract class AbstractQueryRequestHandler implements QueryRequestHandler
 			}
 
 		} catch (Exception e) {
-			// only close the response & connection when an exception occurs. Otherwise, the QueryResultView will take
-			// care of closing it.
+			// only close the response & connection and release the permit when an exception occurs. Otherwise, the
+			// QueryResultView will take care of closing it.
 			try {
 				if (queryResponse instanceof AutoCloseable) {
 					((AutoCloseable) queryResponse).close();
@@ -127,6 +234,10 @@ public abstract class AbstractQueryRequestHandler implements QueryRequestHandler
 					}
 				} catch (Exception qre) {
 					logger.warn("Connection closing error", qre);
+				} finally {
+					if (permit != null) {
+						permit.close();
+					}
 				}
 			}
 			throw e;
@@ -172,6 +283,15 @@ public abstract class AbstractQueryRequestHandler implements QueryRequestHandler
 		return getParam(request, Protocol.LIMIT_PARAM_NAME, 0L, Long.TYPE);
 	}
 
+	protected long getPageSize(HttpServletRequest request) throws ClientHTTPException {
+		long pageSize = getParam(request, Protocol.PAGE_SIZE_PARAM_NAME, 0L, Long.TYPE);
+		if (pageSize == 0) {
+			// not paged
+			return 0;
+		}
+		return cursorRegistry.checkPageSize(pageSize);
+	}
+
 	<T> T getParam(HttpServletRequest request, String distinctParamName, T defaultValue, Class<T> clazz)
 			throws ClientHTTPException {
 		if (clazz == Boolean.TYPE) {
@@ -0,0 +1,449 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.server.repository.handler;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.eclipse.rdf4j.http.server.ServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the number of queries that are evaluated concurrently on a repository. Queries that arrive while the limit is
+ * reached wait in a bounded queue, in which queries of a higher {@link Priority} overtake those of a lower priority.
+ * Queries that do not fit in the queue, or that are not admitted within the maximum waiting time, are rejected with a
+ * {@link ServiceUnavailableException}, so that clients back off instead of piling up on the server.
+ * <p>
+ * Admission control is disabled by default. The shared instance returned by {@link #getInstance()} is configured
+ * through the system properties {@value #MAX_CONCURRENT_PROPERTY}, {@value #MAX_QUEUED_PROPERTY},
+ * {@value #MAX_WAIT_PROPERTY}, {@value #RETRY_AFTER_PROPERTY} and {@value #USER_PRIORITIES_PROPERTY}.
+ *
+ * @author Eclipse RDF4J contributors
+ */
+public class QueryScheduler {
+
+	/**
+	 * Configurable system property for the maximum number of queries that are evaluated concurrently per repository. A
+	 * value of 0 or less, the default, disables admission control.
+	 */
+	public static final String MAX_CONCURRENT_PROPERTY = "rdf4j.server.query.maxConcurrent";
+
+	/**
+	 * Configurable system property for the maximum number of queries that wait for admission per repository. Defaults
+	 * to {@value #DEFAULT_MAX_QUEUED}.
+	 */
+	public static final String MAX_QUEUED_PROPERTY = "rdf4j.server.query.maxQueued";
+
+	/**
+	 * Configurable system property for the maximum time, in milliseconds, that a query waits for admission. Defaults to
+	 * {@value #DEFAULT_MAX_WAIT}. A waiting query holds its servlet container thread, so this should stay well below
+	 * the time that clients are willing to wait. Queries with a shorter timeout wait at most until their timeout.
+	 */
+	public static final String MAX_WAIT_PROPERTY = "rdf4j.server.query.maxWait";
+
+	/**
+	 * Configurable system property for the number of seconds that rejected clients are asked to wait before retrying,
+	 * reported in the <var>Retry-After</var> header. Defaults to {@value #DEFAULT_RETRY_AFTER}.
+	 */
+	public static final String RETRY_AFTER_PROPERTY = "rdf4j.server.query.retryAfter";
+
+	/**
+	 * Configurable system property that assigns priorities to authenticated users, as a comma-separated list of
+	 * <code>user=priority</code> pairs, e.g. <code>dashboard=high,etl=low</code>. A priority assigned to a user takes
+	 * precedence over the {@value #PRIORITY_HEADER} header.
+	 */
+	public static final String USER_PRIORITIES_PROPERTY = "rdf4j.server.query.userPriorities";
+
+	/**
+	 * Request header by which clients can choose the {@link Priority} of a query: <code>high</code>,
+	 * <code>normal</code> or <code>low</code>.
+	 */
+	public static final String PRIORITY_HEADER = "X-RDF4J-Query-Priority";
+
+	public static final int DEFAULT_MAX_QUEUED = 64;
+
+	public static final long DEFAULT_MAX_WAIT = 10_000;
+
+	public static final int DEFAULT_RETRY_AFTER = 5;
+
+	/**
+	 * Priority classes of queries. Waiting queries are admitted in order of priority, and in order of arrival within a
+	 * priority.
+	 */
+	public enum Priority {
+		HIGH,
+		NORMAL,
+		LOW
+	}
+
+	/**
+	 * The right to evaluate a query, which must be closed once the query result has been processed.
+	 */
+	public interface Permit extends AutoCloseable {
+
+		@Override
+		void close();
+	}
+
+	private static final Logger logger = LoggerFactory.getLogger(QueryScheduler.class);
+
+	private static final Permit UNLIMITED = () -> {
+	};
+
+	private static volatile QueryScheduler instance;
+
+	private final int maxConcurrent;
+
+	private final int maxQueued;
+
+	private final long maxWait;
+
+	private final int retryAfter;
+
+	private final Map<String, Priority> userPriorities;
+
+	private final Map<String, RepositoryQueue> queues = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new scheduler.
+	 *
+	 * @param maxConcurrent  the maximum number of concurrently evaluated queries per repository, or 0 or less to admit
+	 *                       all queries immediately.
+	 * @param maxQueued      the maximum number of waiting queries per repository.
+	 * @param maxWait        the maximum time, in milliseconds, that a query waits for admission.
+	 * @param retryAfter     the number of seconds after which rejected clients may retry.
+	 * @param userPriorities priorities assigned to authenticated users.
+	 */
+	public QueryScheduler(int maxConcurrent, int maxQueued, long maxWait, int retryAfter,
+			Map<String, Priority> userPriorities) {
+		this.maxConcurrent = maxConcurrent;
+		this.maxQueued = Math.max(0, maxQueued);
+		this.maxWait = Math.max(0, maxWait);
+		this.retryAfter = Math.max(0, retryAfter);
+		this.userPriorities = Collections.unmodifiableMap(new HashMap<>(userPriorities));
+	}
+
+	/**
+	 * @return the scheduler shared by all query request handlers, configured from system properties.
+	 */
+	public static QueryScheduler getInstance() {
+		QueryScheduler result = instance;
+		if (result == null) {
+			synchronized (QueryScheduler.class) {
+				result = instance;
+				if (result == null) {
+					instance = result = fromSystemProperties();
+				}
+			}
+		}
+		return result;
+	}
+
+	private static QueryScheduler fromSystemProperties() {
+		int maxConcurrent = (int) getLongProperty(MAX_CONCURRENT_PROPERTY, 0);
+		int maxQueued = (int) getLongProperty(MAX_QUEUED_PROPERTY, DEFAULT_MAX_QUEUED);
+		long maxWait = getLongProperty(MAX_WAIT_PROPERTY, DEFAULT_MAX_WAIT);
+		int retryAfter = (int) getLongProperty(RETRY_AFTER_PROPERTY, DEFAULT_RETRY_AFTER);
+
+		Map<String, Priority> userPriorities = new HashMap<>();
+		String configuredValue = System.getProperty(USER_PRIORITIES_PROPERTY);
+		if (configuredValue != null) {
+			for (String entry : configuredValue.split(",")) {
+				int separator = entry.indexOf('=');
+				Priority priority = separator > 0 ? parsePriority(entry.substring(separator + 1)) : null;
+				if (priority == null) {
+					logger.warn("Ignoring invalid entry '{}' in property {}", entry, USER_PRIORITIES_PROPERTY);
+				} else {
+					userPriorities.put(entry.substring(0, separator).trim(), priority);
+				}
+			}
+		}
+
+		if (maxConcurrent > 0) {
+			logger.info("Limiting concurrent queries to {} per repository, with up to {} queued queries", maxConcurrent,
+					maxQueued);
+		}
+		return new QueryScheduler(maxConcurrent, maxQueued, maxWait, retryAfter, userPriorities);
+	}
+
+	private static long getLongProperty(String property, long defaultValue) {
+		final String configuredValue = System.getProperty(property);
+		if (configuredValue != null) {
+			try {
+				return Long.parseLong(configuredValue.trim());
+			} catch (NumberFormatException e) {
+				logger.warn("Expected integer value for property {}. Value will default to {}.", property,
+						defaultValue);
+			}
+		}
+		return defaultValue;
+	}
+
+	private static Priority parsePriority(String value) {
+		try {
+			return Priority.valueOf(value.trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return <var>true</var> if this scheduler limits the number of concurrent queries.
+	 */
+	public boolean isEnabled() {
+		return maxConcurrent > 0;
+	}
+
+	/**
+	 * Determines the priority of the query in the supplied request, from the authenticated user or the
+	 * {@value #PRIORITY_HEADER} header.
+	 *
+	 * @param request the query request.
+	 * @return the priority of the query, {@link Priority#NORMAL} if none is specified.
+	 */
+	public Priority getPriority(HttpServletRequest request) {
+		String user = request.getRemoteUser();
+		if (user != null) {
+			Priority priority = userPriorities.get(user);
+			if (priority != null) {
+				return priority;
+			}
+		}
+		String header = request.getHeader(PRIORITY_HEADER);
+		if (header != null) {
+			Priority priority = parsePriority(header);
+			if (priority != null) {
+				return priority;
+			}
+		}
+		return Priority.NORMAL;
+	}
+
+	/**
+	 * Waits until a query with the given priority may be evaluated on the given repository.
+	 *
+	 * @param repositoryID the ID of the repository.
+	 * @param priority     the priority of the query.
+	 * @return the permit to evaluate the query, which must be closed when the query result has been processed.
+	 * @throws ServiceUnavailableException if the query was not admitted.
+	 */
+	public Permit acquire(String repositoryID, Priority priority) throws ServiceUnavailableException {
+		return acquire(repositoryID, priority, 0);
+	}
+
+	/**
+	 * Waits until a query with the given priority may be evaluated on the given repository, but no longer than the
+	 * timeout of the query.
+	 *
+	 * @param repositoryID the ID of the repository.
+	 * @param priority     the priority of the query.
+	 * @param timeout      the timeout of the query in milliseconds, or 0 or less if it has none. The query waits for
+	 *                     the shorter of this timeout and the configured maximum waiting time.
+	 * @return the permit to evaluate the query, which must be closed when the query result has been processed.
+	 * @throws ServiceUnavailableException if the query was not admitted.
+	 */
+	public Permit acquire(String repositoryID, Priority priority, long timeout) throws ServiceUnavailableException {
+		if (!isEnabled()) {
+			return UNLIMITED;
+		}
+		long wait = timeout > 0 ? Math.min(timeout, maxWait) : maxWait;
+		return queues.computeIfAbsent(repositoryID, RepositoryQueue::new).acquire(priority, wait);
+	}
+
+	/**
+	 * @return the admission statistics of the repositories that have been queried.
+	 */
+	public Collection<RepositoryQueue> getQueues() {
+		return Collections.unmodifiableCollection(queues.values());
+	}
+
+	/**
+	 * Admission state and statistics of the queries on a single repository.
+	 */
+	public final class RepositoryQueue {
+
+		private final String repositoryID;
+
+		private final PriorityQueue<Waiter> waiting = new PriorityQueue<>(
+				Comparator.comparing((Waiter waiter) -> waiter.priority).thenComparingLong(waiter -> waiter.sequence));
+
+		private int running;
+
+		private long sequence;
+
+		private long admitted;
+
+		private long rejected;
+
+		private long totalWaitTime;
+
+		private long maxWaitTime;
+
+		private RepositoryQueue(String repositoryID) {
+			this.repositoryID = repositoryID;
+		}
+
+		private Permit acquire(Priority priority, long maxWait) throws ServiceUnavailableException {
+			long start = System.nanoTime();
+			synchronized (this) {
+				if (running < maxConcurrent && waiting.isEmpty()) {
+					running++;
+					admitted++;
+					return new QueuePermit();
+				}
+				if (waiting.size() >= maxQueued) {
+					rejected++;
+					throw new ServiceUnavailableException("Too many queries on repository " + repositoryID,
+							retryAfter);
+				}
+
+				Waiter waiter = new Waiter(priority, sequence++);
+				waiting.add(waiter);
+				long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxWait);
+				try {
+					while (!waiter.admitted) {
+						long remaining = deadline - System.nanoTime();
+						if (remaining <= 0) {
+							waiting.remove(waiter);
+							rejected++;
+							throw new ServiceUnavailableException(
+									"Timed out waiting for query admission on repository " + repositoryID,
+									retryAfter);
+						}
+						TimeUnit.NANOSECONDS.timedWait(this, remaining);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					if (waiter.admitted) {
+						release();
+					} else {
+						waiting.remove(waiter);
+					}
+					rejected++;
+					throw new ServiceUnavailableException("Interrupted while waiting for query admission",
+							retryAfter);
+				}
+
+				long waitTime = System.nanoTime() - start;
+				admitted++;
+				totalWaitTime += waitTime;
+				maxWaitTime = Math.max(maxWaitTime, waitTime);
+				return new QueuePermit();
+			}
+		}
+
+		private synchronized void release() {
+			Waiter next = waiting.poll();
+			if (next != null) {
+				// hand the slot over directly, so that newly arriving queries cannot overtake waiting ones
+				next.admitted = true;
+				notifyAll();
+			} else {
+				running--;
+			}
+		}
+
+		/**
+		 * @return the ID of the repository.
+		 */
+		public String getRepositoryID() {
+			return repositoryID;
+		}
+
+		/**
+		 * @return the number of queries that are currently being evaluated.
+		 */
+		public synchronized int getRunning() {
+			return running;
+		}
+
+		/**
+		 * @return the number of queries that are currently waiting for admission.
+		 */
+		public synchronized int getQueued() {
+			return waiting.size();
+		}
+
+		/**
+		 * @return the number of queries that have been admitted.
+		 */
+		public synchronized long getAdmitted() {
+			return admitted;
+		}
+
+		/**
+		 * @return the number of queries that have been rejected.
+		 */
+		public synchronized long getRejected() {
+			return rejected;
+		}
+
+		/**
+		 * Returns the accumulated time that admitted queries spent waiting for admission.
+		 *
+		 * @param unit the unit of the returned value
+		 * @return the total waiting time
+		 */
+		public synchronized long getTotalWaitTime(TimeUnit unit) {
+			return unit.convert(totalWaitTime, TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * Returns the longest time that an admitted query spent waiting for admission.
+		 *
+		 * @param unit the unit of the returned value
+		 * @return the maximum waiting time
+		 */
+		public synchronized long getMaxWaitTime(TimeUnit unit) {
+			return unit.convert(maxWaitTime, TimeUnit.NANOSECONDS);
+		}
+
+		private final class QueuePermit implements Permit {
+
+			private boolean closed;
+
+			@Override
+			public void close() {
+				synchronized (RepositoryQueue.this) {
+					if (closed) {
+						return;
+					}
+					closed = true;
+				}
+				release();
+			}
+		}
+	}
+
+	private static final class Waiter {
+
+		private final Priority priority;
+
+		private final long sequence;
+
+		private boolean admitted;
+
+		private Waiter(Priority priority, long sequence) {
+			this.priority = priority;
+			this.sequence = sequence;
+		}
+	}
+}
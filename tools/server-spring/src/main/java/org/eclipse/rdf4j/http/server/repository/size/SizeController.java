@@ -20,6 +20,7 @@ import org.eclipse.rdf4j.common.webapp.views.SimpleResponseView;
 import org.eclipse.rdf4j.http.protocol.Protocol;
 import org.eclipse.rdf4j.http.server.ProtocolUtil;
 import org.eclipse.rdf4j.http.server.ServerHTTPException;
+import org.eclipse.rdf4j.http.server.repository.RepositoryChangeTracker;
 import org.eclipse.rdf4j.http.server.repository.RepositoryInterceptor;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.ValueFactory;
@@ -48,10 +49,18 @@ public class SizeController extends AbstractController {
 
 		Map<String, Object> model = new HashMap<>();
 		final boolean headersOnly = METHOD_HEAD.equals(request.getMethod());
+		Repository repository = RepositoryInterceptor.getRepository(request);
 
-		if (!headersOnly) {
-			Repository repository = RepositoryInterceptor.getRepository(request);
+		String etag = RepositoryChangeTracker.getInstance().getETag(request, repository);
+		if (etag != null) {
+			if (RepositoryChangeTracker.isNotModified(request, etag)) {
+				RepositoryChangeTracker.sendNotModified(response, etag);
+				return null;
+			}
+			RepositoryChangeTracker.setETag(response, etag);
+		}
 
+		if (!headersOnly) {
 			ValueFactory vf = repository.getValueFactory();
 			Resource[] contexts = ProtocolUtil.parseContextParam(request, Protocol.CONTEXT_PARAM_NAME, vf);
 
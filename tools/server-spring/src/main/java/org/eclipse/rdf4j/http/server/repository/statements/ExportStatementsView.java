@@ -21,7 +21,9 @@ import java.util.Objects;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.rdf4j.http.server.CompressingResponseWrapper;
 import org.eclipse.rdf4j.http.server.ServerHTTPException;
+import org.eclipse.rdf4j.http.server.metrics.ServerMetrics;
 import org.eclipse.rdf4j.http.server.repository.RepositoryInterceptor;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
@@ -97,6 +99,7 @@ public class ExportStatementsView implements View {
 
 	@Override
 	public void render(Map model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+		response = CompressingResponseWrapper.wrap(request, response);
 
 		response.setBufferSize(1024 * 1024); // 1MB
 
@@ -136,7 +139,8 @@ public class ExportStatementsView implements View {
 		try (OutputStream out = response.getOutputStream()) {
 			RDFWriter writer = factory.getWriter(out);
 			try (RepositoryConnection conn = RepositoryInterceptor.getRepositoryConnection(request)) {
-				conn.exportStatements(subj, pred, obj, useInferencing, writer, contexts);
+				conn.exportStatements(subj, pred, obj, useInferencing, ServerMetrics.countStatements(request, writer),
+						contexts);
 				out.flush();
 				response.flushBuffer();
 			} catch (RDFHandlerException e) {
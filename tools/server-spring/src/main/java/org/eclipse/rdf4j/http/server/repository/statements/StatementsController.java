@@ -48,6 +48,7 @@ import org.eclipse.rdf4j.http.server.ClientHTTPException;
 import org.eclipse.rdf4j.http.server.HTTPException;
 import org.eclipse.rdf4j.http.server.ProtocolUtil;
 import org.eclipse.rdf4j.http.server.ServerHTTPException;
+import org.eclipse.rdf4j.http.server.repository.RepositoryChangeTracker;
 import org.eclipse.rdf4j.http.server.repository.RepositoryInterceptor;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
@@ -308,6 +309,15 @@ public class StatementsController extends AbstractController {
 		RDFWriterFactory rdfWriterFactory = ProtocolUtil.getAcceptableService(request, response,
 				RDFWriterRegistry.getInstance());
 
+		String etag = RepositoryChangeTracker.getInstance().getETag(request, repository);
+		if (etag != null) {
+			if (RepositoryChangeTracker.isNotModified(request, etag)) {
+				RepositoryChangeTracker.sendNotModified(response, etag);
+				return null;
+			}
+			RepositoryChangeTracker.setETag(response, etag);
+		}
+
 		Map<String, Object> model = new HashMap<>();
 		model.put(ExportStatementsView.SUBJECT_KEY, subj);
 		model.put(ExportStatementsView.PREDICATE_KEY, pred);
@@ -324,8 +334,8 @@ public class StatementsController extends AbstractController {
 	 */
 	private ModelAndView getTransactionResultResult(Repository repository, HttpServletRequest request,
 			HttpServletResponse response) throws IOException, ClientHTTPException, ServerHTTPException, HTTPException {
-		InputStream in = request.getInputStream();
-		try (RepositoryConnection repositoryCon = RepositoryInterceptor.getRepositoryConnection(request)) {
+		InputStream in = ProtocolUtil.getRequestInputStream(request);
+		try (in; RepositoryConnection repositoryCon = RepositoryInterceptor.getRepositoryConnection(request)) {
 			logger.debug("Processing transaction...");
 
 			TransactionReader reader = new TransactionReader();
@@ -386,8 +396,8 @@ public class StatementsController extends AbstractController {
 			baseURIString = baseURI.toString();
 		}
 
-		InputStream in = request.getInputStream();
-		try (RepositoryConnection repositoryCon = RepositoryInterceptor.getRepositoryConnection(request)) {
+		InputStream in = ProtocolUtil.getRequestInputStream(request);
+		try (in; RepositoryConnection repositoryCon = RepositoryInterceptor.getRepositoryConnection(request)) {
 			repositoryCon.begin();
 
 			if (preserveNodeIds) {
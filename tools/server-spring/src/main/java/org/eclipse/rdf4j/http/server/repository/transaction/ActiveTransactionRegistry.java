@@ -16,6 +16,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.rdf4j.http.protocol.Protocol;
 import org.eclipse.rdf4j.repository.RepositoryException;
@@ -57,6 +59,30 @@ public enum ActiveTransactionRegistry {
 	@Deprecated(since = "2.3")
 	public final static int DEFAULT_TIMEOUT = Protocol.TIMEOUT.DEFAULT;
 
+	/**
+	 * Configurable system property {@code rdf4j.server.txn.threads} for selecting the kind of thread that executes the
+	 * operations of a transaction. Every transaction is bound to its own thread, since repository connections may hold
+	 * thread-owned locks between operations. With the value {@code virtual}, these are virtual threads, which makes
+	 * idle transactions cheap; this requires a Java runtime that supports virtual threads and falls back to platform
+	 * threads otherwise. Any other value selects platform threads, which is the default.
+	 */
+	public static final String TRANSACTION_THREADS_PROPERTY = "rdf4j.server.txn.threads";
+
+	/**
+	 * Number of transaction operations that have started executing.
+	 */
+	private final LongAdder operationCount = new LongAdder();
+
+	/**
+	 * Accumulated time (in nanoseconds) that transaction operations spent waiting for the transaction thread.
+	 */
+	private final LongAdder totalQueueTime = new LongAdder();
+
+	/**
+	 * Longest time (in nanoseconds) that a transaction operation spent waiting for the transaction thread.
+	 */
+	private final LongAccumulator maxQueueTime = new LongAccumulator(Math::max, 0);
+
 	/**
 	 * primary cache for transactions, accessible via transaction ID. Cache entries are kept until a transaction signals
 	 * it has ended, or until the secondary cache finds an "orphaned" transaction entry.
@@ -230,6 +256,52 @@ public enum ActiveTransactionRegistry {
 		}
 	}
 
+	/**
+	 * @return the number of transactions that are currently registered.
+	 */
+	public long getActiveTransactionCount() {
+		return primaryCache.size();
+	}
+
+	/**
+	 * @return the number of transaction operations that have started executing.
+	 */
+	public long getOperationCount() {
+		return operationCount.sum();
+	}
+
+	/**
+	 * Returns the accumulated time that transaction operations spent queued, between being submitted by a request and
+	 * starting to execute on the transaction thread.
+	 *
+	 * @param unit the unit of the returned value
+	 * @return the total queueing time
+	 */
+	public long getTotalQueueTime(TimeUnit unit) {
+		return unit.convert(totalQueueTime.sum(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the longest time that a single transaction operation spent queued.
+	 *
+	 * @param unit the unit of the returned value
+	 * @return the maximum queueing time
+	 */
+	public long getMaxQueueTime(TimeUnit unit) {
+		return unit.convert(maxQueueTime.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Records the time that a transaction operation was queued before it started executing.
+	 *
+	 * @param nanos the queueing time in nanoseconds
+	 */
+	void recordQueueTime(long nanos) {
+		operationCount.increment();
+		totalQueueTime.add(nanos);
+		maxQueueTime.accumulate(nanos);
+	}
+
 	/**
 	 * Checks if the given transaction entry is still in the secondary cache (resetting its last access time in the
 	 * process) and if not reinserts it.
@@ -12,6 +12,9 @@ package org.eclipse.rdf4j.http.server.repository.transaction;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.Callable;
@@ -19,15 +22,18 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.rdf4j.common.transaction.IsolationLevel;
 import org.eclipse.rdf4j.common.transaction.TransactionSetting;
+import org.eclipse.rdf4j.model.BNode;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.vocabulary.RDF4J;
 import org.eclipse.rdf4j.model.vocabulary.SESAME;
 import org.eclipse.rdf4j.query.BooleanQuery;
@@ -51,6 +57,7 @@ import org.eclipse.rdf4j.rio.RDFWriter;
 import org.eclipse.rdf4j.rio.Rio;
 import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
 import org.eclipse.rdf4j.rio.helpers.BasicParserSettings;
+import org.eclipse.rdf4j.rio.helpers.RDFHandlerWrapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -85,11 +92,17 @@ class Transaction implements AutoCloseable {
 
 	private final RepositoryConnection txnConnection;
 
+	/**
+	 * Creates the threads that execute transactions.
+	 *
+	 * @see ActiveTransactionRegistry#TRANSACTION_THREADS_PROPERTY
+	 */
+	private static final ThreadFactory threadFactory = createThreadFactory();
+
 	/**
 	 * The {@link ExecutorService} that performs all of the operations related to this Transaction.
 	 */
-	private final ExecutorService executor = Executors
-			.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("rdf4j-transaction-%d").build());
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(threadFactory);
 
 	/**
 	 * Counter of the active operations submitted to the executor
@@ -260,42 +273,141 @@ class Transaction implements AutoCloseable {
 	}
 
 	/**
-	 * Adds RDF data from an {@link InputStream} to the transaction.
+	 * Adds RDF data from an {@link InputStream} to the transaction. The data is parsed on the calling thread and passed
+	 * to the transaction thread in batches, so that concurrent uploads into the same transaction are parsed in parallel
+	 * while their statements are added one batch at a time.
 	 *
-	 * @param inputStream
-	 * @param baseURI
-	 * @param format
-	 * @param contexts
-	 * @throws ExecutionException
-	 * @throws InterruptedException
+	 * @param inputStream    the data
+	 * @param baseURI        the base URI to resolve relative IRIs against
+	 * @param format         the format of the data
+	 * @param preserveBNodes whether blank node identifiers are used as-is
+	 * @param document       the identifier of the document the data is a chunk of, or <var>null</var>. Equal blank node
+	 *                       identifiers in all chunks of a document added to this transaction denote the same blank
+	 *                       node.
+	 * @param contexts       the contexts to add the data to
 	 */
-	void add(InputStream inputStream, String baseURI, RDFFormat format, boolean preserveBNodes, Resource... contexts)
-			throws InterruptedException, ExecutionException {
-		Future<Boolean> result = submit(() -> {
-			logger.debug("executing add operation");
-			try {
-				if (preserveBNodes) {
-					// create a reconfigured parser + inserter instead of
-					// relying on standard
-					// repositoryconn add method.
-					RDFParser parser = Rio.createParser(format);
-					parser.getParserConfig().set(BasicParserSettings.PRESERVE_BNODE_IDS, true);
-					RDFInserter inserter = new RDFInserter(txnConnection);
-					inserter.setPreserveBNodeIDs(true);
-					if (contexts.length > 0) {
-						inserter.enforceContext(contexts);
+	void add(InputStream inputStream, String baseURI, RDFFormat format, boolean preserveBNodes, String document,
+			Resource... contexts)
+			throws InterruptedException, ExecutionException, IOException {
+		logger.debug("executing add operation");
+		ValueFactory vf = txnConnection.getValueFactory();
+		RDFParser parser = Rio.createParser(format, vf);
+		// a copy of the parser config of the transaction connection, as blank node handling differs per upload
+		ParserConfig connectionConfig = txnConnection.getParserConfig();
+		ParserConfig config = new ParserConfig();
+		connectionConfig.getSettings().forEach(config::set);
+		config.setNonFatalErrors(connectionConfig.getNonFatalErrors());
+		config.set(BasicParserSettings.PRESERVE_BNODE_IDS, preserveBNodes || document != null);
+		parser.setParserConfig(config);
+
+		BatchInserter inserter = new BatchInserter(contexts);
+		if (document != null && !preserveBNodes) {
+			String scope = id + "-" + document + "-";
+			parser.setRDFHandler(new RDFHandlerWrapper(inserter) {
+
+				@Override
+				public void handleStatement(Statement st) throws RDFHandlerException {
+					Resource subject = scope(st.getSubject());
+					Value object = scope(st.getObject());
+					Resource context = scope(st.getContext());
+					super.handleStatement(vf.createStatement(subject, st.getPredicate(), object, context));
+				}
+
+				private <V extends Value> V scope(V value) {
+					if (value instanceof BNode) {
+						@SuppressWarnings("unchecked")
+						V scoped = (V) vf.createBNode(scope + ((BNode) value).getID());
+						return scoped;
 					}
-					parser.setRDFHandler(inserter);
-					parser.parse(inputStream, baseURI);
-				} else {
-					txnConnection.add(inputStream, baseURI, format, contexts);
+					return value;
+				}
+			});
+		} else {
+			parser.setRDFHandler(inserter);
+		}
+
+		try {
+			parser.parse(inputStream, baseURI);
+		} finally {
+			inserter.awaitPending();
+		}
+	}
+
+	/**
+	 * Collects parsed statements into batches, each of which is added by the transaction thread. A new batch is only
+	 * handed over once the previous one has been added, which bounds the memory used per upload.
+	 */
+	private class BatchInserter extends AbstractRDFHandler {
+
+		private static final int BATCH_SIZE = 10_000;
+
+		private final RDFInserter inserter = new RDFInserter(txnConnection);
+
+		private List<Statement> statements = new ArrayList<>();
+
+		private Map<String, String> namespaces = new LinkedHashMap<>();
+
+		private Future<Boolean> pending;
+
+		BatchInserter(Resource... contexts) {
+			// blank nodes have already been made unique by the parser
+			inserter.setPreserveBNodeIDs(true);
+			if (contexts.length > 0) {
+				inserter.enforceContext(contexts);
+			}
+		}
+
+		@Override
+		public void handleNamespace(String prefix, String uri) throws RDFHandlerException {
+			namespaces.putIfAbsent(prefix, uri);
+		}
+
+		@Override
+		public void handleStatement(Statement st) throws RDFHandlerException {
+			statements.add(st);
+			if (statements.size() >= BATCH_SIZE) {
+				submitBatch(false);
+			}
+		}
+
+		@Override
+		public void endRDF() throws RDFHandlerException {
+			submitBatch(true);
+		}
+
+		private void submitBatch(boolean last) throws RDFHandlerException {
+			awaitPending();
+			List<Statement> batch = statements;
+			Map<String, String> batchNamespaces = namespaces;
+			statements = new ArrayList<>();
+			namespaces = new LinkedHashMap<>();
+			pending = submit(() -> {
+				batchNamespaces.forEach(inserter::handleNamespace);
+				batch.forEach(inserter::handleStatement);
+				if (last) {
+					inserter.endRDF();
 				}
 				return true;
-			} catch (IOException e) {
-				throw new RuntimeException(e);
+			});
+		}
+
+		void awaitPending() throws RDFHandlerException {
+			if (pending != null) {
+				Future<Boolean> result = pending;
+				pending = null;
+				try {
+					getFromFuture(result);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new RDFHandlerException(e);
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof RuntimeException) {
+						throw (RuntimeException) e.getCause();
+					}
+					throw new RDFHandlerException(e.getCause());
+				}
 			}
-		});
-		getFromFuture(result);
+		}
 	}
 
 	/**
@@ -430,7 +542,7 @@ class Transaction implements AutoCloseable {
 	 * @return A {@link Future} that can be used to track whether the operation has succeeded and get the result.
 	 */
 	private <T> Future<T> submit(final Callable<T> callable) {
-		final Future<T> result = executor.submit(callable);
+		final Future<T> result = executor.submit(timed(callable));
 		// increment the counter of the active operations
 		// note that it need to be decremented once the Future completes
 		activeOperations.incrementAndGet();
@@ -446,7 +558,7 @@ class Transaction implements AutoCloseable {
 	 * @return A {@link Future} that can be used to track whether the operation has succeeded and get the result.
 	 */
 	private <T> Future<T> submitAndShutdown(final Callable<T> callable) {
-		final Future<T> result = executor.submit(callable);
+		final Future<T> result = executor.submit(timed(callable));
 		// increment the counter of the active operations
 		// note that it need to be decremented once the Future completes
 		activeOperations.incrementAndGet();
@@ -454,6 +566,39 @@ class Transaction implements AutoCloseable {
 		return result;
 	}
 
+	/**
+	 * Wraps the task to report the time it spends queued to the {@link ActiveTransactionRegistry}.
+	 */
+	private static <T> Callable<T> timed(final Callable<T> callable) {
+		final long submitted = System.nanoTime();
+		return () -> {
+			ActiveTransactionRegistry.INSTANCE.recordQueueTime(System.nanoTime() - submitted);
+			return callable.call();
+		};
+	}
+
+	/**
+	 * Creates a factory for virtual threads if these are requested and supported by the runtime, or for platform
+	 * threads otherwise. Virtual threads are created reflectively, as they are not available on all supported Java
+	 * versions.
+	 */
+	private static ThreadFactory createThreadFactory() {
+		String threads = System.getProperty(ActiveTransactionRegistry.TRANSACTION_THREADS_PROPERTY, "platform");
+		if ("virtual".equalsIgnoreCase(threads.trim())) {
+			try {
+				Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+				Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+				builder = builderClass.getMethod("name", String.class, long.class)
+						.invoke(builder, "rdf4j-transaction-", 0L);
+				return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				logger.warn("Virtual threads are not supported by this Java runtime, using platform threads for "
+						+ "transactions");
+			}
+		}
+		return new ThreadFactoryBuilder().setNameFormat("rdf4j-transaction-%d").build();
+	}
+
 	private <T> T getFromFuture(Future<T> result) throws InterruptedException, ExecutionException {
 		try {
 			return result.get();
@@ -31,6 +31,7 @@ import static org.eclipse.rdf4j.http.protocol.Protocol.USING_GRAPH_PARAM_NAME;
 import static org.eclipse.rdf4j.http.protocol.Protocol.USING_NAMED_GRAPH_PARAM_NAME;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
@@ -41,6 +42,7 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -102,6 +104,11 @@ import org.springframework.web.servlet.mvc.AbstractController;
  */
 public class TransactionController extends AbstractController implements DisposableBean {
 
+	/**
+	 * The identifiers of chunked documents accepted by {@link Protocol#CHUNK_PARAM_NAME}.
+	 */
+	private static final Pattern DOCUMENT_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
 	private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
 	public TransactionController() throws ApplicationContextException {
@@ -244,18 +251,28 @@ public class TransactionController extends AbstractController implements Disposa
 		final boolean preserveNodeIds = ProtocolUtil.parseBooleanParam(request, Protocol.PRESERVE_BNODE_ID_PARAM_NAME,
 				false);
 
+		final String document = request.getParameter(Protocol.CHUNK_PARAM_NAME);
+		if (document != null && !DOCUMENT_ID.matcher(document).matches()) {
+			throw new ClientHTTPException(SC_BAD_REQUEST,
+					"Invalid value for parameter " + Protocol.CHUNK_PARAM_NAME + ": " + document);
+		}
+
 		try {
 			RDFFormat format;
 			switch (action) {
 			case ADD:
 				format = Rio.getParserFormatForMIMEType(request.getContentType())
 						.orElseThrow(Rio.unsupportedFormat(request.getContentType()));
-				transaction.add(request.getInputStream(), baseURI, format, preserveNodeIds, contexts);
+				try (InputStream in = ProtocolUtil.getRequestInputStream(request)) {
+					transaction.add(in, baseURI, format, preserveNodeIds, document, contexts);
+				}
 				break;
 			case DELETE:
 				format = Rio.getParserFormatForMIMEType(request.getContentType())
 						.orElseThrow(Rio.unsupportedFormat(request.getContentType()));
-				transaction.delete(format, request.getInputStream(), baseURI);
+				try (InputStream in = ProtocolUtil.getRequestInputStream(request)) {
+					transaction.delete(format, in, baseURI);
+				}
 				break;
 			case UPDATE:
 				return getSparqlUpdateResult(transaction, request, response);
@@ -20,6 +20,7 @@ import java.util.concurrent.ExecutionException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.rdf4j.http.server.CompressingResponseWrapper;
 import org.eclipse.rdf4j.http.server.ServerHTTPException;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
@@ -72,6 +73,7 @@ public class TransactionExportStatementsView implements View {
 	@SuppressWarnings("rawtypes")
 	@Override
 	public void render(Map model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+		response = CompressingResponseWrapper.wrap(request, response);
 		Resource subj = (Resource) model.get(SUBJECT_KEY);
 		IRI pred = (IRI) model.get(PREDICATE_KEY);
 		Value obj = (Value) model.get(OBJECT_KEY);
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class CompressingResponseWrapperTest {
+
+	private static final int THRESHOLD = 1024;
+
+	private MockHttpServletRequest request;
+
+	private MockHttpServletResponse response;
+
+	@BeforeEach
+	public void setUp() {
+		request = new MockHttpServletRequest();
+		response = new MockHttpServletResponse();
+	}
+
+	@Test
+	public void testDisabled() {
+		request.addHeader("Accept-Encoding", "gzip");
+
+		assertThat(CompressingResponseWrapper.wrap(request, response, -1)).isSameAs(response);
+		assertThat(response.getHeader("Vary")).isNull();
+	}
+
+	@Test
+	public void testNotAccepted() {
+		request.addHeader("Accept-Encoding", "br, gzip;q=0");
+
+		assertThat(CompressingResponseWrapper.wrap(request, response, THRESHOLD)).isSameAs(response);
+		assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+	}
+
+	@Test
+	public void testGzip() throws IOException {
+		request.addHeader("Accept-Encoding", "deflate;q=0.5, gzip");
+		byte[] body = body(10 * THRESHOLD);
+
+		write(CompressingResponseWrapper.wrap(request, response, THRESHOLD), body);
+
+		assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+		assertThat(response.getContentAsByteArray()).hasSizeLessThan(body.length);
+		assertThat(decode(new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))))
+				.isEqualTo(body);
+	}
+
+	@Test
+	public void testDeflate() throws IOException {
+		request.addHeader("Accept-Encoding", "deflate");
+		byte[] body = body(10 * THRESHOLD);
+
+		write(CompressingResponseWrapper.wrap(request, response, THRESHOLD), body);
+
+		assertThat(response.getHeader("Content-Encoding")).isEqualTo("deflate");
+		assertThat(decode(new InflaterInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))))
+				.isEqualTo(body);
+	}
+
+	@Test
+	public void testBelowThreshold() throws IOException {
+		request.addHeader("Accept-Encoding", "gzip");
+		byte[] body = body(THRESHOLD - 1);
+
+		write(CompressingResponseWrapper.wrap(request, response, THRESHOLD), body);
+
+		assertThat(response.getHeader("Content-Encoding")).isNull();
+		assertThat(response.getContentAsByteArray()).isEqualTo(body);
+	}
+
+	@Test
+	public void testContentLength() throws IOException {
+		request.addHeader("Accept-Encoding", "gzip");
+
+		HttpServletResponse compressing = CompressingResponseWrapper.wrap(request, response, THRESHOLD);
+		compressing.setContentLength(10 * THRESHOLD);
+		write(compressing, body(10 * THRESHOLD));
+
+		assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+		assertThat(response.getHeader("Content-Length")).isNull();
+
+		response = new MockHttpServletResponse();
+		compressing = CompressingResponseWrapper.wrap(request, response, THRESHOLD);
+		compressing.setContentLength(10);
+		write(compressing, body(10));
+
+		assertThat(response.getHeader("Content-Encoding")).isNull();
+		assertThat(response.getContentLength()).isEqualTo(10);
+	}
+
+	@Test
+	public void testReset() throws IOException {
+		request.addHeader("Accept-Encoding", "gzip");
+		byte[] body = body(10);
+
+		HttpServletResponse compressing = CompressingResponseWrapper.wrap(request, response, THRESHOLD);
+		OutputStream out = compressing.getOutputStream();
+		out.write(body(100));
+		compressing.reset();
+		out.write(body);
+		CompressingResponseWrapper.finish(compressing);
+
+		assertThat(response.getContentAsByteArray()).isEqualTo(body);
+		assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+	}
+
+	private static void write(HttpServletResponse response, byte[] body) throws IOException {
+		OutputStream out = response.getOutputStream();
+		// write in several chunks to cross the threshold mid-write
+		for (int i = 0; i < body.length; i += 100) {
+			out.write(body, i, Math.min(100, body.length - i));
+		}
+		CompressingResponseWrapper.finish(response);
+	}
+
+	private static byte[] body(int length) {
+		StringBuilder builder = new StringBuilder(length);
+		while (builder.length() < length) {
+			builder.append("<urn:s> <urn:p> \"").append(builder.length()).append("\" .\n");
+		}
+		return builder.substring(0, length).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] decode(InputStream in) throws IOException {
+		try (in) {
+			return in.readAllBytes();
+		}
+	}
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+public class ProtocolUtilTest {
+
+	private static final byte[] DATA = "<urn:s> <urn:p> <urn:o> .\n".getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	public void testGetRequestInputStream() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setContent(DATA);
+
+		assertThat(read(ProtocolUtil.getRequestInputStream(request))).isEqualTo(DATA);
+	}
+
+	@Test
+	public void testGetRequestInputStreamGzip() throws Exception {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+			out.write(DATA);
+		}
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Content-Encoding", "gzip");
+		request.setContent(compressed.toByteArray());
+
+		assertThat(read(ProtocolUtil.getRequestInputStream(request))).isEqualTo(DATA);
+	}
+
+	@Test
+	public void testGetRequestInputStreamUnsupported() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Content-Encoding", "br");
+		request.setContent(DATA);
+
+		assertThatThrownBy(() -> ProtocolUtil.getRequestInputStream(request))
+				.isInstanceOfSatisfying(ClientHTTPException.class, e -> assertThat(e.getStatusCode()).isEqualTo(415));
+	}
+
+	private static byte[] read(InputStream in) throws IOException {
+		try (in) {
+			return in.readAllBytes();
+		}
+	}
+}
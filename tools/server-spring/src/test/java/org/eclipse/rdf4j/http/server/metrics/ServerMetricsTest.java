@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.server.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.io.StringWriter;
+
+import org.eclipse.rdf4j.http.protocol.Protocol;
+import org.eclipse.rdf4j.http.server.ClientHTTPException;
+import org.eclipse.rdf4j.repository.Repository;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class ServerMetricsTest {
+
+	private final ServerMetrics metrics = new ServerMetrics(true);
+
+	@Test
+	public void testOperation() {
+		assertThat(ServerMetrics.getOperation(newRequest("GET", "/repo"))).isEqualTo("query");
+		assertThat(ServerMetrics.getOperation(newRequest("DELETE", "/repo"))).isEqualTo("repository");
+		assertThat(ServerMetrics.getOperation(newRequest("GET", "/repo/statements"))).isEqualTo("export");
+		assertThat(ServerMetrics.getOperation(newRequest("PUT", "/repo/statements"))).isEqualTo("add");
+		assertThat(ServerMetrics.getOperation(newRequest("DELETE", "/repo/statements"))).isEqualTo("remove");
+		assertThat(ServerMetrics.getOperation(newRequest("GET", "/repo/size"))).isEqualTo("size");
+		assertThat(ServerMetrics.getOperation(newRequest("POST", "/repo/transactions"))).isEqualTo("begin");
+
+		MockHttpServletRequest update = newRequest("POST", "/repo/statements");
+		update.setContentType(Protocol.SPARQL_UPDATE_MIME_TYPE);
+		assertThat(ServerMetrics.getOperation(update)).isEqualTo("update");
+
+		MockHttpServletRequest commit = newRequest("PUT", "/repo/transactions/1");
+		commit.addParameter(Protocol.ACTION_PARAM_NAME, Protocol.Action.COMMIT.name());
+		assertThat(ServerMetrics.getOperation(commit)).isEqualTo("commit");
+
+		MockHttpServletRequest unknown = newRequest("PUT", "/repo/transactions/1");
+		unknown.addParameter(Protocol.ACTION_PARAM_NAME, "DROP");
+		assertThat(ServerMetrics.getOperation(unknown)).isEqualTo("other");
+		assertThat(ServerMetrics.getOperation(newRequest("DELETE", "/repo/transactions/1"))).isEqualTo("rollback");
+	}
+
+	@Test
+	public void testRecordRequests() throws Exception {
+		MockHttpServletRequest query = newRequest("GET", "/repo");
+		metrics.requestStarted(query);
+		assertThat(write(metrics)).contains("rdf4j_server_requests_in_flight{repository=\"repo\"} 1");
+
+		ServerMetrics.setResultSize(query, 42);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		response.setHeader("ETag", "W/\"1\"");
+		metrics.requestCompleted(query, response);
+
+		MockHttpServletRequest notModified = newRequest("GET", "/repo");
+		metrics.requestStarted(notModified);
+		MockHttpServletResponse notModifiedResponse = new MockHttpServletResponse();
+		notModifiedResponse.setStatus(304);
+		metrics.requestCompleted(notModified, notModifiedResponse);
+
+		MockHttpServletRequest failed = newRequest("DELETE", "/repo/statements");
+		metrics.requestStarted(failed);
+		MockHttpServletResponse failedResponse = new MockHttpServletResponse();
+		failedResponse.setStatus(500);
+		metrics.requestCompleted(failed, failedResponse);
+
+		String output = write(metrics);
+		assertThat(output)
+				.contains("# TYPE rdf4j_server_request_duration_seconds histogram\n")
+				.contains("rdf4j_server_requests_total{repository=\"repo\",operation=\"query\",status=\"2xx\"} 1\n")
+				.contains("rdf4j_server_requests_total{repository=\"repo\",operation=\"query\",status=\"3xx\"} 1\n")
+				.contains("rdf4j_server_requests_total{repository=\"repo\",operation=\"remove\",status=\"5xx\"} 1\n")
+				.contains(
+						"rdf4j_server_request_duration_seconds_bucket{repository=\"repo\",operation=\"query\",le=\"+Inf\"} 2\n")
+				.contains("rdf4j_server_request_duration_seconds_count{repository=\"repo\",operation=\"query\"} 2\n")
+				.contains("rdf4j_server_result_size_sum{repository=\"repo\",operation=\"query\"} 42\n")
+				.contains("rdf4j_server_result_size_count{repository=\"repo\",operation=\"query\"} 1\n")
+				.contains("rdf4j_server_requests_in_flight{repository=\"repo\"} 0\n")
+				.contains("rdf4j_server_cache_requests_total{repository=\"repo\",result=\"hit\"} 1\n")
+				.contains("rdf4j_server_cache_requests_total{repository=\"repo\",result=\"miss\"} 1\n")
+				.contains("rdf4j_server_transactions_active ");
+	}
+
+	@Test
+	public void testNotRecordedWhenDisabled() throws Exception {
+		ServerMetrics disabled = new ServerMetrics(false);
+		MockHttpServletRequest query = newRequest("GET", "/repo");
+		disabled.requestStarted(query);
+		disabled.requestCompleted(query, new MockHttpServletResponse());
+
+		assertThat(write(disabled)).doesNotContain("repository=\"repo\"");
+		assertThatThrownBy(() -> new MetricsController(disabled).handleRequest(new MockHttpServletRequest("GET",
+				"/metrics"), new MockHttpServletResponse())).isInstanceOf(ClientHTTPException.class);
+	}
+
+	@Test
+	public void testUnknownRepository() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			// creating a repository that fails
+			MockHttpServletRequest create = newRequest("PUT", "/new" + i);
+			create.removeAttribute("repository");
+			metrics.requestStarted(create);
+			assertThat(write(metrics)).contains("rdf4j_server_requests_in_flight{repository=\"(unknown)\"} 1");
+			MockHttpServletResponse response = new MockHttpServletResponse();
+			response.setStatus(400);
+			metrics.requestCompleted(create, response);
+		}
+
+		MockHttpServletRequest created = newRequest("PUT", "/created");
+		created.removeAttribute("repository");
+		metrics.requestStarted(created);
+		metrics.requestCompleted(created, new MockHttpServletResponse());
+
+		String output = write(metrics);
+		assertThat(output)
+				.contains(
+						"rdf4j_server_requests_total{repository=\"(unknown)\",operation=\"repository\",status=\"4xx\"} 3\n")
+				.contains("rdf4j_server_requests_in_flight{repository=\"(unknown)\"} 0\n")
+				.contains(
+						"rdf4j_server_requests_total{repository=\"created\",operation=\"repository\",status=\"2xx\"} 1\n")
+				.doesNotContain("repository=\"new");
+	}
+
+	@Test
+	public void testMetricsController() throws Exception {
+		MockHttpServletRequest query = newRequest("GET", "/repo");
+		metrics.requestStarted(query);
+		metrics.requestCompleted(query, new MockHttpServletResponse());
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		new MetricsController(metrics).handleRequest(new MockHttpServletRequest("GET", "/metrics"), response);
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getContentType()).isEqualTo(ServerMetrics.CONTENT_TYPE);
+		assertThat(response.getContentAsString())
+				.contains("rdf4j_server_requests_total{repository=\"repo\",operation=\"query\",status=\"2xx\"} 1\n");
+	}
+
+	private static MockHttpServletRequest newRequest(String method, String pathInfo) {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, "/repositories" + pathInfo);
+		request.setPathInfo(pathInfo);
+		// as set by the RepositoryInterceptor
+		request.setAttribute("repositoryID", pathInfo.substring(1).split("/")[0]);
+		request.setAttribute("repository", mock(Repository.class));
+		return request;
+	}
+
+	private static String write(ServerMetrics metrics) throws Exception {
+		StringWriter writer = new StringWriter();
+		metrics.write(writer);
+		return writer.toString();
+	}
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.server.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.eclipse.rdf4j.http.protocol.Protocol;
+import org.eclipse.rdf4j.http.server.repository.handler.DefaultQueryRequestHandler;
+import org.eclipse.rdf4j.http.server.repository.handler.QueryScheduler;
+import org.eclipse.rdf4j.http.server.repository.resolver.RepositoryResolver;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+public class RepositoryChangeTrackerTest {
+
+	private final RepositoryChangeTracker tracker = new RepositoryChangeTracker(true);
+
+	private Repository repository;
+
+	@BeforeEach
+	public void setUp() {
+		repository = new SailRepository(new MemoryStore());
+		repository.init();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		repository.shutDown();
+	}
+
+	@Test
+	public void testETagChangesOnCommit() {
+		MockHttpServletRequest request = newQueryRequest("SELECT * WHERE { ?s ?p ?o }");
+
+		String etag = tracker.getETag(request, repository);
+		assertThat(etag).startsWith("W/\"");
+		assertThat(tracker.getETag(request, repository)).isEqualTo(etag);
+		assertThat(tracker.getChangeCount(repository)).isZero();
+
+		try (RepositoryConnection connection = repository.getConnection()) {
+			ValueFactory vf = connection.getValueFactory();
+			connection.add(vf.createBNode(), RDF.TYPE, RDFS.RESOURCE);
+		}
+
+		assertThat(tracker.getChangeCount(repository)).isEqualTo(1);
+		assertThat(tracker.getETag(request, repository)).isNotEqualTo(etag);
+	}
+
+	@Test
+	public void testETagDependsOnRequest() {
+		MockHttpServletRequest request = newQueryRequest("SELECT * WHERE { ?s ?p ?o }");
+		MockHttpServletRequest otherQuery = newQueryRequest("ASK { ?s ?p ?o }");
+		MockHttpServletRequest otherFormat = newQueryRequest("SELECT * WHERE { ?s ?p ?o }");
+		otherFormat.addHeader("Accept", "application/sparql-results+json");
+
+		String etag = tracker.getETag(request, repository);
+		assertThat(tracker.getETag(otherQuery, repository)).isNotEqualTo(etag);
+		assertThat(tracker.getETag(otherFormat, repository)).isNotEqualTo(etag);
+	}
+
+	@Test
+	public void testNoETag() {
+		assertThat(new RepositoryChangeTracker(false).getETag(newQueryRequest("ASK {}"), repository)).isNull();
+		assertThat(tracker.getETag(newQueryRequest("ASK {}"), mock(Repository.class))).isNull();
+		assertThat(tracker.getETag(newQueryRequest("SELECT (NOW() AS ?now) {}"), repository)).isNull();
+		assertThat(tracker.getETag(newQueryRequest("SELECT (rand () AS ?r) {}"), repository)).isNull();
+		assertThat(tracker.getETag(newQueryRequest("SELECT * { SERVICE <urn:x> { ?s ?p ?o } }"), repository))
+				.isNull();
+	}
+
+	@Test
+	public void testIsNotModified() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		assertThat(RepositoryChangeTracker.isNotModified(request, "W/\"a\"")).isFalse();
+
+		request.addHeader("If-None-Match", "\"b\", \"a\"");
+		assertThat(RepositoryChangeTracker.isNotModified(request, "W/\"a\"")).isTrue();
+		assertThat(RepositoryChangeTracker.isNotModified(request, "W/\"c\"")).isFalse();
+		assertThat(RepositoryChangeTracker.isNotModified(request, null)).isFalse();
+
+		MockHttpServletRequest any = new MockHttpServletRequest();
+		any.addHeader("If-None-Match", "*");
+		assertThat(RepositoryChangeTracker.isNotModified(any, "W/\"c\"")).isTrue();
+	}
+
+	@Test
+	public void testQueryNotEvaluatedWhenNotModified() throws Exception {
+		RepositoryResolver resolver = mock(RepositoryResolver.class);
+		when(resolver.getRepository(any())).thenReturn(repository);
+		when(resolver.getRepositoryID(any())).thenReturn("repo");
+		DefaultQueryRequestHandler handler = new DefaultQueryRequestHandler(resolver,
+				new DefaultQueryRequestHandler.Settings()
+						.queryScheduler(new QueryScheduler(0, 0, 0, 1, Collections.emptyMap()))
+						.changeTracker(tracker));
+
+		MockHttpServletRequest request = newQueryRequest("SELECT * WHERE { ?s ?p ?o }");
+		request.addHeader("If-None-Match", tracker.getETag(request, repository));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		assertThat(handler.handleQueryRequest(request, RequestMethod.GET, response)).isNull();
+		assertThat(response.getStatus()).isEqualTo(304);
+		assertThat(response.getHeader("ETag")).isEqualTo(tracker.getETag(request, repository));
+		verify(resolver, never()).getRepositoryConnection(any(), any());
+	}
+
+	private static MockHttpServletRequest newQueryRequest(String query) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/repositories/repo");
+		request.addParameter(Protocol.QUERY_PARAM_NAME, query);
+		return request;
+	}
+}
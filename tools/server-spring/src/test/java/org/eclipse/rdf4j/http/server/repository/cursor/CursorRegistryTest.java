@@ -0,0 +1,311 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.server.repository.cursor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.rdf4j.http.protocol.Protocol;
+import org.eclipse.rdf4j.http.server.ClientHTTPException;
+import org.eclipse.rdf4j.http.server.repository.RepositoryChangeTracker;
+import org.eclipse.rdf4j.http.server.repository.handler.DefaultQueryRequestHandler;
+import org.eclipse.rdf4j.http.server.repository.handler.QueryScheduler;
+import org.eclipse.rdf4j.http.server.repository.resolver.RepositoryResolver;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.query.QueryResults;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.query.resultio.QueryResultIO;
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultFormat;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.ModelAndView;
+
+public class CursorRegistryTest {
+
+	private static final String QUERY = "SELECT ?s WHERE { ?s a <urn:Thing> } ORDER BY ?s";
+
+	private final CursorRegistry registry = new CursorRegistry(60, 2);
+
+	private final QueryScheduler scheduler = new QueryScheduler(0, 0, 0, 1, Collections.emptyMap());
+
+	private Repository repository;
+
+	private DefaultQueryRequestHandler handler;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		repository = new SailRepository(new MemoryStore());
+		repository.init();
+		try (RepositoryConnection con = repository.getConnection()) {
+			ValueFactory vf = con.getValueFactory();
+			for (int i = 0; i < 5; i++) {
+				con.add(vf.createIRI("urn:s" + i), RDF.TYPE, vf.createIRI("urn:Thing"));
+			}
+			con.add(RDFS.RESOURCE, RDF.TYPE, RDFS.CLASS);
+		}
+
+		RepositoryResolver resolver = mock(RepositoryResolver.class);
+		when(resolver.getRepository(any())).thenReturn(repository);
+		when(resolver.getRepositoryID(any())).thenReturn("repo");
+		when(resolver.getRepositoryConnection(any(), any())).thenAnswer(invocation -> repository.getConnection());
+		handler = new DefaultQueryRequestHandler(resolver, settings(new RepositoryChangeTracker(false), registry));
+	}
+
+	@AfterEach
+	public void tearDown() {
+		registry.shutDown();
+		repository.shutDown();
+	}
+
+	@Test
+	public void testPaging() throws Exception {
+		List<String> solutions = new ArrayList<>();
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ModelAndView first = handler.handleQueryRequest(newQueryRequest(2), RequestMethod.GET, response);
+		render(first, newQueryRequest(2), response, solutions);
+		String cursorID = response.getHeader(Protocol.CURSOR_HEADER);
+		assertThat(cursorID).isNotNull();
+		assertThat(registry.getOpenCursorCount()).isEqualTo(1);
+
+		CursorController controller = new CursorController(registry, scheduler);
+		while (cursorID != null) {
+			MockHttpServletRequest request = newCursorRequest("GET", cursorID);
+			response = new MockHttpServletResponse();
+			render(controller.handleRequest(request, response), request, response, solutions);
+			cursorID = response.getHeader(Protocol.CURSOR_HEADER);
+		}
+
+		assertThat(solutions).containsExactly("urn:s0", "urn:s1", "urn:s2", "urn:s3", "urn:s4");
+		assertThat(registry.getOpenCursorCount()).isZero();
+	}
+
+	@Test
+	public void testUnpagedQueryOpensNoCursor() throws Exception {
+		List<String> solutions = new ArrayList<>();
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ModelAndView result = handler.handleQueryRequest(newQueryRequest(0), RequestMethod.GET, response);
+		render(result, newQueryRequest(0), response, solutions);
+
+		assertThat(solutions).hasSize(5);
+		assertThat(response.getHeader(Protocol.CURSOR_HEADER)).isNull();
+		assertThat(registry.getOpenCursorCount()).isZero();
+	}
+
+	@Test
+	public void testCloseAndLimitPerClient() throws Exception {
+		String first = openCursor();
+		openCursor();
+		assertThatThrownBy(this::openCursor).isInstanceOfSatisfying(ClientHTTPException.class,
+				e -> assertThat(e.getStatusCode()).isEqualTo(429));
+
+		CursorController controller = new CursorController(registry, scheduler);
+		controller.handleRequest(newCursorRequest("DELETE", first), new MockHttpServletResponse());
+		assertThat(registry.getOpenCursorCount()).isEqualTo(1);
+		assertThatThrownBy(() -> controller.handleRequest(newCursorRequest("GET", first),
+				new MockHttpServletResponse())).isInstanceOfSatisfying(ClientHTTPException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(404));
+
+		MockHttpServletRequest otherClient = newCursorRequest("GET", openCursor());
+		otherClient.setRemoteAddr("192.0.2.1");
+		assertThatThrownBy(() -> controller.handleRequest(otherClient, new MockHttpServletResponse()))
+				.isInstanceOfSatisfying(ClientHTTPException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(404));
+	}
+
+	@Test
+	public void testGlobalLimit() throws Exception {
+		CursorRegistry limited = new CursorRegistry(60, 2, 1);
+		try {
+			RepositoryConnection con = repository.getConnection();
+			limited.register("repo", "client", con, con.prepareTupleQuery(QUERY).evaluate(), 1);
+
+			try (RepositoryConnection other = repository.getConnection();
+					TupleQueryResult result = other.prepareTupleQuery(QUERY).evaluate()) {
+				assertThatThrownBy(() -> limited.register("repo", "other", other, result, 1))
+						.isInstanceOfSatisfying(ClientHTTPException.class,
+								e -> assertThat(e.getStatusCode()).isEqualTo(429));
+			}
+			assertThat(limited.getOpenCursorCount()).isEqualTo(1);
+		} finally {
+			limited.shutDown();
+		}
+	}
+
+	@Test
+	public void testMaxPageSize() throws Exception {
+		CursorRegistry limited = new CursorRegistry(60, 2, 2, 3);
+		try {
+			RepositoryResolver resolver = mock(RepositoryResolver.class);
+			when(resolver.getRepository(any())).thenReturn(repository);
+			when(resolver.getRepositoryID(any())).thenReturn("repo");
+			DefaultQueryRequestHandler limitedHandler = new DefaultQueryRequestHandler(resolver,
+					settings(new RepositoryChangeTracker(false), limited));
+
+			assertThatThrownBy(() -> limitedHandler.handleQueryRequest(newQueryRequest(4), RequestMethod.GET,
+					new MockHttpServletResponse())).isInstanceOfSatisfying(ClientHTTPException.class,
+							e -> assertThat(e.getStatusCode()).isEqualTo(400));
+			assertThat(limited.getOpenCursorCount()).isZero();
+
+			RepositoryConnection con = repository.getConnection();
+			Cursor cursor = limited.register("repo", "127.0.0.1", con, con.prepareTupleQuery(QUERY).evaluate(), 1);
+			MockHttpServletRequest request = newCursorRequest("GET", cursor.getID().toString());
+			request.addParameter(Protocol.PAGE_SIZE_PARAM_NAME, "4");
+			assertThatThrownBy(() -> new CursorController(limited, scheduler).handleRequest(request,
+					new MockHttpServletResponse())).isInstanceOfSatisfying(ClientHTTPException.class,
+							e -> assertThat(e.getStatusCode()).isEqualTo(400));
+		} finally {
+			limited.shutDown();
+		}
+	}
+
+	@Test
+	public void testResultIsReadOnCursorThread() throws Exception {
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		RepositoryConnection con = repository.getConnection();
+		TupleQueryResult evaluated = con.prepareTupleQuery(QUERY).evaluate();
+		TupleQueryResult result = mock(TupleQueryResult.class);
+		when(result.getBindingNames()).thenReturn(List.of("s"));
+		when(result.hasNext()).thenAnswer(invocation -> {
+			threads.add(Thread.currentThread());
+			return evaluated.hasNext();
+		});
+		when(result.next()).thenAnswer(invocation -> {
+			threads.add(Thread.currentThread());
+			return evaluated.next();
+		});
+		doAnswer(invocation -> {
+			threads.add(Thread.currentThread());
+			evaluated.close();
+			return null;
+		}).when(result).close();
+
+		Cursor cursor = registry.register("repo", "client", con, result, 2);
+		assertThat(cursor.nextPage(2).stream().count()).isEqualTo(2);
+		Thread other = new Thread(() -> cursor.nextPage(2));
+		other.start();
+		other.join();
+		registry.close(cursor);
+
+		assertThat(threads).hasSize(1);
+		assertThat(threads.iterator().next()).isNotIn(Thread.currentThread(), other);
+		assertThat(con.isOpen()).isFalse();
+	}
+
+	@Test
+	public void testPagedResponseHasNoETag() throws Exception {
+		RepositoryResolver resolver = mock(RepositoryResolver.class);
+		when(resolver.getRepository(any())).thenReturn(repository);
+		when(resolver.getRepositoryID(any())).thenReturn("repo");
+		when(resolver.getRepositoryConnection(any(), any())).thenAnswer(invocation -> repository.getConnection());
+		DefaultQueryRequestHandler etagHandler = new DefaultQueryRequestHandler(resolver,
+				settings(new RepositoryChangeTracker(true), registry));
+
+		MockHttpServletResponse unpaged = new MockHttpServletResponse();
+		render(etagHandler.handleQueryRequest(newQueryRequest(0), RequestMethod.GET, unpaged), newQueryRequest(0),
+				unpaged, new ArrayList<>());
+		assertThat(unpaged.getHeader("ETag")).isNotNull();
+
+		MockHttpServletRequest request = newQueryRequest(2);
+		request.addHeader("If-None-Match", unpaged.getHeader("ETag"));
+		MockHttpServletResponse paged = new MockHttpServletResponse();
+		render(etagHandler.handleQueryRequest(request, RequestMethod.GET, paged), request, paged,
+				new ArrayList<>());
+		assertThat(paged.getStatus()).isEqualTo(200);
+		assertThat(paged.getHeader("ETag")).isNull();
+		assertThat(paged.getHeader(Protocol.CURSOR_HEADER)).isNotNull();
+	}
+
+	@Test
+	public void testIdleCursorsAreClosed() throws Exception {
+		openCursor();
+		registry.closeIdleCursors();
+		assertThat(registry.getOpenCursorCount()).isEqualTo(1);
+
+		CursorRegistry expiring = new CursorRegistry(1, 1);
+		try {
+			RepositoryConnection con = repository.getConnection();
+			TupleQueryResult result = con.prepareTupleQuery(QUERY).evaluate();
+			Cursor cursor = expiring.register("repo", "client", con, result, 1);
+			Thread.sleep(1100);
+			expiring.closeIdleCursors();
+			assertThat(expiring.getOpenCursorCount()).isZero();
+			assertThat(cursor.isClosed()).isTrue();
+			assertThat(con.isOpen()).isFalse();
+		} finally {
+			expiring.shutDown();
+		}
+	}
+
+	private DefaultQueryRequestHandler.Settings settings(RepositoryChangeTracker changeTracker,
+			CursorRegistry cursorRegistry) {
+		return new DefaultQueryRequestHandler.Settings().queryScheduler(scheduler)
+				.changeTracker(changeTracker)
+				.cursorRegistry(cursorRegistry);
+	}
+
+	private String openCursor() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		handler.handleQueryRequest(newQueryRequest(1), RequestMethod.GET, response);
+		return response.getHeader(Protocol.CURSOR_HEADER);
+	}
+
+	private static void render(ModelAndView modelAndView, MockHttpServletRequest request,
+			MockHttpServletResponse response, List<String> solutions) throws Exception {
+		modelAndView.getView().render(modelAndView.getModel(), request, response);
+		try (TupleQueryResult page = QueryResultIO.parseTuple(
+				new ByteArrayInputStream(response.getContentAsByteArray()), TupleQueryResultFormat.SPARQL, null)) {
+			QueryResults.stream(page).forEach(bs -> solutions.add(bs.getValue("s").stringValue()));
+		}
+	}
+
+	private static MockHttpServletRequest newQueryRequest(int pageSize) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/repositories/repo");
+		request.addParameter(Protocol.QUERY_PARAM_NAME, QUERY);
+		request.addHeader("Accept", TupleQueryResultFormat.SPARQL.getDefaultMIMEType());
+		if (pageSize > 0) {
+			request.addParameter(Protocol.PAGE_SIZE_PARAM_NAME, Integer.toString(pageSize));
+		}
+		return request;
+	}
+
+	private static MockHttpServletRequest newCursorRequest(String method, String cursorID) {
+		String pathInfo = "/repo/" + Protocol.CURSORS + "/" + cursorID;
+		MockHttpServletRequest request = new MockHttpServletRequest(method, "/repositories" + pathInfo);
+		request.setPathInfo(pathInfo);
+		request.addHeader("Accept", TupleQueryResultFormat.SPARQL.getDefaultMIMEType());
+		// as set by the RepositoryInterceptor
+		request.setAttribute("repositoryID", "repo");
+		return request;
+	}
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.server.repository.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.http.server.ServiceUnavailableException;
+import org.eclipse.rdf4j.http.server.repository.handler.QueryScheduler.Permit;
+import org.eclipse.rdf4j.http.server.repository.handler.QueryScheduler.Priority;
+import org.eclipse.rdf4j.http.server.repository.handler.QueryScheduler.RepositoryQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+public class QuerySchedulerTest {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testDisabledByDefault() throws Exception {
+		QueryScheduler scheduler = new QueryScheduler(0, 0, 0, 1, Collections.emptyMap());
+
+		assertThat(scheduler.isEnabled()).isFalse();
+		for (int i = 0; i < 10; i++) {
+			scheduler.acquire("repo", Priority.NORMAL);
+		}
+		assertThat(scheduler.getQueues()).isEmpty();
+	}
+
+	@Test
+	public void testRejectWhenQueueFull() throws Exception {
+		QueryScheduler scheduler = new QueryScheduler(1, 0, 1000, 7, Collections.emptyMap());
+
+		try (Permit permit = scheduler.acquire("repo", Priority.NORMAL)) {
+			assertThatThrownBy(() -> scheduler.acquire("repo", Priority.HIGH))
+					.isInstanceOfSatisfying(ServiceUnavailableException.class, e -> {
+						assertThat(e.getStatusCode()).isEqualTo(503);
+						assertThat(e.getRetryAfter()).isEqualTo(7);
+					});
+
+			// other repositories are scheduled independently
+			scheduler.acquire("other", Priority.NORMAL).close();
+		}
+
+		RepositoryQueue queue = getQueue(scheduler, "repo");
+		assertThat(queue.getRunning()).isZero();
+		assertThat(queue.getAdmitted()).isEqualTo(1);
+		assertThat(queue.getRejected()).isEqualTo(1);
+	}
+
+	@Test
+	public void testRejectAfterMaxWait() throws Exception {
+		QueryScheduler scheduler = new QueryScheduler(1, 1, 50, 1, Collections.emptyMap());
+
+		try (Permit permit = scheduler.acquire("repo", Priority.NORMAL)) {
+			assertThatThrownBy(() -> scheduler.acquire("repo", Priority.NORMAL))
+					.isInstanceOf(ServiceUnavailableException.class);
+		}
+
+		RepositoryQueue queue = getQueue(scheduler, "repo");
+		assertThat(queue.getQueued()).isZero();
+		assertThat(queue.getRejected()).isEqualTo(1);
+	}
+
+	@Test
+	public void testWaitNoLongerThanQueryTimeout() throws Exception {
+		QueryScheduler scheduler = new QueryScheduler(1, 1, 60_000, 1, Collections.emptyMap());
+
+		try (Permit permit = scheduler.acquire("repo", Priority.NORMAL)) {
+			long start = System.nanoTime();
+			assertThatThrownBy(() -> scheduler.acquire("repo", Priority.NORMAL, 50))
+					.isInstanceOf(ServiceUnavailableException.class);
+			assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(10));
+		}
+	}
+
+	@Test
+	public void testAdmitInPriorityOrder() throws Exception {
+		QueryScheduler scheduler = new QueryScheduler(1, 10, 10_000, 1, Collections.emptyMap());
+		List<Priority> admitted = new CopyOnWriteArrayList<>();
+		RepositoryQueue queue;
+
+		Future<?> low;
+		Future<?> normal;
+		Future<?> high;
+		try (Permit permit = scheduler.acquire("repo", Priority.NORMAL)) {
+			queue = getQueue(scheduler, "repo");
+			low = executor.submit(() -> run(scheduler, Priority.LOW, admitted));
+			awaitQueued(queue, 1);
+			normal = executor.submit(() -> run(scheduler, Priority.NORMAL, admitted));
+			awaitQueued(queue, 2);
+			high = executor.submit(() -> run(scheduler, Priority.HIGH, admitted));
+			awaitQueued(queue, 3);
+		}
+
+		low.get(10, TimeUnit.SECONDS);
+		normal.get(10, TimeUnit.SECONDS);
+		high.get(10, TimeUnit.SECONDS);
+
+		assertThat(admitted).containsExactly(Priority.HIGH, Priority.NORMAL, Priority.LOW);
+		assertThat(queue.getRunning()).isZero();
+		assertThat(queue.getAdmitted()).isEqualTo(4);
+		assertThat(queue.getMaxWaitTime(TimeUnit.NANOSECONDS)).isPositive();
+		assertThat(queue.getTotalWaitTime(TimeUnit.NANOSECONDS))
+				.isGreaterThanOrEqualTo(queue.getMaxWaitTime(TimeUnit.NANOSECONDS));
+	}
+
+	@Test
+	public void testPriorityFromRequest() {
+		QueryScheduler scheduler = new QueryScheduler(1, 1, 1, 1, Collections.singletonMap("etl", Priority.LOW));
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		assertThat(scheduler.getPriority(request)).isEqualTo(Priority.NORMAL);
+
+		request.addHeader(QueryScheduler.PRIORITY_HEADER, "high");
+		assertThat(scheduler.getPriority(request)).isEqualTo(Priority.HIGH);
+
+		request.setRemoteUser("etl");
+		assertThat(scheduler.getPriority(request)).isEqualTo(Priority.LOW);
+
+		MockHttpServletRequest invalid = new MockHttpServletRequest();
+		invalid.addHeader(QueryScheduler.PRIORITY_HEADER, "urgent");
+		assertThat(scheduler.getPriority(invalid)).isEqualTo(Priority.NORMAL);
+	}
+
+	private static Void run(QueryScheduler scheduler, Priority priority, List<Priority> admitted)
+			throws ServiceUnavailableException {
+		try (Permit permit = scheduler.acquire("repo", priority)) {
+			admitted.add(priority);
+		}
+		return null;
+	}
+
+	private static RepositoryQueue getQueue(QueryScheduler scheduler, String repositoryID) {
+		return scheduler.getQueues()
+				.stream()
+				.filter(queue -> queue.getRepositoryID().equals(repositoryID))
+				.findFirst()
+				.orElseThrow();
+	}
+
+	private static void awaitQueued(RepositoryQueue queue, int queued) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (queue.getQueued() < queued && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		assertThat(queue.getQueued()).isEqualTo(queued);
+	}
+}
@@ -19,12 +19,17 @@ import java.util.UUID;
 
 import org.eclipse.rdf4j.common.io.FileUtil;
 import org.eclipse.rdf4j.http.protocol.Protocol;
+import org.eclipse.rdf4j.http.server.ClientHTTPException;
 import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.QueryResults;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryException;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
 import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.helpers.BasicParserSettings;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
 import org.eclipse.rdf4j.sail.nativerdf.NativeStore;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -114,6 +119,103 @@ public class TestBnodesUniquenessInTransactions {
 		}
 	}
 
+	@Test
+	public void shouldShareBnodesBetweenChunksOfATransaction() throws Exception {
+		Transaction txn = new Transaction(repository);
+		ActiveTransactionRegistry.INSTANCE.register(txn);
+		try {
+			txn.begin();
+			request.setParameter(Protocol.CHUNK_PARAM_NAME, "doc1");
+			executeTransactionAction(txn, "<urn:a> <urn:b> _:c .");
+			executeTransactionAction(txn, "<urn:a> <urn:o> _:c .");
+			txn.commit();
+		} finally {
+			txn.close();
+			ActiveTransactionRegistry.INSTANCE.deregister(txn);
+		}
+		executeTransactionAction("<urn:a> <urn:p> _:c .");
+
+		try (RepositoryConnection connection = repository.getConnection()) {
+			List<BindingSet> result = QueryResults.asList(
+					connection.prepareTupleQuery("select ?o where { <urn:a> ?p ?o } order by ?p").evaluate());
+
+			Assertions.assertEquals(3, result.size());
+			// <urn:b> and <urn:o> were added in chunks of the same transaction
+			Assertions.assertEquals(result.get(0).getValue("o"), result.get(1).getValue("o"));
+			Assertions.assertNotEquals(result.get(0).getValue("o"), result.get(2).getValue("o"));
+			Assertions.assertNotEquals("c", result.get(0).getValue("o").stringValue());
+		}
+	}
+
+	@Test
+	public void shouldNotShareBnodesBetweenDocumentsOfATransaction() throws Exception {
+		Transaction txn = new Transaction(repository);
+		ActiveTransactionRegistry.INSTANCE.register(txn);
+		try {
+			txn.begin();
+			request.setParameter(Protocol.CHUNK_PARAM_NAME, "doc1");
+			executeTransactionAction(txn, "<urn:a> <urn:b> _:b0 .");
+			request.setParameter(Protocol.CHUNK_PARAM_NAME, "doc2");
+			executeTransactionAction(txn, "<urn:a> <urn:o> _:b0 .");
+			txn.commit();
+		} finally {
+			txn.close();
+			ActiveTransactionRegistry.INSTANCE.deregister(txn);
+		}
+
+		try (RepositoryConnection connection = repository.getConnection()) {
+			List<BindingSet> result = QueryResults.asList(connection.prepareTupleQuery(query).evaluate());
+
+			Assertions.assertEquals(2, result.size());
+			Assertions.assertNotEquals(result.get(0).getValue("o"), result.get(1).getValue("o"));
+		}
+	}
+
+	@Test
+	public void shouldRejectInvalidDocumentIdentifier() throws Exception {
+		Transaction txn = new Transaction(repository);
+		ActiveTransactionRegistry.INSTANCE.register(txn);
+		try {
+			request.setParameter(Protocol.CHUNK_PARAM_NAME, "not a valid id");
+			Assertions.assertThrows(ClientHTTPException.class,
+					() -> executeTransactionAction(txn, "<urn:a> <urn:b> _:c ."));
+		} finally {
+			txn.close();
+			ActiveTransactionRegistry.INSTANCE.deregister(txn);
+		}
+	}
+
+	@Test
+	public void shouldParseWithParserConfigOfConnection() throws Exception {
+		repository.shutDown();
+		repository = new SailRepository(new MemoryStore()) {
+			@Override
+			public SailRepositoryConnection getConnection() throws RepositoryException {
+				SailRepositoryConnection connection = super.getConnection();
+				connection.getParserConfig().set(BasicParserSettings.NORMALIZE_DATATYPE_VALUES, true);
+				return connection;
+			}
+		};
+
+		Transaction txn = new Transaction(repository);
+		ActiveTransactionRegistry.INSTANCE.register(txn);
+		try {
+			txn.begin();
+			executeTransactionAction(txn, "<urn:a> <urn:b> \"01\"^^<http://www.w3.org/2001/XMLSchema#integer> .");
+			txn.commit();
+		} finally {
+			txn.close();
+			ActiveTransactionRegistry.INSTANCE.deregister(txn);
+		}
+
+		try (RepositoryConnection connection = repository.getConnection()) {
+			List<BindingSet> result = QueryResults.asList(connection.prepareTupleQuery(query).evaluate());
+
+			Assertions.assertEquals("1", result.get(0).getValue("o").stringValue());
+			Assertions.assertFalse(connection.getParserConfig().isSet(BasicParserSettings.PRESERVE_BNODE_IDS));
+		}
+	}
+
 	/**
 	 * Start a new transaction and add data to it using the default settings of parser config
 	 *
@@ -123,6 +225,13 @@ public class TestBnodesUniquenessInTransactions {
 		Transaction txn = new Transaction(repository);
 		ActiveTransactionRegistry.INSTANCE.register(txn);
 
+		executeTransactionAction(txn, data);
+
+		txn.close();
+		ActiveTransactionRegistry.INSTANCE.deregister(txn);
+	}
+
+	private void executeTransactionAction(Transaction txn, String data) throws Exception {
 		final UUID transactionId = txn.getID();
 
 		request.setRequestURI("/repositories/" + repositoryID + "/transactions/" + transactionId);
@@ -136,9 +245,6 @@ public class TestBnodesUniquenessInTransactions {
 
 		response = new MockHttpServletResponse();
 		transactionController.handleRequestInternal(request, response);
-
-		txn.close();
-		ActiveTransactionRegistry.INSTANCE.deregister(txn);
 	}
 
 }
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.server.repository.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the transaction queueing metrics of {@link ActiveTransactionRegistry}.
+ */
+public class TransactionQueueTimeTest {
+
+	private Repository repository;
+
+	@BeforeEach
+	public void setUp() {
+		repository = new SailRepository(new MemoryStore());
+		repository.init();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		repository.shutDown();
+	}
+
+	@Test
+	public void testOperationsAreCounted() throws Exception {
+		ActiveTransactionRegistry registry = ActiveTransactionRegistry.INSTANCE;
+		long before = registry.getOperationCount();
+
+		Transaction txn = new Transaction(repository);
+		try {
+			txn.begin();
+			txn.getSize(new Resource[0]);
+			txn.commit();
+		} finally {
+			txn.close();
+		}
+
+		// opening the connection, begin, size and commit
+		assertThat(registry.getOperationCount() - before).isGreaterThanOrEqualTo(4);
+		assertThat(registry.getMaxQueueTime(TimeUnit.NANOSECONDS)).isGreaterThan(0);
+		assertThat(registry.getTotalQueueTime(TimeUnit.NANOSECONDS))
+				.isGreaterThanOrEqualTo(registry.getMaxQueueTime(TimeUnit.NANOSECONDS));
+	}
+}